@@ -0,0 +1,113 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.config.AccountDirectoryProperties;
+import com.eteration.simplebanking.service.core.AccountDirectory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Account id lookup for a 16-digit account number, as every posting and history read does first.
+ * <ul>
+ *     <li>{@code stringCache} - previous behaviour: the {@code 'id:' + accountNumber} key in the Caffeine
+ *     {@code bankAccounts} cache, a {@code String} hashed per request mapping to a boxed {@code Long}</li>
+ *     <li>{@code primitiveDirectory} - {@link AccountDirectory}: the number parsed into a {@code long} key and probed
+ *     in the open-addressing map</li>
+ * </ul>
+ * Each lookup builds its account number from a {@code char[]}, as a request path does, so neither side profits from
+ * a cached {@code String} hash. The setup prints the heap each structure retains for {@code accounts} entries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class AccountDirectoryBenchmark {
+
+    private static final int LOOKUPS = 4096;
+    private static final String ID_KEY_PREFIX = "id:";
+    // Smallest 16-digit number
+    private static final long SMALLEST_ACCOUNT_NUMBER = 1_000_000_000_000_000L;
+
+    @Param({"100000", "1000000"})
+    private int accounts;
+
+    private AccountDirectory directory;
+    private Cache<Object, Object> idCache;
+    private char[][] lookups;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] accountNumbers = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            accountNumbers[i] = String.valueOf(SMALLEST_ACCOUNT_NUMBER + Math.floorMod(random.nextLong(), 9 * SMALLEST_ACCOUNT_NUMBER));
+        }
+
+        long before = usedHeap();
+        AccountDirectoryProperties properties = new AccountDirectoryProperties();
+        properties.setMaximumSize(accounts);
+        directory = new AccountDirectory(properties, new SimpleMeterRegistry());
+        for (int i = 0; i < accounts; i++) {
+            directory.put(accountNumbers[i], i + 1L);
+        }
+        long directoryBytes = usedHeap() - before;
+
+        before = usedHeap();
+        idCache = Caffeine.newBuilder().maximumSize(accounts).build();
+        for (int i = 0; i < accounts; i++) {
+            idCache.put(ID_KEY_PREFIX + accountNumbers[i], (long) i + 1);
+        }
+        long stringCacheBytes = usedHeap() - before;
+
+        System.out.printf("Heap for %d accounts: string cache %.1f MB, primitive directory %.1f MB%n",
+                accounts, stringCacheBytes / 1e6, directoryBytes / 1e6);
+
+        lookups = new char[LOOKUPS][];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookups[i] = accountNumbers[random.nextInt(accounts)].toCharArray();
+        }
+    }
+
+    @Benchmark
+    public Object stringCache() {
+        String accountNumber = new String(nextLookup());
+        return idCache.getIfPresent(ID_KEY_PREFIX + accountNumber);
+    }
+
+    @Benchmark
+    public Long primitiveDirectory() {
+        String accountNumber = new String(nextLookup());
+        return directory.find(accountNumber);
+    }
+
+    private char[] nextLookup() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return lookups[next];
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,47 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.service.core.TimeOrderedApprovalCodeGenerator;
+import com.eteration.simplebanking.service.interfaces.ApprovalCodeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Approval code generation throughput with every available core generating at once.
+ * <ul>
+ *     <li>{@code randomUuid} - previous behaviour: {@link UUID#randomUUID()} on the shared {@code SecureRandom}</li>
+ *     <li>{@code timeOrdered} - {@link TimeOrderedApprovalCodeGenerator}, UUIDv7 from thread-local randomness</li>
+ * </ul>
+ * Run with {@code -Djmh.threads=1} for the uncontended baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApprovalCodeGeneratorBenchmark {
+
+    private final ApprovalCodeGenerator generator = new TimeOrderedApprovalCodeGenerator();
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrdered() {
+        return generator.next();
+    }
+}
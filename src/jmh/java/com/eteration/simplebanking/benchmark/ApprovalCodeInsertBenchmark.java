@@ -0,0 +1,94 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.service.core.TimeOrderedApprovalCodeGenerator;
+import com.eteration.simplebanking.service.interfaces.ApprovalCodeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of inserting into a unique approval code index that already holds {@value #PRELOADED} entries, on in-memory
+ * H2 over plain JDBC, {@value #ROWS} rows per batch.
+ * <ul>
+ *     <li>{@code randomText} - previous schema: random UUIDv4 strings in a {@code VARCHAR(36)} column</li>
+ *     <li>{@code timeOrderedUuid} - UUIDv7 in a native {@code UUID} column</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApprovalCodeInsertBenchmark {
+
+    private static final int PRELOADED = 200_000;
+    private static final int ROWS = 1000;
+
+    @Param({"randomText", "timeOrderedUuid"})
+    private String codeType;
+
+    private final ApprovalCodeGenerator generator = new TimeOrderedApprovalCodeGenerator();
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:approvalcodes_" + codeType);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE approval_codes (id BIGINT AUTO_INCREMENT PRIMARY KEY, approval_code "
+                    + (isText() ? "VARCHAR(36)" : "UUID") + " NOT NULL UNIQUE)");
+        }
+        insert = connection.prepareStatement("INSERT INTO approval_codes (approval_code) VALUES (?)");
+        for (int i = 0; i < PRELOADED / ROWS; i++) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        insert.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int[] insertCodes() throws SQLException {
+        return insertBatch();
+    }
+
+    private int[] insertBatch() throws SQLException {
+        for (int i = 0; i < ROWS; i++) {
+            if (isText()) {
+                insert.setString(1, UUID.randomUUID().toString());
+            } else {
+                insert.setObject(1, generator.next());
+            }
+            insert.addBatch();
+        }
+        return insert.executeBatch();
+    }
+
+    private boolean isText() {
+        return "randomText".equals(codeType);
+    }
+}
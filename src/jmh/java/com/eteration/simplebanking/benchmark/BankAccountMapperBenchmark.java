@@ -0,0 +1,52 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
+import com.eteration.simplebanking.model.mapper.BankAccountMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BankAccountMapper.toAccountResponse} over a full history, which is what the uncached
+ * account endpoint pays on every miss.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BankAccountMapperBenchmark {
+
+    @Param({"10", "100", "10000"})
+    private int historyLength;
+
+    @Param({"DEPOSIT", "WITHDRAWAL", "PHONE_BILL_PAYMENT", "CHECK_PAYMENT"})
+    private TransactionType transactionType;
+
+    private BankAccountMapper mapper;
+    private BankAccount account;
+
+    @Setup
+    public void setUp() {
+        mapper = new BankAccountMapper();
+        account = BenchmarkFixtures.accountWithHistory(transactionType, historyLength);
+    }
+
+    @Benchmark
+    public BankAccountResponse toAccountResponse() {
+        return mapper.toAccountResponse(account);
+    }
+}
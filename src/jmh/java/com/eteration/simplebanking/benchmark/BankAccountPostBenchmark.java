@@ -0,0 +1,61 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.service.strategy.TransactionStrategy;
+import com.eteration.simplebanking.service.strategy.command.TransactionCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code BankAccount.post} for each transaction type against an account that already holds
+ * {@code historyLength} transactions. State is per thread, so {@code -t N} measures N independent accounts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BankAccountPostBenchmark {
+
+    @Param({"0", "100", "10000"})
+    private int historyLength;
+
+    @Param({"DEPOSIT", "WITHDRAWAL", "PHONE_BILL_PAYMENT", "CHECK_PAYMENT"})
+    private TransactionType transactionType;
+
+    private TransactionStrategy<TransactionCommand> strategy;
+    private TransactionCommand command;
+    private BankAccount account;
+
+    @Setup
+    public void setUp() {
+        strategy = BenchmarkFixtures.strategyFor(transactionType);
+        command = BenchmarkFixtures.commandFor(transactionType);
+        account = BenchmarkFixtures.accountWithHistory(transactionType, historyLength);
+    }
+
+    @Benchmark
+    public Transaction post() throws InsufficientBalanceException {
+        Transaction transaction = strategy.createTransaction(command);
+        account.post(transaction);
+        // Keep the history at historyLength so every invocation sees the same shape
+        List<Transaction> history = account.getTransactions();
+        return history.remove(history.size() - 1);
+    }
+}
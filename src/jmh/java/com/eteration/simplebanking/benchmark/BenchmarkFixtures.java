@@ -0,0 +1,153 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.config.LedgerProperties;
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.enums.PhoneCompany;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.repository.BalanceSnapshotRepository;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.domain.repository.TransactionRepository;
+import com.eteration.simplebanking.model.dto.LedgerPosition;
+import com.eteration.simplebanking.model.dto.SecurityConfig;
+import com.eteration.simplebanking.service.core.LedgerServiceImpl;
+import com.eteration.simplebanking.service.interfaces.LedgerService;
+import com.eteration.simplebanking.service.strategy.TransactionStrategy;
+import com.eteration.simplebanking.service.strategy.command.CheckPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.DepositCommand;
+import com.eteration.simplebanking.service.strategy.command.PhoneBillPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.TransactionCommand;
+import com.eteration.simplebanking.service.strategy.command.WithdrawalCommand;
+import com.eteration.simplebanking.service.strategy.strategy.CheckPaymentTransactionStrategy;
+import com.eteration.simplebanking.service.strategy.strategy.DepositTransactionStrategy;
+import com.eteration.simplebanking.service.strategy.strategy.PhoneBillPaymentTransactionStrategy;
+import com.eteration.simplebanking.service.strategy.strategy.WithdrawalTransactionStrategy;
+import com.eteration.simplebanking.util.SecureMaskUtil;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Shared in-process fixtures: real strategies and domain objects, with repositories replaced by
+ * proxies that answer without a database so only the code under test is measured.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BenchmarkFixtures {
+
+    static final String ACCOUNT_NUMBER = "1234567890123456";
+    // Minor units: 1.00 and 1,000,000,000,000.00
+    static final long AMOUNT = 1_00L;
+    // Large enough that debits never run out during a measurement run
+    static final long OPENING_BALANCE = 1_000_000_000_000_00L;
+
+    static {
+        // Without Spring Boot's logging setup logback defaults to DEBUG, which would benchmark the console
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+    }
+
+    static SecureMaskUtil secureMaskUtil() {
+        return new SecureMaskUtil(new SecurityConfig("AES", "SimpleBanking2024!SecretKey32Bytes!!"));
+    }
+
+    static LedgerService ledgerService() {
+        return new LedgerServiceImpl(
+                inMemoryRepository(BankAccountRepository.class),
+                inMemoryRepository(TransactionRepository.class),
+                inMemoryRepository(BalanceSnapshotRepository.class),
+                new LedgerProperties(),
+                secureMaskUtil());
+    }
+
+    static List<TransactionStrategy<?>> strategies() {
+        return List.of(
+                new DepositTransactionStrategy(),
+                new WithdrawalTransactionStrategy(),
+                new PhoneBillPaymentTransactionStrategy(),
+                new CheckPaymentTransactionStrategy());
+    }
+
+    static TransactionCommand commandFor(TransactionType type) {
+        return switch (type) {
+            case DEPOSIT -> new DepositCommand(AMOUNT);
+            case WITHDRAWAL -> new WithdrawalCommand(AMOUNT);
+            case PHONE_BILL_PAYMENT -> new PhoneBillPaymentCommand(PhoneCompany.COMPANY_A, "5551234567", AMOUNT);
+            case CHECK_PAYMENT -> new CheckPaymentCommand("Benchmark Payee", AMOUNT);
+        };
+    }
+
+    static BankAccount accountWithHistory(TransactionType type, int historyLength) {
+        BankAccount account = BankAccount.builder()
+                .owner("Benchmark Owner")
+                .accountNumber(ACCOUNT_NUMBER)
+                .balance(OPENING_BALANCE)
+                .build();
+        account.setId(1L);
+        account.setCreatedAt(LocalDateTime.now());
+
+        TransactionStrategy<TransactionCommand> strategy = strategyFor(type);
+        TransactionCommand command = commandFor(type);
+        List<Transaction> history = new ArrayList<>(historyLength + 1);
+        for (int i = 0; i < historyLength; i++) {
+            Transaction transaction = strategy.createTransaction(command);
+            transaction.setApprovalCode(UUID.randomUUID());
+            transaction.setAccount(account);
+            history.add(transaction);
+        }
+        account.setTransactions(history);
+        return account;
+    }
+
+    /**
+     * Typed for {@link #commandFor}; a strategy always accepts the command of its own type.
+     */
+    @SuppressWarnings("unchecked")
+    static TransactionStrategy<TransactionCommand> strategyFor(TransactionType type) {
+        return (TransactionStrategy<TransactionCommand>) strategies().stream()
+                .filter(strategy -> strategy.getTransactionType() == type)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Repository stand-in: {@code save*} echo their argument, modifying queries report one affected row,
+     * {@code getReferenceById} returns an empty entity and everything else returns null.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T inMemoryRepository(Class<T> repositoryType) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("save")) {
+                        return args[0];
+                    }
+                    if (name.equals("getReferenceById")) {
+                        return new BankAccount();
+                    }
+                    if (name.equals("findLedgerPositionById")) {
+                        return Optional.of(new LedgerPosition(OPENING_BALANCE, 1L));
+                    }
+                    if (method.getReturnType() == int.class) {
+                        return 1;
+                    }
+                    if (method.getReturnType() == boolean.class) {
+                        return name.equals("equals") && proxy == args[0];
+                    }
+                    if (name.equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (name.equals("toString")) {
+                        return repositoryType.getSimpleName() + "InMemory";
+                    }
+                    return null;
+                });
+    }
+}
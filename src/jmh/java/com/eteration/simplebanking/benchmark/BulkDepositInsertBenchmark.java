@@ -0,0 +1,104 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.DemoApplication;
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.entity.transaction.DepositTransaction;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.domain.repository.TransactionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk deposit inserts through JPA against in-memory H2, {@value #DEPOSITS} rows per transaction.
+ * {@code batchSize=1} reproduces the former IDENTITY behaviour of one INSERT round trip per row;
+ * {@code batchSize=50} is the configured sequence + JDBC batching setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkDepositInsertBenchmark {
+
+    private static final int DEPOSITS = 1000;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private TransactionRepository transactionRepository;
+    private BankAccountRepository bankAccountRepository;
+    private Long accountId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:bulkinsert;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.eteration.simplebanking=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.springframework.transaction=WARN",
+                        "--logging.level.org.springframework.cache=WARN");
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+        bankAccountRepository = context.getBean(BankAccountRepository.class);
+        accountId = bankAccountRepository.save(BankAccount.builder()
+                .owner("Benchmark Owner")
+                .accountNumber(BenchmarkFixtures.ACCOUNT_NUMBER)
+                .build()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DEPOSITS)
+    public void insertDeposits() {
+        transactionTemplate.executeWithoutResult(status -> {
+            BankAccount account = bankAccountRepository.getReferenceById(accountId);
+            LocalDateTime now = LocalDateTime.now();
+            List<Transaction> deposits = new ArrayList<>(DEPOSITS);
+            for (int i = 0; i < DEPOSITS; i++) {
+                DepositTransaction deposit = new DepositTransaction();
+                deposit.setAmount(BenchmarkFixtures.AMOUNT);
+                deposit.setDate(now);
+                deposit.setApprovalCode(UUID.randomUUID());
+                deposit.setAccount(account);
+                deposits.add(deposit);
+            }
+            transactionRepository.saveAll(deposits);
+        });
+    }
+}
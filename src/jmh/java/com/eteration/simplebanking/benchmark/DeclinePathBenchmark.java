@@ -0,0 +1,191 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.entity.transaction.WithdrawalTransaction;
+import com.eteration.simplebanking.domain.enums.PostingOutcome;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.domain.repository.TransactionRepository;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.model.dto.PostingResult;
+import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import com.eteration.simplebanking.service.core.TimeOrderedApprovalCodeGenerator;
+import com.eteration.simplebanking.service.strategy.TransactionStrategyFactory;
+import com.eteration.simplebanking.service.strategy.command.WithdrawalCommand;
+import com.eteration.simplebanking.util.BankingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Debits against a nearly empty account where {@code declinePercent} of the attempts bounce, as on a bill-run day.
+ * Each attempt is made {@code callDepth} frames down, roughly where a request sits under the servlet, security and
+ * transaction proxies, because that depth is what a stack trace has to walk.
+ * <ul>
+ *     <li>{@code exceptionDecline} - previous behaviour: a checked exception with a full stack trace, wrapped in a
+ *     {@code RuntimeException} by the factory and unwrapped again at the top</li>
+ *     <li>{@code resultDecline} - {@code BankAccount.tryPost} returns the outcome and the decline travels back as a
+ *     {@link TransactionStatusResponse}</li>
+ *     <li>{@code factoryDecline} - the same mix through {@code TransactionStrategyFactory.prepareTransaction}, the
+ *     batch service's entity path</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeclinePathBenchmark {
+
+    private static final int ATTEMPTS = 1024;
+    private static final long BALANCE = 100_00L;
+    private static final long APPROVED_AMOUNT = 1_00L;
+    private static final long DECLINED_AMOUNT = 1_000_00L;
+
+    @Param({"10", "50", "90"})
+    private int declinePercent;
+
+    @Param({"16", "128"})
+    private int callDepth;
+
+    private long[] amounts;
+    private WithdrawalCommand[] commands;
+    private int next;
+    private BankAccount account;
+    private TransactionStrategyFactory factory;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        amounts = new long[ATTEMPTS];
+        commands = new WithdrawalCommand[ATTEMPTS];
+        for (int i = 0; i < ATTEMPTS; i++) {
+            amounts[i] = random.nextInt(100) < declinePercent ? DECLINED_AMOUNT : APPROVED_AMOUNT;
+            commands[i] = new WithdrawalCommand(amounts[i]);
+        }
+
+        account = BenchmarkFixtures.accountWithHistory(TransactionType.WITHDRAWAL, 0);
+        account.setBalance(BALANCE);
+        factory = new TransactionStrategyFactory(
+                BenchmarkFixtures.strategies(),
+                BenchmarkFixtures.inMemoryRepository(TransactionRepository.class),
+                BenchmarkFixtures.inMemoryRepository(BankAccountRepository.class),
+                BenchmarkFixtures.ledgerService(),
+                new TimeOrderedApprovalCodeGenerator(),
+                auditRecord -> { },
+                (transactionType, transaction, accountNumber) -> { },
+                BenchmarkFixtures.secureMaskUtil(),
+                new BankingMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public String exceptionDecline() {
+        long amount = nextAmount();
+        try {
+            return atDepth(callDepth, () -> {
+                try {
+                    legacyPost(account, withdrawal(amount));
+                    return "OK";
+                } catch (LegacyInsufficientBalanceException e) {
+                    throw new RuntimeException(MessageKeys.ERROR_INVALID_TRANSACTION.getKey(), e);
+                }
+            });
+        } catch (RuntimeException e) {
+            return e.getCause() instanceof LegacyInsufficientBalanceException declined ? declined.getMessage() : e.getMessage();
+        } finally {
+            resetAccount();
+        }
+    }
+
+    @Benchmark
+    public String resultDecline() {
+        long amount = nextAmount();
+        try {
+            TransactionStatusResponse response = atDepth(callDepth, () -> {
+                Transaction transaction = withdrawal(amount);
+                return account.tryPost(transaction) == PostingOutcome.POSTED
+                        ? new TransactionStatusResponse("OK", null)
+                        : TransactionStatusResponse.declined(transaction.insufficientBalanceKey());
+            });
+            return response.isApproved() ? response.status() : response.errorCode();
+        } finally {
+            resetAccount();
+        }
+    }
+
+    @Benchmark
+    public PostingResult factoryDecline() {
+        WithdrawalCommand command = commands[next];
+        next = (next + 1) % ATTEMPTS;
+        try {
+            return atDepth(callDepth, () -> factory.prepareTransaction(account, command));
+        } finally {
+            resetAccount();
+        }
+    }
+
+    private long nextAmount() {
+        long amount = amounts[next];
+        next = (next + 1) % ATTEMPTS;
+        return amount;
+    }
+
+    private static WithdrawalTransaction withdrawal(long amount) {
+        WithdrawalTransaction transaction = new WithdrawalTransaction();
+        transaction.setAmount(amount);
+        transaction.setDate(LocalDateTime.now());
+        return transaction;
+    }
+
+    // Keeps every invocation on the same balance and an empty history
+    private void resetAccount() {
+        account.setBalance(BALANCE);
+        account.getTransactions().clear();
+    }
+
+    private static <T> T atDepth(int depth, DepthWork<T> work) {
+        return depth <= 0 ? work.run() : atDepth(depth - 1, work);
+    }
+
+    /**
+     * {@code BankAccount.post} and {@code WithdrawalTransaction.execute} as they were before declines were returned.
+     */
+    private static void legacyPost(BankAccount account, Transaction transaction) throws LegacyInsufficientBalanceException {
+        if (account.getBalance() < transaction.getAmount()) {
+            throw new LegacyInsufficientBalanceException(transaction.insufficientBalanceKey().getKey());
+        }
+        account.setBalance(account.getBalance() - transaction.getAmount());
+        account.setLedgerSequence(account.getLedgerSequence() + 1);
+        transaction.setSequenceNumber(account.getLedgerSequence());
+        transaction.setBalanceAfter(account.getBalance());
+        transaction.setAccount(account);
+        account.getTransactions().add(transaction);
+    }
+
+    @FunctionalInterface
+    private interface DepthWork<T> {
+        T run();
+    }
+
+    private static class LegacyInsufficientBalanceException extends Exception {
+
+        LegacyInsufficientBalanceException(String message) {
+            super(message);
+        }
+    }
+}
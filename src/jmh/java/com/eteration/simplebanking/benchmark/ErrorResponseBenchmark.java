@@ -0,0 +1,131 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.controller.advice.GlobalExceptionHandler;
+import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.exception.TransactionValidationException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.model.dto.response.ErrorResponse;
+import com.eteration.simplebanking.util.MessageCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error responses for the three errors clients hit most, in the request's locale.
+ * <ul>
+ *     <li>{@code messageSourceLookup} - previous behaviour: a {@code MessageSource} lookup for the title and another
+ *     for the message on every error, and the string {@code switch} for keyless validation messages</li>
+ *     <li>{@code catalogLookup} - {@link GlobalExceptionHandler} reading from the {@link MessageCatalog} built at
+ *     startup</li>
+ * </ul>
+ * Both sides use the same {@code ResourceBundleMessageSource} setup as the application.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrorResponseBenchmark {
+
+    @Param({"en", "tr"})
+    private String language;
+
+    @Param({"INSUFFICIENT_BALANCE", "ACCOUNT_NOT_FOUND", "VALIDATION"})
+    private String error;
+
+    private MessageSource messageSource;
+    private GlobalExceptionHandler exceptionHandler;
+    private WebRequest webRequest;
+    private InsufficientBalanceException insufficientBalance;
+    private AccountNotFoundException accountNotFound;
+    private TransactionValidationException validation;
+
+    @Setup
+    public void setUp() {
+        ResourceBundleMessageSource bundle = new ResourceBundleMessageSource();
+        bundle.setBasename("messages");
+        bundle.setDefaultEncoding("UTF-8");
+        bundle.setFallbackToSystemLocale(false);
+        messageSource = bundle;
+        exceptionHandler = new GlobalExceptionHandler(new MessageCatalog(bundle));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/account/v1/debit/669-7788");
+        webRequest = new ServletWebRequest(request);
+
+        insufficientBalance = new InsufficientBalanceException(MessageKeys.ERROR_INSUFFICIENT_BALANCE);
+        accountNotFound = new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, "669-7788");
+        validation = new TransactionValidationException("Transaction date cannot be null");
+
+        // State is per thread, so the locale is set on the thread that runs the benchmark
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(language));
+    }
+
+    @Benchmark
+    public ErrorResponse messageSourceLookup() {
+        return switch (error) {
+            case "INSUFFICIENT_BALANCE" -> legacyResponse(HttpStatus.BAD_REQUEST,
+                    MessageKeys.ERROR_TITLE_INSUFFICIENT_BALANCE, legacyMessage(insufficientBalance.getMessageKey()));
+            case "ACCOUNT_NOT_FOUND" -> legacyResponse(HttpStatus.NOT_FOUND, MessageKeys.ERROR_TITLE_ACCOUNT_NOT_FOUND,
+                    legacyMessage(accountNotFound.getMessageKey(), accountNotFound.getParameters()));
+            default -> legacyResponse(HttpStatus.BAD_REQUEST, MessageKeys.ERROR_TITLE_VALIDATION_ERROR,
+                    legacyValidationMessage(validation.getMessage()));
+        };
+    }
+
+    @Benchmark
+    public ErrorResponse catalogLookup() {
+        return switch (error) {
+            case "INSUFFICIENT_BALANCE" ->
+                    exceptionHandler.handleInsufficientBalanceException(insufficientBalance, webRequest).getBody();
+            case "ACCOUNT_NOT_FOUND" ->
+                    exceptionHandler.handleAccountNotFoundException(accountNotFound, webRequest).getBody();
+            default -> exceptionHandler.handleTransactionValidationException(validation, webRequest).getBody();
+        };
+    }
+
+    private ErrorResponse legacyResponse(HttpStatus status, MessageKeys titleKey, String message) {
+        return ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(legacyMessage(titleKey))
+                .message(message)
+                .path(webRequest.getDescription(false))
+                .build();
+    }
+
+    private String legacyMessage(MessageKeys messageKey, Object... args) {
+        return messageSource.getMessage(messageKey.getKey(), args, LocaleContextHolder.getLocale());
+    }
+
+    private String legacyValidationMessage(String exceptionMessage) {
+        return switch (exceptionMessage) {
+            case "Transaction type cannot be null" -> legacyMessage(MessageKeys.VALIDATION_TRANSACTION_TYPE_NULL);
+            case "Bank account cannot be null" -> legacyMessage(MessageKeys.VALIDATION_BANK_ACCOUNT_NULL);
+            case "Transaction amount cannot be negative" -> legacyMessage(MessageKeys.VALIDATION_TRANSACTION_AMOUNT_NEGATIVE);
+            case "Transaction date cannot be null" -> legacyMessage(MessageKeys.VALIDATION_TRANSACTION_DATE_NULL);
+            default -> legacyMessage(MessageKeys.ERROR_VALIDATION_FAILED);
+        };
+    }
+}
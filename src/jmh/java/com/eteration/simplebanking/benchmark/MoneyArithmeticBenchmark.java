@@ -0,0 +1,83 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.util.MoneyUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a ledger of deposits and withdrawals the way {@code Transaction.execute} applies them.
+ * <ul>
+ *     <li>{@code doubleLedger} - previous behaviour: {@code double} amounts, parsed with {@link Double#parseDouble}</li>
+ *     <li>{@code longLedger} - {@code long} minor units, parsed with {@link MoneyUtil#parse}</li>
+ * </ul>
+ * The setup replays the same ledger both ways and fails if the long total is not exact; the double total's drift
+ * is printed once so it can be compared with the throughput numbers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyArithmeticBenchmark {
+
+    private static final int LEDGER_SIZE = 10_000;
+
+    private String[] amounts;
+    private boolean[] deposits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        amounts = new String[LEDGER_SIZE];
+        deposits = new boolean[LEDGER_SIZE];
+        long expected = 0;
+        for (int i = 0; i < LEDGER_SIZE; i++) {
+            long cents = 1 + random.nextInt(100_000);
+            amounts[i] = MoneyUtil.format(cents);
+            deposits[i] = random.nextInt(3) != 0;
+            expected += deposits[i] ? cents : -cents;
+        }
+
+        long exact = longLedger();
+        if (exact != expected) {
+            throw new IllegalStateException("Long ledger drifted: " + exact + " != " + expected);
+        }
+        System.out.printf("Ledger of %d: long %s, double %.10f%n", LEDGER_SIZE, MoneyUtil.format(exact), doubleLedger());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LEDGER_SIZE)
+    public double doubleLedger() {
+        double balance = 0;
+        for (int i = 0; i < LEDGER_SIZE; i++) {
+            double amount = Double.parseDouble(amounts[i]);
+            balance = deposits[i] ? balance + amount : balance - amount;
+        }
+        return balance;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LEDGER_SIZE)
+    public long longLedger() {
+        long balance = 0;
+        for (int i = 0; i < LEDGER_SIZE; i++) {
+            long amount = MoneyUtil.parse(amounts[i]);
+            balance = deposits[i] ? Math.addExact(balance, amount) : Math.subtractExact(balance, amount);
+        }
+        return balance;
+    }
+}
@@ -0,0 +1,142 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.DemoApplication;
+import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load test of {@code GET /api/v1/bank-account/{accountNumber}} against a range of fixed pool sizes
+ * and once with the adaptive sizer. A filter borrows a pool connection and holds it for {@code loadtest.ioMillis} to
+ * stand in for a PostgreSQL round trip, so the pool, not H2, is the bottleneck. Reports latency, throughput, Hikari's
+ * acquisition time and the pool size at the end of the run.
+ * <p>
+ * {@code mvn -Pbenchmarks -DskipTests test-compile exec:exec@pool-load-test -Dloadtest.poolSizes=2,5,10,20,40}
+ */
+public final class PoolSizeLoadTest {
+
+    // Fewer than the virtual thread test: at two connections and 50 ms each the pool serves only 40 requests a second
+    private static final int CLIENTS = Integer.getInteger("loadtest.poolClients", 200);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("loadtest.poolRequests", 5);
+    private static final int IO_MILLIS = Integer.getInteger("loadtest.ioMillis", 50);
+    private static final String POOL_SIZES = System.getProperty("loadtest.poolSizes", "2,5,10,20,40");
+    private static final int ADAPTIVE_MAX = Integer.getInteger("loadtest.adaptiveMax", 40);
+
+    private PoolSizeLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (String size : POOL_SIZES.split(",")) {
+            int poolSize = Integer.parseInt(size.trim());
+            rows.add(run(String.valueOf(poolSize),
+                    "--app.datasource.pool.maximum-pool-size=" + poolSize,
+                    "--app.datasource.pool.minimum-idle=" + poolSize));
+        }
+        rows.add(run("adaptive",
+                "--app.datasource.pool.maximum-pool-size=2",
+                "--app.datasource.pool.minimum-idle=2",
+                "--app.datasource.pool.adaptive.enabled=true",
+                "--app.datasource.pool.adaptive.min-size=2",
+                "--app.datasource.pool.adaptive.max-size=" + ADAPTIVE_MAX,
+                "--app.datasource.pool.adaptive.check-interval-ms=250"));
+
+        System.out.printf("%nGET account, %d clients x %d requests, connection held %d ms per request%n",
+                CLIENTS, REQUESTS_PER_CLIENT, IO_MILLIS);
+        System.out.printf("%-10s %10s %10s %12s %14s %14s %10s%n",
+                "pool", "p50 ms", "p99 ms", "req/s", "acquire avg", "acquire max", "end size");
+        rows.forEach(System.out::println);
+    }
+
+    private static String run(String label, String... poolArguments) throws Exception {
+        HoldConnectionFilter holdConnection = new HoldConnectionFilter();
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + Math.max(200, CLIENTS),
+                "--server.tomcat.max-connections=" + (CLIENTS * 2),
+                "--spring.datasource.url=jdbc:h2:mem:poolloadtest;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                // Waiting for a connection is the point of the test; do not time out on it
+                "--app.datasource.pool.connection-timeout=10m",
+                "--app.outbox.relay.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.eteration.simplebanking=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.springframework.transaction=WARN",
+                "--logging.level.org.springframework.cache=WARN"));
+        arguments.addAll(List.of(poolArguments));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("holdConnectionFilter", new FilterRegistrationBean<>(holdConnection)))
+                .run(arguments.toArray(String[]::new));
+        try {
+            HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+            holdConnection.dataSource = dataSource;
+            context.getBean(BankingFacadeService.class).createBankAccount("Load Test Owner", BenchmarkFixtures.ACCOUNT_NUMBER);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/v1/bank-account/" + BenchmarkFixtures.ACCOUNT_NUMBER);
+
+            // Warm up the cache and the JIT before measuring
+            HttpLoadDriver.drive(uri, Math.min(CLIENTS, 50), REQUESTS_PER_CLIENT);
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            Timer acquire = meterRegistry.get("hikaricp.connections.acquire").tag("pool", dataSource.getPoolName()).timer();
+            long countBefore = acquire.count();
+            double totalBefore = acquire.totalTime(TimeUnit.MILLISECONDS);
+
+            HttpLoadDriver.Result load = HttpLoadDriver.drive(uri, CLIENTS, REQUESTS_PER_CLIENT);
+
+            long acquired = Math.max(1, acquire.count() - countBefore);
+            double acquireAverage = (acquire.totalTime(TimeUnit.MILLISECONDS) - totalBefore) / acquired;
+            return String.format("%-10s %10.1f %10.1f %12.0f %14.2f %14.1f %10d%s", label,
+                    load.percentileMillis(0.50), load.percentileMillis(0.99), load.throughput(),
+                    acquireAverage, acquire.max(TimeUnit.MILLISECONDS),
+                    dataSource.getHikariConfigMXBean().getMaximumPoolSize(), load.failureNote());
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Keeps a pool connection checked out for the simulated query time before handing the request on.
+     */
+    private static final class HoldConnectionFilter extends OncePerRequestFilter {
+
+        private volatile DataSource dataSource;
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            if (dataSource != null) {
+                try (Connection connection = dataSource.getConnection()) {
+                    Thread.sleep(IO_MILLIS);
+                } catch (SQLException e) {
+                    throw new ServletException(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ServletException(e);
+                }
+            }
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.model.dto.SecurityConfig;
+import com.eteration.simplebanking.util.SecureMaskUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Masking cost of one request, which logs the account number {@value #MASKS_PER_REQUEST} times.
+ * <ul>
+ *     <li>{@code eagerCipherPerCall} - previous behaviour: a new cipher per log argument, DEBUG on or off</li>
+ *     <li>{@code eagerPooledCipher} - encryption with the per-thread cipher</li>
+ *     <li>{@code lazyLoggingDisabled} - deferred masking when DEBUG is off</li>
+ *     <li>{@code lazyLoggingEnabled} - deferred masking rendered by an enabled logger</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecureMaskUtilBenchmark {
+
+    private static final int MASKS_PER_REQUEST = 4;
+    private static final String ACCOUNT_NUMBER = "1234567890123456";
+
+    private SecurityConfig securityConfig;
+    private SecureMaskUtil secureMaskUtil;
+
+    @Setup
+    public void setUp() {
+        securityConfig = new SecurityConfig("AES", "SimpleBanking2024!SecretKey32Bytes!!");
+        secureMaskUtil = new SecureMaskUtil(securityConfig);
+    }
+
+    @Benchmark
+    public void eagerCipherPerCall(Blackhole blackhole) throws Exception {
+        for (int i = 0; i < MASKS_PER_REQUEST; i++) {
+            Cipher cipher = Cipher.getInstance("AES");
+            cipher.init(Cipher.ENCRYPT_MODE, securityConfig.secretKeySpec());
+            byte[] encrypted = cipher.doFinal(ACCOUNT_NUMBER.getBytes(StandardCharsets.UTF_8));
+            blackhole.consume(Base64.getEncoder().encodeToString(encrypted));
+        }
+    }
+
+    @Benchmark
+    public void eagerPooledCipher(Blackhole blackhole) {
+        for (int i = 0; i < MASKS_PER_REQUEST; i++) {
+            blackhole.consume(secureMaskUtil.encryptAccount(ACCOUNT_NUMBER));
+        }
+    }
+
+    @Benchmark
+    public void lazyLoggingDisabled(Blackhole blackhole) {
+        for (int i = 0; i < MASKS_PER_REQUEST; i++) {
+            blackhole.consume(secureMaskUtil.maskedAccount(ACCOUNT_NUMBER));
+        }
+    }
+
+    @Benchmark
+    public void lazyLoggingEnabled(Blackhole blackhole) {
+        for (int i = 0; i < MASKS_PER_REQUEST; i++) {
+            blackhole.consume(secureMaskUtil.maskedAccount(ACCOUNT_NUMBER).toString());
+        }
+    }
+}
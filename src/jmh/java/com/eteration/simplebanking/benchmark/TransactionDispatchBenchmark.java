@@ -0,0 +1,145 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.domain.entity.transaction.CheckTransaction;
+import com.eteration.simplebanking.domain.entity.transaction.DepositTransaction;
+import com.eteration.simplebanking.domain.entity.transaction.PhoneBillPaymentTransaction;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.entity.transaction.WithdrawalTransaction;
+import com.eteration.simplebanking.domain.enums.PhoneCompany;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.service.strategy.TransactionStrategy;
+import com.eteration.simplebanking.service.strategy.command.CheckPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.DepositCommand;
+import com.eteration.simplebanking.service.strategy.command.PhoneBillPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.TransactionCommand;
+import com.eteration.simplebanking.service.strategy.command.WithdrawalCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning call arguments into a {@code Transaction} through the strategy lookup.
+ * <ul>
+ *     <li>{@code varargs} - previous API: {@code HashMap} lookup, {@code Object[]} per call, boxed amount and
+ *     {@code instanceof} checks in every strategy</li>
+ *     <li>{@code typedCommand} - {@code EnumMap} lookup and a typed {@link TransactionCommand} record</li>
+ * </ul>
+ * The {@code gc} profiler (on by default, {@code jmh.profiler}) reports {@code gc.alloc.rate.norm}, the bytes
+ * allocated per transaction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionDispatchBenchmark {
+
+    @Param({"DEPOSIT", "WITHDRAWAL", "PHONE_BILL_PAYMENT", "CHECK_PAYMENT"})
+    private TransactionType transactionType;
+
+    // Outside the Long cache, so the varargs path pays for boxing as it did for real amounts
+    private long amount = 250_00L;
+    private PhoneCompany phoneCompany = PhoneCompany.COMPANY_A;
+    private String phoneNumber = "5551234567";
+    private String payee = "Benchmark Payee";
+
+    private Map<TransactionType, VarargsStrategy> varargsStrategies;
+    private Map<TransactionType, TransactionStrategy<?>> typedStrategies;
+
+    @Setup
+    public void setUp() {
+        varargsStrategies = new HashMap<>();
+        varargsStrategies.put(TransactionType.DEPOSIT, VarargsStrategy::deposit);
+        varargsStrategies.put(TransactionType.WITHDRAWAL, VarargsStrategy::withdrawal);
+        varargsStrategies.put(TransactionType.PHONE_BILL_PAYMENT, VarargsStrategy::phoneBillPayment);
+        varargsStrategies.put(TransactionType.CHECK_PAYMENT, VarargsStrategy::checkPayment);
+
+        typedStrategies = new EnumMap<>(TransactionType.class);
+        BenchmarkFixtures.strategies().forEach(strategy -> typedStrategies.put(strategy.getTransactionType(), strategy));
+    }
+
+    @Benchmark
+    public Transaction varargs() {
+        VarargsStrategy strategy = varargsStrategies.get(transactionType);
+        return switch (transactionType) {
+            case DEPOSIT, WITHDRAWAL -> strategy.createTransaction(amount);
+            case PHONE_BILL_PAYMENT -> strategy.createTransaction(phoneCompany, phoneNumber, amount);
+            case CHECK_PAYMENT -> strategy.createTransaction(payee, amount);
+        };
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Transaction typedCommand() {
+        TransactionCommand command = switch (transactionType) {
+            case DEPOSIT -> new DepositCommand(amount);
+            case WITHDRAWAL -> new WithdrawalCommand(amount);
+            case PHONE_BILL_PAYMENT -> new PhoneBillPaymentCommand(phoneCompany, phoneNumber, amount);
+            case CHECK_PAYMENT -> new CheckPaymentCommand(payee, amount);
+        };
+        return ((TransactionStrategy<TransactionCommand>) typedStrategies.get(command.type())).createTransaction(command);
+    }
+
+    /**
+     * The strategy contract and argument checks as they were before typed commands.
+     */
+    @FunctionalInterface
+    private interface VarargsStrategy {
+
+        Transaction createTransaction(Object... parameters);
+
+        static Transaction deposit(Object... parameters) {
+            if (parameters.length < 1 || !(parameters[0] instanceof Long)) {
+                throw new IllegalArgumentException();
+            }
+            DepositTransaction transaction = new DepositTransaction();
+            transaction.setAmount((Long) parameters[0]);
+            transaction.setDate(LocalDateTime.now());
+            return transaction;
+        }
+
+        static Transaction withdrawal(Object... parameters) {
+            if (parameters.length < 1 || !(parameters[0] instanceof Long)) {
+                throw new IllegalArgumentException();
+            }
+            WithdrawalTransaction transaction = new WithdrawalTransaction();
+            transaction.setAmount((Long) parameters[0]);
+            transaction.setDate(LocalDateTime.now());
+            return transaction;
+        }
+
+        static Transaction phoneBillPayment(Object... parameters) {
+            if (parameters.length < 3
+                    || !(parameters[0] instanceof PhoneCompany company)
+                    || !(parameters[1] instanceof String number)
+                    || !(parameters[2] instanceof Long value)) {
+                throw new IllegalArgumentException();
+            }
+            return new PhoneBillPaymentTransaction(company, number, value);
+        }
+
+        static Transaction checkPayment(Object... parameters) {
+            if (parameters.length < 2
+                    || !(parameters[0] instanceof String name)
+                    || !(parameters[1] instanceof Long value)) {
+                throw new IllegalArgumentException();
+            }
+            return new CheckTransaction(name, value);
+        }
+    }
+}
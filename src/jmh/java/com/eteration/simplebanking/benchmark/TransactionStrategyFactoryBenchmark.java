@@ -0,0 +1,84 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.domain.repository.TransactionRepository;
+import com.eteration.simplebanking.model.dto.PostingResult;
+import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import com.eteration.simplebanking.service.core.TimeOrderedApprovalCodeGenerator;
+import com.eteration.simplebanking.service.strategy.TransactionStrategyFactory;
+import com.eteration.simplebanking.service.strategy.command.TransactionCommand;
+import com.eteration.simplebanking.util.BankingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Factory overhead around a transaction (lookup, validation, approval code, masking, repository call)
+ * with in-memory repositories.
+ * <ul>
+ *     <li>{@code prepareTransaction} - entity path of the batch service: {@code BankAccount.tryPost} on a loaded account</li>
+ *     <li>{@code executeAtomicTransaction} - conditional UPDATE path, independent of history length</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionStrategyFactoryBenchmark {
+
+    @Param({"0", "100", "10000"})
+    private int historyLength;
+
+    @Param({"DEPOSIT", "WITHDRAWAL", "PHONE_BILL_PAYMENT", "CHECK_PAYMENT"})
+    private TransactionType transactionType;
+
+    private TransactionStrategyFactory factory;
+    private TransactionCommand command;
+    private BankAccount account;
+
+    @Setup
+    public void setUp() {
+        factory = new TransactionStrategyFactory(
+                BenchmarkFixtures.strategies(),
+                BenchmarkFixtures.inMemoryRepository(TransactionRepository.class),
+                BenchmarkFixtures.inMemoryRepository(BankAccountRepository.class),
+                BenchmarkFixtures.ledgerService(),
+                new TimeOrderedApprovalCodeGenerator(),
+                auditRecord -> { },
+                (transactionType, transaction, accountNumber) -> { },
+                BenchmarkFixtures.secureMaskUtil(),
+                new BankingMetrics(new SimpleMeterRegistry()));
+        command = BenchmarkFixtures.commandFor(transactionType);
+        account = BenchmarkFixtures.accountWithHistory(transactionType, historyLength);
+    }
+
+    @Benchmark
+    public PostingResult prepareTransaction() {
+        PostingResult result = factory.prepareTransaction(account, command);
+        List<Transaction> history = account.getTransactions();
+        history.remove(history.size() - 1);
+        return result;
+    }
+
+    @Benchmark
+    public TransactionStatusResponse executeAtomicTransaction() {
+        return factory.executeAtomicTransaction(account.getId(), account.getAccountNumber(), command);
+    }
+}
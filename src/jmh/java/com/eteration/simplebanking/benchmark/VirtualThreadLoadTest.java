@@ -0,0 +1,119 @@
+package com.eteration.simplebanking.benchmark;
+
+import com.eteration.simplebanking.DemoApplication;
+import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop HTTP load test of {@code GET /api/v1/bank-account/{accountNumber}}, run once with platform-thread
+ * Tomcat and once with {@code spring.threads.virtual.enabled=true}. A filter holds every request for
+ * {@code loadtest.ioMillis} to stand in for a PostgreSQL round trip, so the servlet thread is blocked the way it is
+ * in production; the account itself lives in in-memory H2. Reports p50/p99 latency, throughput and the peak
+ * number of requests in flight inside the server.
+ * <p>
+ * {@code mvn -Pbenchmarks -DskipTests test-compile exec:exec@load-test -Dloadtest.clients=1000}
+ */
+public final class VirtualThreadLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 1000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("loadtest.requests", 20);
+    private static final int IO_MILLIS = Integer.getInteger("loadtest.ioMillis", 50);
+    private static final int TOMCAT_MAX_THREADS = Integer.getInteger("loadtest.tomcatThreads", 200);
+
+    private VirtualThreadLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+        System.out.printf("%nGET account, %d clients x %d requests, %d ms simulated I/O, tomcat max threads %d%n",
+                CLIENTS, REQUESTS_PER_CLIENT, IO_MILLIS, TOMCAT_MAX_THREADS);
+        System.out.printf("%-10s %10s %10s %10s %12s %10s%n", "threads", "p50 ms", "p99 ms", "max ms", "req/s", "in-flight");
+        platform.print("platform");
+        virtual.print("virtual");
+    }
+
+    private static Result run(boolean virtualThreads) throws Exception {
+        InFlightFilter inFlight = new InFlightFilter();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("inFlightFilter", new FilterRegistrationBean<>(inFlight)))
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "--server.tomcat.max-connections=" + (CLIENTS * 2),
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.eteration.simplebanking=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--logging.level.org.springframework.transaction=WARN",
+                        "--logging.level.org.springframework.cache=WARN");
+        try {
+            context.getBean(BankingFacadeService.class).createBankAccount("Load Test Owner", BenchmarkFixtures.ACCOUNT_NUMBER);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/v1/bank-account/" + BenchmarkFixtures.ACCOUNT_NUMBER);
+
+            // Warm up the cache, the connection pool and the JIT before measuring
+            HttpLoadDriver.drive(uri, Math.min(CLIENTS, 50), REQUESTS_PER_CLIENT);
+            inFlight.reset();
+            HttpLoadDriver.Result load = HttpLoadDriver.drive(uri, CLIENTS, REQUESTS_PER_CLIENT);
+            return new Result(load, inFlight.peak());
+        } finally {
+            context.close();
+        }
+    }
+
+    private record Result(HttpLoadDriver.Result load, int peakInFlight) {
+
+        void print(String label) {
+            System.out.printf("%-10s %10.1f %10.1f %10.1f %12.0f %10d%s%n", label,
+                    load.percentileMillis(0.50), load.percentileMillis(0.99), load.percentileMillis(1.0),
+                    load.throughput(), peakInFlight, load.failureNote());
+        }
+    }
+
+    /**
+     * Counts requests currently executing on a servlet thread and blocks each one for the simulated I/O time.
+     */
+    private static final class InFlightFilter extends OncePerRequestFilter {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(IO_MILLIS);
+                chain.doFilter(request, response);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } finally {
+                current.decrementAndGet();
+            }
+        }
+
+        void reset() {
+            peak.set(0);
+        }
+
+        int peak() {
+            return peak.get();
+        }
+    }
+}
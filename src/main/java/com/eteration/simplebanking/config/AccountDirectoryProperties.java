@@ -0,0 +1,17 @@
+package com.eteration.simplebanking.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.account-directory")
+public class AccountDirectoryProperties {
+
+    // Slots are allocated for this many accounts up front; the map doubles when it fills
+    private int initialCapacity = 65_536;
+
+    // Accounts past this are looked up in the database every time instead of being kept
+    private int maximumSize = 2_000_000;
+}
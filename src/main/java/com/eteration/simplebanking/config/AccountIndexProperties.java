@@ -0,0 +1,31 @@
+package com.eteration.simplebanking.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.account-index")
+public class AccountIndexProperties {
+
+    // When off, every lookup goes to the database as before
+    private boolean enabled = true;
+
+    // Accounts the filter is sized for; past this the false positive rate climbs above the configured one
+    private long expectedAccounts = 1_000_000;
+
+    private double falsePositiveRate = 0.01;
+
+    // Checks a filter miss against the database. Off, a miss costs no query, but with several instances an account
+    // created on another one is reported missing until the next refresh picks it up. Turn on to close that window.
+    private boolean confirmMisses = false;
+
+    // Milliseconds between scans for accounts created by other instances
+    private long refreshIntervalMs = 5_000;
+
+    // How far back each scan starts before the previous one, covering late commits and clock skew between instances
+    private Duration refreshOverlap = Duration.ofMinutes(1);
+}
@@ -0,0 +1,13 @@
+package com.eteration.simplebanking.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * {@code @Async} methods run on Spring Boot's {@code applicationTaskExecutor}, which is a virtual-thread
+ * executor when {@code spring.threads.virtual.enabled} is set and a bounded platform pool otherwise.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
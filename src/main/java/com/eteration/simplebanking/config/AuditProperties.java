@@ -0,0 +1,29 @@
+package com.eteration.simplebanking.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    // Records held in memory between the request threads and the writer
+    private int bufferCapacity = 8192;
+
+    private int batchSize = 500;
+
+    // How long a request waits for room in a full buffer before its record is dropped
+    private Duration offerTimeout = Duration.ofMillis(5);
+
+    // Upper bound on how long a lone record waits before the writer wakes up
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    // Time allowed at shutdown to write what is still buffered
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -1,23 +1,43 @@
 package com.eteration.simplebanking.config;
 
 import com.eteration.simplebanking.domain.constant.CacheConstants;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        cacheManager.setCacheNames(java.util.Arrays.asList(
-            CacheConstants.BANK_ACCOUNTS_CACHE,
-            CacheConstants.TRANSACTIONS_CACHE
-        ));
-        return cacheManager;
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new StripedLoadCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+        // Caches requested by name outside CacheConstants still get the bounded default spec
+        cacheManager.setCaffeine(caffeineFor(cacheProperties.getDefaults()));
+        List.of(CacheConstants.BANK_ACCOUNTS_CACHE, CacheConstants.TRANSACTIONS_CACHE, CacheConstants.ACCOUNT_SNAPSHOTS_CACHE)
+                .forEach(name -> cacheManager.registerCustomCache(name, caffeineFor(cacheProperties.resolve(name)).build()));
+        // Puts and evictions issued inside a transaction are applied only after it commits,
+        // so readers can never re-cache a balance that is about to be rolled back or superseded
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private Caffeine<Object, Object> caffeineFor(CacheProperties.Spec spec) {
+        // recordStats feeds the cache.gets / cache.evictions meters published through the actuator
+        return Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .recordStats();
     }
-} 
\ No newline at end of file
+}
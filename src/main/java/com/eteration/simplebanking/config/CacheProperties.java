@@ -0,0 +1,36 @@
+package com.eteration.simplebanking.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec resolve(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        if (spec == null) {
+            return defaults;
+        }
+        Spec resolved = new Spec();
+        resolved.setMaximumSize(spec.getMaximumSize() != null ? spec.getMaximumSize() : defaults.getMaximumSize());
+        resolved.setExpireAfterWrite(spec.getExpireAfterWrite() != null ? spec.getExpireAfterWrite() : defaults.getExpireAfterWrite());
+        return resolved;
+    }
+
+    @Data
+    public static class Spec {
+
+        private Long maximumSize = 10_000L;
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+    }
+}
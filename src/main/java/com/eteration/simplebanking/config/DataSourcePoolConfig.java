@@ -0,0 +1,37 @@
+package com.eteration.simplebanking.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourcePoolConfig {
+
+    /**
+     * Applies {@link DataSourcePoolProperties} to every Hikari pool bean after {@code spring.datasource.hikari} has been
+     * bound and before the pool opens its first connection. Static, so it is registered before the data source beans.
+     */
+    @Bean
+    public static BeanPostProcessor hikariPoolCustomizer(ObjectProvider<DataSourcePoolProperties> poolProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    apply(poolProperties.getObject(), dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static void apply(DataSourcePoolProperties properties, HikariDataSource dataSource) {
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setMinimumIdle(Math.min(properties.getMinimumIdle(), properties.getMaximumPoolSize()));
+        dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        dataSource.setIdleTimeout(properties.getIdleTimeout().toMillis());
+        dataSource.setMaxLifetime(properties.getMaxLifetime().toMillis());
+        dataSource.setLeakDetectionThreshold(properties.getLeakDetectionThreshold().toMillis());
+    }
+}
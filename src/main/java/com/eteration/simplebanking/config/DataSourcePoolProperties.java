@@ -0,0 +1,57 @@
+package com.eteration.simplebanking.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Hikari settings for the primary pool. Applied on top of {@code spring.datasource.hikari}, so these win.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource.pool")
+public class DataSourcePoolProperties {
+
+    private int maximumPoolSize = 20;
+
+    private int minimumIdle = 5;
+
+    // Fail fast instead of queueing requests behind an exhausted pool for Hikari's default 30s
+    private Duration connectionTimeout = Duration.ofSeconds(3);
+
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // Below the database's and any proxy's idle connection cut-off
+    private Duration maxLifetime = Duration.ofMinutes(30);
+
+    // Zero disables leak detection
+    private Duration leakDetectionThreshold = Duration.ZERO;
+
+    private Adaptive adaptive = new Adaptive();
+
+    @Data
+    public static class Adaptive {
+
+        private boolean enabled = false;
+
+        private int minSize = 5;
+
+        private int maxSize = 50;
+
+        // Connections added or removed per adjustment
+        private int step = 2;
+
+        // Milliseconds between adjustments
+        private long checkIntervalMs = 5000;
+
+        // Mean acquisition time above which the pool grows
+        private Duration targetAcquireTime = Duration.ofMillis(5);
+
+        // The pool shrinks only when at most this share of it was busy for shrinkAfterChecks checks in a row
+        private double shrinkUtilization = 0.5;
+
+        private int shrinkAfterChecks = 6;
+    }
+}
@@ -0,0 +1,33 @@
+package com.eteration.simplebanking.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    // Keys answered from memory before falling back to idempotency_keys
+    private int hotMaximumSize = 100_000;
+
+    // How long a completed key stays in memory; client retries usually arrive within seconds
+    private Duration hotWindow = Duration.ofMinutes(10);
+
+    // How long a key is kept in idempotency_keys and therefore how long a retry is still deduplicated
+    private Duration retention = Duration.ofHours(24);
+
+    private Purge purge = new Purge();
+
+    @Data
+    public static class Purge {
+
+        private boolean enabled = true;
+
+        // Milliseconds between deletes of expired keys
+        private long intervalMs = 600_000;
+    }
+}
@@ -0,0 +1,24 @@
+package com.eteration.simplebanking.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.ledger")
+public class LedgerProperties {
+
+    // A balance snapshot is written whenever an account's ledger sequence is a multiple of this
+    private int snapshotInterval = 100;
+
+    private Reconciliation reconciliation = new Reconciliation();
+
+    @Data
+    public static class Reconciliation {
+
+        private boolean enabled = false;
+        private String cron = "0 0 3 * * *";
+        private int pageSize = 500;
+    }
+}
@@ -0,0 +1,14 @@
+package com.eteration.simplebanking.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.locking")
+public class LockingProperties {
+
+    // Accounts are hashed onto this many locks; collisions only serialise unrelated accounts, never break correctness
+    private int stripes = 1024;
+}
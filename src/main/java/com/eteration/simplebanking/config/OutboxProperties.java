@@ -0,0 +1,25 @@
+package com.eteration.simplebanking.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    private Relay relay = new Relay();
+
+    @Data
+    public static class Relay {
+
+        private boolean enabled = false;
+
+        // Milliseconds between polls once the outbox has been drained
+        private long pollIntervalMs = 100;
+
+        // Events claimed, published and deleted per database transaction
+        private int batchSize = 1000;
+    }
+}
@@ -0,0 +1,114 @@
+package com.eteration.simplebanking.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for {@code @Transactional(readOnly = true)} work to the replicas, round robin over the ones
+ * that passed their last health check, and everything else to the primary. A replica that refuses a connection is
+ * taken out of rotation at once and the read falls back to the primary; {@link #checkHealth} brings it back.
+ * <p>
+ * The read-only flag is only known once the transaction has started, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    // Indexes into replicas; replaced as a whole so the read path never locks
+    private volatile int[] healthy;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.healthy = new int[this.replicas.size()];
+        Arrays.setAll(this.healthy, i -> i);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return opener.open(primary);
+        }
+        int[] candidates = healthy;
+        if (candidates.length == 0) {
+            return opener.open(primary);
+        }
+        int replica = candidates[Math.floorMod(next.getAndIncrement(), candidates.length)];
+        try {
+            return opener.open(replicas.get(replica));
+        } catch (SQLException e) {
+            markDown(replica, e);
+            return opener.open(primary);
+        }
+    }
+
+    /**
+     * Validates every replica and rebuilds the rotation from the ones that answered.
+     */
+    public void checkHealth(int timeoutSeconds) {
+        int[] answered = new int[replicas.size()];
+        int count = 0;
+        for (int i = 0; i < replicas.size(); i++) {
+            try (Connection connection = replicas.get(i).getConnection()) {
+                if (connection.isValid(timeoutSeconds)) {
+                    answered[count++] = i;
+                }
+            } catch (SQLException e) {
+                log.debug("[DATASOURCE][REPLICA_CHECK_FAILED] Replica: {}, Error: {}", i, e.getMessage());
+            }
+        }
+        int[] updated = Arrays.copyOf(answered, count);
+        if (!Arrays.equals(updated, healthy)) {
+            log.warn("[DATASOURCE][REPLICAS] Healthy: {} of {}", count, replicas.size());
+        }
+        healthy = updated;
+    }
+
+    public int healthyReplicaCount() {
+        return healthy.length;
+    }
+
+    private synchronized void markDown(int replica, SQLException cause) {
+        int[] current = healthy;
+        int[] updated = Arrays.stream(current).filter(index -> index != replica).toArray();
+        if (updated.length != current.length) {
+            log.warn("[DATASOURCE][REPLICA_DOWN] Replica: {}, Error: {}", replica, cause.getMessage());
+            healthy = updated;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
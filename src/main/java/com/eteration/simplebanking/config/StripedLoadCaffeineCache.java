@@ -0,0 +1,100 @@
+package com.eteration.simplebanking.config;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link CaffeineCache} whose {@code @Cacheable(sync = true)} loads are serialised per key with striped
+ * {@link ReentrantLock}s instead of Caffeine's {@code compute}. The default path runs the loader, a blocking
+ * JDBC query here, inside {@code ConcurrentHashMap}'s {@code synchronized} bin lock, which pins the carrier
+ * when the caller is a virtual thread. Concurrent misses on the same key still trigger a single load.
+ * <p>
+ * Each stripe also counts evictions. A load that read the database before a write committed can finish after the
+ * write's eviction; its value is returned to the caller but dropped from the cache instead of being served until
+ * the TTL expires. A key sharing the stripe only costs an uncached load.
+ */
+class StripedLoadCaffeineCache extends CaffeineCache {
+
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] loadLocks = new ReentrantLock[STRIPES];
+    private final AtomicLongArray evictions = new AtomicLongArray(STRIPES);
+
+    StripedLoadCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                             boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+        for (int i = 0; i < STRIPES; i++) {
+            loadLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        int stripe = stripe(key);
+        ReentrantLock lock = loadLocks[stripe];
+        lock.lock();
+        try {
+            cached = get(key);
+            if (cached != null) {
+                return (T) cached.get();
+            }
+            long evictionsBefore = evictions.get(stripe);
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Throwable ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+            put(key, value);
+            // Checked after the put: an eviction counted later than this also invalidates after counting
+            if (evictions.get(stripe) != evictionsBefore) {
+                getNativeCache().asMap().remove(key, toStoreValue(value));
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictions.incrementAndGet(stripe(key));
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evictions.incrementAndGet(stripe(key));
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        countAllEvictions();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        countAllEvictions();
+        return super.invalidate();
+    }
+
+    private void countAllEvictions() {
+        for (int i = 0; i < STRIPES; i++) {
+            evictions.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), STRIPES);
+    }
+}
@@ -1,11 +1,16 @@
 package com.eteration.simplebanking.controller;
 
+import com.eteration.simplebanking.model.dto.response.AccountBalanceResponse;
 import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
+import com.eteration.simplebanking.model.dto.response.BatchTransactionResponse;
+import com.eteration.simplebanking.model.dto.response.TransactionPageResponse;
 import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
 import com.eteration.simplebanking.model.dto.request.CreateAccountRequest;
 import com.eteration.simplebanking.model.dto.request.TransactionRequest;
 import com.eteration.simplebanking.model.dto.request.PhoneBillPaymentRequest;
 import com.eteration.simplebanking.model.dto.request.CheckPaymentRequest;
+import com.eteration.simplebanking.model.dto.request.BatchTransactionRequest;
+import com.eteration.simplebanking.domain.constant.RequestConstants;
 import com.eteration.simplebanking.domain.enums.PhoneCompany;
 
 import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
@@ -18,10 +23,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/bank-account")
@@ -29,6 +37,9 @@ import jakarta.validation.Valid;
 @Tag(name = "Bank Account", description = "Bank account management operations")
 public class BankAccountController {
 
+    private static final String IDEMPOTENCY_KEY_DESCRIPTION =
+            "Optional key of up to 255 characters; a retry with the same key returns the first response instead of posting again";
+
     private final BankingFacadeService bankingFacadeService;
 
     @PostMapping("/create")
@@ -50,11 +61,14 @@ public class BankAccountController {
             @ApiResponse(responseCode = "200", description = "Money credited successfully",
                     content = @Content(schema = @Schema(implementation = TransactionStatusResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request data"),
-            @ApiResponse(responseCode = "404", description = "Account not found")
+            @ApiResponse(responseCode = "404", description = "Account not found"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key already used for a different request")
     })
     public ResponseEntity<TransactionStatusResponse> credit(@Parameter(description = "Account number") @PathVariable String accountNumber,
-                                                            @Valid @RequestBody TransactionRequest request) {
-        TransactionStatusResponse result = bankingFacadeService.credit(accountNumber, request.amount());
+                                                            @Valid @RequestBody TransactionRequest request,
+                                                            @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION)
+                                                            @RequestHeader(value = RequestConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        TransactionStatusResponse result = bankingFacadeService.credit(accountNumber, request.amount(), idempotencyKey);
         return ResponseEntity.ok(result);
     }
 
@@ -65,13 +79,16 @@ public class BankAccountController {
                     content = @Content(schema = @Schema(implementation = TransactionStatusResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request data"),
             @ApiResponse(responseCode = "404", description = "Account not found"),
-            @ApiResponse(responseCode = "422", description = "Insufficient balance")
+            @ApiResponse(responseCode = "422", description = "Insufficient balance, or Idempotency-Key already used for a different request",
+                    content = @Content(schema = @Schema(implementation = TransactionStatusResponse.class)))
     })
     public ResponseEntity<TransactionStatusResponse> debit(@Parameter(description = "Account number") @PathVariable String accountNumber,
-                                                           @Valid @RequestBody TransactionRequest request) {
+                                                           @Valid @RequestBody TransactionRequest request,
+                                                           @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION)
+                                                           @RequestHeader(value = RequestConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
-        TransactionStatusResponse result = bankingFacadeService.debit(accountNumber, request.amount());
-        return ResponseEntity.ok(result);
+        TransactionStatusResponse result = bankingFacadeService.debit(accountNumber, request.amount(), idempotencyKey);
+        return toResponse(result);
     }
 
     @GetMapping("/{accountNumber}")
@@ -81,8 +98,42 @@ public class BankAccountController {
                     content = @Content(schema = @Schema(implementation = BankAccountResponse.class))),
             @ApiResponse(responseCode = "404", description = "Account not found")
     })
-    public ResponseEntity<BankAccountResponse> getBankAccount(@Parameter(description = "Account number") @PathVariable String accountNumber) {
-        BankAccountResponse result = bankingFacadeService.getBankAccount(accountNumber);
+    public ResponseEntity<BankAccountResponse> getBankAccount(@Parameter(description = "Account number") @PathVariable String accountNumber,
+                                                              @Parameter(description = "Return only the N most recent transactions instead of the full history")
+                                                              @RequestParam(required = false) Integer recent) {
+        BankAccountResponse result = recent == null
+                ? bankingFacadeService.getBankAccount(accountNumber)
+                : bankingFacadeService.getBankAccountSummary(accountNumber, recent);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/{accountNumber}/transactions")
+    @Operation(summary = "Get transaction history", description = "Retrieves the transactions of a bank account newest first, one page at a time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transaction page retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TransactionPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid page cursor"),
+            @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    public ResponseEntity<TransactionPageResponse> getTransactionHistory(@Parameter(description = "Account number") @PathVariable String accountNumber,
+                                                                         @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                                                                         @Parameter(description = "Page size (1-100, default 20)") @RequestParam(required = false) Integer size) {
+        TransactionPageResponse result = bankingFacadeService.getTransactionHistory(accountNumber, cursor, size);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/{accountNumber}/balance")
+    @Operation(summary = "Get balance at a point in time", description = "Returns the balance the account had at the given timestamp")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Balance retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = AccountBalanceResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Missing or malformed timestamp"),
+            @ApiResponse(responseCode = "404", description = "Account not found")
+    })
+    public ResponseEntity<AccountBalanceResponse> getBalanceAt(@Parameter(description = "Account number") @PathVariable String accountNumber,
+                                                               @Parameter(description = "ISO-8601 timestamp, e.g. 2024-06-30T23:59:59")
+                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        AccountBalanceResponse result = bankingFacadeService.getBalanceAt(accountNumber, at);
         return ResponseEntity.ok(result);
     }
 
@@ -93,12 +144,16 @@ public class BankAccountController {
                     content = @Content(schema = @Schema(implementation = TransactionStatusResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request data"),
             @ApiResponse(responseCode = "404", description = "Account not found"),
-            @ApiResponse(responseCode = "422", description = "Insufficient balance")
+            @ApiResponse(responseCode = "422", description = "Insufficient balance, or Idempotency-Key already used for a different request",
+                    content = @Content(schema = @Schema(implementation = TransactionStatusResponse.class)))
     })
     public ResponseEntity<TransactionStatusResponse> phoneBillPayment(@Parameter(description = "Account number") @PathVariable String accountNumber,
-                                                                     @Valid @RequestBody PhoneBillPaymentRequest request) {
-        TransactionStatusResponse result = bankingFacadeService.phoneBillPayment(accountNumber, request.phoneCompany(), request.phoneNumber(), request.amount());
-        return ResponseEntity.ok(result);
+                                                                     @Valid @RequestBody PhoneBillPaymentRequest request,
+                                                                     @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION)
+                                                                     @RequestHeader(value = RequestConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        TransactionStatusResponse result = bankingFacadeService.phoneBillPayment(accountNumber, request.phoneCompany(), request.phoneNumber(), request.amount(),
+                idempotencyKey);
+        return toResponse(result);
     }
 
     @PostMapping("/check-payment/{accountNumber}")
@@ -108,11 +163,33 @@ public class BankAccountController {
                     content = @Content(schema = @Schema(implementation = TransactionStatusResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request data"),
             @ApiResponse(responseCode = "404", description = "Account not found"),
-            @ApiResponse(responseCode = "422", description = "Insufficient balance")
+            @ApiResponse(responseCode = "422", description = "Insufficient balance, or Idempotency-Key already used for a different request",
+                    content = @Content(schema = @Schema(implementation = TransactionStatusResponse.class)))
     })
     public ResponseEntity<TransactionStatusResponse> checkPayment(@Parameter(description = "Account number") @PathVariable String accountNumber,
-                                                                 @Valid @RequestBody CheckPaymentRequest request) {
-        TransactionStatusResponse result = bankingFacadeService.checkPayment(accountNumber, request.payee(), request.amount());
+                                                                 @Valid @RequestBody CheckPaymentRequest request,
+                                                                 @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION)
+                                                                 @RequestHeader(value = RequestConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        TransactionStatusResponse result = bankingFacadeService.checkPayment(accountNumber, request.payee(), request.amount(), idempotencyKey);
+        return toResponse(result);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Post a batch of operations", description = "Applies many deposits, withdrawals, phone bill and check payments across accounts in one transaction and reports each outcome")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see per-item status",
+                    content = @Content(schema = @Schema(implementation = BatchTransactionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key already used for a different request")
+    })
+    public ResponseEntity<BatchTransactionResponse> postBatch(@Valid @RequestBody BatchTransactionRequest request,
+                                                              @Parameter(description = IDEMPOTENCY_KEY_DESCRIPTION)
+                                                              @RequestHeader(value = RequestConstants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        BatchTransactionResponse result = bankingFacadeService.postBatch(request.operations(), idempotencyKey);
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<TransactionStatusResponse> toResponse(TransactionStatusResponse result) {
+        return result.isApproved() ? ResponseEntity.ok(result) : ResponseEntity.unprocessableEntity().body(result);
+    }
+}
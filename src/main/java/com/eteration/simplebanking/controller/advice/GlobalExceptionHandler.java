@@ -1,23 +1,25 @@
 package com.eteration.simplebanking.controller.advice;
 
 import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.IdempotencyKeyReusedException;
 import com.eteration.simplebanking.exception.InsufficientBalanceException;
 import com.eteration.simplebanking.exception.InvalidTransactionException;
 import com.eteration.simplebanking.exception.StrategyNotFoundException;
 import com.eteration.simplebanking.exception.TransactionValidationException;
 import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import com.eteration.simplebanking.model.dto.response.ErrorResponse;
+import com.eteration.simplebanking.util.MessageCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
-import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 
 import java.time.LocalDateTime;
@@ -29,14 +31,24 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
-    private final MessageSource messageSource;
+    // Messages TransactionValidationException carries without a key, mapped to the key that translates them
+    private static final Map<String, MessageKeys> VALIDATION_MESSAGE_KEYS = Map.of(
+            "Transaction type cannot be null", MessageKeys.VALIDATION_TRANSACTION_TYPE_NULL,
+            "Bank account cannot be null", MessageKeys.VALIDATION_BANK_ACCOUNT_NULL,
+            "Account number cannot be null or empty", MessageKeys.VALIDATION_ACCOUNT_NUMBER_NULL_OR_EMPTY,
+            "Transaction parameters cannot be null", MessageKeys.VALIDATION_TRANSACTION_PARAMETERS_NULL,
+            "Strategy returned null transaction", MessageKeys.VALIDATION_TRANSACTION_NULL,
+            "Transaction amount cannot be negative", MessageKeys.VALIDATION_TRANSACTION_AMOUNT_NEGATIVE,
+            "Transaction date cannot be null", MessageKeys.VALIDATION_TRANSACTION_DATE_NULL);
+
+    private final MessageCatalog messageCatalog;
 
     private String getMessage(MessageKeys messageKey) {
-        return messageSource.getMessage(messageKey.getKey(), null, LocaleContextHolder.getLocale());
+        return messageCatalog.message(messageKey);
     }
 
     private String getMessage(MessageKeys messageKey, Object... args) {
-        return messageSource.getMessage(messageKey.getKey(), args, LocaleContextHolder.getLocale());
+        return messageCatalog.message(messageKey, args);
     }
 
     @ExceptionHandler(InsufficientBalanceException.class)
@@ -51,13 +63,13 @@ public class GlobalExceptionHandler {
 
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
+                .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
                 .error(getMessage(MessageKeys.ERROR_TITLE_INSUFFICIENT_BALANCE))
                 .message(i18nMessage)
                 .path(request.getDescription(false))
                 .build();
 
-        return ResponseEntity.badRequest().body(errorResponse);
+        return ResponseEntity.unprocessableEntity().body(errorResponse);
     }
 
     @ExceptionHandler(AccountNotFoundException.class)
@@ -145,28 +157,25 @@ public class GlobalExceptionHandler {
     }
 
     private String mapValidationExceptionToI18n(String exceptionMessage) {
-        if (exceptionMessage == null) {
-            return getMessage(MessageKeys.ERROR_VALIDATION_FAILED);
-        }
-        
-        switch (exceptionMessage) {
-            case "Transaction type cannot be null":
-                return getMessage(MessageKeys.VALIDATION_TRANSACTION_TYPE_NULL);
-            case "Bank account cannot be null":
-                return getMessage(MessageKeys.VALIDATION_BANK_ACCOUNT_NULL);
-            case "Account number cannot be null or empty":
-                return getMessage(MessageKeys.VALIDATION_ACCOUNT_NUMBER_NULL_OR_EMPTY);
-            case "Transaction parameters cannot be null":
-                return getMessage(MessageKeys.VALIDATION_TRANSACTION_PARAMETERS_NULL);
-            case "Strategy returned null transaction":
-                return getMessage(MessageKeys.VALIDATION_TRANSACTION_NULL);
-            case "Transaction amount cannot be negative":
-                return getMessage(MessageKeys.VALIDATION_TRANSACTION_AMOUNT_NEGATIVE);
-            case "Transaction date cannot be null":
-                return getMessage(MessageKeys.VALIDATION_TRANSACTION_DATE_NULL);
-            default:
-                return getMessage(MessageKeys.ERROR_VALIDATION_FAILED);
-        }
+        MessageKeys messageKey = exceptionMessage == null ? null : VALIDATION_MESSAGE_KEYS.get(exceptionMessage);
+        return getMessage(messageKey != null ? messageKey : MessageKeys.ERROR_VALIDATION_FAILED);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException ex,
+                                                                             WebRequest request) {
+
+        log.debug("[IDEMPOTENCY_KEY_REUSED] Error: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                .error(getMessage(MessageKeys.ERROR_TITLE_IDEMPOTENCY_KEY_REUSED))
+                .message(getMessage(ex.hasMessageKey() ? ex.getMessageKey() : MessageKeys.ERROR_IDEMPOTENCY_KEY_REUSED))
+                .path(request.getDescription(false))
+                .build();
+
+        return ResponseEntity.unprocessableEntity().body(errorResponse);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -200,7 +209,7 @@ public class GlobalExceptionHandler {
             String i18nMessage;
             if (errorMessage != null && errorMessage.startsWith("{") && errorMessage.endsWith("}")) {
                 String key = errorMessage.substring(1, errorMessage.length() - 1);
-                i18nMessage = messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+                i18nMessage = messageCatalog.message(key);
             } else {
                 i18nMessage = errorMessage;
             }
@@ -219,29 +228,6 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
-    private String resolveValidationMessage(String errorMessage) {
-        if (errorMessage == null) {
-            return getMessage(MessageKeys.ERROR_VALIDATION_FAILED);
-        }
-        
-        switch (errorMessage) {
-            case "Account number is required":
-                return getMessage(MessageKeys.VALIDATION_ACCOUNT_NUMBER_REQUIRED);
-            case "Amount is required":
-                return getMessage(MessageKeys.VALIDATION_AMOUNT_REQUIRED);
-            case "Amount must be positive":
-                return getMessage(MessageKeys.VALIDATION_AMOUNT_POSITIVE);
-            case "Phone number is required":
-                return getMessage(MessageKeys.VALIDATION_PHONE_NUMBER_REQUIRED);
-            case "Invalid phone number format":
-                return getMessage(MessageKeys.VALIDATION_PHONE_NUMBER_INVALID);
-            case "Invalid account number format":
-                return getMessage(MessageKeys.VALIDATION_ACCOUNT_NUMBER_INVALID);
-            default:
-                return getMessage(MessageKeys.ERROR_VALIDATION_FAILED);
-        }
-    }
-
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex,
                                                                                 WebRequest request) {
@@ -259,6 +245,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ErrorResponse> handleInvalidRequestParameter(Exception ex, WebRequest request) {
+
+        log.debug("[INVALID_REQUEST_PARAMETER] Error: {}", ex.getMessage());
+
+        String parameterName = ex instanceof MissingServletRequestParameterException missing
+                ? missing.getParameterName()
+                : ((MethodArgumentTypeMismatchException) ex).getName();
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(getMessage(MessageKeys.ERROR_TITLE_VALIDATION_ERROR))
+                .message(getMessage(MessageKeys.VALIDATION_REQUEST_PARAMETER_INVALID, parameterName))
+                .path(request.getDescription(false))
+                .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(
             Exception ex, WebRequest request) {
@@ -0,0 +1,52 @@
+package com.eteration.simplebanking.controller.filter;
+
+import com.eteration.simplebanking.domain.constant.RequestConstants;
+import com.eteration.simplebanking.domain.constant.ValidationRegex;
+import com.eteration.simplebanking.service.interfaces.ApprovalCodeGenerator;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Gives every request an id, taken from {@code X-Request-Id} when the caller sends a well-formed one and generated
+ * otherwise. The id and the caller are kept in the MDC for logging and auditing, and the id is echoed back.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    private static final Pattern REQUEST_ID = Pattern.compile(ValidationRegex.REQUEST_ID_PATTERN);
+
+    private final ApprovalCodeGenerator idGenerator;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(RequestConstants.REQUEST_ID_HEADER);
+        if (requestId == null || !REQUEST_ID.matcher(requestId).matches()) {
+            requestId = idGenerator.next().toString();
+        }
+        String actor = request.getRemoteUser() != null ? request.getRemoteUser() : request.getRemoteAddr();
+
+        MDC.put(RequestConstants.MDC_REQUEST_ID, requestId);
+        MDC.put(RequestConstants.MDC_ACTOR, actor);
+        response.setHeader(RequestConstants.REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(RequestConstants.MDC_REQUEST_ID);
+            MDC.remove(RequestConstants.MDC_ACTOR);
+        }
+    }
+}
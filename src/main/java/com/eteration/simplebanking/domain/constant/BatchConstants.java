@@ -0,0 +1,12 @@
+package com.eteration.simplebanking.domain.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BatchConstants {
+
+    public static final int MAX_OPERATIONS = 5000;
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_FAILED = "FAILED";
+}
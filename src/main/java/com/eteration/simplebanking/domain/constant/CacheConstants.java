@@ -8,4 +8,5 @@ public final class CacheConstants {
     
     public static final String BANK_ACCOUNTS_CACHE = "bankAccounts";
     public static final String TRANSACTIONS_CACHE = "transactions";
+    public static final String ACCOUNT_SNAPSHOTS_CACHE = "accountSnapshots";
 } 
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.eteration.simplebanking.domain.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Meter and tag names. Tag values always come from a fixed set (operation names, enums, cache names), never from
+ * request data such as account numbers, so the number of time series stays bounded.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetricConstants {
+
+    public static final String OPERATION_TIMER = "banking.operation";
+    public static final String TRANSACTION_TIMER = "banking.transaction";
+    public static final String CACHE_LOAD_TIMER = "banking.cache.load";
+
+    public static final String TAG_OPERATION = "operation";
+    public static final String TAG_TYPE = "type";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_CACHE = "cache";
+    public static final String TAG_ENTRY = "entry";
+
+    public static final String OP_CREATE_ACCOUNT = "create_account";
+    public static final String OP_GET_ACCOUNT = "get_account";
+    public static final String OP_GET_ACCOUNT_SUMMARY = "get_account_summary";
+    public static final String OP_TRANSACTION_HISTORY = "transaction_history";
+    public static final String OP_BALANCE_AT = "balance_at";
+    public static final String OP_CREDIT = "credit";
+    public static final String OP_DEBIT = "debit";
+    public static final String OP_PHONE_BILL_PAYMENT = "phone_bill_payment";
+    public static final String OP_CHECK_PAYMENT = "check_payment";
+    public static final String OP_BATCH = "batch";
+
+    public static final String ENTRY_RESPONSE = "response";
+    public static final String ENTRY_SNAPSHOT = "snapshot";
+    public static final String ENTRY_ID = "id";
+}
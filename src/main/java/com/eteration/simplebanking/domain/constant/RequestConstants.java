@@ -0,0 +1,14 @@
+package com.eteration.simplebanking.domain.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RequestConstants {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_ACTOR = "actor";
+}
@@ -0,0 +1,11 @@
+package com.eteration.simplebanking.domain.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransactionStatusConstants {
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_DECLINED = "DECLINED";
+}
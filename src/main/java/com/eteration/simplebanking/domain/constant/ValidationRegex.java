@@ -6,6 +6,8 @@ public final class ValidationRegex {
     
     public static final String PHONE_NUMBER_PATTERN = "^\\d{10,11}$";
     
+    public static final String REQUEST_ID_PATTERN = "^[A-Za-z0-9._-]{1,64}$";
+    
     private ValidationRegex() {
     }
 } 
\ No newline at end of file
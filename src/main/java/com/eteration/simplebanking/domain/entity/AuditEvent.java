@@ -0,0 +1,63 @@
+package com.eteration.simplebanking.domain.entity;
+
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Append-only audit trail of committed transactions, written in batches by a background writer after the
+ * balance update has committed. Account number and actor are stored encrypted, as in the logs.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "audit_events", indexes = {
+    @Index(name = "idx_audit_events_occurred_at", columnList = "occurred_at"),
+    @Index(name = "idx_audit_events_approval_code", columnList = "approval_code")
+})
+public class AuditEvent extends BaseEntity {
+
+	@Column(name = "request_id", length = 64)
+	private String requestId;
+
+	@Column(name = "actor")
+	private String actor;
+
+	@NotNull
+	@Column(name = "account_number", nullable = false)
+	private String accountNumber;
+
+	@NotNull
+	@Enumerated(EnumType.STRING)
+	@Column(name = "transaction_type", nullable = false, length = 31)
+	private TransactionType transactionType;
+
+	// Minor units (cents), see MoneyUtil
+	@Column(name = "amount", nullable = false)
+	private long amount;
+
+	@Column(name = "balance_before", nullable = false)
+	private long balanceBefore;
+
+	@Column(name = "balance_after", nullable = false)
+	private long balanceAfter;
+
+	@NotNull
+	@Column(name = "approval_code", nullable = false)
+	private UUID approvalCode;
+
+	@NotNull
+	@Column(name = "occurred_at", nullable = false)
+	private LocalDateTime occurredAt;
+}
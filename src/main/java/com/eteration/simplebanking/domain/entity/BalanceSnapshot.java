@@ -0,0 +1,44 @@
+package com.eteration.simplebanking.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only checkpoint of an account balance at a ledger sequence number, written every
+ * {@code app.ledger.snapshot-interval} transactions so replays start here instead of at the first transaction.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "balance_snapshots", indexes = {
+    @Index(name = "idx_balance_snapshots_account_sequence", columnList = "account_id, sequence_number", unique = true),
+    @Index(name = "idx_balance_snapshots_account_taken_at", columnList = "account_id, taken_at")
+})
+public class BalanceSnapshot extends BaseEntity {
+
+	@NotNull
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "account_id", nullable = false)
+	private BankAccount account;
+
+	@Column(name = "sequence_number", nullable = false)
+	private long sequenceNumber;
+
+	@Column(name = "balance", nullable = false)
+	private long balance;
+
+	// Date of the transaction the checkpoint was taken after
+	@NotNull
+	@Column(name = "taken_at", nullable = false)
+	private LocalDateTime takenAt;
+}
@@ -3,6 +3,8 @@ package com.eteration.simplebanking.domain.entity;
 import com.eteration.simplebanking.domain.entity.transaction.*;
 import com.eteration.simplebanking.exception.InsufficientBalanceException;
 import com.eteration.simplebanking.domain.enums.PhoneCompany;
+import com.eteration.simplebanking.domain.enums.PostingOutcome;
+import com.eteration.simplebanking.util.AccountNumberKey;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,7 +25,9 @@ import java.util.List;
 @Builder
 @Entity
 @Table(name = "bank_accounts", indexes = {
-    @Index(name = "idx_account_number", columnList = "account_number")
+    @Index(name = "idx_account_number", columnList = "account_number"),
+    @Index(name = "idx_bank_accounts_created_at", columnList = "created_at"),
+    @Index(name = "idx_bank_accounts_account_key", columnList = "account_key", unique = true)
 })
 public class BankAccount extends BaseEntity {
 
@@ -35,44 +39,78 @@ public class BankAccount extends BaseEntity {
 	@Column(name = "account_number", nullable = false, unique = true)
 	private String accountNumber;
 
+	// The account number as a bigint (see AccountNumberKey), or null when it is not digits only
+	@Column(name = "account_key")
+	private Long accountKey;
+
+	// Minor units (cents), see MoneyUtil
 	@NotNull(message = "{validation.balance.required}")
 	@Column(name = "balance", nullable = false)
 	@Builder.Default
-	private double balance = 0.0;
+	private long balance = 0L;
+
+	// Number of transactions ever posted; each transaction carries its position in this sequence
+	@Column(name = "ledger_sequence", nullable = false)
+	@Builder.Default
+	private long ledgerSequence = 0L;
 
 	@OneToMany(mappedBy = "account", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	@Builder.Default
 	private List<Transaction> transactions = new ArrayList<>();
 	
 	public void post(Transaction transaction) throws InsufficientBalanceException {
-		transaction.execute(this);
+		if (tryPost(transaction) != PostingOutcome.POSTED) {
+			throw new InsufficientBalanceException(transaction.insufficientBalanceKey());
+		}
+	}
+	
+	/**
+	 * Posts the transaction if the balance allows it; a decline is returned and leaves the account unchanged.
+	 */
+	public PostingOutcome tryPost(Transaction transaction) {
+		PostingOutcome outcome = transaction.execute(this);
+		if (outcome != PostingOutcome.POSTED) {
+			return outcome;
+		}
+		this.ledgerSequence++;
+		transaction.setSequenceNumber(ledgerSequence);
+		transaction.setBalanceAfter(balance);
 		transaction.setAccount(this);
 		this.transactions.add(transaction);
+		return outcome;
 	}
 	
-	public void credit(double amount) throws InsufficientBalanceException {
+	public void credit(long amount) throws InsufficientBalanceException {
 		DepositTransaction deposit = new DepositTransaction();
 		deposit.setAmount(amount);
 		deposit.setDate(LocalDateTime.now());
 		post(deposit);
 	}
 	
-	public void debit(double amount) throws InsufficientBalanceException {
+	public void debit(long amount) throws InsufficientBalanceException {
 		WithdrawalTransaction withdrawal = new WithdrawalTransaction();
 		withdrawal.setAmount(amount);
 		withdrawal.setDate(LocalDateTime.now());
 		post(withdrawal);
 	}
 	
-	public void payPhoneBill(PhoneCompany phoneCompany, String phoneNumber, double amount) throws InsufficientBalanceException {
+	public void payPhoneBill(PhoneCompany phoneCompany, String phoneNumber, long amount) throws InsufficientBalanceException {
 		PhoneBillPaymentTransaction phoneBill = new PhoneBillPaymentTransaction(phoneCompany, phoneNumber, amount);
 		post(phoneBill);
 	}
 	
-	public void payCheck(String payee, double amount) throws InsufficientBalanceException {
+	public void payCheck(String payee, long amount) throws InsufficientBalanceException {
 		CheckTransaction check = new CheckTransaction(payee, amount);
 		post(check);
 	}
+
+	// Set on every insert, including ones that bypass BankAccountService
+	@PrePersist
+	void assignAccountKey() {
+		if (accountKey == null && accountNumber != null) {
+			accountKey = AccountNumberKey.orNull(accountNumber);
+		}
+	}
 	
 
 }
@@ -0,0 +1,52 @@
+package com.eteration.simplebanking.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+/**
+ * The response a money-moving request produced, stored under its Idempotency-Key in the same database transaction
+ * as the posting. The unique key makes a second posting with the same key roll back, also across instances.
+ * Only a hash of the request is kept, so account numbers and payees never reach this table; a replayed batch takes
+ * them from the request it was matched to.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at")
+})
+public class IdempotencyRecord extends BaseEntity {
+
+	@NotNull
+	@Column(name = "idempotency_key", nullable = false, unique = true)
+	private String idempotencyKey;
+
+	// SHA-256 of the operation and its arguments, hex encoded
+	@NotNull
+	@Column(name = "request_hash", nullable = false, length = 64)
+	private String requestHash;
+
+	@NotNull
+	@Column(name = "status", nullable = false, length = 31)
+	private String status;
+
+	@Column(name = "approval_code")
+	private UUID approvalCode;
+
+	@Column(name = "error_code")
+	private String errorCode;
+
+	// Batches only: each item's status, approval code and error code as JSON
+	@Column(name = "response_body", columnDefinition = "TEXT")
+	private String responseBody;
+}
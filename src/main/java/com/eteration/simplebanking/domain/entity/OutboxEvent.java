@@ -0,0 +1,55 @@
+package com.eteration.simplebanking.domain.entity;
+
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A transaction event waiting to be published. Inserted in the same database transaction as the
+ * {@code Transaction} it describes and deleted by {@code OutboxRelay} once published, so the table only holds
+ * the backlog.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent extends BaseEntity {
+
+	@NotNull
+	@Column(name = "account_number", nullable = false)
+	private String accountNumber;
+
+	@NotNull
+	@Enumerated(EnumType.STRING)
+	@Column(name = "transaction_type", nullable = false, length = 31)
+	private TransactionType transactionType;
+
+	// Minor units (cents), see MoneyUtil
+	@Column(name = "amount", nullable = false)
+	private long amount;
+
+	@Column(name = "balance_after", nullable = false)
+	private long balanceAfter;
+
+	@Column(name = "sequence_number", nullable = false)
+	private long sequenceNumber;
+
+	@NotNull
+	@Column(name = "approval_code", nullable = false)
+	private UUID approvalCode;
+
+	@NotNull
+	@Column(name = "occurred_at", nullable = false)
+	private LocalDateTime occurredAt;
+}
@@ -1,7 +1,7 @@
 package com.eteration.simplebanking.domain.entity.transaction;
 
 import com.eteration.simplebanking.domain.entity.BankAccount;
-import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.domain.enums.PostingOutcome;
 import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -23,7 +23,7 @@ public class CheckTransaction extends Transaction {
 	@Column(name = "payee")
 	private String payee;
 	
-	public CheckTransaction(String payee, double amount) {
+	public CheckTransaction(String payee, long amount) {
 		this.payee = payee;
 		this.amount = amount;
 		this.date = LocalDateTime.now();
@@ -42,11 +42,22 @@ public class CheckTransaction extends Transaction {
 	}
 	
 	@Override
-	public void execute(BankAccount account) throws InsufficientBalanceException {
+	public PostingOutcome execute(BankAccount account) {
 		if (account.getBalance() < amount) {
-			throw new InsufficientBalanceException(MessageKeys.INSUFFICIENT_BALANCE_FOR_CHECK_PAYMENT);
+			return PostingOutcome.INSUFFICIENT_BALANCE;
 		}
 		account.setBalance(account.getBalance() - amount);
+		return PostingOutcome.POSTED;
+	}
+	
+	@Override
+	public long balanceChange() {
+		return -amount;
+	}
+	
+	@Override
+	public MessageKeys insufficientBalanceKey() {
+		return MessageKeys.INSUFFICIENT_BALANCE_FOR_CHECK_PAYMENT;
 	}
 
 } 
\ No newline at end of file
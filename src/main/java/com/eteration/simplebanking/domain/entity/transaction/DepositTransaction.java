@@ -3,7 +3,7 @@ package com.eteration.simplebanking.domain.entity.transaction;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.domain.enums.PostingOutcome;
 import com.eteration.simplebanking.domain.entity.BankAccount;
 
 import jakarta.persistence.*;
@@ -17,7 +17,13 @@ import java.time.LocalDateTime;
 public class DepositTransaction extends Transaction {
 	
 	@Override
-	public void execute(BankAccount account) throws InsufficientBalanceException {
-		account.setBalance(account.getBalance() + amount);
+	public PostingOutcome execute(BankAccount account) {
+		account.setBalance(Math.addExact(account.getBalance(), amount));
+		return PostingOutcome.POSTED;
+	}
+	
+	@Override
+	public long balanceChange() {
+		return amount;
 	}
 } 
\ No newline at end of file
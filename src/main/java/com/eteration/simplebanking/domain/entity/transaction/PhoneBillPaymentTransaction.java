@@ -3,7 +3,7 @@ package com.eteration.simplebanking.domain.entity.transaction;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.domain.enums.PostingOutcome;
 import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import com.eteration.simplebanking.domain.entity.BankAccount;
 import com.eteration.simplebanking.domain.enums.PhoneCompany;
@@ -25,7 +25,7 @@ public class PhoneBillPaymentTransaction extends Transaction {
 	@Column(name = "phone_number")
 	private String phoneNumber;
 	
-	public PhoneBillPaymentTransaction(PhoneCompany phoneCompany, String phoneNumber, double amount) {
+	public PhoneBillPaymentTransaction(PhoneCompany phoneCompany, String phoneNumber, long amount) {
 		this.phoneCompany = phoneCompany;
 		this.phoneNumber = phoneNumber;
 		this.amount = amount;
@@ -33,10 +33,21 @@ public class PhoneBillPaymentTransaction extends Transaction {
 	}
 	
 	@Override
-	public void execute(BankAccount account) throws InsufficientBalanceException {
+	public PostingOutcome execute(BankAccount account) {
 		if (account.getBalance() < amount) {
-			throw new InsufficientBalanceException(MessageKeys.INSUFFICIENT_BALANCE_FOR_PHONE_BILL);
+			return PostingOutcome.INSUFFICIENT_BALANCE;
 		}
 		account.setBalance(account.getBalance() - amount);
+		return PostingOutcome.POSTED;
+	}
+	
+	@Override
+	public long balanceChange() {
+		return -amount;
+	}
+	
+	@Override
+	public MessageKeys insufficientBalanceKey() {
+		return MessageKeys.INSUFFICIENT_BALANCE_FOR_PHONE_BILL;
 	}
 } 
\ No newline at end of file
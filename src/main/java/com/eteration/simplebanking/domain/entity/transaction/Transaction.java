@@ -1,30 +1,38 @@
 package com.eteration.simplebanking.domain.entity.transaction;
 
 import com.eteration.simplebanking.domain.entity.BaseEntity;
+import com.eteration.simplebanking.domain.enums.PostingOutcome;
 import com.eteration.simplebanking.domain.validation.annotation.PositiveAmount;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import com.eteration.simplebanking.exception.InsufficientBalanceException;
 import com.eteration.simplebanking.domain.entity.BankAccount;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @EqualsAndHashCode(callSuper = true)
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+	// Trailing ledger columns let point-in-time balance lookups be answered from the index alone. Newest first,
+	// because H2 cannot scan an index backwards; PostgreSQL reads the ascending index of the migrations either way
+	@Index(name = "idx_transactions_account_date_id", columnList = "account_id, date DESC, id DESC, balance_after, sequence_number"),
+	@Index(name = "idx_transactions_account_sequence", columnList = "account_id, sequence_number", unique = true)
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "transaction_type", discriminatorType = DiscriminatorType.STRING)
 public abstract class Transaction extends BaseEntity {
 	
 	@NotNull(message = "{validation.transaction.amount.required}")
 	@PositiveAmount
+	// Minor units (cents), see MoneyUtil
 	@Column(name = "amount", nullable = false)
-	protected double amount;
+	protected long amount;
 	
 	@NotNull(message = "{validation.transaction.date.required}")
 	@Column(name = "date", nullable = false)
@@ -35,9 +43,29 @@ public abstract class Transaction extends BaseEntity {
 	@JoinColumn(name = "account_id", nullable = false)
 	private BankAccount account;
 	
+	// Native uuid column: 16 bytes per index entry instead of a 36-character string
 	@NotNull(message = "{validation.transaction.approval.code.required}")
 	@Column(name = "approval_code", nullable = false, unique = true)
-	private String approvalCode;
+	private UUID approvalCode;
 	
-	public abstract void execute(BankAccount account) throws InsufficientBalanceException;
+	// Ledger position within the account and the balance right after this transaction was applied
+	@Column(name = "sequence_number")
+	private Long sequenceNumber;
+	
+	@Column(name = "balance_after")
+	private Long balanceAfter;
+	
+	/**
+	 * Applies this transaction to the account balance, or leaves the balance untouched and reports the decline.
+	 */
+	public abstract PostingOutcome execute(BankAccount account);
+	
+	/**
+	 * Signed amount this transaction adds to the account balance.
+	 */
+	public abstract long balanceChange();
+	
+	public MessageKeys insufficientBalanceKey() {
+		return MessageKeys.ERROR_INSUFFICIENT_BALANCE;
+	}
 } 
\ No newline at end of file
@@ -3,8 +3,7 @@ package com.eteration.simplebanking.domain.entity.transaction;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import com.eteration.simplebanking.exception.InsufficientBalanceException;
-import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.domain.enums.PostingOutcome;
 import com.eteration.simplebanking.domain.entity.BankAccount;
 
 import jakarta.persistence.*;
@@ -18,10 +17,16 @@ import java.time.LocalDateTime;
 public class WithdrawalTransaction extends Transaction {
 	
 	@Override
-	public void execute(BankAccount account) throws InsufficientBalanceException {
+	public PostingOutcome execute(BankAccount account) {
 		if (account.getBalance() < amount) {
-			throw new InsufficientBalanceException(MessageKeys.ERROR_INSUFFICIENT_BALANCE);
+			return PostingOutcome.INSUFFICIENT_BALANCE;
 		}
 		account.setBalance(account.getBalance() - amount);
+		return PostingOutcome.POSTED;
+	}
+	
+	@Override
+	public long balanceChange() {
+		return -amount;
 	}
 } 
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.eteration.simplebanking.domain.enums;
+
+/**
+ * Result of applying a transaction to an account balance. A decline is an expected outcome, not an error, so it is
+ * returned rather than thrown.
+ */
+public enum PostingOutcome {
+    POSTED,
+    INSUFFICIENT_BALANCE
+}
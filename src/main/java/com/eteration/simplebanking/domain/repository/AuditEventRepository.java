@@ -0,0 +1,9 @@
+package com.eteration.simplebanking.domain.repository;
+
+import com.eteration.simplebanking.domain.entity.AuditEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
+}
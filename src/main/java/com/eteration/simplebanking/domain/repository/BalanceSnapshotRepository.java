@@ -0,0 +1,16 @@
+package com.eteration.simplebanking.domain.repository;
+
+import com.eteration.simplebanking.domain.entity.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    Optional<BalanceSnapshot> findFirstByAccountIdOrderBySequenceNumberDesc(Long accountId);
+
+    Optional<BalanceSnapshot> findFirstByAccountIdAndTakenAtLessThanEqualOrderBySequenceNumberDesc(Long accountId, LocalDateTime at);
+}
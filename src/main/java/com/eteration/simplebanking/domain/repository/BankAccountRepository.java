@@ -1,18 +1,71 @@
 package com.eteration.simplebanking.domain.repository;
 
-import com.eteration.simplebanking.domain.constant.CacheConstants;
 import com.eteration.simplebanking.domain.entity.BankAccount;
-import org.springframework.cache.annotation.Cacheable;
+import com.eteration.simplebanking.model.dto.AccountSnapshot;
+import com.eteration.simplebanking.model.dto.LedgerPosition;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BankAccountRepository extends JpaRepository<BankAccount, Long> {
-    @Cacheable(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "#accountNumber")
     Optional<BankAccount> findByAccountNumber(String accountNumber);
-    
-    @Cacheable(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "'exists:' + #accountNumber")
-    boolean existsByAccountNumber(String accountNumber);
-} 
\ No newline at end of file
+
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM BankAccount a WHERE a.accountNumber = :accountNumber")
+    Optional<BankAccount> findByAccountNumberForUpdate(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT new com.eteration.simplebanking.model.dto.AccountSnapshot(a.id, a.accountNumber, a.owner, a.balance, a.version, a.createdAt) "
+            + "FROM BankAccount a WHERE a.accountNumber = :accountNumber")
+    Optional<AccountSnapshot> findSnapshotByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT a.id FROM BankAccount a WHERE a.accountNumber = :accountNumber")
+    Optional<Long> findIdByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT a.id FROM BankAccount a WHERE a.accountKey = :accountKey")
+    Optional<Long> findIdByAccountKey(@Param("accountKey") long accountKey);
+
+    @Query("SELECT new com.eteration.simplebanking.model.dto.LedgerPosition(a.balance, a.ledgerSequence) "
+            + "FROM BankAccount a WHERE a.id = :id")
+    Optional<LedgerPosition> findLedgerPositionById(@Param("id") Long id);
+
+    @Query("SELECT a.accountNumber FROM BankAccount a ORDER BY a.id")
+    List<String> findAccountNumbers(Pageable pageable);
+
+    // Streams need an open transaction; the fetch size keeps the PostgreSQL driver from buffering the whole result
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.accountNumber FROM BankAccount a")
+    Stream<String> streamAccountNumbers();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.accountNumber FROM BankAccount a WHERE a.createdAt >= :since")
+    Stream<String> streamAccountNumbersCreatedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("UPDATE BankAccount a SET a.balance = a.balance + :amount, a.ledgerSequence = a.ledgerSequence + 1, "
+            + "a.version = a.version + 1, a.updatedAt = :updatedAt WHERE a.id = :id")
+    int creditBalance(@Param("id") Long id,
+                      @Param("amount") long amount,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE BankAccount a SET a.balance = a.balance - :amount, a.ledgerSequence = a.ledgerSequence + 1, "
+            + "a.version = a.version + 1, a.updatedAt = :updatedAt WHERE a.id = :id AND a.balance >= :amount")
+    int debitBalanceIfSufficient(@Param("id") Long id,
+                                 @Param("amount") long amount,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
+}
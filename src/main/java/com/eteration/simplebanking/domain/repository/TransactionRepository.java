@@ -1,10 +1,44 @@
 package com.eteration.simplebanking.domain.repository;
 
 import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.model.dto.LedgerEntry;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-} 
\ No newline at end of file
+    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId ORDER BY t.date DESC, t.id DESC")
+    List<Transaction> findLatestByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId "
+            + "AND (t.date < :date OR (t.date = :date AND t.id < :id)) "
+            + "ORDER BY t.date DESC, t.id DESC")
+    List<Transaction> findPageBefore(@Param("accountId") Long accountId,
+                                     @Param("date") LocalDateTime date,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId AND t.sequenceNumber > :sequence "
+            + "ORDER BY t.sequenceNumber")
+    List<Transaction> findLedgerAfter(@Param("accountId") Long accountId, @Param("sequence") long sequence);
+
+    @Query("SELECT new com.eteration.simplebanking.model.dto.LedgerEntry(t.sequenceNumber, t.balanceAfter, t.date) "
+            + "FROM Transaction t WHERE t.account.id = :accountId AND t.date <= :at "
+            + "ORDER BY t.account.id, t.date DESC, t.id DESC")
+    List<LedgerEntry> findLedgerEntriesAtOrBefore(@Param("accountId") Long accountId,
+                                                  @Param("at") LocalDateTime at,
+                                                  Pageable pageable);
+
+    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId AND t.date > :from AND t.date <= :at "
+            + "ORDER BY t.date, t.id")
+    List<Transaction> findBetween(@Param("accountId") Long accountId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("at") LocalDateTime at);
+}
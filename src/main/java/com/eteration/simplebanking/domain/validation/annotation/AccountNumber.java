@@ -14,7 +14,5 @@ public @interface AccountNumber {
     Class<?>[] groups() default {};
     Class<? extends Payload>[] payload() default {};
     
-    boolean checkUniqueness() default true;
-    
     boolean required() default true;
 } 
\ No newline at end of file
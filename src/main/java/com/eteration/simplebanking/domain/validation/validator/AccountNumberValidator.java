@@ -1,11 +1,9 @@
 package com.eteration.simplebanking.domain.validation.validator;
 
-import com.eteration.simplebanking.domain.repository.BankAccountRepository;
 import com.eteration.simplebanking.domain.validation.annotation.AccountNumber;
 import com.eteration.simplebanking.domain.constant.ValidationRegex;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.regex.Pattern;
@@ -14,15 +12,11 @@ import java.util.regex.Pattern;
 public class AccountNumberValidator implements ConstraintValidator<AccountNumber, String> {
     private static final Pattern ACCOUNT_PATTERN = Pattern.compile(ValidationRegex.ACCOUNT_NUMBER_PATTERN);
 
-    @Autowired
-    private BankAccountRepository bankAccountRepository;
-
-    private boolean checkUniqueness;
+    // Uniqueness is left to the insert: createAccount maps the unique constraint to validation.account.number.unique
     private boolean required;
 
     @Override
     public void initialize(AccountNumber constraintAnnotation) {
-        this.checkUniqueness = constraintAnnotation.checkUniqueness();
         this.required = constraintAnnotation.required();
     }
 
@@ -34,9 +28,6 @@ public class AccountNumberValidator implements ConstraintValidator<AccountNumber
         if (value != null && !ACCOUNT_PATTERN.matcher(value).matches()) {
             return false;
         }
-        if (checkUniqueness && value != null && bankAccountRepository != null) {
-            return !bankAccountRepository.existsByAccountNumber(value);
-        }
         return true;
     }
 } 
\ No newline at end of file
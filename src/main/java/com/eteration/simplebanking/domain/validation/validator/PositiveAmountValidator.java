@@ -16,6 +16,10 @@ public class PositiveAmountValidator implements ConstraintValidator<PositiveAmou
             return false;
         }
         
+        // Amounts are minor units; compare them exactly instead of through double
+        if (amount instanceof Long minorUnits) {
+            return minorUnits > 0;
+        }
         return amount.doubleValue() > 0;
     }
 } 
\ No newline at end of file
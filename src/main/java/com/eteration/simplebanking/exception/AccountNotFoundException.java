@@ -2,7 +2,7 @@ package com.eteration.simplebanking.exception;
 
 import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 
-public class AccountNotFoundException extends RuntimeException {
+public class AccountNotFoundException extends StacklessException {
     
     private final MessageKeys messageKey;
     private final Object[] parameters;
@@ -54,4 +54,4 @@ public class AccountNotFoundException extends RuntimeException {
     public Object[] getParameters() {
         return parameters;
     }
-} 
\ No newline at end of file
+}
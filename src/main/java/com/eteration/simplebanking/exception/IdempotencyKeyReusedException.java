@@ -0,0 +1,24 @@
+package com.eteration.simplebanking.exception;
+
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+
+/**
+ * Exception thrown when an Idempotency-Key arrives with a request other than the one it was first used for.
+ */
+public class IdempotencyKeyReusedException extends StacklessException {
+    
+    private final MessageKeys messageKey;
+    
+    public IdempotencyKeyReusedException(MessageKeys messageKey) {
+        super(messageKey.getKey());
+        this.messageKey = messageKey;
+    }
+    
+    public MessageKeys getMessageKey() {
+        return messageKey;
+    }
+    
+    public boolean hasMessageKey() {
+        return messageKey != null;
+    }
+}
@@ -2,32 +2,35 @@ package com.eteration.simplebanking.exception;
 
 import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 
+/**
+ * Checked, so callers of {@code BankAccount.post} must handle it; otherwise stackless like {@link StacklessException}.
+ */
 public class InsufficientBalanceException extends Exception {
     
     private final MessageKeys messageKey;
     
     public InsufficientBalanceException() {
-        super();
+        super(null, null, true, false);
         this.messageKey = null;
     }
     
     public InsufficientBalanceException(String message) {
-        super(message);
+        super(message, null, true, false);
         this.messageKey = null;
     }
     
     public InsufficientBalanceException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, false);
         this.messageKey = null;
     }
     
     public InsufficientBalanceException(MessageKeys messageKey) {
-        super(messageKey.getKey());
+        super(messageKey.getKey(), null, true, false);
         this.messageKey = messageKey;
     }
     
     public InsufficientBalanceException(MessageKeys messageKey, Throwable cause) {
-        super(messageKey.getKey(), cause);
+        super(messageKey.getKey(), cause, true, false);
         this.messageKey = messageKey;
     }
     
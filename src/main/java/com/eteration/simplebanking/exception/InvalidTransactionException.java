@@ -2,7 +2,7 @@ package com.eteration.simplebanking.exception;
 
 import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 
-public class InvalidTransactionException extends RuntimeException {
+public class InvalidTransactionException extends StacklessException {
     
     private final MessageKeys messageKey;
     
@@ -38,4 +38,4 @@ public class InvalidTransactionException extends RuntimeException {
     public boolean hasMessageKey() {
         return messageKey != null;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.eteration.simplebanking.exception;
+
+/**
+ * Base of the domain exceptions. They are raised for client errors and answered from their message keys, so a
+ * stack trace would never be read; none is captured, which keeps throwing them cheap on the request path.
+ */
+public abstract class StacklessException extends RuntimeException {
+
+    protected StacklessException() {
+        this(null, null);
+    }
+
+    protected StacklessException(String message) {
+        this(message, null);
+    }
+
+    protected StacklessException(String message, Throwable cause) {
+        super(message, cause, true, false);
+    }
+}
@@ -5,7 +5,7 @@ import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 /**
  * Exception thrown when transaction validation fails.
  */
-public class TransactionValidationException extends RuntimeException {
+public class TransactionValidationException extends StacklessException {
     
     private final MessageKeys messageKey;
     
@@ -36,4 +36,4 @@ public class TransactionValidationException extends RuntimeException {
     public boolean hasMessageKey() {
         return messageKey != null;
     }
-} 
\ No newline at end of file
+}
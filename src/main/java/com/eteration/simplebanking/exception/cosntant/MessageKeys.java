@@ -20,6 +20,7 @@ public enum MessageKeys {
     ERROR_TITLE_VALIDATION_ERROR("error.title.validation.error"),
     ERROR_TITLE_INVALID_REQUEST_BODY("error.title.invalid.request.body"),
     ERROR_TITLE_INTERNAL_SERVER_ERROR("error.title.internal.server.error"),
+    ERROR_TITLE_IDEMPOTENCY_KEY_REUSED("error.title.idempotency.key.reused"),
 
     VALIDATION_TRANSACTION_TYPE_NULL("validation.transaction.type.null"),
     VALIDATION_BANK_ACCOUNT_NULL("validation.bank.account.null"),
@@ -28,6 +29,9 @@ public enum MessageKeys {
     VALIDATION_TRANSACTION_NULL("validation.transaction.null"),
     VALIDATION_TRANSACTION_AMOUNT_NEGATIVE("validation.transaction.amount.negative"),
     VALIDATION_TRANSACTION_DATE_NULL("validation.transaction.date.null"),
+    VALIDATION_PAGE_CURSOR_INVALID("validation.page.cursor.invalid"),
+    VALIDATION_REQUEST_PARAMETER_INVALID("validation.request.parameter.invalid"),
+    VALIDATION_IDEMPOTENCY_KEY_INVALID("validation.idempotency.key.invalid"),
     
     VALIDATION_ACCOUNT_NUMBER_INVALID("validation.account.number.invalid"),
     VALIDATION_ACCOUNT_NUMBER_UNIQUE("validation.account.number.unique"),
@@ -36,12 +40,28 @@ public enum MessageKeys {
     VALIDATION_ACCOUNT_NUMBER_REQUIRED("validation.account.number.required"),
     VALIDATION_PHONE_NUMBER_REQUIRED("validation.phone.number.required"),
     VALIDATION_AMOUNT_REQUIRED("validation.amount.required"),
+    VALIDATION_OWNER_REQUIRED("validation.owner.required"),
+    VALIDATION_OWNER_SIZE("validation.owner.size"),
+    VALIDATION_BALANCE_REQUIRED("validation.balance.required"),
+    VALIDATION_PAYEE_REQUIRED("validation.payee.required"),
+    VALIDATION_PAYEE_SIZE("validation.payee.size"),
+    VALIDATION_PHONE_COMPANY_REQUIRED("validation.phone.company.required"),
+    VALIDATION_TRANSACTION_TYPE_REQUIRED("validation.transaction.type.required"),
+    VALIDATION_TRANSACTION_ACCOUNT_REQUIRED("validation.transaction.account.required"),
+    VALIDATION_TRANSACTION_AMOUNT_REQUIRED("validation.transaction.amount.required"),
+    VALIDATION_TRANSACTION_DATE_REQUIRED("validation.transaction.date.required"),
+    VALIDATION_TRANSACTION_APPROVAL_CODE_REQUIRED("validation.transaction.approval.code.required"),
+    VALIDATION_BATCH_OPERATIONS_REQUIRED("validation.batch.operations.required"),
+    VALIDATION_BATCH_OPERATIONS_SIZE("validation.batch.operations.size"),
 
     INSUFFICIENT_BALANCE_FOR_PHONE_BILL("error.insufficient.balance.phone.bill"),
     INSUFFICIENT_BALANCE_FOR_CHECK_PAYMENT("error.insufficient.balance.check.payment"),
     ACCOUNT_NOT_FOUND_WITH_NUMBER("error.account.not.found.with.number"),
+    ERROR_BALANCE_OVERFLOW("error.balance.overflow"),
     
     STRATEGY_NOT_FOUND("error.strategy.not.found"),
+
+    ERROR_IDEMPOTENCY_KEY_REUSED("error.idempotency.key.reused"),
     
     ERROR_ENCRYPTION_FAILED("error.encryption.failed"),
     ERROR_DECRYPTION_FAILED("error.decryption.failed");
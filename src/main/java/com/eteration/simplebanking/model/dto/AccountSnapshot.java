@@ -0,0 +1,17 @@
+package com.eteration.simplebanking.model.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable read model of an account row, safe to cache and share across threads
+ * unlike the {@code BankAccount} entity and its lazy transaction collection.
+ */
+public record AccountSnapshot(
+    Long id,
+    String accountNumber,
+    String owner,
+    long balance,
+    Long version,
+    LocalDateTime createdAt
+) {
+}
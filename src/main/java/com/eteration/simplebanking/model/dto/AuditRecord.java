@@ -0,0 +1,24 @@
+package com.eteration.simplebanking.model.dto;
+
+import com.eteration.simplebanking.domain.enums.TransactionType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Audit data captured on the request thread; values are still in clear text and are only encrypted by the writer.
+ * {@code enqueuedNanos} is the {@link System#nanoTime()} at capture and drives the lag metric.
+ */
+public record AuditRecord(
+    String requestId,
+    String actor,
+    String accountNumber,
+    TransactionType transactionType,
+    long amount,
+    long balanceBefore,
+    long balanceAfter,
+    UUID approvalCode,
+    LocalDateTime occurredAt,
+    long enqueuedNanos
+) {
+}
@@ -0,0 +1,11 @@
+package com.eteration.simplebanking.model.dto;
+
+/**
+ * The response stored under an Idempotency-Key, with the hash of the request that produced it so a reused key can
+ * be told apart from a retry.
+ */
+public record IdempotentResponse<R>(
+    String requestHash,
+    R response
+) {
+}
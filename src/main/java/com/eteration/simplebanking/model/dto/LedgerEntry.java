@@ -0,0 +1,13 @@
+package com.eteration.simplebanking.model.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ledger columns of a single transaction row, read straight from the (account_id, date, id) index.
+ */
+public record LedgerEntry(
+    Long sequenceNumber,
+    Long balanceAfter,
+    LocalDateTime date
+) {
+}
@@ -0,0 +1,10 @@
+package com.eteration.simplebanking.model.dto;
+
+/**
+ * Balance and ledger sequence of an account as of the current transaction.
+ */
+public record LedgerPosition(
+    long balance,
+    long ledgerSequence
+) {
+}
@@ -0,0 +1,17 @@
+package com.eteration.simplebanking.model.dto;
+
+/**
+ * Outcome of replaying an account's ledger from its latest balance snapshot.
+ * {@code replayedBalance} is what the ledger says the balance should be; {@code accountBalance}
+ * is what the account row holds.
+ */
+public record LedgerReconciliation(
+    String accountNumber,
+    long snapshotSequence,
+    int replayedTransactions,
+    long ledgerSequence,
+    long replayedBalance,
+    long accountBalance,
+    boolean consistent
+) {
+}
@@ -0,0 +1,25 @@
+package com.eteration.simplebanking.model.dto;
+
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+
+/**
+ * A transaction prepared against a locked account: either posted, or declined with the message key to report.
+ */
+public record PostingResult(
+    Transaction transaction,
+    MessageKeys declineReason
+) {
+
+    public static PostingResult posted(Transaction transaction) {
+        return new PostingResult(transaction, null);
+    }
+
+    public static PostingResult declined(MessageKeys declineReason) {
+        return new PostingResult(null, declineReason);
+    }
+
+    public boolean isPosted() {
+        return declineReason == null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.eteration.simplebanking.model.dto;
+
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.exception.TransactionValidationException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.util.StringUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Seek position in an account's transaction history, ordered by (date, id) descending.
+ * Encoded as an opaque URL-safe token so clients only pass it back unchanged.
+ */
+public record TransactionCursor(LocalDateTime date, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getDate(), transaction.getId());
+    }
+
+    public String encode() {
+        String raw = date + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        if (StringUtil.isBlank(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new TransactionValidationException(MessageKeys.VALIDATION_PAGE_CURSOR_INVALID, e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.eteration.simplebanking.model.dto;
+
+import com.eteration.simplebanking.domain.enums.TransactionType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * What downstream services receive for every posted transaction. Delivery is at least once: {@code eventId} and
+ * {@code approvalCode} identify duplicates, and {@code sequenceNumber} orders events of the same account.
+ */
+public record TransactionEvent(
+    Long eventId,
+    String accountNumber,
+    TransactionType transactionType,
+    long amount,
+    long balanceAfter,
+    long sequenceNumber,
+    UUID approvalCode,
+    LocalDateTime occurredAt
+) {
+}
@@ -1,6 +1,8 @@
 package com.eteration.simplebanking.model.dto.request;
 
 import com.eteration.simplebanking.domain.validation.annotation.PositiveAmount;
+import com.eteration.simplebanking.model.json.MoneyDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -10,5 +12,6 @@ public record BankAccountRequest(
     String owner,
     
     @PositiveAmount
-    double amount
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    long amount
 ) {} 
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.eteration.simplebanking.model.dto.request;
+
+import com.eteration.simplebanking.domain.enums.PhoneCompany;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.validation.annotation.PositiveAmount;
+import com.eteration.simplebanking.exception.TransactionValidationException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.model.json.MoneyDeserializer;
+import com.eteration.simplebanking.service.strategy.command.CheckPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.DepositCommand;
+import com.eteration.simplebanking.service.strategy.command.PhoneBillPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.TransactionCommand;
+import com.eteration.simplebanking.service.strategy.command.WithdrawalCommand;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Single operation inside a batch")
+public record BatchOperationRequest(
+    @Schema(description = "Account number", example = "1234567890", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "{validation.account.number.required}")
+    String accountNumber,
+    
+    @Schema(description = "Operation type", example = "DEPOSIT", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "{validation.transaction.type.required}")
+    TransactionType type,
+    
+    @Schema(description = "Operation amount", type = "number", example = "100.50", requiredMode = Schema.RequiredMode.REQUIRED)
+    @PositiveAmount
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    long amount,
+    
+    @Schema(description = "Phone company, phone bill payments only", example = "COMPANY_A")
+    PhoneCompany phoneCompany,
+    
+    @Schema(description = "Phone number, phone bill payments only", example = "5551234567")
+    String phoneNumber,
+    
+    @Schema(description = "Payee, check payments only", example = "John Doe")
+    String payee
+) {
+    
+    /**
+     * Typed command for the matching {@code TransactionStrategy}.
+     */
+    public TransactionCommand toCommand() {
+        if (type == null) {
+            throw new TransactionValidationException(MessageKeys.VALIDATION_TRANSACTION_TYPE_NULL);
+        }
+        return switch (type) {
+            case DEPOSIT -> new DepositCommand(amount);
+            case WITHDRAWAL -> new WithdrawalCommand(amount);
+            case PHONE_BILL_PAYMENT -> new PhoneBillPaymentCommand(phoneCompany, phoneNumber, amount);
+            case CHECK_PAYMENT -> new CheckPaymentCommand(payee, amount);
+        };
+    }
+}
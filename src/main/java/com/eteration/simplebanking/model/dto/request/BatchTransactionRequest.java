@@ -0,0 +1,17 @@
+package com.eteration.simplebanking.model.dto.request;
+
+import com.eteration.simplebanking.domain.constant.BatchConstants;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request for posting many operations in one call")
+public record BatchTransactionRequest(
+    @Schema(description = "Operations, applied in order per account", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "{validation.batch.operations.required}")
+    @Size(max = BatchConstants.MAX_OPERATIONS, message = "{validation.batch.operations.size}")
+    List<@Valid BatchOperationRequest> operations
+) {}
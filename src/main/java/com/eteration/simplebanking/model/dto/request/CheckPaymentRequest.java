@@ -1,6 +1,8 @@
 package com.eteration.simplebanking.model.dto.request;
 
 import com.eteration.simplebanking.domain.validation.annotation.PositiveAmount;
+import com.eteration.simplebanking.model.json.MoneyDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -12,7 +14,8 @@ public record CheckPaymentRequest(
     @Size(min = 2, max = 100, message = "{validation.payee.size}")
     String payee,
     
-    @Schema(description = "Payment amount", example = "250.00", requiredMode = Schema.RequiredMode.REQUIRED)
+    @Schema(description = "Payment amount", type = "number", example = "250.00", requiredMode = Schema.RequiredMode.REQUIRED)
     @PositiveAmount
-    double amount
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    long amount
 ) {} 
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.eteration.simplebanking.model.dto.request;
 
 import com.eteration.simplebanking.domain.enums.PhoneCompany;
 import com.eteration.simplebanking.domain.validation.annotation.PositiveAmount;
+import com.eteration.simplebanking.model.json.MoneyDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -16,7 +18,8 @@ public record PhoneBillPaymentRequest(
     @NotNull(message = "{validation.phone.company.required}")
     PhoneCompany phoneCompany,
     
-    @Schema(description = "Payment amount", example = "50.00", requiredMode = Schema.RequiredMode.REQUIRED)
+    @Schema(description = "Payment amount", type = "number", example = "50.00", requiredMode = Schema.RequiredMode.REQUIRED)
     @PositiveAmount
-    double amount
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    long amount
 ) {} 
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.eteration.simplebanking.model.dto.request;
 
 import com.eteration.simplebanking.domain.validation.annotation.PositiveAmount;
+import com.eteration.simplebanking.model.json.MoneyDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Request for transaction operations")
 public record TransactionRequest(
-    @Schema(description = "Transaction amount", example = "100.50", requiredMode = Schema.RequiredMode.REQUIRED)
+    @Schema(description = "Transaction amount", type = "number", example = "100.50", requiredMode = Schema.RequiredMode.REQUIRED)
     @PositiveAmount
-    double amount
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    long amount
 ) {} 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.eteration.simplebanking.model.dto.response;
+
+import com.eteration.simplebanking.model.json.MoneySerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Balance of an account at a point in time")
+public record AccountBalanceResponse(
+    @Schema(description = "Account number", example = "1234567890")
+    String accountNumber,
+
+    @Schema(description = "Requested point in time", example = "2024-06-30T23:59:59")
+    LocalDateTime at,
+
+    @Schema(description = "Balance at the requested time", type = "number", example = "1250.00")
+    @JsonSerialize(using = MoneySerializer.class)
+    long balance,
+
+    @Schema(description = "Ledger sequence number of the last transaction at or before the requested time, 0 if none", example = "42")
+    long ledgerSequence,
+
+    @Schema(description = "Date of that transaction, absent if the account had no transactions yet")
+    LocalDateTime lastTransactionDate
+) {
+}
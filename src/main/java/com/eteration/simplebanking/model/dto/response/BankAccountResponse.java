@@ -1,5 +1,7 @@
 package com.eteration.simplebanking.model.dto.response;
 
+import com.eteration.simplebanking.model.json.MoneySerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,8 +14,9 @@ public record BankAccountResponse(
     @Schema(description = "Account owner name", example = "John Doe")
     String owner,
     
-    @Schema(description = "Current balance", example = "1000.50")
-    double balance,
+    @Schema(description = "Current balance", type = "number", example = "1000.50")
+    @JsonSerialize(using = MoneySerializer.class)
+    long balance,
     
     @Schema(description = "Account creation date")
     LocalDateTime createdAt,
@@ -0,0 +1,33 @@
+package com.eteration.simplebanking.model.dto.response;
+
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one batch operation")
+public record BatchItemResult(
+    @Schema(description = "Position of the operation in the request", example = "0")
+    int index,
+    
+    @Schema(description = "Account number", example = "1234567890")
+    String accountNumber,
+    
+    @Schema(description = "Operation type", example = "DEPOSIT")
+    TransactionType type,
+    
+    @Schema(description = "Operation status", example = "OK")
+    String status,
+    
+    @Schema(description = "Approval code, present when the operation succeeded", example = "APP123456789")
+    String approvalCode,
+    
+    @Schema(description = "Error code, present when the operation failed", example = "error.insufficient.balance")
+    String errorCode,
+    
+    @Schema(description = "Error message, present when the operation failed", example = "Insufficient balance")
+    String message
+) {
+
+    public BatchItemResult withMessage(String message) {
+        return new BatchItemResult(index, accountNumber, type, status, approvalCode, errorCode, message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.eteration.simplebanking.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Batch posting result")
+public record BatchTransactionResponse(
+    @Schema(description = "Number of operations received", example = "3")
+    int total,
+    
+    @Schema(description = "Number of operations applied", example = "2")
+    int succeeded,
+    
+    @Schema(description = "Number of operations rejected", example = "1")
+    int failed,
+    
+    @Schema(description = "Per-operation results in request order")
+    List<BatchItemResult> results
+) {
+}
@@ -0,0 +1,17 @@
+package com.eteration.simplebanking.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "A page of account transactions, newest first")
+public record TransactionPageResponse(
+    @Schema(description = "Transactions in this page")
+    List<TransactionResponse> transactions,
+    
+    @Schema(description = "Cursor to request the next (older) page, absent on the last page")
+    String nextCursor,
+    
+    @Schema(description = "Whether older transactions exist", example = "true")
+    boolean hasMore
+) {
+}
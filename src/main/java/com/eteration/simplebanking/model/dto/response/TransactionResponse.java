@@ -1,5 +1,7 @@
 package com.eteration.simplebanking.model.dto.response;
 
+import com.eteration.simplebanking.model.json.MoneySerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 
@@ -8,8 +10,9 @@ public record TransactionResponse(
     @Schema(description = "Transaction date")
     LocalDateTime date,
     
-    @Schema(description = "Transaction amount", example = "100.50")
-    double amount,
+    @Schema(description = "Transaction amount", type = "number", example = "100.50")
+    @JsonSerialize(using = MoneySerializer.class)
+    long amount,
     
     @Schema(description = "Transaction type", example = "DEPOSIT")
     String type,
@@ -1,13 +1,46 @@
 package com.eteration.simplebanking.model.dto.response;
 
+import com.eteration.simplebanking.domain.constant.TransactionStatusConstants;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Transaction status response")
 public record TransactionStatusResponse(
-    @Schema(description = "Transaction status", example = "SUCCESS")
+    @Schema(description = "Transaction status", example = "OK")
     String status,
     
-    @Schema(description = "Approval code", example = "APP123456789")
-    String approvalCode
+    @Schema(description = "Approval code, present when the transaction was posted", example = "APP123456789")
+    String approvalCode,
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Error code, present when the transaction was declined", example = "error.insufficient.balance")
+    String errorCode,
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Error message, present when the transaction was declined", example = "Insufficient balance")
+    String message
 ) {
-} 
\ No newline at end of file
+
+    public TransactionStatusResponse(String status, String approvalCode) {
+        this(status, approvalCode, null, null);
+    }
+
+    /**
+     * A declined transaction, with the same error code a failed batch item carries. The message is resolved by the
+     * facade for the caller's locale.
+     */
+    public static TransactionStatusResponse declined(MessageKeys messageKey) {
+        return new TransactionStatusResponse(TransactionStatusConstants.STATUS_DECLINED, null, messageKey.getKey(), null);
+    }
+
+    public TransactionStatusResponse withMessage(String message) {
+        return new TransactionStatusResponse(status, approvalCode, errorCode, message);
+    }
+
+    @JsonIgnore
+    public boolean isApproved() {
+        return errorCode == null;
+    }
+}
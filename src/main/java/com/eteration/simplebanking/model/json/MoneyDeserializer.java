@@ -0,0 +1,42 @@
+package com.eteration.simplebanking.model.json;
+
+import com.eteration.simplebanking.util.MoneyUtil;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+
+/**
+ * Reads a JSON decimal amount into minor units from the literal text, so {@code 0.1} becomes exactly {@code 10}
+ * without passing through {@code double}. Amounts with more than two decimal places are rejected, not rounded.
+ */
+public class MoneyDeserializer extends StdDeserializer<Long> {
+
+    public MoneyDeserializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            try {
+                return Math.multiplyExact(parser.getLongValue(), MoneyUtil.MINOR_UNITS_PER_MAJOR);
+            } catch (ArithmeticException e) {
+                throw InvalidFormatException.from(parser, e.getMessage(), parser.getText(), Long.class);
+            }
+        }
+        if (token != JsonToken.VALUE_NUMBER_FLOAT) {
+            return (Long) context.handleUnexpectedToken(Long.class, parser);
+        }
+        String text = parser.getText();
+        try {
+            return MoneyUtil.parse(text);
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw InvalidFormatException.from(parser, e.getMessage(), text, Long.class);
+        }
+    }
+}
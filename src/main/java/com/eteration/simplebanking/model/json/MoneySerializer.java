@@ -0,0 +1,23 @@
+package com.eteration.simplebanking.model.json;
+
+import com.eteration.simplebanking.util.MoneyUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a minor-unit amount as a JSON decimal number, e.g. {@code 10050 -> 100.50}.
+ */
+public class MoneySerializer extends StdSerializer<Long> {
+
+    public MoneySerializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public void serialize(Long minorUnits, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeNumber(MoneyUtil.format(minorUnits));
+    }
+}
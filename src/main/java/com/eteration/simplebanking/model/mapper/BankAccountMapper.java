@@ -2,23 +2,27 @@ package com.eteration.simplebanking.model.mapper;
 
 import com.eteration.simplebanking.domain.entity.BankAccount;
 import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.model.dto.AccountSnapshot;
 import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
+import com.eteration.simplebanking.model.dto.response.TransactionPageResponse;
 import com.eteration.simplebanking.model.dto.response.TransactionResponse;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 @Component
 public class BankAccountMapper {
 
     public BankAccountResponse toAccountResponse(BankAccount account) {
+        return toAccountResponse(account, account.getTransactions());
+    }
+
+    public BankAccountResponse toAccountResponse(BankAccount account, List<Transaction> transactions) {
         List<TransactionResponse> transactionResponses = null;
         
-        if (account.getTransactions() != null) {
-            transactionResponses = account.getTransactions().stream()
-                    .map(this::toTransactionResponse)
-                    .toList();
+        if (transactions != null) {
+            transactionResponses = toTransactionResponses(transactions);
         }
 
         return new BankAccountResponse(
@@ -30,12 +34,36 @@ public class BankAccountMapper {
         );
     }
 
+    public BankAccountResponse toAccountResponse(AccountSnapshot snapshot, List<Transaction> transactions) {
+        return new BankAccountResponse(
+                snapshot.accountNumber(),
+                snapshot.owner(),
+                snapshot.balance(),
+                snapshot.createdAt(),
+                transactions == null ? null : toTransactionResponses(transactions)
+        );
+    }
+
+    public TransactionPageResponse toTransactionPageResponse(List<Transaction> transactions, String nextCursor) {
+        return new TransactionPageResponse(
+                toTransactionResponses(transactions),
+                nextCursor,
+                nextCursor != null
+        );
+    }
+
     public TransactionResponse toTransactionResponse(Transaction transaction) {
         return new TransactionResponse(
                 transaction.getDate(),
                 transaction.getAmount(),
                 transaction.getClass().getSimpleName(),
-                transaction.getApprovalCode()
+                Objects.toString(transaction.getApprovalCode(), null)
         );
     }
-} 
\ No newline at end of file
+
+    private List<TransactionResponse> toTransactionResponses(List<Transaction> transactions) {
+        return transactions.stream()
+                .map(this::toTransactionResponse)
+                .toList();
+    }
+}
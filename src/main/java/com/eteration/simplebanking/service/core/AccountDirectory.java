@@ -0,0 +1,80 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.config.AccountDirectoryProperties;
+import com.eteration.simplebanking.util.AccountNumberKey;
+import com.eteration.simplebanking.util.LongLongHashMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Account number to account id, for the postings and history reads that only need the id. Numeric account numbers
+ * are held as {@link AccountNumberKey}s in a primitive {@link LongLongHashMap}. A hit costs a digit parse and a
+ * probe, with no {@code String} hashing and no boxed entry. Other account numbers, such as legacy ones with
+ * dashes, fall back to a {@code ConcurrentHashMap}.
+ * <p>
+ * An account's id never changes and accounts are not deleted, so entries never need evicting. Past
+ * {@code app.account-directory.maximum-size} new accounts are simply not kept.
+ */
+@Slf4j
+@Component
+public class AccountDirectory {
+
+    private final LongLongHashMap numericIds;
+    private final Map<String, Long> otherIds = new ConcurrentHashMap<>();
+    private final int maximumSize;
+    private volatile boolean fullReported;
+
+    public AccountDirectory(AccountDirectoryProperties accountDirectoryProperties, MeterRegistry meterRegistry) {
+        this.numericIds = new LongLongHashMap(accountDirectoryProperties.getInitialCapacity());
+        this.maximumSize = accountDirectoryProperties.getMaximumSize();
+
+        Gauge.builder("accounts.directory.size", this, AccountDirectory::size)
+                .description("Account ids held in memory")
+                .register(meterRegistry);
+        Gauge.builder("accounts.directory.memory", numericIds, LongLongHashMap::sizeInBytes)
+                .description("Memory held by the primitive account id map")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The account's id, or {@code null} when it is not held here.
+     */
+    public Long find(String accountNumber) {
+        long key = AccountNumberKey.of(accountNumber);
+        if (key == AccountNumberKey.NONE) {
+            return otherIds.get(accountNumber);
+        }
+        long accountId = numericIds.get(key);
+        return accountId == LongLongHashMap.MISSING ? null : accountId;
+    }
+
+    /**
+     * Keeps a committed account's id. Callers must not pass the id of an account whose transaction may still roll
+     * back, as nothing would remove it.
+     */
+    public void put(String accountNumber, long accountId) {
+        if (size() >= maximumSize) {
+            if (!fullReported) {
+                fullReported = true;
+                log.warn("[ACCOUNT_DIRECTORY] Full at {} accounts; raise app.account-directory.maximum-size", maximumSize);
+            }
+            return;
+        }
+        long key = AccountNumberKey.of(accountNumber);
+        if (key == AccountNumberKey.NONE) {
+            otherIds.put(accountNumber, accountId);
+        } else {
+            numericIds.put(key, accountId);
+        }
+    }
+
+    public int size() {
+        return numericIds.size() + otherIds.size();
+    }
+}
@@ -0,0 +1,168 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.config.AccountIndexProperties;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of every account number, so lookups of unknown accounts and the uniqueness check on account creation
+ * are answered without a query. It is filled by a streaming scan of {@code bank_accounts} once the application is
+ * ready, gets each account this instance creates straight away, and picks up accounts created elsewhere by
+ * rescanning the recent {@code created_at} range every {@code app.account-index.refresh-interval-ms}.
+ * <p>
+ * Until the first scan finishes, or with {@code app.account-index.enabled} off, {@link #mightContain} answers
+ * {@code true} and callers query as before. An account created on another instance is missing from the filter for
+ * up to one refresh interval and is reported absent meanwhile. {@code app.account-index.confirm-misses} checks every
+ * miss against the database instead, which closes that window at the cost of a query per unknown account.
+ */
+@Slf4j
+@Component
+public class AccountNumberIndex {
+
+    private final BankAccountRepository bankAccountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountIndexProperties accountIndexProperties;
+    private final BloomFilter filter;
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositive;
+    private final Counter late;
+    private volatile boolean ready;
+    private volatile LocalDateTime refreshFrom;
+    private volatile boolean overfilledReported;
+
+    public AccountNumberIndex(BankAccountRepository bankAccountRepository,
+                              TransactionTemplate transactionTemplate,
+                              AccountIndexProperties accountIndexProperties,
+                              MeterRegistry meterRegistry) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.accountIndexProperties = accountIndexProperties;
+        this.filter = BloomFilter.create(accountIndexProperties.getExpectedAccounts(),
+                accountIndexProperties.getFalsePositiveRate());
+
+        this.absent = lookups(meterRegistry, "absent");
+        this.present = lookups(meterRegistry, "present");
+        this.falsePositive = lookups(meterRegistry, "false_positive");
+        this.late = lookups(meterRegistry, "late");
+        Gauge.builder("accounts.index.memory", filter, BloomFilter::sizeInBytes)
+                .description("Memory held by the account number filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("accounts.index.size", filter, BloomFilter::insertions)
+                .description("Account numbers added to the filter; one whose bits were all set already is not counted")
+                .register(meterRegistry);
+        Gauge.builder("accounts.index.false.positive.rate", filter, BloomFilter::expectedFalsePositiveRate)
+                .description("Expected false positive rate, from the share of bits set")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("accounts.index.lookups")
+                .description("Account number lookups by what the filter answered and, when it passed, what the database found")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@code false} only when the account certainly does not exist; {@code true} means ask the database.
+     */
+    public boolean mightContain(String accountNumber) {
+        if (!ready) {
+            return true;
+        }
+        if (filter.mightContain(accountNumber)) {
+            return true;
+        }
+        if (accountIndexProperties.isConfirmMisses() && bankAccountRepository.findIdByAccountNumber(accountNumber).isPresent()) {
+            // Created on another instance since the last refresh
+            filter.put(accountNumber);
+            late.increment();
+            return true;
+        }
+        absent.increment();
+        return false;
+    }
+
+    public void add(String accountNumber) {
+        filter.put(accountNumber);
+    }
+
+    /**
+     * Records the database's answer after {@link #mightContain} passed, so the observed false positive rate
+     * can be compared with the expected one.
+     */
+    public void recordLookup(boolean found) {
+        if (ready) {
+            (found ? present : falsePositive).increment();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!accountIndexProperties.isEnabled()) {
+            log.info("[ACCOUNT_INDEX] Disabled");
+            return;
+        }
+        LocalDateTime nextRefreshFrom = LocalDateTime.now().minus(accountIndexProperties.getRefreshOverlap());
+        long started = System.nanoTime();
+        long scanned = scan(bankAccountRepository::streamAccountNumbers);
+        refreshFrom = nextRefreshFrom;
+        // Accounts created during the scan were either read by it or added by createAccount
+        ready = true;
+        log.info("[ACCOUNT_INDEX] Loaded, Accounts: {}, Bytes: {}, Hashes: {}, Expected FPP: {}, Millis: {}",
+                scanned, filter.sizeInBytes(), filter.hashCount(), filter.expectedFalsePositiveRate(),
+                (System.nanoTime() - started) / 1_000_000);
+        warnIfOverfilled();
+    }
+
+    @Scheduled(fixedDelayString = "${app.account-index.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime since = refreshFrom;
+        LocalDateTime nextRefreshFrom = LocalDateTime.now().minus(accountIndexProperties.getRefreshOverlap());
+        long scanned = scan(() -> bankAccountRepository.streamAccountNumbersCreatedSince(since));
+        refreshFrom = nextRefreshFrom;
+        log.debug("[ACCOUNT_INDEX][REFRESH] Since: {}, Scanned: {}", since, scanned);
+        warnIfOverfilled();
+    }
+
+    // Read-write template, so the scan goes to the primary: a lagging replica would leave accounts out
+    private long scan(Supplier<Stream<String>> accountNumbers) {
+        AtomicLong scanned = new AtomicLong();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> stream = accountNumbers.get()) {
+                stream.forEach(accountNumber -> {
+                    filter.put(accountNumber);
+                    scanned.incrementAndGet();
+                });
+            }
+        });
+        return scanned.get();
+    }
+
+    // Once per process: the filter cannot grow, only a restart with a larger size helps
+    private void warnIfOverfilled() {
+        if (!overfilledReported && filter.insertions() > filter.expectedInsertions()) {
+            overfilledReported = true;
+            log.warn("[ACCOUNT_INDEX] Holding {} accounts, sized for {}; raise app.account-index.expected-accounts",
+                    filter.insertions(), filter.expectedInsertions());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.config.DataSourcePoolProperties;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes the primary Hikari pool between {@code app.datasource.pool.adaptive.min-size} and {@code max-size}. The
+ * pool grows by one step as soon as a check sees threads waiting for a connection or a mean acquisition time above
+ * the target. It shrinks one step only after {@code shrink-after-checks} quiet checks in a row, so a short lull does
+ * not close connections that the next burst will need.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.pool.adaptive", name = "enabled", havingValue = "true")
+public class AdaptivePoolSizer {
+
+    private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private final HikariDataSource dataSource;
+    private final DataSourcePoolProperties.Adaptive adaptive;
+    private final MeterRegistry meterRegistry;
+    private final Counter grown;
+    private final Counter shrunk;
+
+    private long lastAcquireCount;
+    private double lastAcquireNanos;
+    private int quietChecks;
+
+    public AdaptivePoolSizer(HikariDataSource dataSource,
+                             DataSourcePoolProperties poolProperties,
+                             MeterRegistry meterRegistry) {
+        this.adaptive = poolProperties.getAdaptive();
+        if (adaptive.getMinSize() < 1 || adaptive.getMaxSize() < adaptive.getMinSize() || adaptive.getStep() < 1) {
+            throw new IllegalStateException("app.datasource.pool.adaptive needs 1 <= min-size <= max-size and step >= 1");
+        }
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.grown = Counter.builder("datasource.pool.resized")
+                .description("Adaptive pool size changes")
+                .tag("direction", "grow")
+                .register(meterRegistry);
+        this.shrunk = Counter.builder("datasource.pool.resized")
+                .description("Adaptive pool size changes")
+                .tag("direction", "shrink")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.pool.adaptive.check-interval-ms:5000}")
+    public synchronized void adjust() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            // The pool opens on the first connection request
+            return;
+        }
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int size = config.getMaximumPoolSize();
+        int pending = pool.getThreadsAwaitingConnection();
+        int active = pool.getActiveConnections();
+        double meanAcquireMillis = meanAcquireMillisSinceLastCheck();
+        double targetMillis = adaptive.getTargetAcquireTime().toNanos() / 1_000_000.0;
+
+        int target = size;
+        if (pending > 0 || meanAcquireMillis > targetMillis) {
+            quietChecks = 0;
+            target = Math.min(adaptive.getMaxSize(), size + adaptive.getStep());
+        } else if (active <= size * adaptive.getShrinkUtilization()) {
+            if (++quietChecks >= adaptive.getShrinkAfterChecks()) {
+                quietChecks = 0;
+                target = Math.max(adaptive.getMinSize(), size - adaptive.getStep());
+            }
+        } else {
+            quietChecks = 0;
+        }
+        // Also pulls a size configured outside the bounds back inside them
+        target = Math.max(adaptive.getMinSize(), Math.min(adaptive.getMaxSize(), target));
+
+        if (target != size) {
+            config.setMaximumPoolSize(target);
+            if (config.getMinimumIdle() > target) {
+                config.setMinimumIdle(target);
+            }
+            (target > size ? grown : shrunk).increment();
+            log.info("[DATASOURCE][POOL_RESIZED] Pool: {}, Size: {} -> {}, Active: {}, Pending: {}, MeanAcquireMs: {}",
+                    dataSource.getPoolName(), size, target, active, pending, String.format("%.2f", meanAcquireMillis));
+        }
+    }
+
+    /**
+     * Mean of Hikari's own acquisition timer over the interval since the previous check, 0 when nothing was acquired
+     * or the pool is not instrumented.
+     */
+    private double meanAcquireMillisSinceLastCheck() {
+        Timer timer = meterRegistry.find(ACQUIRE_TIMER).tag("pool", dataSource.getPoolName()).timer();
+        if (timer == null) {
+            return 0;
+        }
+        long count = timer.count();
+        double totalNanos = timer.totalTime(TimeUnit.NANOSECONDS);
+        long acquired = count - lastAcquireCount;
+        double waitedNanos = totalNanos - lastAcquireNanos;
+        lastAcquireCount = count;
+        lastAcquireNanos = totalNanos;
+        return acquired > 0 ? waitedNanos / acquired / 1_000_000.0 : 0;
+    }
+}
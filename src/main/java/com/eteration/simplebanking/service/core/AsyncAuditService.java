@@ -0,0 +1,209 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.config.AuditProperties;
+import com.eteration.simplebanking.domain.entity.AuditEvent;
+import com.eteration.simplebanking.domain.repository.AuditEventRepository;
+import com.eteration.simplebanking.model.dto.AuditRecord;
+import com.eteration.simplebanking.service.interfaces.AuditService;
+import com.eteration.simplebanking.util.SecureMaskUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind audit log. Request threads put records into a bounded ring buffer and return; a single writer
+ * thread drains whatever has accumulated and inserts it as one JDBC batch, so audit writes never add a round trip
+ * to the balance update. A full buffer makes producers wait up to {@code app.audit.offer-timeout} and then drops
+ * the record, which keeps a slow database from stalling payments. Buffered records are written on shutdown.
+ */
+@Slf4j
+@Service
+public class AsyncAuditService implements AuditService, SmartLifecycle {
+
+    // Lower than the web server's lifecycle phase, so the writer stops only after in-flight requests have finished
+    private static final int PHASE = 0;
+
+    private final AuditEventRepository auditEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditProperties auditProperties;
+    private final SecureMaskUtil secureMaskUtil;
+    private final BlockingQueue<AuditRecord> buffer;
+    private final Counter written;
+    private final Counter droppedBufferFull;
+    private final Counter droppedWriteFailed;
+    private final Timer lag;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AsyncAuditService(AuditEventRepository auditEventRepository,
+                             TransactionTemplate transactionTemplate,
+                             AuditProperties auditProperties,
+                             SecureMaskUtil secureMaskUtil,
+                             MeterRegistry meterRegistry) {
+        if (auditProperties.getBufferCapacity() < 1 || auditProperties.getBatchSize() < 1) {
+            throw new IllegalStateException("app.audit.buffer-capacity and app.audit.batch-size must be at least 1");
+        }
+        this.auditEventRepository = auditEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.auditProperties = auditProperties;
+        this.secureMaskUtil = secureMaskUtil;
+        this.buffer = new ArrayBlockingQueue<>(auditProperties.getBufferCapacity());
+
+        this.written = Counter.builder("audit.written")
+                .description("Audit records written to audit_events")
+                .register(meterRegistry);
+        this.droppedBufferFull = Counter.builder("audit.dropped")
+                .description("Audit records lost instead of written")
+                .tag("reason", "buffer_full")
+                .register(meterRegistry);
+        this.droppedWriteFailed = Counter.builder("audit.dropped")
+                .description("Audit records lost instead of written")
+                .tag("reason", "write_failed")
+                .register(meterRegistry);
+        this.lag = Timer.builder("audit.lag")
+                .description("Time from capturing an audit record on the request thread to writing it")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.size", buffer, BlockingQueue::size)
+                .description("Audit records waiting for the writer")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(AuditRecord auditRecord) {
+        if (!auditProperties.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(auditRecord);
+                }
+            });
+            return;
+        }
+        enqueue(auditRecord);
+    }
+
+    private void enqueue(AuditRecord auditRecord) {
+        try {
+            if (buffer.offer(auditRecord, auditProperties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedBufferFull.increment();
+        log.debug("[AUDIT][DROPPED] Buffer full, ApprovalCode: {}",
+                secureMaskUtil.maskedApprovalCode(String.valueOf(auditRecord.approvalCode())));
+    }
+
+    private void drain() {
+        List<AuditRecord> batch = new ArrayList<>(auditProperties.getBatchSize());
+        long flushIntervalNanos = auditProperties.getFlushInterval().toNanos();
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditRecord first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, auditProperties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // Nothing interrupts the writer on purpose; shutdown is signalled through running instead
+                log.debug("[AUDIT] Writer interrupted, Buffered: {}", buffer.size());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditRecord> batch) {
+        try {
+            List<AuditEvent> events = new ArrayList<>(batch.size());
+            for (AuditRecord auditRecord : batch) {
+                events.add(toEvent(auditRecord));
+            }
+            transactionTemplate.executeWithoutResult(status -> auditEventRepository.saveAll(events));
+        } catch (RuntimeException e) {
+            droppedWriteFailed.increment(batch.size());
+            log.warn("[AUDIT][WRITE_FAILED] Records: {}, Error: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        long now = System.nanoTime();
+        for (AuditRecord auditRecord : batch) {
+            lag.record(now - auditRecord.enqueuedNanos(), TimeUnit.NANOSECONDS);
+        }
+        written.increment(batch.size());
+    }
+
+    private AuditEvent toEvent(AuditRecord auditRecord) {
+        return AuditEvent.builder()
+                .requestId(auditRecord.requestId())
+                .actor(secureMaskUtil.encryptName(auditRecord.actor()))
+                .accountNumber(secureMaskUtil.encryptAccount(auditRecord.accountNumber()))
+                .transactionType(auditRecord.transactionType())
+                .amount(auditRecord.amount())
+                .balanceBefore(auditRecord.balanceBefore())
+                .balanceAfter(auditRecord.balanceAfter())
+                .approvalCode(auditRecord.approvalCode())
+                .occurredAt(auditRecord.occurredAt())
+                .build();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !auditProperties.isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::drain);
+        log.debug("[AUDIT] Writer started, Capacity: {}, BatchSize: {}",
+                auditProperties.getBufferCapacity(), auditProperties.getBatchSize());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        // Not interrupted: an interrupt in the middle of a JDBC batch can abort the write. The poll wakes up within
+        // one flush interval, sees running cleared and drains the rest of the buffer.
+        running = false;
+        try {
+            writer.join(auditProperties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("[AUDIT] Writer did not finish within {}, Unwritten: {}",
+                    auditProperties.getShutdownTimeout(), buffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
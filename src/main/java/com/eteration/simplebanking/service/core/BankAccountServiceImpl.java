@@ -1,62 +1,139 @@
 package com.eteration.simplebanking.service.core;
 
 import com.eteration.simplebanking.domain.constant.CacheConstants;
+import com.eteration.simplebanking.domain.constant.MetricConstants;
+import com.eteration.simplebanking.domain.constant.PaginationConstants;
 import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
 import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.domain.repository.TransactionRepository;
 import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.TransactionValidationException;
 import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.model.dto.AccountSnapshot;
 import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
 import com.eteration.simplebanking.model.mapper.BankAccountMapper;
 import com.eteration.simplebanking.service.interfaces.BankAccountService;
+import com.eteration.simplebanking.util.AccountNumberKey;
+import com.eteration.simplebanking.util.BankingMetrics;
 import com.eteration.simplebanking.util.SecureMaskUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BankAccountServiceImpl implements BankAccountService {
 
     private final BankAccountRepository bankAccountRepository;
+    private final TransactionRepository transactionRepository;
     private final BankAccountMapper bankAccountMapper;
     private final SecureMaskUtil secureMaskUtil;
+    private final BankingMetrics bankingMetrics;
+    private final AccountNumberIndex accountNumberIndex;
+    private final AccountDirectory accountDirectory;
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheConstants.BANK_ACCOUNTS_CACHE, allEntries = true)
+    @Caching(evict = {
+        @CacheEvict(value = CacheConstants.ACCOUNT_SNAPSHOTS_CACHE, key = "#accountNumber"),
+        @CacheEvict(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "'response:' + #accountNumber")
+    })
     public BankAccountResponse createAccount(String owner, String accountNumber) {
         BankAccount account = BankAccount.builder()
                 .owner(owner)
                 .accountNumber(accountNumber)
-                .balance(0.0)
+                .balance(0L)
                 .build();
-        BankAccount savedBankAccount = bankAccountRepository.save(account);
+        BankAccount savedBankAccount;
+        try {
+            // Flushed here so a concurrent create of the same number fails inside this method
+            savedBankAccount = bankAccountRepository.saveAndFlush(account);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[CREATE_ACCOUNT][DUPLICATE] Account: {}", secureMaskUtil.maskedAccount(accountNumber));
+            throw new TransactionValidationException(MessageKeys.VALIDATION_ACCOUNT_NUMBER_UNIQUE);
+        }
+        // Added before commit: a rollback leaves a false positive, which only costs a query
+        accountNumberIndex.add(accountNumber);
         return bankAccountMapper.toAccountResponse(savedBankAccount);
     }
 
     @Override
-    @Cacheable(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "#accountNumber")
     public BankAccount findAccountByNumber(String accountNumber) {
-        log.debug("[CACHE_MISS] Account: {}", secureMaskUtil.encryptAccount(accountNumber));
-        return bankAccountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, accountNumber));
+        return findIndexed(accountNumber, () -> bankAccountRepository.findByAccountNumber(accountNumber));
     }
 
+    // With replica routing on this may load from a replica; a copy that lags a posting is cached for at most the bankAccounts TTL
     @Override
-    @Cacheable(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "'response:' + #accountNumber")
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "'response:' + #accountNumber", sync = true)
     public BankAccountResponse getAccount(String accountNumber) {
-        log.debug("[CACHE_MISS_RESPONSE] Account: {}", secureMaskUtil.encryptAccount(accountNumber));
-        BankAccount account = findAccountByNumber(accountNumber);
-        return bankAccountMapper.toAccountResponse(account);
+        log.debug("[CACHE_MISS_RESPONSE] Account: {}", secureMaskUtil.maskedAccount(accountNumber));
+        return bankingMetrics.timeCacheLoad(CacheConstants.BANK_ACCOUNTS_CACHE, MetricConstants.ENTRY_RESPONSE,
+                () -> bankAccountMapper.toAccountResponse(findAccountByNumber(accountNumber)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BankAccountResponse getAccount(AccountSnapshot snapshot, int recentTransactions) {
+        log.debug("[GET_ACCOUNT_SUMMARY] Account: {}, Recent: {}", secureMaskUtil.maskedAccount(snapshot.accountNumber()), recentTransactions);
+        int limit = Math.min(Math.max(recentTransactions, 0), PaginationConstants.MAX_PAGE_SIZE);
+        List<Transaction> transactions = limit == 0
+                ? List.of()
+                : transactionRepository.findLatestByAccountId(snapshot.id(), PageRequest.of(0, limit));
+        return bankAccountMapper.toAccountResponse(snapshot, transactions);
     }
 
     @Override
-    @CacheEvict(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "#account.accountNumber")
-    public BankAccount saveAccount(BankAccount account) {
-        return bankAccountRepository.save(account);
+    @Cacheable(value = CacheConstants.ACCOUNT_SNAPSHOTS_CACHE, key = "#accountNumber", sync = true)
+    public AccountSnapshot getAccountSnapshot(String accountNumber) {
+        log.debug("[CACHE_MISS] Account: {}", secureMaskUtil.maskedAccount(accountNumber));
+        return bankingMetrics.timeCacheLoad(CacheConstants.ACCOUNT_SNAPSHOTS_CACHE, MetricConstants.ENTRY_SNAPSHOT,
+                () -> findIndexed(accountNumber, () -> bankAccountRepository.findSnapshotByAccountNumber(accountNumber)));
+    }
+
+    // Ids never change, so they are kept in the primitive directory rather than the bankAccounts cache
+    @Override
+    public Long findAccountIdByNumber(String accountNumber) {
+        Long accountId = accountDirectory.find(accountNumber);
+        if (accountId != null) {
+            return accountId;
+        }
+        accountId = bankingMetrics.timeCacheLoad(CacheConstants.BANK_ACCOUNTS_CACHE, MetricConstants.ENTRY_ID,
+                () -> findIndexed(accountNumber, () -> findIdByKey(accountNumber)));
+        accountDirectory.put(accountNumber, accountId);
+        return accountId;
+    }
+
+    // Rows written before account_key existed, e.g. by an older instance during a rolling deploy, have none yet
+    private Optional<Long> findIdByKey(String accountNumber) {
+        long key = AccountNumberKey.of(accountNumber);
+        if (key == AccountNumberKey.NONE) {
+            return bankAccountRepository.findIdByAccountNumber(accountNumber);
+        }
+        return bankAccountRepository.findIdByAccountKey(key)
+                .or(() -> bankAccountRepository.findIdByAccountNumber(accountNumber));
+    }
+
+    // Unknown accounts are turned away by the index; only the ones it cannot rule out reach the database
+    private <T> T findIndexed(String accountNumber, Supplier<Optional<T>> query) {
+        if (!accountNumberIndex.mightContain(accountNumber)) {
+            log.debug("[ACCOUNT_INDEX][ABSENT] Account: {}", secureMaskUtil.maskedAccount(accountNumber));
+            throw new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, accountNumber);
+        }
+        Optional<T> found = query.get();
+        accountNumberIndex.recordLookup(found.isPresent());
+        return found.orElseThrow(() -> new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, accountNumber));
     }
-} 
\ No newline at end of file
+}
@@ -1,19 +1,34 @@
 package com.eteration.simplebanking.service.core;
 
-import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.constant.MetricConstants;
 import com.eteration.simplebanking.domain.enums.PhoneCompany;
 import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.model.dto.AccountSnapshot;
+import com.eteration.simplebanking.model.dto.request.BatchOperationRequest;
+import com.eteration.simplebanking.model.dto.response.AccountBalanceResponse;
 import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
+import com.eteration.simplebanking.model.dto.response.BatchItemResult;
+import com.eteration.simplebanking.model.dto.response.BatchTransactionResponse;
+import com.eteration.simplebanking.model.dto.response.TransactionPageResponse;
 import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
 import com.eteration.simplebanking.service.interfaces.BankAccountService;
 import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import com.eteration.simplebanking.service.interfaces.BatchTransactionService;
+import com.eteration.simplebanking.service.interfaces.IdempotencyService;
+import com.eteration.simplebanking.service.interfaces.LedgerService;
 import com.eteration.simplebanking.service.interfaces.TransactionService;
 import com.eteration.simplebanking.model.mapper.BankAccountMapper;
+import com.eteration.simplebanking.util.BankingMetrics;
+import com.eteration.simplebanking.util.MessageCatalog;
 import com.eteration.simplebanking.util.SecureMaskUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -22,55 +37,156 @@ public class BankingFacadeServiceImpl implements BankingFacadeService {
 
     private final BankAccountService bankAccountService;
     private final TransactionService transactionService;
+    private final BatchTransactionService batchTransactionService;
+    private final LedgerService ledgerService;
     private final SecureMaskUtil secureMaskUtil;
+    private final AccountLockRegistry accountLockRegistry;
+    private final BankingMetrics bankingMetrics;
+    private final MessageCatalog messageCatalog;
+    private final IdempotencyService idempotencyService;
 
     @Override
     public BankAccountResponse createBankAccount(String owner, String accountNumber) {
-        log.debug("[CREATE_ACCOUNT] Owner: {}, Account: {}", secureMaskUtil.encryptName(owner), secureMaskUtil.encryptAccount(accountNumber));
-        return bankAccountService.createAccount(owner, accountNumber);
+        log.debug("[CREATE_ACCOUNT] Owner: {}, Account: {}", secureMaskUtil.maskedName(owner), secureMaskUtil.maskedAccount(accountNumber));
+        return bankingMetrics.timeOperation(MetricConstants.OP_CREATE_ACCOUNT,
+                () -> bankAccountService.createAccount(owner, accountNumber));
     }
 
     @Override
     public BankAccountResponse getBankAccount(String accountNumber) {
-        log.debug("[GET_ACCOUNT] Account: {}", secureMaskUtil.encryptAccount(accountNumber));
-        return bankAccountService.getAccount(accountNumber);
+        log.debug("[GET_ACCOUNT] Account: {}", secureMaskUtil.maskedAccount(accountNumber));
+        return bankingMetrics.timeOperation(MetricConstants.OP_GET_ACCOUNT, () -> bankAccountService.getAccount(accountNumber));
+    }
+
+    @Override
+    public BankAccountResponse getBankAccountSummary(String accountNumber, int recentTransactions) {
+        log.debug("[GET_ACCOUNT_SUMMARY] Account: {}, Recent: {}", secureMaskUtil.maskedAccount(accountNumber), recentTransactions);
+        return bankingMetrics.timeOperation(MetricConstants.OP_GET_ACCOUNT_SUMMARY, () -> {
+            AccountSnapshot snapshot = bankAccountService.getAccountSnapshot(accountNumber);
+            return bankAccountService.getAccount(snapshot, recentTransactions);
+        });
+    }
+
+    @Override
+    public TransactionPageResponse getTransactionHistory(String accountNumber, String cursor, Integer size) {
+        log.debug("[TRANSACTION_HISTORY] Account: {}, Size: {}", secureMaskUtil.maskedAccount(accountNumber), size);
+        return bankingMetrics.timeOperation(MetricConstants.OP_TRANSACTION_HISTORY,
+                () -> transactionService.getTransactionHistory(accountNumber, cursor, size));
+    }
+
+    @Override
+    public AccountBalanceResponse getBalanceAt(String accountNumber, LocalDateTime at) {
+        log.debug("[BALANCE_AT] Account: {}, At: {}", secureMaskUtil.maskedAccount(accountNumber), at);
+        return bankingMetrics.timeOperation(MetricConstants.OP_BALANCE_AT, () -> ledgerService.getBalanceAt(accountNumber, at));
+    }
+
+    @Override
+    public TransactionStatusResponse credit(String accountNumber, long amount) {
+        return credit(accountNumber, amount, null);
+    }
+
+    @Override
+    public TransactionStatusResponse debit(String accountNumber, long amount) {
+        return debit(accountNumber, amount, null);
+    }
+
+    @Override
+    public TransactionStatusResponse phoneBillPayment(String accountNumber, PhoneCompany phoneCompany, String phoneNumber, long amount) {
+        return phoneBillPayment(accountNumber, phoneCompany, phoneNumber, amount, null);
     }
 
     @Override
-    @Transactional
-    public TransactionStatusResponse credit(String accountNumber, double amount) {
-        log.debug("[CREDIT] Account: {}, Amount: {}", secureMaskUtil.encryptAccount(accountNumber), amount);
-        BankAccount account = bankAccountService.findAccountByNumber(accountNumber);
-        account = bankAccountService.saveAccount(account);
-        return transactionService.credit(account, amount);
+    public TransactionStatusResponse checkPayment(String accountNumber, String payee, long amount) {
+        return checkPayment(accountNumber, payee, amount, null);
     }
 
+    // Writes are not transactional here: each TransactionService call commits its own transaction
+    // while the account lock is still held, so the next writer for the account sees the committed balance
     @Override
-    @Transactional
-    public TransactionStatusResponse debit(String accountNumber, double amount) {
-        log.debug("[DEBIT] Account: {}, Amount: {}", secureMaskUtil.encryptAccount(accountNumber), amount);
-        BankAccount account = bankAccountService.findAccountByNumber(accountNumber);
-        account = bankAccountService.saveAccount(account);
-        return transactionService.debit(account, amount);
+    public TransactionStatusResponse credit(String accountNumber, long amount, String idempotencyKey) {
+        log.debug("[CREDIT] Account: {}, Amount: {}", secureMaskUtil.maskedAccount(accountNumber), amount);
+        return localize(bankingMetrics.timeTransaction(MetricConstants.OP_CREDIT,
+                () -> post(accountNumber, idempotencyKey, request(MetricConstants.OP_CREDIT, accountNumber, amount),
+                        () -> transactionService.credit(accountNumber, amount))));
     }
 
     @Override
-    @Transactional
-    public TransactionStatusResponse phoneBillPayment(String accountNumber, PhoneCompany phoneCompany, String phoneNumber, double amount) {
+    public TransactionStatusResponse debit(String accountNumber, long amount, String idempotencyKey) {
+        log.debug("[DEBIT] Account: {}, Amount: {}", secureMaskUtil.maskedAccount(accountNumber), amount);
+        return localize(bankingMetrics.timeTransaction(MetricConstants.OP_DEBIT,
+                () -> post(accountNumber, idempotencyKey, request(MetricConstants.OP_DEBIT, accountNumber, amount),
+                        () -> transactionService.debit(accountNumber, amount))));
+    }
+
+    @Override
+    public TransactionStatusResponse phoneBillPayment(String accountNumber, PhoneCompany phoneCompany, String phoneNumber, long amount,
+                                                      String idempotencyKey) {
         log.debug("[PHONE_BILL] Account: {}, PhoneCompany: {}, Phone: {}, Amount: {}", 
-                secureMaskUtil.encryptAccount(accountNumber), phoneCompany, secureMaskUtil.encryptPhone(phoneNumber), amount);
-        BankAccount account = bankAccountService.findAccountByNumber(accountNumber);
-        account = bankAccountService.saveAccount(account);
-        return transactionService.phoneBillPayment(account, phoneCompany, phoneNumber, amount);
+                secureMaskUtil.maskedAccount(accountNumber), phoneCompany, secureMaskUtil.maskedPhone(phoneNumber), amount);
+        return localize(bankingMetrics.timeTransaction(MetricConstants.OP_PHONE_BILL_PAYMENT,
+                () -> post(accountNumber, idempotencyKey,
+                        request(MetricConstants.OP_PHONE_BILL_PAYMENT, accountNumber, phoneCompany, phoneNumber, amount),
+                        () -> transactionService.phoneBillPayment(accountNumber, phoneCompany, phoneNumber, amount))));
     }
 
     @Override
-    @Transactional
-    public TransactionStatusResponse checkPayment(String accountNumber, String payee, double amount) {
+    public TransactionStatusResponse checkPayment(String accountNumber, String payee, long amount, String idempotencyKey) {
         log.debug("[CHECK_PAYMENT] Account: {}, Payee: {}, Amount: {}", 
-                secureMaskUtil.encryptAccount(accountNumber), secureMaskUtil.encryptPayee(payee), amount);
-        BankAccount account = bankAccountService.findAccountByNumber(accountNumber);
-        account = bankAccountService.saveAccount(account);
-        return transactionService.checkPayment(account, payee, amount);
+                secureMaskUtil.maskedAccount(accountNumber), secureMaskUtil.maskedPayee(payee), amount);
+        return localize(bankingMetrics.timeTransaction(MetricConstants.OP_CHECK_PAYMENT,
+                () -> post(accountNumber, idempotencyKey, request(MetricConstants.OP_CHECK_PAYMENT, accountNumber, payee, amount),
+                        () -> transactionService.checkPayment(accountNumber, payee, amount))));
+    }
+
+    @Override
+    public BatchTransactionResponse postBatch(List<BatchOperationRequest> operations) {
+        return postBatch(operations, null);
+    }
+
+    @Override
+    public BatchTransactionResponse postBatch(List<BatchOperationRequest> operations, String idempotencyKey) {
+        log.debug("[BATCH] Operations: {}", operations.size());
+        return localize(bankingMetrics.timeOperation(MetricConstants.OP_BATCH, () -> idempotencyKey == null
+                ? batchTransactionService.postBatch(operations)
+                : idempotencyService.executeBatch(idempotencyKey, operations,
+                        request(MetricConstants.OP_BATCH, operations.toArray()),
+                        () -> batchTransactionService.postBatch(operations))));
+    }
+
+    private TransactionStatusResponse post(String accountNumber, String idempotencyKey, String request,
+                                           Supplier<TransactionStatusResponse> posting) {
+        if (idempotencyKey == null) {
+            return accountLockRegistry.withAccountLock(accountNumber, posting);
+        }
+        return idempotencyService.execute(idempotencyKey, accountNumber, request, posting);
+    }
+
+    // What an Idempotency-Key is bound to: the operation and every argument that changes its effect
+    private static String request(String operation, Object... arguments) {
+        StringJoiner request = new StringJoiner("|").add(operation);
+        for (Object argument : arguments) {
+            request.add(String.valueOf(argument));
+        }
+        return request.toString();
+    }
+
+    // Resolved after the account lock is released, from messages read once at startup
+    private TransactionStatusResponse localize(TransactionStatusResponse response) {
+        if (response.isApproved()) {
+            return response;
+        }
+        return response.withMessage(messageCatalog.message(response.errorCode()));
+    }
+
+    // A replayed batch comes back without messages; the account number fills the not-found message
+    private BatchTransactionResponse localize(BatchTransactionResponse response) {
+        if (response.results().stream().noneMatch(item -> item.errorCode() != null && item.message() == null)) {
+            return response;
+        }
+        List<BatchItemResult> results = response.results().stream()
+                .map(item -> item.errorCode() == null || item.message() != null ? item : item.withMessage(
+                        messageCatalog.message(item.errorCode(), item.accountNumber())))
+                .toList();
+        return new BatchTransactionResponse(response.total(), response.succeeded(), response.failed(), results);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.domain.constant.BatchConstants;
+import com.eteration.simplebanking.domain.constant.CacheConstants;
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.domain.repository.TransactionRepository;
+import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.InvalidTransactionException;
+import com.eteration.simplebanking.exception.StrategyNotFoundException;
+import com.eteration.simplebanking.exception.TransactionValidationException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.model.dto.PostingResult;
+import com.eteration.simplebanking.model.dto.request.BatchOperationRequest;
+import com.eteration.simplebanking.model.dto.response.BatchItemResult;
+import com.eteration.simplebanking.model.dto.response.BatchTransactionResponse;
+import com.eteration.simplebanking.service.interfaces.BatchTransactionService;
+import com.eteration.simplebanking.service.interfaces.LedgerService;
+import com.eteration.simplebanking.service.strategy.TransactionStrategyFactory;
+import com.eteration.simplebanking.util.MessageCatalog;
+import com.eteration.simplebanking.util.SecureMaskUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchTransactionServiceImpl implements BatchTransactionService {
+
+    private final BankAccountRepository bankAccountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionStrategyFactory strategyFactory;
+    private final LedgerService ledgerService;
+    private final CacheManager cacheManager;
+    private final MessageCatalog messageCatalog;
+    private final SecureMaskUtil secureMaskUtil;
+
+    @Override
+    @Transactional
+    public BatchTransactionResponse postBatch(List<BatchOperationRequest> operations) {
+        log.debug("[BATCH] Operations: {}", operations.size());
+
+        // Sorted so concurrent batches lock shared accounts in the same order and cannot deadlock
+        Map<String, List<Integer>> indexesByAccount = new TreeMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByAccount.computeIfAbsent(operations.get(i).accountNumber(), key -> new ArrayList<>()).add(i);
+        }
+
+        BatchItemResult[] results = new BatchItemResult[operations.size()];
+        List<Transaction> posted = new ArrayList<>(operations.size());
+
+        for (Map.Entry<String, List<Integer>> entry : indexesByAccount.entrySet()) {
+            String accountNumber = entry.getKey();
+            Optional<BankAccount> account = bankAccountRepository.findByAccountNumberForUpdate(accountNumber);
+
+            for (int index : entry.getValue()) {
+                BatchOperationRequest operation = operations.get(index);
+                results[index] = account.isPresent()
+                        ? apply(index, operation, account.get(), posted)
+                        : failure(index, operation, MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, accountNumber);
+            }
+
+            if (account.isPresent()) {
+                evictAccountCaches(accountNumber);
+            }
+        }
+
+        // Account rows are flushed once each at commit; transactions go out as batched inserts
+        transactionRepository.saveAll(posted);
+        posted.forEach(ledgerService::recordCheckpoint);
+
+        int succeeded = posted.size();
+        log.debug("[BATCH][DONE] Accounts: {}, Succeeded: {}, Failed: {}",
+                indexesByAccount.size(), succeeded, operations.size() - succeeded);
+
+        return new BatchTransactionResponse(operations.size(), succeeded, operations.size() - succeeded, Arrays.asList(results));
+    }
+
+    private BatchItemResult apply(int index, BatchOperationRequest operation, BankAccount account, List<Transaction> posted) {
+        try {
+            PostingResult result = strategyFactory.prepareTransaction(account, operation.toCommand());
+            if (!result.isPosted()) {
+                return failure(index, operation, result.declineReason());
+            }
+            Transaction transaction = result.transaction();
+            posted.add(transaction);
+            return new BatchItemResult(index, operation.accountNumber(), operation.type(),
+                    BatchConstants.STATUS_OK, transaction.getApprovalCode().toString(), null, null);
+        } catch (AccountNotFoundException e) {
+            return rejected(index, operation, e, MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, operation.accountNumber());
+        } catch (ArithmeticException e) {
+            // Math.addExact throws before the balance is set, so the account is unchanged
+            return rejected(index, operation, e, MessageKeys.ERROR_BALANCE_OVERFLOW);
+        } catch (TransactionValidationException | InvalidTransactionException | StrategyNotFoundException
+                 | IllegalArgumentException e) {
+            return rejected(index, operation, e, MessageKeys.ERROR_INVALID_TRANSACTION);
+        }
+    }
+
+    private BatchItemResult rejected(int index, BatchOperationRequest operation, RuntimeException e,
+                                     MessageKeys messageKey, Object... args) {
+        log.debug("[BATCH][REJECTED] Account: {}, Index: {}, Error: {}",
+                secureMaskUtil.maskedAccount(operation.accountNumber()), index, e.getMessage());
+        return failure(index, operation, messageKey, args);
+    }
+
+    private BatchItemResult failure(int index, BatchOperationRequest operation, MessageKeys messageKey, Object... args) {
+        String message = messageCatalog.message(messageKey, args);
+        return new BatchItemResult(index, operation.accountNumber(), operation.type(),
+                BatchConstants.STATUS_FAILED, null, messageKey.getKey(), message);
+    }
+
+    private void evictAccountCaches(String accountNumber) {
+        Cache snapshots = cacheManager.getCache(CacheConstants.ACCOUNT_SNAPSHOTS_CACHE);
+        Cache accounts = cacheManager.getCache(CacheConstants.BANK_ACCOUNTS_CACHE);
+        if (snapshots != null) {
+            snapshots.evict(accountNumber);
+        }
+        if (accounts != null) {
+            accounts.evict("response:" + accountNumber);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.config.IdempotencyProperties;
+import com.eteration.simplebanking.domain.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes idempotency keys older than {@code app.idempotency.retention}. A retry after that posts again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.idempotency.purge", name = "enabled", havingValue = "true")
+public class IdempotencyKeyPurgeJob {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties idempotencyProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge.interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(idempotencyProperties.getRetention());
+        Integer deleted = transactionTemplate.execute(status -> idempotencyRecordRepository.deleteCreatedBefore(cutoff));
+        log.debug("[IDEMPOTENCY][PURGE] Deleted: {}, Cutoff: {}", deleted, cutoff);
+    }
+}
@@ -0,0 +1,299 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.config.IdempotencyProperties;
+import com.eteration.simplebanking.domain.constant.BatchConstants;
+import com.eteration.simplebanking.domain.constant.RequestConstants;
+import com.eteration.simplebanking.domain.entity.IdempotencyRecord;
+import com.eteration.simplebanking.domain.repository.IdempotencyRecordRepository;
+import com.eteration.simplebanking.exception.IdempotencyKeyReusedException;
+import com.eteration.simplebanking.exception.TransactionValidationException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.model.dto.IdempotentResponse;
+import com.eteration.simplebanking.model.dto.request.BatchOperationRequest;
+import com.eteration.simplebanking.model.dto.response.BatchItemResult;
+import com.eteration.simplebanking.model.dto.response.BatchTransactionResponse;
+import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import com.eteration.simplebanking.service.interfaces.IdempotencyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier Idempotency-Key store. Recent keys live in a bounded Caffeine map as futures: the first request for a
+ * key installs one and every duplicate that arrives meanwhile waits on it, so concurrent retries share a single
+ * posting. Behind it, {@code idempotency_keys} holds every key for {@code app.idempotency.retention}; its row is
+ * inserted in the posting's transaction, and the unique index rolls back a duplicate posted by another instance.
+ * Failed requests are not stored, so a retry after an error runs again.
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final AccountLockRegistry accountLockRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CompletableFuture<IdempotentResponse<?>>> hotKeys;
+    private final Counter executed;
+    private final Counter coalesced;
+    private final Counter replayedFromMemory;
+    private final Counter replayedFromDatabase;
+    private final Counter rejected;
+
+    public IdempotencyServiceImpl(IdempotencyRecordRepository idempotencyRecordRepository,
+                                  AccountLockRegistry accountLockRegistry,
+                                  TransactionTemplate transactionTemplate,
+                                  IdempotencyProperties idempotencyProperties,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.accountLockRegistry = accountLockRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        // An in-flight key evicted under size pressure loses coalescing only; the unique index still holds
+        this.hotKeys = Caffeine.newBuilder()
+                .maximumSize(idempotencyProperties.getHotMaximumSize())
+                .expireAfterWrite(idempotencyProperties.getHotWindow())
+                .build();
+
+        this.executed = requests(meterRegistry, "executed");
+        this.coalesced = requests(meterRegistry, "coalesced");
+        this.replayedFromMemory = requests(meterRegistry, "replayed_memory");
+        this.replayedFromDatabase = requests(meterRegistry, "replayed_database");
+        this.rejected = requests(meterRegistry, "rejected");
+        Gauge.builder("idempotency.hot.size", hotKeys, Cache::estimatedSize)
+                .description("Idempotency keys held in memory")
+                .register(meterRegistry);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests")
+                .description("Requests that carried an Idempotency-Key, by how they were answered")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public TransactionStatusResponse execute(String idempotencyKey, String accountNumber, String request,
+                                             Supplier<TransactionStatusResponse> posting) {
+        return execute(idempotencyKey, request, new SingleCodec(),
+                work -> accountLockRegistry.withAccountLock(accountNumber, work), posting);
+    }
+
+    @Override
+    public BatchTransactionResponse executeBatch(String idempotencyKey, List<BatchOperationRequest> operations,
+                                                 String request, Supplier<BatchTransactionResponse> batch) {
+        return execute(idempotencyKey, request, new BatchCodec(operations), Supplier::get, batch);
+    }
+
+    private <R> R execute(String idempotencyKey, String request, ResponseCodec<R> codec,
+                          Function<Supplier<IdempotentResponse<R>>, IdempotentResponse<R>> guard, Supplier<R> posting) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > RequestConstants.IDEMPOTENCY_KEY_MAX_LENGTH) {
+            throw new TransactionValidationException(MessageKeys.VALIDATION_IDEMPOTENCY_KEY_INVALID);
+        }
+        String requestHash = hash(request);
+
+        CompletableFuture<IdempotentResponse<?>> own = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse<?>> existing = hotKeys.asMap().putIfAbsent(idempotencyKey, own);
+        if (existing != null) {
+            (existing.isDone() ? replayedFromMemory : coalesced).increment();
+            log.debug("[IDEMPOTENCY][{}] Key: {}", existing.isDone() ? "REPLAY" : "COALESCED", idempotencyKey);
+            return verified(idempotencyKey, await(existing), requestHash);
+        }
+
+        IdempotentResponse<R> result;
+        try {
+            result = executeOnce(idempotencyKey, requestHash, codec, guard, posting);
+        } catch (Throwable e) {
+            // Waiting duplicates fail with the same error; the next retry starts over
+            hotKeys.asMap().remove(idempotencyKey, own);
+            own.completeExceptionally(e);
+            throw e;
+        }
+        own.complete(result);
+        return verified(idempotencyKey, result, requestHash);
+    }
+
+    private <R> IdempotentResponse<R> executeOnce(String idempotencyKey, String requestHash, ResponseCodec<R> codec,
+                                                  Function<Supplier<IdempotentResponse<R>>, IdempotentResponse<R>> guard,
+                                                  Supplier<R> posting) {
+        // Read-write template, so the lookup goes to the primary even with replica routing on
+        Optional<IdempotentResponse<R>> stored = findStored(idempotencyKey, codec);
+        if (stored.isPresent()) {
+            replayedFromDatabase.increment();
+            log.debug("[IDEMPOTENCY][REPLAY] Key: {}, Source: database", idempotencyKey);
+            return stored.get();
+        }
+
+        try {
+            IdempotentResponse<R> result = guard.apply(() -> transactionTemplate.execute(status -> {
+                R response = posting.get();
+                idempotencyRecordRepository.saveAndFlush(codec.toRecord(idempotencyKey, requestHash, response));
+                return new IdempotentResponse<>(requestHash, response);
+            }));
+            executed.increment();
+            return result;
+        } catch (DataIntegrityViolationException e) {
+            // Another instance committed this key first; our posting rolled back with the insert
+            log.debug("[IDEMPOTENCY][RACE_LOST] Key: {}", idempotencyKey);
+            IdempotentResponse<R> winner = findStored(idempotencyKey, codec).orElseThrow(() -> e);
+            replayedFromDatabase.increment();
+            return winner;
+        }
+    }
+
+    private <R> Optional<IdempotentResponse<R>> findStored(String idempotencyKey, ResponseCodec<R> codec) {
+        return transactionTemplate.execute(status -> idempotencyRecordRepository.findByIdempotencyKey(idempotencyKey)
+                .map(idempotencyRecord -> new IdempotentResponse<>(idempotencyRecord.getRequestHash(),
+                        codec.fromRecord(idempotencyRecord))));
+    }
+
+    // Same hash, same request, so a response that passes is of the type this caller produces
+    @SuppressWarnings("unchecked")
+    private <R> R verified(String idempotencyKey, IdempotentResponse<?> stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            rejected.increment();
+            log.debug("[IDEMPOTENCY][REUSED] Key: {}", idempotencyKey);
+            throw new IdempotencyKeyReusedException(MessageKeys.ERROR_IDEMPOTENCY_KEY_REUSED);
+        }
+        return (R) stored.response();
+    }
+
+    private static IdempotentResponse<?> await(CompletableFuture<IdempotentResponse<?>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * How a response type is kept in an {@link IdempotencyRecord}. Reading a record of the other type must not fail:
+     * its request hash differs, so it is rejected before the response is used.
+     */
+    private interface ResponseCodec<R> {
+
+        IdempotencyRecord toRecord(String idempotencyKey, String requestHash, R response);
+
+        R fromRecord(IdempotencyRecord idempotencyRecord);
+    }
+
+    private static final class SingleCodec implements ResponseCodec<TransactionStatusResponse> {
+
+        @Override
+        public IdempotencyRecord toRecord(String idempotencyKey, String requestHash, TransactionStatusResponse response) {
+            return IdempotencyRecord.builder()
+                    .idempotencyKey(idempotencyKey)
+                    .requestHash(requestHash)
+                    .status(response.status())
+                    .approvalCode(response.approvalCode() == null ? null : UUID.fromString(response.approvalCode()))
+                    .errorCode(response.errorCode())
+                    .build();
+        }
+
+        @Override
+        public TransactionStatusResponse fromRecord(IdempotencyRecord idempotencyRecord) {
+            String approvalCode = idempotencyRecord.getApprovalCode() == null ? null : idempotencyRecord.getApprovalCode().toString();
+            return new TransactionStatusResponse(idempotencyRecord.getStatus(), approvalCode, idempotencyRecord.getErrorCode(), null);
+        }
+    }
+
+    /**
+     * Keeps only each item's status, approval code and error code, as JSON. Account numbers stay out of the table,
+     * as with single postings; a replay takes them, and the operation types, from the request it was matched to.
+     */
+    private final class BatchCodec implements ResponseCodec<BatchTransactionResponse> {
+
+        private final List<BatchOperationRequest> operations;
+
+        private BatchCodec(List<BatchOperationRequest> operations) {
+            this.operations = operations;
+        }
+
+        @Override
+        public IdempotencyRecord toRecord(String idempotencyKey, String requestHash, BatchTransactionResponse response) {
+            List<StoredBatchItem> items = response.results().stream()
+                    .map(item -> new StoredBatchItem(item.status(), item.approvalCode(), item.errorCode()))
+                    .toList();
+            return IdempotencyRecord.builder()
+                    .idempotencyKey(idempotencyKey)
+                    .requestHash(requestHash)
+                    .status(BatchConstants.STATUS_OK)
+                    .responseBody(write(items))
+                    .build();
+        }
+
+        @Override
+        public BatchTransactionResponse fromRecord(IdempotencyRecord idempotencyRecord) {
+            if (idempotencyRecord.getResponseBody() == null) {
+                return null;
+            }
+            StoredBatchItem[] items = read(idempotencyRecord.getResponseBody());
+            List<BatchItemResult> results = new ArrayList<>(items.length);
+            int succeeded = 0;
+            for (int i = 0; i < items.length; i++) {
+                BatchOperationRequest operation = operations.get(i);
+                results.add(new BatchItemResult(i, operation.accountNumber(), operation.type(),
+                        items[i].status(), items[i].approvalCode(), items[i].errorCode(), null));
+                if (items[i].errorCode() == null) {
+                    succeeded++;
+                }
+            }
+            return new BatchTransactionResponse(items.length, succeeded, items.length - succeeded, results);
+        }
+    }
+
+    private record StoredBatchItem(String status, String approvalCode, String errorCode) {
+    }
+
+    private String write(List<StoredBatchItem> items) {
+        try {
+            return objectMapper.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Batch response could not be stored", e);
+        }
+    }
+
+    private StoredBatchItem[] read(String responseBody) {
+        try {
+            return objectMapper.readValue(responseBody, StoredBatchItem[].class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored batch response could not be read", e);
+        }
+    }
+
+    private static String hash(String request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            return HexFormat.of().formatHex(digest.digest(request.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+}
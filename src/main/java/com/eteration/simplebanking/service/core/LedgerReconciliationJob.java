@@ -0,0 +1,49 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.config.LedgerProperties;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.model.dto.LedgerReconciliation;
+import com.eteration.simplebanking.service.interfaces.LedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Replays every account's ledger from its latest snapshot and logs the ones that disagree with the account row.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.ledger.reconciliation", name = "enabled", havingValue = "true")
+public class LedgerReconciliationJob {
+
+    private final BankAccountRepository bankAccountRepository;
+    private final LedgerService ledgerService;
+    private final LedgerProperties ledgerProperties;
+
+    @Scheduled(cron = "${app.ledger.reconciliation.cron:0 0 3 * * *}")
+    public void reconcileAll() {
+        int pageSize = ledgerProperties.getReconciliation().getPageSize();
+        int checked = 0;
+        int mismatched = 0;
+        List<String> accountNumbers;
+        int page = 0;
+        do {
+            accountNumbers = bankAccountRepository.findAccountNumbers(PageRequest.of(page++, pageSize));
+            for (String accountNumber : accountNumbers) {
+                LedgerReconciliation result = ledgerService.reconcile(accountNumber);
+                checked++;
+                if (!result.consistent()) {
+                    mismatched++;
+                }
+            }
+        } while (accountNumbers.size() == pageSize);
+
+        log.info("[LEDGER_RECONCILIATION] Accounts: {}, Mismatched: {}", checked, mismatched);
+    }
+}
@@ -0,0 +1,124 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.config.LedgerProperties;
+import com.eteration.simplebanking.domain.entity.BalanceSnapshot;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.repository.BalanceSnapshotRepository;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.domain.repository.TransactionRepository;
+import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.model.dto.LedgerEntry;
+import com.eteration.simplebanking.model.dto.LedgerPosition;
+import com.eteration.simplebanking.model.dto.LedgerReconciliation;
+import com.eteration.simplebanking.model.dto.response.AccountBalanceResponse;
+import com.eteration.simplebanking.service.interfaces.LedgerService;
+import com.eteration.simplebanking.util.SecureMaskUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerServiceImpl implements LedgerService {
+
+    // Replay lower bound when no snapshot exists yet; kept inside the range every database accepts for timestamps
+    private static final LocalDateTime LEDGER_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final BankAccountRepository bankAccountRepository;
+    private final TransactionRepository transactionRepository;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final LedgerProperties ledgerProperties;
+    private final SecureMaskUtil secureMaskUtil;
+
+    @Override
+    public void recordCheckpoint(Transaction transaction) {
+        Long sequence = transaction.getSequenceNumber();
+        if (sequence == null || sequence % ledgerProperties.getSnapshotInterval() != 0) {
+            return;
+        }
+        balanceSnapshotRepository.save(BalanceSnapshot.builder()
+                .account(transaction.getAccount())
+                .sequenceNumber(sequence)
+                .balance(transaction.getBalanceAfter())
+                .takenAt(transaction.getDate())
+                .build());
+        log.debug("[LEDGER_SNAPSHOT] Sequence: {}, Balance: {}", sequence, transaction.getBalanceAfter());
+    }
+
+    // One consistent view of the account row, its snapshot and the transactions after it
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public LedgerReconciliation reconcile(String accountNumber) {
+        Long accountId = bankAccountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, accountNumber));
+        LedgerPosition position = bankAccountRepository.findLedgerPositionById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, accountNumber));
+
+        Optional<BalanceSnapshot> snapshot = balanceSnapshotRepository.findFirstByAccountIdOrderBySequenceNumberDesc(accountId);
+        long snapshotSequence = snapshot.map(BalanceSnapshot::getSequenceNumber).orElse(0L);
+        long balance = snapshot.map(BalanceSnapshot::getBalance).orElse(0L);
+
+        List<Transaction> transactions = transactionRepository.findLedgerAfter(accountId, snapshotSequence);
+        boolean consistent = true;
+        long expectedSequence = snapshotSequence;
+        for (Transaction transaction : transactions) {
+            expectedSequence++;
+            balance += transaction.balanceChange();
+            if (transaction.getSequenceNumber() != expectedSequence
+                    || transaction.getBalanceAfter() == null
+                    || transaction.getBalanceAfter() != balance) {
+                consistent = false;
+            }
+        }
+        consistent &= expectedSequence == position.ledgerSequence()
+                && balance == position.balance();
+
+        if (!consistent) {
+            log.warn("[LEDGER_MISMATCH] Account: {}, Snapshot: {}, Ledger: {}/{}, Replayed: {}, Actual: {}",
+                    secureMaskUtil.maskedAccount(accountNumber), snapshotSequence, expectedSequence,
+                    position.ledgerSequence(), balance, position.balance());
+        }
+        return new LedgerReconciliation(accountNumber, snapshotSequence, transactions.size(),
+                position.ledgerSequence(), balance, position.balance(), consistent);
+    }
+
+    /**
+     * The newest transaction at or before {@code at} carries the balance it left behind, so this is one index
+     * lookup whatever the history length. Rows without a stored balance fall back to the closest earlier
+     * snapshot plus the transactions after it, at most one snapshot interval.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public AccountBalanceResponse getBalanceAt(String accountNumber, LocalDateTime at) {
+        Long accountId = bankAccountRepository.findIdByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, accountNumber));
+
+        Optional<LedgerEntry> latest = transactionRepository.findLedgerEntriesAtOrBefore(accountId, at, PageRequest.of(0, 1))
+                .stream().findFirst();
+        if (latest.isPresent() && latest.get().balanceAfter() != null) {
+            LedgerEntry entry = latest.get();
+            return new AccountBalanceResponse(accountNumber, at, entry.balanceAfter(), entry.sequenceNumber(), entry.date());
+        }
+
+        log.debug("[BALANCE_AT][REPLAY] Account: {}, At: {}", secureMaskUtil.maskedAccount(accountNumber), at);
+        Optional<BalanceSnapshot> snapshot = balanceSnapshotRepository
+                .findFirstByAccountIdAndTakenAtLessThanEqualOrderBySequenceNumberDesc(accountId, at);
+        long balance = snapshot.map(BalanceSnapshot::getBalance).orElse(0L);
+        long sequence = snapshot.map(BalanceSnapshot::getSequenceNumber).orElse(0L);
+        LocalDateTime from = snapshot.map(BalanceSnapshot::getTakenAt).orElse(LEDGER_START);
+        for (Transaction transaction : transactionRepository.findBetween(accountId, from, at)) {
+            balance += transaction.balanceChange();
+            sequence++;
+        }
+        return new AccountBalanceResponse(accountNumber, at, balance, sequence, latest.map(LedgerEntry::date).orElse(null));
+    }
+}
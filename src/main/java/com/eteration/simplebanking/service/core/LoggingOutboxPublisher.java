@@ -0,0 +1,34 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.model.dto.TransactionEvent;
+import com.eteration.simplebanking.service.interfaces.OutboxPublisher;
+import com.eteration.simplebanking.util.SecureMaskUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Stand-in publisher until a broker is wired in: writes each event to the log. A {@code @Primary}
+ * {@link OutboxPublisher} bean takes its place.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoggingOutboxPublisher implements OutboxPublisher {
+
+    private final SecureMaskUtil secureMaskUtil;
+
+    @Override
+    public void publish(List<TransactionEvent> events) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        for (TransactionEvent event : events) {
+            log.debug("[OUTBOX][PUBLISHED] EventId: {}, Type: {}, Account: {}, Amount: {}, ApprovalCode: {}",
+                    event.eventId(), event.transactionType(), secureMaskUtil.maskedAccount(event.accountNumber()),
+                    event.amount(), secureMaskUtil.maskedApprovalCode(String.valueOf(event.approvalCode())));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.config.OutboxProperties;
+import com.eteration.simplebanking.domain.entity.OutboxEvent;
+import com.eteration.simplebanking.domain.repository.OutboxEventRepository;
+import com.eteration.simplebanking.model.dto.TransactionEvent;
+import com.eteration.simplebanking.service.interfaces.OutboxPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves outbox events to the {@link OutboxPublisher}. Each round claims up to {@code app.outbox.relay.batch-size}
+ * rows with {@code FOR UPDATE SKIP LOCKED}, publishes them and deletes them in the same database transaction, and
+ * keeps going while full batches come back. A failed publish rolls the batch back for the next poll, so delivery is
+ * at least once.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.relay", name = "enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties outboxProperties;
+    private final Counter published;
+    private final Counter failed;
+    private final Timer lag;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxPublisher outboxPublisher,
+                       TransactionTemplate transactionTemplate,
+                       OutboxProperties outboxProperties,
+                       MeterRegistry meterRegistry) {
+        if (outboxProperties.getRelay().getBatchSize() < 1) {
+            throw new IllegalStateException("app.outbox.relay.batch-size must be at least 1");
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.outboxProperties = outboxProperties;
+
+        this.published = Counter.builder("outbox.published")
+                .description("Outbox events handed to the publisher and removed from the outbox")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.publish.failed")
+                .description("Relay batches rolled back because publishing or deleting failed")
+                .register(meterRegistry);
+        this.lag = Timer.builder("outbox.relay.lag")
+                .description("Time from the outbox insert to the event being published")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval-ms:100}")
+    public void relay() {
+        int batchSize = outboxProperties.getRelay().getBatchSize();
+        int relayed;
+        do {
+            relayed = relayBatch(batchSize);
+        } while (relayed == batchSize);
+    }
+
+    /**
+     * Publishes one batch and returns how many events it held; 0 when the outbox is empty or the batch failed.
+     */
+    int relayBatch(int batchSize) {
+        try {
+            Integer relayed = transactionTemplate.execute(status -> {
+                List<OutboxEvent> events = outboxEventRepository.claimBatch(batchSize);
+                if (events.isEmpty()) {
+                    return 0;
+                }
+                List<Long> ids = new ArrayList<>(events.size());
+                events.forEach(event -> ids.add(event.getId()));
+                outboxPublisher.publish(toMessages(events));
+                outboxEventRepository.deleteAllByIdInBatch(ids);
+                recordLag(events);
+                return events.size();
+            });
+            int count = relayed == null ? 0 : relayed;
+            published.increment(count);
+            return count;
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("[OUTBOX][RELAY_FAILED] Error: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private List<TransactionEvent> toMessages(List<OutboxEvent> events) {
+        List<TransactionEvent> messages = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            messages.add(new TransactionEvent(
+                    event.getId(),
+                    event.getAccountNumber(),
+                    event.getTransactionType(),
+                    event.getAmount(),
+                    event.getBalanceAfter(),
+                    event.getSequenceNumber(),
+                    event.getApprovalCode(),
+                    event.getOccurredAt()));
+        }
+        return messages;
+    }
+
+    private void recordLag(List<OutboxEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : events) {
+            lag.record(Duration.between(event.getCreatedAt(), now));
+        }
+    }
+}
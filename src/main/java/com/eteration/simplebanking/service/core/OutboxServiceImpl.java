@@ -0,0 +1,30 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.domain.entity.OutboxEvent;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.repository.OutboxEventRepository;
+import com.eteration.simplebanking.service.interfaces.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Override
+    public void append(TransactionType transactionType, Transaction transaction, String accountNumber) {
+        // Sequence ids are known before flush, so this insert joins the transaction's JDBC batch
+        outboxEventRepository.save(OutboxEvent.builder()
+                .accountNumber(accountNumber)
+                .transactionType(transactionType)
+                .amount(transaction.getAmount())
+                .balanceAfter(transaction.getBalanceAfter())
+                .sequenceNumber(transaction.getSequenceNumber())
+                .approvalCode(transaction.getApprovalCode())
+                .occurredAt(transaction.getDate())
+                .build());
+    }
+}
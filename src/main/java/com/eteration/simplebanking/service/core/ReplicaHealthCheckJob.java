@@ -0,0 +1,26 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.config.DataSourceRoutingProperties;
+import com.eteration.simplebanking.config.ReplicaRoutingDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-validates the read replicas so ones that failed or recovered leave or rejoin the read rotation.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaHealthCheckJob {
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+    private final DataSourceRoutingProperties routingProperties;
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        int timeoutSeconds = (int) Math.max(1, routingProperties.getHealthCheckTimeout().toSeconds());
+        replicaRoutingDataSource.checkHealth(timeoutSeconds);
+    }
+}
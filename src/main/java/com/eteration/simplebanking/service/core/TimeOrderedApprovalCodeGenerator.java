@@ -0,0 +1,43 @@
+package com.eteration.simplebanking.service.core;
+
+import com.eteration.simplebanking.service.interfaces.ApprovalCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUIDv7 (RFC 9562): 48-bit Unix millisecond timestamp followed by 74 random bits. The random bits come from
+ * {@link ThreadLocalRandom}, so threads never share a generator the way {@link UUID#randomUUID()} shares its
+ * {@code SecureRandom}. A per-node salt drawn once from {@code SecureRandom} is mixed in, so two nodes whose
+ * thread-local sequences happen to line up still produce different codes.
+ * <p>
+ * Codes are ordered by millisecond only; codes created within the same millisecond are in random order.
+ */
+@Component
+public class TimeOrderedApprovalCodeGenerator implements ApprovalCodeGenerator {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_A_MASK = 0x0FFFL;
+    private static final long RANDOM_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final long nodeSaltA;
+    private final long nodeSaltB;
+
+    public TimeOrderedApprovalCodeGenerator() {
+        SecureRandom seed = new SecureRandom();
+        this.nodeSaltA = seed.nextLong();
+        this.nodeSaltB = seed.nextLong();
+    }
+
+    @Override
+    public UUID next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long timestamp = System.currentTimeMillis();
+        long mostSignificant = (timestamp << 16) | VERSION_7 | ((random.nextLong() ^ nodeSaltA) & RANDOM_A_MASK);
+        long leastSignificant = VARIANT_RFC | ((random.nextLong() ^ nodeSaltB) & RANDOM_B_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
@@ -1,19 +1,33 @@
 package com.eteration.simplebanking.service.core;
 
 import com.eteration.simplebanking.domain.constant.CacheConstants;
-import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.constant.PaginationConstants;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
 import com.eteration.simplebanking.domain.enums.PhoneCompany;
-import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.repository.TransactionRepository;
+import com.eteration.simplebanking.model.dto.TransactionCursor;
+import com.eteration.simplebanking.model.dto.response.TransactionPageResponse;
 import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import com.eteration.simplebanking.model.mapper.BankAccountMapper;
+import com.eteration.simplebanking.service.interfaces.BankAccountService;
 import com.eteration.simplebanking.service.interfaces.TransactionService;
 import com.eteration.simplebanking.service.strategy.TransactionStrategyFactory;
+import com.eteration.simplebanking.service.strategy.command.CheckPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.DepositCommand;
+import com.eteration.simplebanking.service.strategy.command.PhoneBillPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.WithdrawalCommand;
 import com.eteration.simplebanking.util.SecureMaskUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -21,38 +35,81 @@ public class TransactionServiceImpl implements TransactionService {
 
     private final TransactionStrategyFactory strategyFactory;
     private final SecureMaskUtil secureMaskUtil;
+    private final TransactionRepository transactionRepository;
+    private final BankAccountService bankAccountService;
+    private final BankAccountMapper bankAccountMapper;
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "#account.accountNumber")
-    public TransactionStatusResponse credit(BankAccount account, double amount) {
-        log.debug("[CREDIT] Account: {}, Amount: {}", secureMaskUtil.encryptAccount(account.getAccountNumber()), amount);
-        return strategyFactory.executeTransaction(TransactionType.DEPOSIT, account, amount);
+    @Caching(evict = {
+        @CacheEvict(value = CacheConstants.ACCOUNT_SNAPSHOTS_CACHE, key = "#accountNumber"),
+        @CacheEvict(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "'response:' + #accountNumber")
+    })
+    public TransactionStatusResponse credit(String accountNumber, long amount) {
+        log.debug("[CREDIT] Account: {}, Amount: {}", secureMaskUtil.maskedAccount(accountNumber), amount);
+        Long accountId = bankAccountService.findAccountIdByNumber(accountNumber);
+        return strategyFactory.executeAtomicTransaction(accountId, accountNumber, new DepositCommand(amount));
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "#account.accountNumber")
-    public TransactionStatusResponse debit(BankAccount account, double amount) {
-        log.debug("[DEBIT] Account: {}, Amount: {}", secureMaskUtil.encryptAccount(account.getAccountNumber()), amount);
-        return strategyFactory.executeTransaction(TransactionType.WITHDRAWAL, account, amount);
+    @Caching(evict = {
+        @CacheEvict(value = CacheConstants.ACCOUNT_SNAPSHOTS_CACHE, key = "#accountNumber"),
+        @CacheEvict(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "'response:' + #accountNumber")
+    })
+    public TransactionStatusResponse debit(String accountNumber, long amount) {
+        log.debug("[DEBIT] Account: {}, Amount: {}", secureMaskUtil.maskedAccount(accountNumber), amount);
+        Long accountId = bankAccountService.findAccountIdByNumber(accountNumber);
+        return strategyFactory.executeAtomicTransaction(accountId, accountNumber, new WithdrawalCommand(amount));
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "#account.accountNumber")
-    public TransactionStatusResponse phoneBillPayment(BankAccount account, PhoneCompany phoneCompany, String phoneNumber, double amount) {
+    @Caching(evict = {
+        @CacheEvict(value = CacheConstants.ACCOUNT_SNAPSHOTS_CACHE, key = "#accountNumber"),
+        @CacheEvict(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "'response:' + #accountNumber")
+    })
+    public TransactionStatusResponse phoneBillPayment(String accountNumber, PhoneCompany phoneCompany, String phoneNumber, long amount) {
         log.debug("[PHONE_BILL] Account: {}, PhoneCompany: {}, Phone: {}, Amount: {}", 
-                secureMaskUtil.encryptAccount(account.getAccountNumber()), phoneCompany, secureMaskUtil.encryptPhone(phoneNumber), amount);
-        return strategyFactory.executeTransaction(TransactionType.PHONE_BILL_PAYMENT, account, phoneCompany, phoneNumber, amount);
+                secureMaskUtil.maskedAccount(accountNumber), phoneCompany, secureMaskUtil.maskedPhone(phoneNumber), amount);
+        Long accountId = bankAccountService.findAccountIdByNumber(accountNumber);
+        return strategyFactory.executeAtomicTransaction(accountId, accountNumber, new PhoneBillPaymentCommand(phoneCompany, phoneNumber, amount));
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "#account.accountNumber")
-    public TransactionStatusResponse checkPayment(BankAccount account, String payee, double amount) {
+    @Caching(evict = {
+        @CacheEvict(value = CacheConstants.ACCOUNT_SNAPSHOTS_CACHE, key = "#accountNumber"),
+        @CacheEvict(value = CacheConstants.BANK_ACCOUNTS_CACHE, key = "'response:' + #accountNumber")
+    })
+    public TransactionStatusResponse checkPayment(String accountNumber, String payee, long amount) {
         log.debug("[CHECK_PAYMENT] Account: {}, Payee: {}, Amount: {}", 
-                secureMaskUtil.encryptAccount(account.getAccountNumber()), secureMaskUtil.encryptPayee(payee), amount);
-        return strategyFactory.executeTransaction(TransactionType.CHECK_PAYMENT, account, payee, amount);
+                secureMaskUtil.maskedAccount(accountNumber), secureMaskUtil.maskedPayee(payee), amount);
+        Long accountId = bankAccountService.findAccountIdByNumber(accountNumber);
+        return strategyFactory.executeAtomicTransaction(accountId, accountNumber, new CheckPaymentCommand(payee, amount));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPageResponse getTransactionHistory(String accountNumber, String cursor, Integer size) {
+        log.debug("[TRANSACTION_HISTORY] Account: {}, Size: {}", secureMaskUtil.maskedAccount(accountNumber), size);
+        Long accountId = bankAccountService.findAccountIdByNumber(accountNumber);
+
+        int pageSize = size == null
+                ? PaginationConstants.DEFAULT_PAGE_SIZE
+                : Math.min(Math.max(size, 1), PaginationConstants.MAX_PAGE_SIZE);
+        // Fetch one extra row to learn whether an older page exists without a count query
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        List<Transaction> rows = position == null
+                ? transactionRepository.findLatestByAccountId(accountId, limit)
+                : transactionRepository.findPageBefore(accountId, position.date(), position.id(), limit);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Transaction> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? TransactionCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        return bankAccountMapper.toTransactionPageResponse(page, nextCursor);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.eteration.simplebanking.service.interfaces;
+
+import java.util.UUID;
+
+/**
+ * Source of transaction approval codes. Codes must be unique across every node writing to the same database;
+ * time-ordered codes keep inserts into the unique {@code approval_code} index at its right-hand edge.
+ */
+public interface ApprovalCodeGenerator {
+
+    UUID next();
+}
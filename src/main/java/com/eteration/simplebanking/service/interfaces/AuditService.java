@@ -0,0 +1,12 @@
+package com.eteration.simplebanking.service.interfaces;
+
+import com.eteration.simplebanking.model.dto.AuditRecord;
+
+public interface AuditService {
+
+    /**
+     * Queues the record for the audit log. Inside a transaction it is queued only once that transaction commits;
+     * the call never waits for the write itself.
+     */
+    void record(AuditRecord auditRecord);
+}
@@ -1,6 +1,7 @@
 package com.eteration.simplebanking.service.interfaces;
 
 import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.model.dto.AccountSnapshot;
 import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
 
 public interface BankAccountService {
@@ -9,7 +10,11 @@ public interface BankAccountService {
     
     BankAccountResponse getAccount(String accountNumber);
     
-    BankAccount saveAccount(BankAccount account);
+    BankAccountResponse getAccount(AccountSnapshot snapshot, int recentTransactions);
+    
+    AccountSnapshot getAccountSnapshot(String accountNumber);
 
     BankAccount findAccountByNumber(String accountNumber);
+
+    Long findAccountIdByNumber(String accountNumber);
 }
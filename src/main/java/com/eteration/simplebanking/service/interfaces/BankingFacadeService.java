@@ -2,20 +2,50 @@ package com.eteration.simplebanking.service.interfaces;
 
 import com.eteration.simplebanking.domain.enums.PhoneCompany;
 import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.model.dto.request.BatchOperationRequest;
+import com.eteration.simplebanking.model.dto.response.AccountBalanceResponse;
 import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
+import com.eteration.simplebanking.model.dto.response.BatchTransactionResponse;
+import com.eteration.simplebanking.model.dto.response.TransactionPageResponse;
 import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface BankingFacadeService {
     
     BankAccountResponse createBankAccount(String owner, String accountNumber);
     
     BankAccountResponse getBankAccount(String accountNumber);
     
-    TransactionStatusResponse credit(String accountNumber, double amount);
+    BankAccountResponse getBankAccountSummary(String accountNumber, int recentTransactions);
+    
+    TransactionPageResponse getTransactionHistory(String accountNumber, String cursor, Integer size);
+    
+    AccountBalanceResponse getBalanceAt(String accountNumber, LocalDateTime at);
+    
+    TransactionStatusResponse credit(String accountNumber, long amount);
+    
+    TransactionStatusResponse debit(String accountNumber, long amount);
+    
+    TransactionStatusResponse phoneBillPayment(String accountNumber, PhoneCompany phoneCompany, String phoneNumber, long amount);
+    
+    TransactionStatusResponse checkPayment(String accountNumber, String payee, long amount);
+    
+    /**
+     * The money-moving operations with an optional Idempotency-Key: a non-null key posts at most once and answers
+     * retries with the first response, see {@link IdempotencyService}.
+     */
+    TransactionStatusResponse credit(String accountNumber, long amount, String idempotencyKey);
+    
+    TransactionStatusResponse debit(String accountNumber, long amount, String idempotencyKey);
+    
+    TransactionStatusResponse phoneBillPayment(String accountNumber, PhoneCompany phoneCompany, String phoneNumber, long amount,
+                                               String idempotencyKey);
     
-    TransactionStatusResponse debit(String accountNumber, double amount);
+    TransactionStatusResponse checkPayment(String accountNumber, String payee, long amount, String idempotencyKey);
     
-    TransactionStatusResponse phoneBillPayment(String accountNumber, PhoneCompany phoneCompany, String phoneNumber, double amount);
+    BatchTransactionResponse postBatch(List<BatchOperationRequest> operations);
     
-    TransactionStatusResponse checkPayment(String accountNumber, String payee, double amount);
+    BatchTransactionResponse postBatch(List<BatchOperationRequest> operations, String idempotencyKey);
 } 
\ No newline at end of file
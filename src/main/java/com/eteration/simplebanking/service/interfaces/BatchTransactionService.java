@@ -0,0 +1,11 @@
+package com.eteration.simplebanking.service.interfaces;
+
+import com.eteration.simplebanking.model.dto.request.BatchOperationRequest;
+import com.eteration.simplebanking.model.dto.response.BatchTransactionResponse;
+
+import java.util.List;
+
+public interface BatchTransactionService {
+
+    BatchTransactionResponse postBatch(List<BatchOperationRequest> operations);
+}
@@ -0,0 +1,27 @@
+package com.eteration.simplebanking.service.interfaces;
+
+import com.eteration.simplebanking.model.dto.request.BatchOperationRequest;
+import com.eteration.simplebanking.model.dto.response.BatchTransactionResponse;
+import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Runs {@code posting} at most once per {@code idempotencyKey}. The first call takes the account lock and runs
+     * it in one transaction with the key's insert; retries get the stored response back and concurrent duplicates
+     * wait for the first call instead of posting again. {@code request} describes the operation and its arguments,
+     * and a key sent again with a different request is rejected.
+     */
+    TransactionStatusResponse execute(String idempotencyKey, String accountNumber, String request,
+                                      Supplier<TransactionStatusResponse> posting);
+
+    /**
+     * {@link #execute} for a batch. The batch locks its own account rows, so no account lock is taken here. A replay
+     * rebuilds each item from {@code operations} and the stored outcome, without the messages.
+     */
+    BatchTransactionResponse executeBatch(String idempotencyKey, List<BatchOperationRequest> operations, String request,
+                                          Supplier<BatchTransactionResponse> batch);
+}
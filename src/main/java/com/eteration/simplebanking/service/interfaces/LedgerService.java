@@ -0,0 +1,20 @@
+package com.eteration.simplebanking.service.interfaces;
+
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.model.dto.LedgerReconciliation;
+import com.eteration.simplebanking.model.dto.response.AccountBalanceResponse;
+
+import java.time.LocalDateTime;
+
+public interface LedgerService {
+
+    /**
+     * Writes a balance snapshot if the transaction's ledger sequence falls on the configured interval.
+     * Must run in the transaction that persists {@code transaction}.
+     */
+    void recordCheckpoint(Transaction transaction);
+
+    LedgerReconciliation reconcile(String accountNumber);
+
+    AccountBalanceResponse getBalanceAt(String accountNumber, LocalDateTime at);
+}
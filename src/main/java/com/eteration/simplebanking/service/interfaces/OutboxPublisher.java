@@ -0,0 +1,14 @@
+package com.eteration.simplebanking.service.interfaces;
+
+import com.eteration.simplebanking.model.dto.TransactionEvent;
+
+import java.util.List;
+
+/**
+ * Delivers outbox events to downstream consumers. Called by the relay with a whole batch, in outbox order.
+ * Throwing leaves the batch in the outbox to be retried on the next poll.
+ */
+public interface OutboxPublisher {
+
+    void publish(List<TransactionEvent> events);
+}
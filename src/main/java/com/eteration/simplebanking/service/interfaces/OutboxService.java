@@ -0,0 +1,13 @@
+package com.eteration.simplebanking.service.interfaces;
+
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+
+public interface OutboxService {
+
+    /**
+     * Adds an event for the posted transaction to the outbox. Must be called inside the transaction that inserts
+     * it, so the event exists if and only if the transaction commits.
+     */
+    void append(TransactionType transactionType, Transaction transaction, String accountNumber);
+}
@@ -1,17 +1,19 @@
 package com.eteration.simplebanking.service.interfaces;
 
-import com.eteration.simplebanking.domain.entity.BankAccount;
 import com.eteration.simplebanking.domain.enums.PhoneCompany;
 import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.model.dto.response.TransactionPageResponse;
 import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
 
 public interface TransactionService {
     
-    TransactionStatusResponse credit(BankAccount account, double amount);
+    TransactionStatusResponse credit(String accountNumber, long amount);
     
-    TransactionStatusResponse debit(BankAccount account, double amount);
+    TransactionStatusResponse debit(String accountNumber, long amount);
     
-    TransactionStatusResponse phoneBillPayment(BankAccount account, PhoneCompany phoneCompany, String phoneNumber, double amount);
+    TransactionStatusResponse phoneBillPayment(String accountNumber, PhoneCompany phoneCompany, String phoneNumber, long amount);
     
-    TransactionStatusResponse checkPayment(BankAccount account, String payee, double amount);
-} 
\ No newline at end of file
+    TransactionStatusResponse checkPayment(String accountNumber, String payee, long amount);
+    
+    TransactionPageResponse getTransactionHistory(String accountNumber, String cursor, Integer size);
+}
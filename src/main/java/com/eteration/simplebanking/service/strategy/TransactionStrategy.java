@@ -2,12 +2,13 @@ package com.eteration.simplebanking.service.strategy;
 
 import com.eteration.simplebanking.domain.entity.transaction.Transaction;
 import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.service.strategy.command.TransactionCommand;
 
-public interface TransactionStrategy {
+public interface TransactionStrategy<C extends TransactionCommand> {
     
-    Transaction createTransaction(Object... parameters);
+    Transaction createTransaction(C command);
     
     TransactionType getTransactionType();
     
     String getOperationType();
-} 
\ No newline at end of file
+}
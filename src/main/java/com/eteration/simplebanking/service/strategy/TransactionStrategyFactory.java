@@ -1,108 +1,264 @@
 package com.eteration.simplebanking.service.strategy;
 
+import com.eteration.simplebanking.domain.constant.RequestConstants;
+import com.eteration.simplebanking.domain.constant.TransactionStatusConstants;
 import com.eteration.simplebanking.domain.entity.BankAccount;
 import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.enums.PostingOutcome;
 import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
 import com.eteration.simplebanking.domain.repository.TransactionRepository;
-import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.exception.AccountNotFoundException;
 import com.eteration.simplebanking.exception.StrategyNotFoundException;
 import com.eteration.simplebanking.exception.TransactionValidationException;
 import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.model.dto.AuditRecord;
+import com.eteration.simplebanking.model.dto.LedgerPosition;
+import com.eteration.simplebanking.model.dto.PostingResult;
 import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import com.eteration.simplebanking.service.interfaces.ApprovalCodeGenerator;
+import com.eteration.simplebanking.service.interfaces.AuditService;
+import com.eteration.simplebanking.service.interfaces.LedgerService;
+import com.eteration.simplebanking.service.interfaces.OutboxService;
+import com.eteration.simplebanking.service.strategy.command.TransactionCommand;
+import com.eteration.simplebanking.util.BankingMetrics;
 import com.eteration.simplebanking.util.SecureMaskUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @Component
 public class TransactionStrategyFactory {
 
-    private final Map<TransactionType, TransactionStrategy> strategies;
+    private final Map<TransactionType, TransactionStrategy<?>> strategies;
     private final TransactionRepository transactionRepository;
+    private final BankAccountRepository bankAccountRepository;
+    private final LedgerService ledgerService;
+    private final ApprovalCodeGenerator approvalCodeGenerator;
+    private final AuditService auditService;
+    private final OutboxService outboxService;
     private final SecureMaskUtil secureMaskUtil;
+    private final BankingMetrics bankingMetrics;
 
-    public TransactionStrategyFactory(List<TransactionStrategy> strategyList,
+    public TransactionStrategyFactory(List<TransactionStrategy<?>> strategyList,
                                       TransactionRepository transactionRepository,
-                                      SecureMaskUtil secureMaskUtil) {
-        this.strategies = strategyList.stream()
-                .collect(Collectors.toMap(
-                        TransactionStrategy::getTransactionType,
-                        Function.identity()
-                ));
+                                      BankAccountRepository bankAccountRepository,
+                                      LedgerService ledgerService,
+                                      ApprovalCodeGenerator approvalCodeGenerator,
+                                      AuditService auditService,
+                                      OutboxService outboxService,
+                                      SecureMaskUtil secureMaskUtil,
+                                      BankingMetrics bankingMetrics) {
+        this.strategies = new EnumMap<>(TransactionType.class);
+        for (TransactionStrategy<?> strategy : strategyList) {
+            if (strategies.putIfAbsent(strategy.getTransactionType(), strategy) != null) {
+                throw new IllegalStateException("Duplicate strategy for " + strategy.getTransactionType());
+            }
+        }
 
         this.transactionRepository = transactionRepository;
+        this.bankAccountRepository = bankAccountRepository;
+        this.ledgerService = ledgerService;
+        this.approvalCodeGenerator = approvalCodeGenerator;
+        this.auditService = auditService;
+        this.outboxService = outboxService;
         this.secureMaskUtil = secureMaskUtil;
+        this.bankingMetrics = bankingMetrics;
 
         log.debug("Initialized TransactionStrategyFactory with {} strategies: {}",
                 strategies.size(), strategies.keySet());
     }
 
-    public TransactionStrategy getStrategy(TransactionType transactionType) {
-        TransactionStrategy strategy = strategies.get(transactionType);
+    public TransactionStrategy<?> getStrategy(TransactionType transactionType) {
+        TransactionStrategy<?> strategy = strategies.get(transactionType);
         if (strategy == null) {
             throw new StrategyNotFoundException(MessageKeys.STRATEGY_NOT_FOUND, transactionType);
         }
         return strategy;
     }
 
-    public TransactionStatusResponse executeTransaction(TransactionType transactionType,
-                                                        BankAccount account,
-                                                        Object... parameters) {
-        validateInputs(transactionType, account, parameters);
+    /**
+     * Applies the transaction to an already loaded (and locked) account without persisting it,
+     * so callers can save many transactions in one batch. A decline leaves the account unchanged.
+     */
+    public PostingResult prepareTransaction(BankAccount account, TransactionCommand command) {
+        validateInputs(account, command);
+        Transaction transaction = createTransaction(getStrategy(command.type()), command);
+        validateTransaction(transaction);
+        if (!postTransaction(account, transaction)) {
+            return PostingResult.declined(transaction.insufficientBalanceKey());
+        }
+        outboxService.append(command.type(), transaction, account.getAccountNumber());
+        audit(command, transaction, account.getAccountNumber());
+        return PostingResult.posted(transaction);
+    }
+
+    /**
+     * Applies the transaction with a single conditional UPDATE on the account row instead of
+     * loading and merging the entity, so concurrent writers never lose an update and debits
+     * never overdraw. Must run inside a transaction together with the ledger insert.
+     */
+    public TransactionStatusResponse executeAtomicTransaction(Long accountId,
+                                                              String accountNumber,
+                                                              TransactionCommand command) {
+        validateAtomicInputs(accountId, accountNumber, command);
 
-        TransactionStrategy strategy = getStrategy(transactionType);
+        TransactionStrategy<?> strategy = getStrategy(command.type());
         String operationType = strategy.getOperationType();
 
+        long start = System.nanoTime();
         try {
-            return executeTransactionFlow(strategy, account, operationType, parameters);
-        } catch (Exception e) {
+            TransactionStatusResponse response = executeAtomicTransactionFlow(strategy, accountId, accountNumber, operationType, command);
+            bankingMetrics.recordTransaction(command.type(), BankingMetrics.Outcome.of(response), start);
+            return response;
+        } catch (RuntimeException e) {
+            bankingMetrics.recordTransaction(command.type(), BankingMetrics.Outcome.of(e), start);
             log.debug("[{}][FAILED] Account: {}, Error: {}",
-                    operationType, secureMaskUtil.encryptAccount(account.getAccountNumber()), e.getMessage());
-            throw new RuntimeException(MessageKeys.ERROR_INVALID_TRANSACTION.getKey(), e);
+                    operationType, secureMaskUtil.maskedAccount(accountNumber), e.getMessage());
+            throw e;
         }
     }
 
-    private TransactionStatusResponse executeTransactionFlow(TransactionStrategy strategy,
-                                                             BankAccount account,
-                                                             String operationType,
-                                                             Object... parameters) throws InsufficientBalanceException {
-        Transaction transaction = strategy.createTransaction(parameters);
+    /**
+     * Posts to the loaded account and stamps an approval code; declined transactions never draw one.
+     */
+    private boolean postTransaction(BankAccount account, Transaction transaction) {
+        if (account.tryPost(transaction) != PostingOutcome.POSTED) {
+            return false;
+        }
+        transaction.setApprovalCode(approvalCodeGenerator.next());
+        return true;
+    }
+
+    /**
+     * Declines are an expected result on billing days, so they come back as a response instead of an exception.
+     * Nothing has been written at this point, so the surrounding transaction commits empty.
+     */
+    private TransactionStatusResponse decline(String operationType, String accountNumber, Transaction transaction) {
+        log.debug("[{}][DECLINED] Account: {}, Amount: {}",
+                operationType, secureMaskUtil.maskedAccount(accountNumber), transaction.getAmount());
+        return TransactionStatusResponse.declined(transaction.insufficientBalanceKey());
+    }
+
+    private TransactionStatusResponse executeAtomicTransactionFlow(TransactionStrategy<?> strategy,
+                                                                   Long accountId,
+                                                                   String accountNumber,
+                                                                   String operationType,
+                                                                   TransactionCommand command) {
+        Transaction transaction = createTransaction(strategy, command);
         validateTransaction(transaction);
 
-        String approvalCode = UUID.randomUUID().toString();
-        transaction.setApprovalCode(approvalCode);
+        if (!applyBalanceChange(transaction, accountId, accountNumber)) {
+            return decline(operationType, accountNumber, transaction);
+        }
+        stampLedgerPosition(transaction, accountId, accountNumber);
 
-        account.post(transaction);
+        transaction.setApprovalCode(approvalCodeGenerator.next());
+        String approvalCode = transaction.getApprovalCode().toString();
+        transaction.setAccount(bankAccountRepository.getReferenceById(accountId));
         transactionRepository.save(transaction);
+        ledgerService.recordCheckpoint(transaction);
+        outboxService.append(command.type(), transaction, accountNumber);
+        audit(command, transaction, accountNumber);
 
         log.debug("[{}][SUCCESS] Account: {}, Amount: {}, ApprovalCode: {}",
-                operationType, secureMaskUtil.encryptAccount(account.getAccountNumber()), transaction.getAmount(), secureMaskUtil.encryptApprovalCode(approvalCode));
+                operationType, secureMaskUtil.maskedAccount(accountNumber), transaction.getAmount(), secureMaskUtil.maskedApprovalCode(approvalCode));
+
+        return new TransactionStatusResponse(TransactionStatusConstants.STATUS_OK, approvalCode);
+    }
 
-        return new TransactionStatusResponse("OK", approvalCode);
+    /**
+     * Strategies are keyed by the type their command reports, so the strategy found for a command always
+     * accepts that command's record type.
+     */
+    @SuppressWarnings("unchecked")
+    private Transaction createTransaction(TransactionStrategy<?> strategy, TransactionCommand command) {
+        return ((TransactionStrategy<TransactionCommand>) strategy).createTransaction(command);
     }
 
-    private void validateInputs(TransactionType transactionType, BankAccount account, Object... parameters) {
-        if (transactionType == null) {
-            throw new TransactionValidationException(MessageKeys.VALIDATION_TRANSACTION_TYPE_NULL);
+    /**
+     * Hands the posted transaction to the write-behind audit log; it is queued only if the surrounding
+     * transaction commits. Request id and caller come from the MDC set by {@code RequestIdFilter}.
+     */
+    private void audit(TransactionCommand command, Transaction transaction, String accountNumber) {
+        long balanceAfter = transaction.getBalanceAfter();
+        auditService.record(new AuditRecord(
+                MDC.get(RequestConstants.MDC_REQUEST_ID),
+                MDC.get(RequestConstants.MDC_ACTOR),
+                accountNumber,
+                command.type(),
+                transaction.getAmount(),
+                balanceAfter - transaction.balanceChange(),
+                balanceAfter,
+                transaction.getApprovalCode(),
+                transaction.getDate(),
+                System.nanoTime()));
+    }
+
+    /**
+     * Returns false when a debit is declined for insufficient balance.
+     */
+    private boolean applyBalanceChange(Transaction transaction, Long accountId, String accountNumber) {
+        long change = transaction.balanceChange();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (change >= 0) {
+            if (bankAccountRepository.creditBalance(accountId, change, now) == 0) {
+                throw new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, accountNumber);
+            }
+            return true;
         }
 
-        if (account == null) {
+        // Zero rows means either the balance check failed or the account vanished; the id was
+        // resolved moments ago in the same transaction, so report it as insufficient balance.
+        return bankAccountRepository.debitBalanceIfSufficient(accountId, -change, now) != 0;
+    }
+
+    /**
+     * Reads back the balance and sequence the UPDATE produced. The row stays locked until commit, so no other
+     * writer can interleave; the date is taken here as well so date order matches ledger order.
+     */
+    private void stampLedgerPosition(Transaction transaction, Long accountId, String accountNumber) {
+        LedgerPosition position = bankAccountRepository.findLedgerPositionById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, accountNumber));
+        transaction.setSequenceNumber(position.ledgerSequence());
+        transaction.setBalanceAfter(position.balance());
+        transaction.setDate(LocalDateTime.now());
+    }
+
+    private void validateAtomicInputs(Long accountId, String accountNumber, TransactionCommand command) {
+        if (command == null) {
+            throw new TransactionValidationException(MessageKeys.VALIDATION_TRANSACTION_PARAMETERS_NULL);
+        }
+
+        if (accountId == null) {
             throw new TransactionValidationException(MessageKeys.VALIDATION_BANK_ACCOUNT_NULL);
         }
 
-        if (account.getAccountNumber() == null || account.getAccountNumber().trim().isEmpty()) {
+        if (accountNumber == null || accountNumber.trim().isEmpty()) {
             throw new TransactionValidationException(MessageKeys.VALIDATION_ACCOUNT_NUMBER_NULL_OR_EMPTY);
         }
+    }
 
-        if (parameters == null) {
+    private void validateInputs(BankAccount account, TransactionCommand command) {
+        if (command == null) {
             throw new TransactionValidationException(MessageKeys.VALIDATION_TRANSACTION_PARAMETERS_NULL);
         }
+
+        if (account == null) {
+            throw new TransactionValidationException(MessageKeys.VALIDATION_BANK_ACCOUNT_NULL);
+        }
+
+        if (account.getAccountNumber() == null || account.getAccountNumber().trim().isEmpty()) {
+            throw new TransactionValidationException(MessageKeys.VALIDATION_ACCOUNT_NUMBER_NULL_OR_EMPTY);
+        }
     }
 
     private void validateTransaction(Transaction transaction) {
@@ -115,7 +271,7 @@ public class TransactionStrategyFactory {
         return strategies.containsKey(transactionType);
     }
 
-    public java.util.Set<TransactionType> getAvailableTransactionTypes() {
+    public Set<TransactionType> getAvailableTransactionTypes() {
         return strategies.keySet();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.eteration.simplebanking.service.strategy.command;
+
+import com.eteration.simplebanking.domain.enums.PhoneCompany;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+
+public record PhoneBillPaymentCommand(PhoneCompany phoneCompany, String phoneNumber, long amount) implements TransactionCommand {
+
+    @Override
+    public TransactionType type() {
+        return TransactionType.PHONE_BILL_PAYMENT;
+    }
+}
@@ -0,0 +1,18 @@
+package com.eteration.simplebanking.service.strategy.command;
+
+import com.eteration.simplebanking.domain.enums.TransactionType;
+
+/**
+ * Typed arguments for one transaction. The type selects the {@code TransactionStrategy} that turns the command
+ * into a {@code Transaction}, so every argument keeps its static type from the caller to the entity.
+ */
+public sealed interface TransactionCommand
+        permits DepositCommand, WithdrawalCommand, PhoneBillPaymentCommand, CheckPaymentCommand {
+
+    TransactionType type();
+
+    /**
+     * Amount in minor units, see {@code MoneyUtil}.
+     */
+    long amount();
+}
@@ -0,0 +1,11 @@
+package com.eteration.simplebanking.service.strategy.command;
+
+import com.eteration.simplebanking.domain.enums.TransactionType;
+
+public record WithdrawalCommand(long amount) implements TransactionCommand {
+
+    @Override
+    public TransactionType type() {
+        return TransactionType.WITHDRAWAL;
+    }
+}
@@ -3,29 +3,21 @@ package com.eteration.simplebanking.service.strategy.strategy;
 import com.eteration.simplebanking.domain.entity.transaction.CheckTransaction;
 import com.eteration.simplebanking.domain.entity.transaction.Transaction;
 import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import com.eteration.simplebanking.service.strategy.TransactionStrategy;
+import com.eteration.simplebanking.service.strategy.command.CheckPaymentCommand;
 import org.springframework.stereotype.Component;
 
 @Component
-public class CheckPaymentTransactionStrategy implements TransactionStrategy {
+public class CheckPaymentTransactionStrategy implements TransactionStrategy<CheckPaymentCommand> {
     
     @Override
-    public Transaction createTransaction(Object... parameters) {
-        if (parameters.length < 2) {
-            throw new IllegalArgumentException(com.eteration.simplebanking.exception.cosntant.MessageKeys.ERROR_INVALID_TRANSACTION.getKey());
+    public Transaction createTransaction(CheckPaymentCommand command) {
+        if (command.payee() == null) {
+            throw new IllegalArgumentException(MessageKeys.ERROR_INVALID_TRANSACTION.getKey());
         }
         
-        if (!(parameters[0] instanceof String payee)) {
-            throw new IllegalArgumentException(com.eteration.simplebanking.exception.cosntant.MessageKeys.ERROR_INVALID_TRANSACTION.getKey());
-        }
-        
-        if (!(parameters[1] instanceof Double)) {
-            throw new IllegalArgumentException(com.eteration.simplebanking.exception.cosntant.MessageKeys.ERROR_INVALID_TRANSACTION.getKey());
-        }
-
-        double amount = (Double) parameters[1];
-        
-        return new CheckTransaction(payee, amount);
+        return new CheckTransaction(command.payee(), command.amount());
     }
     
     @Override
@@ -37,4 +29,4 @@ public class CheckPaymentTransactionStrategy implements TransactionStrategy {
     public String getOperationType() {
         return TransactionType.CHECK_PAYMENT.getOperationType();
     }
-} 
\ No newline at end of file
+} 
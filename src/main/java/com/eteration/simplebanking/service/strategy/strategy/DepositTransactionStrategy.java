@@ -4,22 +4,18 @@ import com.eteration.simplebanking.domain.entity.transaction.DepositTransaction;
 import com.eteration.simplebanking.domain.entity.transaction.Transaction;
 import com.eteration.simplebanking.domain.enums.TransactionType;
 import com.eteration.simplebanking.service.strategy.TransactionStrategy;
+import com.eteration.simplebanking.service.strategy.command.DepositCommand;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
 @Component
-public class DepositTransactionStrategy implements TransactionStrategy {
+public class DepositTransactionStrategy implements TransactionStrategy<DepositCommand> {
     
     @Override
-    public Transaction createTransaction(Object... parameters) {
-        if (parameters.length < 1 || !(parameters[0] instanceof Double)) {
-            throw new IllegalArgumentException(com.eteration.simplebanking.exception.cosntant.MessageKeys.ERROR_INVALID_TRANSACTION.getKey());
-        }
-        
-        double amount = (Double) parameters[0];
+    public Transaction createTransaction(DepositCommand command) {
         DepositTransaction transaction = new DepositTransaction();
-        transaction.setAmount(amount);
+        transaction.setAmount(command.amount());
         transaction.setDate(LocalDateTime.now());
         
         return transaction;
@@ -34,4 +30,4 @@ public class DepositTransactionStrategy implements TransactionStrategy {
     public String getOperationType() {
         return TransactionType.DEPOSIT.getOperationType();
     }
-} 
\ No newline at end of file
+} 
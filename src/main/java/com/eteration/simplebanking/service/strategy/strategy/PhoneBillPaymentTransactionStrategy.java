@@ -2,35 +2,22 @@ package com.eteration.simplebanking.service.strategy.strategy;
 
 import com.eteration.simplebanking.domain.entity.transaction.PhoneBillPaymentTransaction;
 import com.eteration.simplebanking.domain.entity.transaction.Transaction;
-import com.eteration.simplebanking.domain.enums.PhoneCompany;
 import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import com.eteration.simplebanking.service.strategy.TransactionStrategy;
+import com.eteration.simplebanking.service.strategy.command.PhoneBillPaymentCommand;
 import org.springframework.stereotype.Component;
 
 @Component
-public class PhoneBillPaymentTransactionStrategy implements TransactionStrategy {
+public class PhoneBillPaymentTransactionStrategy implements TransactionStrategy<PhoneBillPaymentCommand> {
     
     @Override
-    public Transaction createTransaction(Object... parameters) {
-        if (parameters.length < 3) {
-            throw new IllegalArgumentException(com.eteration.simplebanking.exception.cosntant.MessageKeys.ERROR_INVALID_TRANSACTION.getKey());
+    public Transaction createTransaction(PhoneBillPaymentCommand command) {
+        if (command.phoneCompany() == null || command.phoneNumber() == null) {
+            throw new IllegalArgumentException(MessageKeys.ERROR_INVALID_TRANSACTION.getKey());
         }
         
-        if (!(parameters[0] instanceof com.eteration.simplebanking.domain.enums.PhoneCompany phoneCompany)) {
-            throw new IllegalArgumentException(com.eteration.simplebanking.exception.cosntant.MessageKeys.ERROR_INVALID_TRANSACTION.getKey());
-        }
-        
-        if (!(parameters[1] instanceof String phoneNumber)) {
-            throw new IllegalArgumentException(com.eteration.simplebanking.exception.cosntant.MessageKeys.ERROR_INVALID_TRANSACTION.getKey());
-        }
-        
-        if (!(parameters[2] instanceof Double)) {
-            throw new IllegalArgumentException(com.eteration.simplebanking.exception.cosntant.MessageKeys.ERROR_INVALID_TRANSACTION.getKey());
-        }
-
-        double amount = (Double) parameters[2];
-        
-        return new PhoneBillPaymentTransaction(phoneCompany, phoneNumber, amount);
+        return new PhoneBillPaymentTransaction(command.phoneCompany(), command.phoneNumber(), command.amount());
     }
     
     @Override
@@ -42,4 +29,4 @@ public class PhoneBillPaymentTransactionStrategy implements TransactionStrategy
     public String getOperationType() {
         return TransactionType.PHONE_BILL_PAYMENT.getOperationType();
     }
-} 
\ No newline at end of file
+} 
@@ -4,22 +4,18 @@ import com.eteration.simplebanking.domain.entity.transaction.Transaction;
 import com.eteration.simplebanking.domain.entity.transaction.WithdrawalTransaction;
 import com.eteration.simplebanking.domain.enums.TransactionType;
 import com.eteration.simplebanking.service.strategy.TransactionStrategy;
+import com.eteration.simplebanking.service.strategy.command.WithdrawalCommand;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
 @Component
-public class WithdrawalTransactionStrategy implements TransactionStrategy {
+public class WithdrawalTransactionStrategy implements TransactionStrategy<WithdrawalCommand> {
     
     @Override
-    public Transaction createTransaction(Object... parameters) {
-        if (parameters.length < 1 || !(parameters[0] instanceof Double)) {
-            throw new IllegalArgumentException(com.eteration.simplebanking.exception.cosntant.MessageKeys.ERROR_INVALID_TRANSACTION.getKey());
-        }
-        
-        double amount = (Double) parameters[0];
+    public Transaction createTransaction(WithdrawalCommand command) {
         WithdrawalTransaction transaction = new WithdrawalTransaction();
-        transaction.setAmount(amount);
+        transaction.setAmount(command.amount());
         transaction.setDate(LocalDateTime.now());
         
         return transaction;
@@ -34,4 +30,4 @@ public class WithdrawalTransactionStrategy implements TransactionStrategy {
     public String getOperationType() {
         return TransactionType.WITHDRAWAL.getOperationType();
     }
-} 
\ No newline at end of file
+} 
@@ -0,0 +1,45 @@
+package com.eteration.simplebanking.util;
+
+/**
+ * Account numbers are digit strings (see {@code ValidationRegex.ACCOUNT_NUMBER_PATTERN}), so each one fits in a
+ * {@code long}. The key is the number with a {@code 1} in front, which keeps leading zeros apart: {@code 0123456789}
+ * becomes {@code 10123456789} and {@code 123456789} becomes {@code 1123456789}. It is stored in
+ * {@code bank_accounts.account_key} and keys the in-memory account directory.
+ */
+public final class AccountNumberKey {
+
+    /**
+     * Returned for account numbers that are not digits only, or longer than {@value #MAX_DIGITS} digits.
+     */
+    public static final long NONE = -1L;
+
+    // A leading 1 followed by 18 digits is still below Long.MAX_VALUE (about 9.2e18)
+    public static final int MAX_DIGITS = 18;
+
+    private AccountNumberKey() {
+    }
+
+    public static long of(CharSequence accountNumber) {
+        int length = accountNumber.length();
+        if (length == 0 || length > MAX_DIGITS) {
+            return NONE;
+        }
+        long key = 1;
+        for (int i = 0; i < length; i++) {
+            char c = accountNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return NONE;
+            }
+            key = key * 10 + (c - '0');
+        }
+        return key;
+    }
+
+    /**
+     * The key for a column value: {@code null} when the account number has none.
+     */
+    public static Long orNull(CharSequence accountNumber) {
+        long key = of(accountNumber);
+        return key == NONE ? null : key;
+    }
+}
@@ -0,0 +1,164 @@
+package com.eteration.simplebanking.util;
+
+import com.eteration.simplebanking.domain.constant.MetricConstants;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.exception.InvalidTransactionException;
+import com.eteration.simplebanking.exception.StrategyNotFoundException;
+import com.eteration.simplebanking.exception.TransactionValidationException;
+import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Timers for banking operations, transactions and cache loads. Every timer is resolved once and kept, so recording
+ * on the request path is a map lookup and an update, not a registry lookup with freshly allocated tags. SLO buckets
+ * and histograms are configured per meter name under {@code management.metrics.distribution}.
+ */
+@Component
+public class BankingMetrics {
+
+    /**
+     * How an operation ended. Failures are classified by the first recognised exception in the cause chain, since
+     * strategy failures arrive wrapped.
+     */
+    public enum Outcome {
+        SUCCESS,
+        INSUFFICIENT_BALANCE,
+        NOT_FOUND,
+        REJECTED,
+        ERROR;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        public static Outcome of(Throwable failure) {
+            for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+                if (cause instanceof InsufficientBalanceException) {
+                    return INSUFFICIENT_BALANCE;
+                }
+                if (cause instanceof AccountNotFoundException) {
+                    return NOT_FOUND;
+                }
+                if (cause instanceof InvalidTransactionException
+                        || cause instanceof TransactionValidationException
+                        || cause instanceof StrategyNotFoundException
+                        || cause instanceof IllegalArgumentException) {
+                    return REJECTED;
+                }
+            }
+            return ERROR;
+        }
+
+        /**
+         * Declined transactions are returned rather than thrown; insufficient balance is the only decline.
+         */
+        public static Outcome of(TransactionStatusResponse response) {
+            return response.isApproved() ? SUCCESS : INSUFFICIENT_BALANCE;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Map<Outcome, Timer>> operationTimers = new ConcurrentHashMap<>();
+    private final Map<TransactionType, Map<Outcome, Timer>> transactionTimers = new EnumMap<>(TransactionType.class);
+    private final Map<String, Timer> cacheLoadTimers = new ConcurrentHashMap<>();
+
+    public BankingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (TransactionType type : TransactionType.values()) {
+            Map<Outcome, Timer> byOutcome = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                byOutcome.put(outcome, Timer.builder(MetricConstants.TRANSACTION_TIMER)
+                        .description("Single transactions through TransactionStrategyFactory")
+                        .tag(MetricConstants.TAG_TYPE, type.name())
+                        .tag(MetricConstants.TAG_OUTCOME, outcome.tag)
+                        .register(meterRegistry));
+            }
+            transactionTimers.put(type, byOutcome);
+        }
+    }
+
+    /**
+     * Runs a facade operation and records its latency under {@code banking.operation}. {@code operation} must be one
+     * of the {@code MetricConstants.OP_*} names.
+     */
+    public <T> T timeOperation(String operation, Supplier<T> work) {
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.ERROR;
+        try {
+            T result = work.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = Outcome.of(e);
+            throw e;
+        } finally {
+            recordOperation(operation, outcome, start);
+        }
+    }
+
+    /**
+     * Like {@link #timeOperation}, but a declined response is tagged as such instead of as a success.
+     */
+    public TransactionStatusResponse timeTransaction(String operation, Supplier<TransactionStatusResponse> work) {
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.ERROR;
+        try {
+            TransactionStatusResponse response = work.get();
+            outcome = Outcome.of(response);
+            return response;
+        } catch (RuntimeException e) {
+            outcome = Outcome.of(e);
+            throw e;
+        } finally {
+            recordOperation(operation, outcome, start);
+        }
+    }
+
+    public void recordTransaction(TransactionType type, Outcome outcome, long startNanos) {
+        transactionTimers.get(type).get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Times the load behind a cache miss; hits never reach it and are counted by the cache's own {@code cache.gets}.
+     */
+    public <T> T timeCacheLoad(String cache, String entry, Supplier<T> load) {
+        long start = System.nanoTime();
+        try {
+            return load.get();
+        } finally {
+            cacheLoadTimers.computeIfAbsent(cache + '/' + entry, key -> Timer.builder(MetricConstants.CACHE_LOAD_TIMER)
+                            .description("Database loads behind cache misses")
+                            .tag(MetricConstants.TAG_CACHE, cache)
+                            .tag(MetricConstants.TAG_ENTRY, entry)
+                            .register(meterRegistry))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void recordOperation(String operation, Outcome outcome, long startNanos) {
+        operationTimers.computeIfAbsent(operation, this::operationTimersFor)
+                .get(outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Map<Outcome, Timer> operationTimersFor(String operation) {
+        Map<Outcome, Timer> byOutcome = new EnumMap<>(Outcome.class);
+        for (Outcome outcome : Outcome.values()) {
+            byOutcome.put(outcome, Timer.builder(MetricConstants.OPERATION_TIMER)
+                    .description("BankingFacadeService operations")
+                    .tag(MetricConstants.TAG_OPERATION, operation)
+                    .tag(MetricConstants.TAG_OUTCOME, outcome.tag)
+                    .register(meterRegistry));
+        }
+        return byOutcome;
+    }
+}
@@ -0,0 +1,145 @@
+package com.eteration.simplebanking.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings. Bits live in an {@link AtomicLongArray} and are set with a CAS, so
+ * {@link #put} and {@link #mightContain} run without locks. Each value is hashed once to 64 bits and its
+ * {@code k} positions derived by double hashing (Kirsch-Mitzenmacher). There are no false negatives; the false
+ * positive rate grows past the configured one once more than {@code expectedInsertions} values are added.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final AtomicLong setBits = new AtomicLong();
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashCount, long expectedInsertions) {
+        this.words = new AtomicLongArray(Math.toIntExact(bitSize / Long.SIZE));
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * A filter sized for {@code expectedInsertions} values at {@code falsePositiveRate}: {@code m = -n ln p / (ln 2)^2}
+     * bits, rounded up to whole words, and {@code k = m / n ln 2} hashes.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        long bitSize = Math.max(Long.SIZE, (bits + Long.SIZE - 1) / Long.SIZE * Long.SIZE);
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * LN2));
+        return new BloomFilter(bitSize, hashCount, expectedInsertions);
+    }
+
+    /**
+     * Adds {@code value} and returns {@code true} when at least one of its bits was clear, i.e. it was certainly new.
+     */
+    public boolean put(String value) {
+        long hash = hash(value);
+        long step = mix(hash ^ GOLDEN_GAMMA) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            changed |= setBit(index(hash + i * step));
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+        return changed;
+    }
+
+    /**
+     * {@code false} when {@code value} was never added; {@code true} when it probably was.
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long step = mix(hash ^ GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hash + i * step);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The probability that {@link #mightContain} answers {@code true} for a value never added, from the share of
+     * bits currently set.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.get() / bitSize, hashCount);
+    }
+
+    public long insertions() {
+        return insertions.get();
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public long sizeInBytes() {
+        return bitSize / Byte.SIZE;
+    }
+
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % bitSize;
+    }
+
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+        setBits.incrementAndGet();
+        return true;
+    }
+
+    // FNV-1a over the UTF-16 chars, then the murmur3 finalizer so nearby account numbers spread across the bit array
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,122 @@
+package com.eteration.simplebanking.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Open-addressing {@code long -> long} map with linear probing. Keys and values are interleaved in a single
+ * {@code long[]}, so a hit reads one cache line, and nothing is boxed. {@code 0} marks an empty slot, so neither
+ * keys nor values may be {@code 0}; {@link #get} answers {@link #MISSING} for an absent key.
+ * <p>
+ * Reads are lock-free and may run alongside writes. Writes are serialised. A writer stores the value before
+ * publishing its key with release semantics, so a reader that sees a key also sees its value. Growing copies
+ * into a new array and publishes it through a volatile field. Readers still on the old array see a consistent,
+ * slightly older map.
+ */
+public final class LongLongHashMap {
+
+    public static final long MISSING = 0L;
+
+    private static final long EMPTY = 0L;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(long[].class);
+    // Kept low so that misses, which probe until an empty slot, stay short
+    private static final double LOAD_FACTOR = 0.5;
+    private static final int MAX_CAPACITY = 1 << 29;
+
+    private volatile long[] slots;
+    private volatile int size;
+    private int threshold;
+
+    public LongLongHashMap(int expectedSize) {
+        long wanted = Math.max(2, (long) Math.ceil(expectedSize / LOAD_FACTOR));
+        int capacity = (int) Math.min(MAX_CAPACITY, Long.highestOneBit(wanted - 1) << 1);
+        this.slots = new long[capacity * 2];
+        this.threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    public long get(long key) {
+        long[] table = slots;
+        int mask = (table.length >>> 1) - 1;
+        for (int i = index(key, mask); ; i = (i + 1) & mask) {
+            long stored = (long) SLOT.getAcquire(table, i << 1);
+            if (stored == key) {
+                return (long) SLOT.getAcquire(table, (i << 1) + 1);
+            }
+            if (stored == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+
+    /**
+     * Maps {@code key} to {@code value} and returns {@code true} if the key was new.
+     */
+    public synchronized boolean put(long key, long value) {
+        if (key == EMPTY || value == MISSING) {
+            throw new IllegalArgumentException("Keys and values must not be 0");
+        }
+        if (size >= threshold) {
+            grow();
+        }
+        long[] table = slots;
+        int mask = (table.length >>> 1) - 1;
+        for (int i = index(key, mask); ; i = (i + 1) & mask) {
+            long stored = table[i << 1];
+            if (stored == key) {
+                SLOT.setRelease(table, (i << 1) + 1, value);
+                return false;
+            }
+            if (stored == EMPTY) {
+                table[(i << 1) + 1] = value;
+                SLOT.setRelease(table, i << 1, key);
+                size++;
+                return true;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return slots.length >>> 1;
+    }
+
+    public long sizeInBytes() {
+        return (long) slots.length * Long.BYTES;
+    }
+
+    private void grow() {
+        long[] table = slots;
+        int capacity = table.length >>> 1;
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Map is at its maximum capacity of " + MAX_CAPACITY);
+        }
+        long[] grown = new long[table.length * 2];
+        int mask = capacity * 2 - 1;
+        for (int slot = 0; slot < table.length; slot += 2) {
+            long key = table[slot];
+            if (key != EMPTY) {
+                int i = index(key, mask);
+                while (grown[i << 1] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                grown[i << 1] = key;
+                grown[(i << 1) + 1] = table[slot + 1];
+            }
+        }
+        threshold = (int) (capacity * 2 * LOAD_FACTOR);
+        slots = grown;
+    }
+
+    // Murmur3 finalizer: account keys are sequential decimals, which would cluster under the identity hash
+    private static int index(long key, int mask) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key & mask;
+    }
+}
@@ -0,0 +1,22 @@
+package com.eteration.simplebanking.util;
+
+/**
+ * Log argument that defers encryption until the logger renders it.
+ * SLF4J only calls {@link #toString()} when the statement's level is enabled,
+ * so a disabled DEBUG line costs a single small allocation and no crypto.
+ */
+public final class MaskedValue {
+
+    private final SecureMaskUtil secureMaskUtil;
+    private final String value;
+
+    MaskedValue(SecureMaskUtil secureMaskUtil, String value) {
+        this.secureMaskUtil = secureMaskUtil;
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(secureMaskUtil.encrypt(value));
+    }
+}
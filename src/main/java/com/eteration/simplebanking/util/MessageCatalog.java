@@ -0,0 +1,129 @@
+package com.eteration.simplebanking.util;
+
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Every {@link MessageKeys} entry resolved once per supported locale at startup, so error responses are built from
+ * map lookups instead of resource bundle searches. Unsupported locales fall back to English, as the
+ * {@code messages} bundle does with {@code fallback-to-system-locale: false}. Messages that take arguments keep a
+ * parsed {@link MessageFormat}; {@code MessageFormat} is not thread-safe, so each call formats with a clone.
+ */
+@Slf4j
+@Component
+public class MessageCatalog {
+
+    private static final Locale DEFAULT_LOCALE = Locale.ENGLISH;
+    private static final List<Locale> SUPPORTED_LOCALES = List.of(DEFAULT_LOCALE, Locale.of("tr"));
+
+    private static final Map<String, MessageKeys> KEYS_BY_CODE = keysByCode();
+
+    private final MessageSource messageSource;
+    private final Map<String, LocaleMessages> catalogs;
+    private final LocaleMessages defaultCatalog;
+
+    public MessageCatalog(MessageSource messageSource) {
+        this.messageSource = messageSource;
+        Map<String, LocaleMessages> resolved = new HashMap<>();
+        for (Locale locale : SUPPORTED_LOCALES) {
+            resolved.put(locale.getLanguage(), resolve(locale));
+        }
+        this.catalogs = Map.copyOf(resolved);
+        this.defaultCatalog = catalogs.get(DEFAULT_LOCALE.getLanguage());
+        log.debug("[MESSAGE_CATALOG] Resolved, Keys: {}, Locales: {}", MessageKeys.values().length, SUPPORTED_LOCALES);
+    }
+
+    /**
+     * The message for {@code messageKey} in the current request locale, formatted with {@code args} when given.
+     */
+    public String message(MessageKeys messageKey, Object... args) {
+        return catalogFor(LocaleContextHolder.getLocale()).message(messageKey, args);
+    }
+
+    public String message(Locale locale, MessageKeys messageKey, Object... args) {
+        return catalogFor(locale).message(messageKey, args);
+    }
+
+    /**
+     * The message for a raw code such as a constraint's {@code {validation.owner.required}}. Every code the
+     * application sends is a {@link MessageKeys} entry, so this is a map lookup too. An unknown code gets the
+     * {@link MessageKeys#ERROR_VALIDATION_FAILED} message rather than a resource bundle search.
+     */
+    public String message(String code, Object... args) {
+        MessageKeys messageKey = KEYS_BY_CODE.get(code);
+        if (messageKey == null) {
+            log.debug("[MESSAGE_CATALOG] Unknown code: {}", code);
+            messageKey = MessageKeys.ERROR_VALIDATION_FAILED;
+        }
+        return catalogFor(LocaleContextHolder.getLocale()).message(messageKey, args);
+    }
+
+    private LocaleMessages catalogFor(Locale locale) {
+        if (locale == null) {
+            return defaultCatalog;
+        }
+        return catalogs.getOrDefault(locale.getLanguage(), defaultCatalog);
+    }
+
+    private LocaleMessages resolve(Locale locale) {
+        Map<MessageKeys, String> messages = new EnumMap<>(MessageKeys.class);
+        Map<MessageKeys, MessageFormat> formats = new EnumMap<>(MessageKeys.class);
+        for (MessageKeys messageKey : MessageKeys.values()) {
+            // Without arguments MessageSource returns the pattern untouched, which is what a no-argument call sends
+            String pattern = lookup(messageKey.getKey(), locale);
+            messages.put(messageKey, pattern);
+            if (pattern.indexOf('{') >= 0) {
+                try {
+                    formats.put(messageKey, new MessageFormat(pattern, locale));
+                } catch (IllegalArgumentException e) {
+                    log.warn("[MESSAGE_CATALOG] Pattern not formattable, Key: {}, Locale: {}", messageKey.getKey(), locale);
+                }
+            }
+        }
+        return new LocaleMessages(Collections.unmodifiableMap(messages), Collections.unmodifiableMap(formats));
+    }
+
+    // A missing entry answers with its code, rather than turning an error response into a 500
+    private String lookup(String code, Locale locale) {
+        return messageSource.getMessage(code, null, code, locale);
+    }
+
+    private static Map<String, MessageKeys> keysByCode() {
+        Map<String, MessageKeys> keys = new HashMap<>();
+        for (MessageKeys messageKey : MessageKeys.values()) {
+            keys.put(messageKey.getKey(), messageKey);
+        }
+        return Map.copyOf(keys);
+    }
+
+    private static final class LocaleMessages {
+
+        private final Map<MessageKeys, String> messages;
+        private final Map<MessageKeys, MessageFormat> formats;
+
+        private LocaleMessages(Map<MessageKeys, String> messages, Map<MessageKeys, MessageFormat> formats) {
+            this.messages = messages;
+            this.formats = formats;
+        }
+
+        private String message(MessageKeys messageKey, Object... args) {
+            MessageFormat format = formats.get(messageKey);
+            if (format == null || ObjectUtils.isEmpty(args)) {
+                return messages.get(messageKey);
+            }
+            return ((MessageFormat) format.clone()).format(args);
+        }
+    }
+}
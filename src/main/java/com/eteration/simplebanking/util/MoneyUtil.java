@@ -0,0 +1,114 @@
+package com.eteration.simplebanking.util;
+
+/**
+ * Money is held as a {@code long} count of minor units (cents), so balances add and compare exactly and the
+ * arithmetic never allocates. Conversion to and from the decimal form happens only at the JSON boundary.
+ */
+public final class MoneyUtil {
+
+    public static final int SCALE = 2;
+    public static final long MINOR_UNITS_PER_MAJOR = 100L;
+
+    private static final int MAX_EXPONENT = 30;
+
+    private MoneyUtil() {
+    }
+
+    /**
+     * Parses a decimal such as {@code "100.5"}, {@code "-3"} or {@code "1.25e2"} into minor units without rounding.
+     *
+     * @throws NumberFormatException if the text is not a decimal number
+     * @throws ArithmeticException   if it has more than {@value #SCALE} significant fraction digits or overflows
+     */
+    public static long parse(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            i++;
+        }
+
+        long units = 0;
+        int fractionDigits = -1;
+        boolean digits = false;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                units = Math.addExact(Math.multiplyExact(units, 10), c - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+                digits = true;
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if ((c == 'e' || c == 'E') && digits) {
+                break;
+            } else {
+                throw new NumberFormatException("Not a decimal amount: " + text);
+            }
+        }
+        if (!digits) {
+            throw new NumberFormatException("Not a decimal amount: " + text);
+        }
+
+        int exponent = i < length ? parseExponent(text, i + 1) : 0;
+        if (units == 0) {
+            return 0;
+        }
+        // value = units * 10^(exponent - fractionDigits); minor units = value * 10^SCALE
+        int shift = SCALE + exponent - Math.max(fractionDigits, 0);
+        for (; shift > 0; shift--) {
+            units = Math.multiplyExact(units, 10);
+        }
+        for (; shift < 0; shift++) {
+            if (units % 10 != 0) {
+                throw new ArithmeticException("More than " + SCALE + " decimal places: " + text);
+            }
+            units /= 10;
+        }
+        return negative ? -units : units;
+    }
+
+    /**
+     * Formats minor units as a plain decimal with exactly {@value #SCALE} fraction digits, e.g. {@code 10050 -> "100.50"}.
+     */
+    public static String format(long minorUnits) {
+        long whole = minorUnits / MINOR_UNITS_PER_MAJOR;
+        long fraction = Math.abs(minorUnits % MINOR_UNITS_PER_MAJOR);
+        StringBuilder builder = new StringBuilder(24);
+        if (minorUnits < 0 && whole == 0) {
+            builder.append('-');
+        }
+        builder.append(whole).append('.');
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction).toString();
+    }
+
+    private static int parseExponent(CharSequence text, int start) {
+        int length = text.length();
+        int i = start;
+        boolean negative = false;
+        if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        if (i == length) {
+            throw new NumberFormatException("Not a decimal amount: " + text);
+        }
+        int exponent = 0;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Not a decimal amount: " + text);
+            }
+            exponent = exponent * 10 + (c - '0');
+            if (exponent > MAX_EXPONENT) {
+                throw new ArithmeticException("Exponent out of range: " + text);
+            }
+        }
+        return negative ? -exponent : exponent;
+    }
+}
@@ -5,13 +5,25 @@ import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import org.springframework.stereotype.Component;
 import javax.crypto.Cipher;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 @Component
 public class SecureMaskUtil {
     
+    private static final String CIPHER_TRANSFORMATION = "AES";
+    private static final int CIPHER_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 4;
+    
     private final SecurityConfig securityConfig;
     
+    // Cipher is not thread-safe. Initialised instances are borrowed from a bounded pool rather than
+    // kept per thread: with virtual threads every request runs on a fresh thread, so a ThreadLocal
+    // would build a new cipher per request. The queue is lock-based, so waiting never pins a carrier.
+    private final BlockingQueue<Cipher> encryptCiphers = new ArrayBlockingQueue<>(CIPHER_POOL_SIZE);
+    private final BlockingQueue<Cipher> decryptCiphers = new ArrayBlockingQueue<>(CIPHER_POOL_SIZE);
+    
     public SecureMaskUtil(SecurityConfig securityConfig) {
         this.securityConfig = securityConfig;
         
@@ -20,32 +32,50 @@ public class SecureMaskUtil {
         }
     }
     
-    private String encrypt(String data) {
+    private Cipher initCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+            cipher.init(mode, securityConfig.secretKeySpec());
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(MessageKeys.ERROR_ENCRYPTION_FAILED.getKey(), e);
+        }
+    }
+    
+    private Cipher borrow(BlockingQueue<Cipher> pool, int mode) {
+        Cipher cipher = pool.poll();
+        return cipher != null ? cipher : initCipher(mode);
+    }
+    
+    String encrypt(String data) {
         if (StringUtil.isBlank(data)) {
             return null;
         }
+        Cipher cipher = borrow(encryptCiphers, Cipher.ENCRYPT_MODE);
+        byte[] encryptedBytes;
         try {
-            Cipher cipher = Cipher.getInstance("AES");
-            cipher.init(Cipher.ENCRYPT_MODE, securityConfig.secretKeySpec());
-            byte[] encryptedBytes = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(encryptedBytes);
+            encryptedBytes = cipher.doFinal(data.getBytes(StandardCharsets.UTF_8));
         } catch (Exception e) {
+            // A cipher that failed mid-operation is discarded instead of returned to the pool
             throw new RuntimeException(MessageKeys.ERROR_ENCRYPTION_FAILED.getKey(), e);
         }
+        encryptCiphers.offer(cipher);
+        return Base64.getEncoder().encodeToString(encryptedBytes);
     }
     
     private String decrypt(String encryptedData) {
         if (StringUtil.isBlank(encryptedData)) {
             return null;
         }
+        Cipher cipher = borrow(decryptCiphers, Cipher.DECRYPT_MODE);
+        byte[] decryptedBytes;
         try {
-            Cipher cipher = Cipher.getInstance("AES");
-            cipher.init(Cipher.DECRYPT_MODE, securityConfig.secretKeySpec());
-            byte[] decryptedBytes = cipher.doFinal(Base64.getDecoder().decode(encryptedData));
-            return new String(decryptedBytes, StandardCharsets.UTF_8);
+            decryptedBytes = cipher.doFinal(Base64.getDecoder().decode(encryptedData));
         } catch (Exception e) {
             throw new RuntimeException(MessageKeys.ERROR_DECRYPTION_FAILED.getKey(), e);
         }
+        decryptCiphers.offer(cipher);
+        return new String(decryptedBytes, StandardCharsets.UTF_8);
     }
     
     public String encryptAccount(String accountNumber) {
@@ -87,4 +117,26 @@ public class SecureMaskUtil {
     public String decryptPayee(String encryptedPayee) {
         return decrypt(encryptedPayee);
     }
-} 
\ No newline at end of file
+    
+    // Lazy variants for log arguments: nothing is encrypted unless the log statement is rendered
+    
+    public MaskedValue maskedAccount(String accountNumber) {
+        return new MaskedValue(this, accountNumber);
+    }
+    
+    public MaskedValue maskedPhone(String phone) {
+        return new MaskedValue(this, phone);
+    }
+    
+    public MaskedValue maskedApprovalCode(String approvalCode) {
+        return new MaskedValue(this, approvalCode);
+    }
+    
+    public MaskedValue maskedName(String name) {
+        return new MaskedValue(this, name);
+    }
+    
+    public MaskedValue maskedPayee(String payee) {
+        return new MaskedValue(this, payee);
+    }
+}
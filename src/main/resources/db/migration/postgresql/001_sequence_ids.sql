@@ -0,0 +1,19 @@
+-- Moves bank_accounts and transactions from IDENTITY columns to the sequences Hibernate
+-- now uses for id generation (GenerationType.SEQUENCE, allocation size 50, pooled-lo).
+--
+-- PostgreSQL only. ddl-auto=update creates missing sequences but never drops an identity
+-- column, so run this once against existing databases before deploying the new version.
+-- With pooled-lo the sequence value is the first id of a block of 50, so each sequence
+-- restarts at MAX(id) + 1 and no id already issued can be handed out again.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS bank_account_seq INCREMENT BY 50;
+SELECT setval('bank_account_seq', COALESCE((SELECT MAX(id) FROM bank_accounts), 0) + 1, false);
+ALTER TABLE bank_accounts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS transaction_seq INCREMENT BY 50;
+SELECT setval('transaction_seq', COALESCE((SELECT MAX(id) FROM transactions), 0) + 1, false);
+ALTER TABLE transactions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+COMMIT;
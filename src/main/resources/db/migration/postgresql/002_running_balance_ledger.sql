@@ -0,0 +1,57 @@
+-- Adds the running-balance ledger: every transaction row stores its per-account sequence number
+-- and the balance right after it, and balance_snapshots holds a checkpoint every N transactions.
+--
+-- PostgreSQL only, run once before deploying. Existing rows are numbered in (date, id) order and
+-- their balance_after is derived backwards from the current account balance, so the newest row
+-- always matches the account even if older history was seeded or edited by hand. Every account
+-- then gets a snapshot at its current position, which is where reconciliation starts replaying.
+
+BEGIN;
+
+ALTER TABLE bank_accounts ADD COLUMN IF NOT EXISTS ledger_sequence BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS sequence_number BIGINT;
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS balance_after DOUBLE PRECISION;
+
+WITH ledger AS (
+    SELECT t.id,
+           ROW_NUMBER() OVER (PARTITION BY t.account_id ORDER BY t.date, t.id) AS sequence_number,
+           a.balance - COALESCE(SUM(CASE WHEN t.transaction_type = 'DEPOSIT' THEN t.amount ELSE -t.amount END)
+                   OVER (PARTITION BY t.account_id ORDER BY t.date DESC, t.id DESC
+                         ROWS BETWEEN UNBOUNDED PRECEDING AND 1 PRECEDING), 0) AS balance_after
+    FROM transactions t
+    JOIN bank_accounts a ON a.id = t.account_id
+)
+UPDATE transactions t
+SET sequence_number = l.sequence_number,
+    balance_after = l.balance_after
+FROM ledger l
+WHERE t.id = l.id;
+
+UPDATE bank_accounts a
+SET ledger_sequence = (SELECT COUNT(*) FROM transactions t WHERE t.account_id = a.id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_transactions_account_sequence ON transactions (account_id, sequence_number);
+
+CREATE SEQUENCE IF NOT EXISTS balance_snapshot_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS balance_snapshots (
+    id BIGINT PRIMARY KEY,
+    account_id BIGINT NOT NULL REFERENCES bank_accounts (id),
+    sequence_number BIGINT NOT NULL,
+    balance DOUBLE PRECISION NOT NULL,
+    taken_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    version BIGINT
+);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_balance_snapshots_account_sequence ON balance_snapshots (account_id, sequence_number);
+CREATE INDEX IF NOT EXISTS idx_balance_snapshots_account_taken_at ON balance_snapshots (account_id, taken_at);
+
+-- nextval hands out the low end of a 50-id block under pooled-lo, so these ids never collide with Hibernate's
+INSERT INTO balance_snapshots (id, account_id, sequence_number, balance, taken_at, created_at, version)
+SELECT nextval('balance_snapshot_seq'), a.id, a.ledger_sequence, a.balance, COALESCE(a.updated_at, a.created_at), NOW(), 0
+FROM bank_accounts a
+WHERE a.ledger_sequence > 0 OR a.balance <> 0
+ON CONFLICT DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,12 @@
+-- Widens the history index so a point-in-time balance is answered from the index alone:
+-- the newest entry at or before a timestamp carries balance_after and sequence_number in its leaf.
+--
+-- PostgreSQL only, run once after 002. CONCURRENTLY keeps the table writable while the index builds,
+-- so this script must not run inside a transaction block.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_account_date_id_ledger
+    ON transactions (account_id, date, id, balance_after, sequence_number);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_transactions_account_date_id;
+
+ALTER INDEX idx_transactions_account_date_id_ledger RENAME TO idx_transactions_account_date_id;
@@ -0,0 +1,11 @@
+-- Stores approval codes as native uuid (16 bytes) instead of VARCHAR(255), which shrinks the
+-- unique approval_code index and lets new time-ordered (UUIDv7) codes append at its right edge.
+--
+-- PostgreSQL only, run once before deploying. Every existing code was produced by
+-- UUID.randomUUID(), so each one casts cleanly; the table is rewritten and locked while it runs.
+
+BEGIN;
+
+ALTER TABLE transactions ALTER COLUMN approval_code TYPE uuid USING approval_code::uuid;
+
+COMMIT;
@@ -0,0 +1,18 @@
+-- Stores money as BIGINT minor units (cents) instead of DOUBLE PRECISION, so balances add and
+-- compare exactly. The JSON API keeps its decimal amounts; only the storage unit changes.
+--
+-- PostgreSQL only, run once before deploying. Values are rounded to the nearest cent, which is
+-- exactly what the double columns were meant to hold; the tables are rewritten and locked while it runs.
+
+BEGIN;
+
+ALTER TABLE bank_accounts ALTER COLUMN balance DROP DEFAULT;
+ALTER TABLE bank_accounts ALTER COLUMN balance TYPE BIGINT USING ROUND(balance * 100)::BIGINT;
+ALTER TABLE bank_accounts ALTER COLUMN balance SET DEFAULT 0;
+
+ALTER TABLE transactions ALTER COLUMN amount TYPE BIGINT USING ROUND(amount * 100)::BIGINT;
+ALTER TABLE transactions ALTER COLUMN balance_after TYPE BIGINT USING ROUND(balance_after * 100)::BIGINT;
+
+ALTER TABLE balance_snapshots ALTER COLUMN balance TYPE BIGINT USING ROUND(balance * 100)::BIGINT;
+
+COMMIT;
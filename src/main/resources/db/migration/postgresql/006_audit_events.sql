@@ -0,0 +1,29 @@
+-- Adds the audit_events table written by AsyncAuditService. Rows are only ever inserted, in batches
+-- of up to app.audit.batch-size, after the transaction they describe has committed.
+--
+-- PostgreSQL only, run once before deploying. Amounts are minor units like the rest of the schema,
+-- and account_number and actor hold the same encrypted values that appear in the logs.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS audit_event_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS audit_events (
+    id BIGINT PRIMARY KEY,
+    request_id VARCHAR(64),
+    actor VARCHAR(255),
+    account_number VARCHAR(255) NOT NULL,
+    transaction_type VARCHAR(31) NOT NULL,
+    amount BIGINT NOT NULL,
+    balance_before BIGINT NOT NULL,
+    balance_after BIGINT NOT NULL,
+    approval_code UUID NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    version BIGINT
+);
+CREATE INDEX IF NOT EXISTS idx_audit_events_occurred_at ON audit_events (occurred_at);
+CREATE INDEX IF NOT EXISTS idx_audit_events_approval_code ON audit_events (approval_code);
+
+COMMIT;
@@ -0,0 +1,28 @@
+-- Adds the transactional outbox. A row is inserted in the same transaction as every posted
+-- transaction and deleted by OutboxRelay once the event has been published, so the table only
+-- holds the unpublished backlog and the relay's ORDER BY id LIMIT n scan stays on the primary key.
+--
+-- PostgreSQL only, run once before deploying.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS outbox_event_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT PRIMARY KEY,
+    account_number VARCHAR(255) NOT NULL,
+    transaction_type VARCHAR(31) NOT NULL,
+    amount BIGINT NOT NULL,
+    balance_after BIGINT NOT NULL,
+    sequence_number BIGINT NOT NULL,
+    approval_code UUID NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    version BIGINT
+);
+
+-- Rows are deleted as fast as they arrive; vacuum often so dead tuples do not pile up in front of the relay
+ALTER TABLE outbox_events SET (autovacuum_vacuum_scale_factor = 0.01, autovacuum_vacuum_threshold = 1000);
+
+COMMIT;
@@ -0,0 +1,26 @@
+-- Adds the idempotency_keys table behind the Idempotency-Key header. A row is inserted in the same
+-- transaction as the posting it describes; the unique index on idempotency_key makes a concurrent
+-- duplicate on another instance fail and roll its posting back. IdempotencyKeyPurgeJob deletes rows
+-- older than app.idempotency.retention through the created_at index.
+--
+-- PostgreSQL only, run once before deploying.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS idempotency_record_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id BIGINT PRIMARY KEY,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(31) NOT NULL,
+    approval_code UUID,
+    error_code VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    version BIGINT,
+    CONSTRAINT uk_idempotency_keys_key UNIQUE (idempotency_key)
+);
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_created_at ON idempotency_keys (created_at);
+
+COMMIT;
@@ -0,0 +1,7 @@
+-- Indexes bank_accounts.created_at for AccountNumberIndex, which rescans the accounts created in the
+-- last refresh window to add those opened through other instances to its in-memory filter.
+--
+-- PostgreSQL only, run once before deploying. CONCURRENTLY keeps the table writable while the index
+-- builds, so this file must not run inside a transaction block.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bank_accounts_created_at ON bank_accounts (created_at);
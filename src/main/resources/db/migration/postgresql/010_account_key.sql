@@ -0,0 +1,19 @@
+-- Adds bank_accounts.account_key, the account number as a BIGINT with a leading 1 so that leading
+-- zeros survive (0123456789 is stored as 10123456789). Id lookups go through its unique index
+-- instead of the VARCHAR one on account_number. Account numbers that are not digits only, or longer
+-- than 18 digits, keep a NULL key and are still found by account_number.
+--
+-- PostgreSQL only, run once before deploying with psql. The backfill runs in a transaction; the index
+-- is then built CONCURRENTLY, which must run outside one and keeps the table writable meanwhile.
+
+BEGIN;
+
+ALTER TABLE bank_accounts ADD COLUMN IF NOT EXISTS account_key BIGINT;
+
+UPDATE bank_accounts
+SET account_key = ('1' || account_number)::BIGINT
+WHERE account_key IS NULL AND account_number ~ '^[0-9]{1,18}$';
+
+COMMIT;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS idx_bank_accounts_account_key ON bank_accounts (account_key);
@@ -0,0 +1,11 @@
+-- Adds idempotency_keys.response_body, where a batch sent with an Idempotency-Key keeps each item's
+-- status, approval code and error code as JSON. Single postings leave it NULL and keep using the
+-- status, approval_code and error_code columns.
+--
+-- PostgreSQL only, run once before deploying.
+
+BEGIN;
+
+ALTER TABLE idempotency_keys ADD COLUMN IF NOT EXISTS response_body TEXT;
+
+COMMIT;
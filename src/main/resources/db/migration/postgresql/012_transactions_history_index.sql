@@ -0,0 +1,10 @@
+-- Creates idx_transactions_account_date_id for databases that never had it. Transaction history pages
+-- seek on its leading (account_id, date, id) columns, newest first, so a page reads the page size plus one index
+-- entries however long the history is. The trailing ledger columns match the entity and 003; where 003
+-- has run, the index exists and this is a no-op.
+--
+-- PostgreSQL only, run once before deploying. CONCURRENTLY keeps the table writable while the index
+-- builds, so this file must not run inside a transaction block.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_account_date_id
+    ON transactions (account_id, date, id, balance_after, sequence_number);
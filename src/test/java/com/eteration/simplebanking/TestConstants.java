@@ -1,5 +1,7 @@
 package com.eteration.simplebanking;
 
+import java.util.UUID;
+
 public final class TestConstants {
     
     public static final String TEST_ACCOUNT_NUMBER = "12345";
@@ -18,24 +20,24 @@ public final class TestConstants {
     public static final String TEST_PHONE_NUMBER = "5551234567";
     public static final String TEST_PHONE_NUMBER_2 = "5559876543";
     
-    public static final double INITIAL_BALANCE = 1000.0;
-    public static final double SMALL_BALANCE = 500.0;
-    public static final double ZERO_BALANCE = 0.0;
-    public static final double LARGE_BALANCE = 2000.0;
+    public static final long INITIAL_BALANCE = 1000_00L;
+    public static final long SMALL_BALANCE = 500_00L;
+    public static final long ZERO_BALANCE = 0L;
+    public static final long LARGE_BALANCE = 2000_00L;
     
-    public static final double SMALL_AMOUNT = 300.0;
-    public static final double MEDIUM_AMOUNT = 500.0;
-    public static final double LARGE_AMOUNT = 1500.0;
-    public static final double CREDIT_AMOUNT = 1000.0;
-    public static final double DEBIT_AMOUNT = 50.0;
-    public static final double INSUFFICIENT_AMOUNT = 5000.0;
+    public static final long SMALL_AMOUNT = 300_00L;
+    public static final long MEDIUM_AMOUNT = 500_00L;
+    public static final long LARGE_AMOUNT = 1500_00L;
+    public static final long CREDIT_AMOUNT = 1000_00L;
+    public static final long DEBIT_AMOUNT = 50_00L;
+    public static final long INSUFFICIENT_AMOUNT = 5000_00L;
     
     public static final String TEST_APPROVAL_CODE = "test-approval-code";
     public static final String CREDIT_APPROVAL_CODE = "credit-approval-code";
     public static final String DEBIT_APPROVAL_CODE = "debit-approval-code";
-    public static final String DEPOSIT_APPROVAL_CODE = "DEP-001";
-    public static final String WITHDRAWAL_APPROVAL_CODE = "WIT-001";
-    public static final String ZERO_APPROVAL_CODE = "ZERO-001";
+    public static final UUID DEPOSIT_APPROVAL_CODE = UUID.fromString("0190a1b2-c3d4-7000-8000-000000000001");
+    public static final UUID WITHDRAWAL_APPROVAL_CODE = UUID.fromString("0190a1b2-c3d4-7000-8000-000000000002");
+    public static final UUID ZERO_APPROVAL_CODE = UUID.fromString("0190a1b2-c3d4-7000-8000-000000000003");
     
     public static final String SUCCESS_STATUS = "OK";
     public static final String INSUFFICIENT_BALANCE_MESSAGE = "Insufficient balance";
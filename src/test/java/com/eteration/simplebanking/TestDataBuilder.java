@@ -23,7 +23,7 @@ public final class TestDataBuilder {
                 .build();
     }
     
-    public static BankAccount createTestAccountWithCustomData(String accountNumber, String owner, double balance) {
+    public static BankAccount createTestAccountWithCustomData(String accountNumber, String owner, long balance) {
         return BankAccount.builder()
                 .accountNumber(accountNumber)
                 .owner(owner)
@@ -55,14 +55,14 @@ public final class TestDataBuilder {
                 .build();
     }
     
-    public static DepositTransaction createDepositTransaction(double amount) {
+    public static DepositTransaction createDepositTransaction(long amount) {
         DepositTransaction transaction = new DepositTransaction();
         transaction.setAmount(amount);
         transaction.setApprovalCode(DEPOSIT_APPROVAL_CODE);
         return transaction;
     }
     
-    public static WithdrawalTransaction createWithdrawalTransaction(double amount) {
+    public static WithdrawalTransaction createWithdrawalTransaction(long amount) {
         WithdrawalTransaction transaction = new WithdrawalTransaction();
         transaction.setAmount(amount);
         transaction.setApprovalCode(WITHDRAWAL_APPROVAL_CODE);
@@ -88,7 +88,7 @@ public final class TestDataBuilder {
         return new CreateAccountRequest(TEST_OWNER_NAME_2, TEST_ACCOUNT_NUMBER_2);
     }
     
-    public static TransactionRequest createTransactionRequest(double amount) {
+    public static TransactionRequest createTransactionRequest(long amount) {
         return new TransactionRequest(amount);
     }
     
@@ -120,7 +120,7 @@ public final class TestDataBuilder {
         return new BankAccountResponse(TEST_ACCOUNT_NUMBER, TEST_OWNER_NAME, INITIAL_BALANCE, null, null);
     }
     
-    public static BankAccountResponse createBankAccountResponseWithCustomData(String accountNumber, String owner, double balance) {
+    public static BankAccountResponse createBankAccountResponseWithCustomData(String accountNumber, String owner, long balance) {
         return new BankAccountResponse(accountNumber, owner, balance, null, null);
     }
     
@@ -0,0 +1,155 @@
+package com.eteration.simplebanking.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Three in-memory H2 databases stand in for the primary and two replicas; each one names itself in a marker table.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replicaA;
+    private DataSource replicaB;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTemplate;
+    private TransactionTemplate readOnlyTemplate;
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE marker (name VARCHAR(16))");
+        template.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replicaA = database("replica_a");
+        replicaB = database("replica_b");
+        routing = new ReplicaRoutingDataSource(primary, List.of(replicaA, replicaB));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+    }
+
+    private String whoAnswers(TransactionTemplate template) {
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    @Test
+    void writesAndNonTransactionalWork_GoToPrimary() {
+        assertEquals("primary", whoAnswers(writeTemplate));
+        assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    @Test
+    void readOnlyTransactions_AreSpreadOverReplicas() {
+        List<String> answers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            answers.add(whoAnswers(readOnlyTemplate));
+        }
+
+        assertEquals(List.of("replica_a", "replica_b", "replica_a", "replica_b"), answers);
+    }
+
+    @Test
+    void failingReplica_IsSkippedUntilHealthCheckBringsItBack() {
+        FlakyDataSource flaky = new FlakyDataSource(replicaB);
+        routing = new ReplicaRoutingDataSource(primary, List.of(replicaA, flaky));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnlyTemplate.setReadOnly(true);
+        flaky.down = true;
+
+        assertEquals("replica_a", whoAnswers(readOnlyTemplate));
+        // Replica B refuses: this read falls back to the primary and B leaves the rotation
+        assertEquals("primary", whoAnswers(readOnlyTemplate));
+        assertEquals(1, routing.healthyReplicaCount());
+        assertEquals("replica_a", whoAnswers(readOnlyTemplate));
+        assertEquals("replica_a", whoAnswers(readOnlyTemplate));
+
+        routing.checkHealth(1);
+        assertEquals(1, routing.healthyReplicaCount());
+
+        flaky.down = false;
+        routing.checkHealth(1);
+        assertEquals(2, routing.healthyReplicaCount());
+    }
+
+    @Test
+    void explicitCredentials_FollowTheSameRouting() throws SQLException {
+        try (Connection connection = routing.getConnection("", "")) {
+            assertEquals("primary", nameOf(connection));
+        }
+        String replica = readOnlyTemplate.execute(status -> {
+            try (Connection connection = routing.getConnection("", "")) {
+                return nameOf(connection);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals("replica_a", replica);
+    }
+
+    private static String nameOf(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM marker")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    @Test
+    void noHealthyReplica_ReadsFromPrimary() {
+        routing = new ReplicaRoutingDataSource(primary, List.of());
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnlyTemplate.setReadOnly(true);
+
+        assertEquals("primary", whoAnswers(readOnlyTemplate));
+    }
+
+    private static final class FlakyDataSource extends org.springframework.jdbc.datasource.DelegatingDataSource {
+
+        private volatile boolean down;
+
+        private FlakyDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public java.sql.Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("replica unreachable");
+            }
+            return super.getConnection();
+        }
+    }
+}
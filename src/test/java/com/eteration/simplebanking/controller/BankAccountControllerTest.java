@@ -1,19 +1,28 @@
 package com.eteration.simplebanking.controller;
 
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import com.eteration.simplebanking.model.dto.response.AccountBalanceResponse;
 import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
+import com.eteration.simplebanking.model.dto.response.BatchItemResult;
+import com.eteration.simplebanking.model.dto.response.BatchTransactionResponse;
+import com.eteration.simplebanking.model.dto.request.BatchOperationRequest;
+import com.eteration.simplebanking.model.dto.request.BatchTransactionRequest;
+import com.eteration.simplebanking.domain.enums.TransactionType;
 import com.eteration.simplebanking.model.dto.request.CreateAccountRequest;
 import com.eteration.simplebanking.model.dto.request.TransactionRequest;
 import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
-import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ContextConfiguration;
 
@@ -21,7 +30,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.doThrow;
 
 import static com.eteration.simplebanking.TestConstants.*;
 import static com.eteration.simplebanking.TestDataBuilder.*;
@@ -40,9 +48,9 @@ class BankAccountControllerTest {
     @Test
     void givenId_Credit_thenReturnJson() {
         TransactionStatusResponse transactionResponse = createTransactionStatusResponse();
-        doReturn(transactionResponse).when(bankingFacadeService).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT);
-        ResponseEntity<TransactionStatusResponse> result = controller.credit(TEST_ACCOUNT_NUMBER_2, createCreditAmountRequest());
-        verify(bankingFacadeService, times(1)).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT);
+        doReturn(transactionResponse).when(bankingFacadeService).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT, null);
+        ResponseEntity<TransactionStatusResponse> result = controller.credit(TEST_ACCOUNT_NUMBER_2, createCreditAmountRequest(), null);
+        verify(bankingFacadeService, times(1)).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT, null);
         assertEquals(SUCCESS_STATUS, Objects.requireNonNull(result.getBody()).status());
     }
 
@@ -50,27 +58,31 @@ class BankAccountControllerTest {
     void givenId_CreditAndThenDebit_thenReturnJson() {
         TransactionStatusResponse creditResponse = createCreditTransactionResponse();
         TransactionStatusResponse debitResponse = createDebitTransactionResponse();
-        doReturn(creditResponse).when(bankingFacadeService).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT);
-        doReturn(debitResponse).when(bankingFacadeService).debit(TEST_ACCOUNT_NUMBER_2, DEBIT_AMOUNT);
-        ResponseEntity<TransactionStatusResponse> result = controller.credit(TEST_ACCOUNT_NUMBER_2, createCreditAmountRequest());
-        ResponseEntity<TransactionStatusResponse> result2 = controller.debit(TEST_ACCOUNT_NUMBER_2, createDebitAmountRequest());
-        verify(bankingFacadeService, times(1)).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT);
-        verify(bankingFacadeService, times(1)).debit(TEST_ACCOUNT_NUMBER_2, DEBIT_AMOUNT);
+        doReturn(creditResponse).when(bankingFacadeService).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT, null);
+        doReturn(debitResponse).when(bankingFacadeService).debit(TEST_ACCOUNT_NUMBER_2, DEBIT_AMOUNT, null);
+        ResponseEntity<TransactionStatusResponse> result = controller.credit(TEST_ACCOUNT_NUMBER_2, createCreditAmountRequest(), null);
+        ResponseEntity<TransactionStatusResponse> result2 = controller.debit(TEST_ACCOUNT_NUMBER_2, createDebitAmountRequest(), null);
+        verify(bankingFacadeService, times(1)).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT, null);
+        verify(bankingFacadeService, times(1)).debit(TEST_ACCOUNT_NUMBER_2, DEBIT_AMOUNT, null);
         assertEquals(SUCCESS_STATUS, Objects.requireNonNull(result.getBody()).status());
         assertEquals(SUCCESS_STATUS, Objects.requireNonNull(result2.getBody()).status());
     }
 
     @Test
-    void givenId_CreditAndThenDebitMoreGetException_thenReturnJson() {
+    void givenId_CreditAndThenDebitMoreGetDecline_thenReturnUnprocessableEntity() {
         TransactionStatusResponse creditResponse = createCreditTransactionResponse();
-        doReturn(creditResponse).when(bankingFacadeService).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT);
-        doThrow(new RuntimeException(INSUFFICIENT_BALANCE_MESSAGE)).when(bankingFacadeService).debit(TEST_ACCOUNT_NUMBER_2, INSUFFICIENT_AMOUNT);
-        ResponseEntity<TransactionStatusResponse> result = controller.credit(TEST_ACCOUNT_NUMBER_2, createCreditAmountRequest());
+        TransactionStatusResponse declined = TransactionStatusResponse.declined(MessageKeys.ERROR_INSUFFICIENT_BALANCE)
+                .withMessage(INSUFFICIENT_BALANCE_MESSAGE);
+        doReturn(creditResponse).when(bankingFacadeService).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT, null);
+        doReturn(declined).when(bankingFacadeService).debit(TEST_ACCOUNT_NUMBER_2, INSUFFICIENT_AMOUNT, null);
+        ResponseEntity<TransactionStatusResponse> result = controller.credit(TEST_ACCOUNT_NUMBER_2, createCreditAmountRequest(), null);
         assertEquals(SUCCESS_STATUS, Objects.requireNonNull(result.getBody()).status());
-        verify(bankingFacadeService, times(1)).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT);
-        Assertions.assertThrows(RuntimeException.class, () -> {
-            controller.debit(TEST_ACCOUNT_NUMBER_2, createInsufficientAmountRequest());
-        });
+        verify(bankingFacadeService, times(1)).credit(TEST_ACCOUNT_NUMBER_2, CREDIT_AMOUNT, null);
+
+        ResponseEntity<TransactionStatusResponse> debit = controller.debit(TEST_ACCOUNT_NUMBER_2, createInsufficientAmountRequest(), null);
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, debit.getStatusCode());
+        assertEquals(MessageKeys.ERROR_INSUFFICIENT_BALANCE.getKey(), Objects.requireNonNull(debit.getBody()).errorCode());
+        assertEquals(INSUFFICIENT_BALANCE_MESSAGE, debit.getBody().message());
     }
 
     @Test
@@ -81,4 +93,30 @@ class BankAccountControllerTest {
         verify(bankingFacadeService, times(1)).createBankAccount(TEST_OWNER_NAME_2, TEST_ACCOUNT_NUMBER_2);
         assertEquals(accountResponse, result.getBody());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void givenBatch_PostBatch_thenReturnPerItemResults() {
+        List<BatchOperationRequest> operations = List.of(
+                new BatchOperationRequest(TEST_ACCOUNT_NUMBER_2, TransactionType.DEPOSIT, CREDIT_AMOUNT, null, null, null),
+                new BatchOperationRequest(TEST_ACCOUNT_NUMBER_2, TransactionType.WITHDRAWAL, DEBIT_AMOUNT, null, null, null));
+        BatchTransactionResponse batchResponse = new BatchTransactionResponse(2, 2, 0, List.of(
+                new BatchItemResult(0, TEST_ACCOUNT_NUMBER_2, TransactionType.DEPOSIT, SUCCESS_STATUS, "approval-1", null, null),
+                new BatchItemResult(1, TEST_ACCOUNT_NUMBER_2, TransactionType.WITHDRAWAL, SUCCESS_STATUS, "approval-2", null, null)));
+        doReturn(batchResponse).when(bankingFacadeService).postBatch(operations, null);
+        ResponseEntity<BatchTransactionResponse> result = controller.postBatch(new BatchTransactionRequest(operations), null);
+        verify(bankingFacadeService, times(1)).postBatch(operations, null);
+        assertEquals(2, Objects.requireNonNull(result.getBody()).succeeded());
+        assertEquals(batchResponse, result.getBody());
+    }
+
+    @Test
+    void givenTimestamp_GetBalanceAt_thenReturnJson() {
+        LocalDateTime at = LocalDateTime.of(2024, 6, 30, 23, 59, 59);
+        AccountBalanceResponse balance = new AccountBalanceResponse(TEST_ACCOUNT_NUMBER_2, at, 1250_00L, 42L, at.minusHours(1));
+        doReturn(balance).when(bankingFacadeService).getBalanceAt(TEST_ACCOUNT_NUMBER_2, at);
+        ResponseEntity<AccountBalanceResponse> result = controller.getBalanceAt(TEST_ACCOUNT_NUMBER_2, at);
+        verify(bankingFacadeService, times(1)).getBalanceAt(TEST_ACCOUNT_NUMBER_2, at);
+        assertEquals(1250_00L, Objects.requireNonNull(result.getBody()).balance());
+        assertEquals(42L, result.getBody().ledgerSequence());
+    }
+}
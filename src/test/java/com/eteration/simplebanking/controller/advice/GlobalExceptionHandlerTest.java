@@ -1,38 +1,31 @@
 package com.eteration.simplebanking.controller.advice;
 
 import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.IdempotencyKeyReusedException;
 import com.eteration.simplebanking.exception.InsufficientBalanceException;
 import com.eteration.simplebanking.exception.InvalidTransactionException;
+import com.eteration.simplebanking.exception.TransactionValidationException;
 import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import com.eteration.simplebanking.model.dto.response.ErrorResponse;
+import com.eteration.simplebanking.util.MessageCatalog;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
 class GlobalExceptionHandlerTest {
 
-    @Mock
-    private MessageSource messageSource;
-
-    @InjectMocks
     private GlobalExceptionHandler exceptionHandler;
 
     private WebRequest webRequest;
@@ -42,22 +35,31 @@ class GlobalExceptionHandlerTest {
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setRequestURI("/test-endpoint");
         webRequest = new ServletWebRequest(request);
-        
-        LocaleContextHolder.setLocale(Locale.getDefault());
+
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setFallbackToSystemLocale(false);
+        exceptionHandler = new GlobalExceptionHandler(new MessageCatalog(messageSource));
+
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
     }
 
     @Test
     void handleInsufficientBalanceException_Success() {
         InsufficientBalanceException exception = new InsufficientBalanceException("Insufficient balance");
-        when(messageSource.getMessage(eq(MessageKeys.ERROR_TITLE_INSUFFICIENT_BALANCE.getKey()), any(), any())).thenReturn("Insufficient Balance");
-        when(messageSource.getMessage(eq(MessageKeys.ERROR_INSUFFICIENT_BALANCE.getKey()), any(), any())).thenReturn("Insufficient balance for this transaction");
 
         ResponseEntity<ErrorResponse> response = exceptionHandler.handleInsufficientBalanceException(exception, webRequest);
 
         assertNotNull(response);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(400, response.getBody().getStatus());
+        assertEquals(422, response.getBody().getStatus());
         assertEquals("Insufficient Balance", response.getBody().getError());
         assertEquals("Insufficient balance for this transaction", response.getBody().getMessage());
         assertEquals("uri=/test-endpoint", response.getBody().getPath());
@@ -66,8 +68,6 @@ class GlobalExceptionHandlerTest {
     @Test
     void handleAccountNotFoundException_Success() {
         AccountNotFoundException exception = new AccountNotFoundException("Account not found: 12345");
-        when(messageSource.getMessage(eq(MessageKeys.ERROR_TITLE_ACCOUNT_NOT_FOUND.getKey()), any(), any())).thenReturn("Account Not Found");
-        when(messageSource.getMessage(eq(MessageKeys.ERROR_ACCOUNT_NOT_FOUND.getKey()), any(), any())).thenReturn("Account not found with account number: Account not found: 12345");
 
         ResponseEntity<ErrorResponse> response = exceptionHandler.handleAccountNotFoundException(exception, webRequest);
 
@@ -83,8 +83,6 @@ class GlobalExceptionHandlerTest {
     @Test
     void handleInvalidTransactionException_Success() {
         InvalidTransactionException exception = new InvalidTransactionException("Invalid transaction type");
-        when(messageSource.getMessage(eq(MessageKeys.ERROR_TITLE_INVALID_TRANSACTION.getKey()), any(), any())).thenReturn("Invalid Transaction");
-        when(messageSource.getMessage(eq(MessageKeys.ERROR_INVALID_TRANSACTION.getKey()), any(), any())).thenReturn("Invalid transaction: Invalid transaction type");
 
         ResponseEntity<ErrorResponse> response = exceptionHandler.handleInvalidTransactionException(exception, webRequest);
 
@@ -112,10 +110,21 @@ class GlobalExceptionHandlerTest {
         assertEquals("uri=/test-endpoint", response.getBody().getPath());
     }
 
+    @Test
+    void handleInvalidRequestParameter_MissingParameter() {
+        MissingServletRequestParameterException exception = new MissingServletRequestParameterException("at", "LocalDateTime");
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleInvalidRequestParameter(exception, webRequest);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Validation Error", response.getBody().getError());
+        assertEquals("Request parameter 'at' is missing or invalid", response.getBody().getMessage());
+    }
+
     @Test
     void handleGenericException_Success() {
         Exception exception = new Exception("Unexpected error occurred");
-        when(messageSource.getMessage(eq(MessageKeys.ERROR_TITLE_INTERNAL_SERVER_ERROR.getKey()), any(), any())).thenReturn("Internal Server Error");
 
         ResponseEntity<ErrorResponse> response = exceptionHandler.handleGenericException(exception, webRequest);
 
@@ -131,32 +140,72 @@ class GlobalExceptionHandlerTest {
     @Test
     void handleInsufficientBalanceException_NullMessage() {
         InsufficientBalanceException exception = new InsufficientBalanceException();
-        when(messageSource.getMessage(eq(MessageKeys.ERROR_TITLE_INSUFFICIENT_BALANCE.getKey()), any(), any())).thenReturn(null);
-        when(messageSource.getMessage(eq(MessageKeys.ERROR_INSUFFICIENT_BALANCE.getKey()), any(), any())).thenReturn(null);
 
         ResponseEntity<ErrorResponse> response = exceptionHandler.handleInsufficientBalanceException(exception, webRequest);
 
         assertNotNull(response);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(400, response.getBody().getStatus());
-        assertNull(response.getBody().getError());
-        assertNull(response.getBody().getMessage());
+        assertEquals(422, response.getBody().getStatus());
+        assertEquals("Insufficient Balance", response.getBody().getError());
+        assertEquals("Insufficient balance for this transaction", response.getBody().getMessage());
     }
 
     @Test
-    void handleAccountNotFoundException_NullMessage() {
-        AccountNotFoundException exception = new AccountNotFoundException();
-        when(messageSource.getMessage(eq(MessageKeys.ERROR_TITLE_ACCOUNT_NOT_FOUND.getKey()), any(), any())).thenReturn(null);
-        when(messageSource.getMessage(eq(MessageKeys.ERROR_ACCOUNT_NOT_FOUND.getKey()), any(), any())).thenReturn(null);
+    void handleAccountNotFoundException_WithMessageKey() {
+        AccountNotFoundException exception = new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, "669-7788");
 
         ResponseEntity<ErrorResponse> response = exceptionHandler.handleAccountNotFoundException(exception, webRequest);
 
-        assertNotNull(response);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(404, response.getBody().getStatus());
-        assertNull(response.getBody().getError());
-        assertNull(response.getBody().getMessage());
+        assertEquals("Account Not Found", response.getBody().getError());
+        assertEquals("Account not found with account number: 669-7788", response.getBody().getMessage());
+    }
+
+    @Test
+    void handleTransactionValidationException_MapsKnownMessage() {
+        TransactionValidationException exception = new TransactionValidationException("Transaction date cannot be null");
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleTransactionValidationException(exception, webRequest);
+
+        assertNotNull(response.getBody());
+        assertEquals("Validation Error", response.getBody().getError());
+        assertEquals("Transaction date cannot be null", response.getBody().getMessage());
+    }
+
+    @Test
+    void handleIdempotencyKeyReusedException_Returns422() {
+        IdempotencyKeyReusedException exception = new IdempotencyKeyReusedException(MessageKeys.ERROR_IDEMPOTENCY_KEY_REUSED);
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleIdempotencyKeyReusedException(exception, webRequest);
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("Idempotency Key Reused", response.getBody().getError());
+        assertEquals("This Idempotency-Key was already used for a different request", response.getBody().getMessage());
+    }
+
+    @Test
+    void handleInsufficientBalanceException_TurkishLocale() {
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("tr-TR"));
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInsufficientBalanceException(new InsufficientBalanceException(), webRequest);
+
+        assertNotNull(response.getBody());
+        assertEquals("Yetersiz Bakiye", response.getBody().getError());
+        assertEquals("Bu işlem için yetersiz bakiye", response.getBody().getMessage());
+    }
+
+    @Test
+    void handleInsufficientBalanceException_UnsupportedLocaleFallsBackToEnglish() {
+        LocaleContextHolder.setLocale(Locale.GERMAN);
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInsufficientBalanceException(new InsufficientBalanceException(), webRequest);
+
+        assertNotNull(response.getBody());
+        assertEquals("Insufficient Balance", response.getBody().getError());
     }
-} 
\ No newline at end of file
+}
@@ -6,7 +6,9 @@ import com.eteration.simplebanking.domain.entity.transaction.Transaction;
 import com.eteration.simplebanking.domain.entity.transaction.PhoneBillPaymentTransaction;
 import com.eteration.simplebanking.domain.entity.transaction.CheckTransaction;
 import com.eteration.simplebanking.domain.enums.PhoneCompany;
+import com.eteration.simplebanking.domain.enums.PostingOutcome;
 import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -43,7 +46,7 @@ class BankAccountTest {
         assertNotNull(bankAccount);
         assertEquals(TEST_OWNER_NAME, bankAccount.getOwner());
         assertEquals(TEST_ACCOUNT_NUMBER, bankAccount.getAccountNumber());
-        assertEquals(INITIAL_BALANCE, bankAccount.getBalance(), 0.001);
+        assertEquals(INITIAL_BALANCE, bankAccount.getBalance());
         assertNotNull(bankAccount.getTransactions());
         assertTrue(bankAccount.getTransactions().isEmpty());
     }
@@ -54,14 +57,14 @@ class BankAccountTest {
 
         assertEquals(TEST_OWNER_NAME_4, account.getOwner());
         assertEquals(TEST_ACCOUNT_NUMBER_4, account.getAccountNumber());
-        assertEquals(SMALL_BALANCE, account.getBalance(), 0.001);
+        assertEquals(SMALL_BALANCE, account.getBalance());
     }
 
     @Test
     void testBankAccountSettersAndGetters() {
         String newOwner = TEST_OWNER_NAME_3;
         String newAccountNumber = TEST_ACCOUNT_NUMBER_3;
-        double newBalance = LARGE_BALANCE;
+        long newBalance = LARGE_BALANCE;
         List<Transaction> transactions = new ArrayList<>();
 
         bankAccount.setOwner(newOwner);
@@ -71,84 +74,122 @@ class BankAccountTest {
 
         assertEquals(newOwner, bankAccount.getOwner());
         assertEquals(newAccountNumber, bankAccount.getAccountNumber());
-        assertEquals(newBalance, bankAccount.getBalance(), 0.001);
+        assertEquals(newBalance, bankAccount.getBalance());
         assertEquals(transactions, bankAccount.getTransactions());
     }
 
     @Test
     void testCreditTransaction() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double creditAmount = MEDIUM_AMOUNT;
+        long initialBalance = bankAccount.getBalance();
+        long creditAmount = MEDIUM_AMOUNT;
 
         bankAccount.credit(creditAmount);
 
-        assertEquals(initialBalance + creditAmount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance + creditAmount, bankAccount.getBalance());
         assertEquals(1, bankAccount.getTransactions().size());
         
         Transaction transaction = bankAccount.getTransactions().get(0);
         assertInstanceOf(DepositTransaction.class, transaction);
-        assertEquals(creditAmount, transaction.getAmount(), 0.001);
+        assertEquals(creditAmount, transaction.getAmount());
         assertEquals(bankAccount, transaction.getAccount());
     }
 
     @Test
     void testDebitTransaction() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double debitAmount = SMALL_AMOUNT;
+        long initialBalance = bankAccount.getBalance();
+        long debitAmount = SMALL_AMOUNT;
 
         bankAccount.debit(debitAmount);
 
-        assertEquals(initialBalance - debitAmount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance - debitAmount, bankAccount.getBalance());
         assertEquals(1, bankAccount.getTransactions().size());
         
         Transaction transaction = bankAccount.getTransactions().get(0);
         assertInstanceOf(WithdrawalTransaction.class, transaction);
-        assertEquals(debitAmount, transaction.getAmount(), 0.001);
+        assertEquals(debitAmount, transaction.getAmount());
         assertEquals(bankAccount, transaction.getAccount());
     }
 
     @Test
     void testDebitTransactionWithInsufficientBalance() {
-        double debitAmount = LARGE_AMOUNT;
+        long debitAmount = LARGE_AMOUNT;
 
         assertThrows(InsufficientBalanceException.class, () -> {
             bankAccount.debit(debitAmount);
         });
         
-        assertEquals(INITIAL_BALANCE, bankAccount.getBalance(), 0.001);
+        assertEquals(INITIAL_BALANCE, bankAccount.getBalance());
         assertTrue(bankAccount.getTransactions().isEmpty());
     }
 
+    @Test
+    void testPostStampsLedgerSequenceAndBalanceAfter() throws InsufficientBalanceException {
+        bankAccount.credit(MEDIUM_AMOUNT);
+        bankAccount.debit(SMALL_AMOUNT);
+
+        assertThrows(InsufficientBalanceException.class, () -> bankAccount.debit(LARGE_AMOUNT * 10));
+
+        assertEquals(2L, bankAccount.getLedgerSequence());
+        Transaction credit = bankAccount.getTransactions().get(0);
+        Transaction debit = bankAccount.getTransactions().get(1);
+        assertEquals(1L, credit.getSequenceNumber());
+        assertEquals(INITIAL_BALANCE + MEDIUM_AMOUNT, credit.getBalanceAfter());
+        assertEquals(2L, debit.getSequenceNumber());
+        assertEquals(bankAccount.getBalance(), debit.getBalanceAfter());
+    }
+
+    @Test
+    void testTryPostReturnsDeclineWithoutThrowing() {
+        PhoneBillPaymentTransaction phoneBill = new PhoneBillPaymentTransaction(PhoneCompany.COMPANY_A, "5551234567", LARGE_AMOUNT * 10);
+
+        assertEquals(PostingOutcome.INSUFFICIENT_BALANCE, bankAccount.tryPost(phoneBill));
+
+        assertEquals(INITIAL_BALANCE, bankAccount.getBalance());
+        assertEquals(0L, bankAccount.getLedgerSequence());
+        assertTrue(bankAccount.getTransactions().isEmpty());
+        assertNull(phoneBill.getSequenceNumber());
+    }
+
+    @Test
+    void testPostDeclineCarriesTransactionMessageKeyWithoutStackTrace() {
+        CheckTransaction check = new CheckTransaction("Payee", LARGE_AMOUNT * 10);
+
+        InsufficientBalanceException exception = assertThrows(InsufficientBalanceException.class, () -> bankAccount.post(check));
+
+        assertEquals(MessageKeys.INSUFFICIENT_BALANCE_FOR_CHECK_PAYMENT, exception.getMessageKey());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
     @Test
     void testPayPhoneBill() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double amount = 100.0;
+        long initialBalance = bankAccount.getBalance();
+        long amount = 100_00L;
         PhoneCompany phoneCompany = PhoneCompany.COMPANY_A;
         String phoneNumber = "5551234567";
 
         bankAccount.payPhoneBill(phoneCompany, phoneNumber, amount);
 
-        assertEquals(initialBalance - amount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance - amount, bankAccount.getBalance());
         assertEquals(1, bankAccount.getTransactions().size());
         
         Transaction transaction = bankAccount.getTransactions().get(0);
-        assertEquals(amount, transaction.getAmount(), 0.001);
+        assertEquals(amount, transaction.getAmount());
         assertEquals(bankAccount, transaction.getAccount());
     }
 
     @Test
     void testPayCheck() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double amount = 200.0;
+        long initialBalance = bankAccount.getBalance();
+        long amount = 200_00L;
         String payee = "Test Payee";
 
         bankAccount.payCheck(payee, amount);
 
-        assertEquals(initialBalance - amount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance - amount, bankAccount.getBalance());
         assertEquals(1, bankAccount.getTransactions().size());
         
         Transaction transaction = bankAccount.getTransactions().get(0);
-        assertEquals(amount, transaction.getAmount(), 0.001);
+        assertEquals(amount, transaction.getAmount());
         assertEquals(bankAccount, transaction.getAccount());
     }
 
@@ -166,13 +207,13 @@ class BankAccountTest {
 
     @Test
     void testMultipleTransactions() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
+        long initialBalance = bankAccount.getBalance();
 
         bankAccount.credit(MEDIUM_AMOUNT);
-        bankAccount.debit(200.0);
+        bankAccount.debit(200_00L);
         bankAccount.credit(SMALL_AMOUNT);
 
-        assertEquals(initialBalance + MEDIUM_AMOUNT - 200.0 + SMALL_AMOUNT, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance + MEDIUM_AMOUNT - 200_00L + SMALL_AMOUNT, bankAccount.getBalance());
         assertEquals(3, bankAccount.getTransactions().size());
     }
 
@@ -201,24 +242,24 @@ class BankAccountTest {
 
     @Test
     void testZeroAmountTransactions() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
+        long initialBalance = bankAccount.getBalance();
 
         bankAccount.credit(ZERO_BALANCE);
         bankAccount.debit(ZERO_BALANCE);
 
-        assertEquals(initialBalance, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance, bankAccount.getBalance());
         assertEquals(2, bankAccount.getTransactions().size());
     }
 
     @Test
     void testNegativeBalanceNotAllowed() {
-        bankAccount.setBalance(100.0);
+        bankAccount.setBalance(100_00L);
 
         assertThrows(InsufficientBalanceException.class, () -> {
-            bankAccount.debit(200.0);
+            bankAccount.debit(200_00L);
         });
         
-        assertEquals(100.0, bankAccount.getBalance(), 0.001);
+        assertEquals(100_00L, bankAccount.getBalance());
     }
 
     @Test
@@ -226,15 +267,15 @@ class BankAccountTest {
         BankAccount account = createTestAccountWithZeroBalance();
         assertEquals(TEST_OWNER_NAME_2, account.getOwner());
         assertEquals(TEST_ACCOUNT_NUMBER_2, account.getAccountNumber());
-        assertEquals(ZERO_BALANCE, account.getBalance(), 0.001);
+        assertEquals(ZERO_BALANCE, account.getBalance());
     }
 
     @Test
     void testDepositIntoBankAccount() {
         BankAccount account = createTestAccountWithCustomData("9834", "Demet Demircan", ZERO_BALANCE);
         try {
-            account.credit(100);
-            assertEquals(100.0, account.getBalance(), 0.001);
+            account.credit(100_00L);
+            assertEquals(100_00L, account.getBalance());
         } catch (InsufficientBalanceException e) {
             Assertions.fail("Credit should not throw InsufficientBalanceException");
         }
@@ -243,18 +284,18 @@ class BankAccountTest {
     @Test
     void testWithdrawFromBankAccount() throws InsufficientBalanceException {
         BankAccount account = createTestAccountWithCustomData("9834", "Demet Demircan", ZERO_BALANCE);
-        account.credit(100);
-        assertEquals(100.0, account.getBalance(), 0.001);
-        account.debit(50);
-        assertEquals(50.0, account.getBalance(), 0.001);
+        account.credit(100_00L);
+        assertEquals(100_00L, account.getBalance());
+        account.debit(50_00L);
+        assertEquals(50_00L, account.getBalance());
     }
 
     @Test
     void testWithdrawException() {
         Assertions.assertThrows(InsufficientBalanceException.class, () -> {
             BankAccount account = createTestAccountWithCustomData("9834", "Demet Demircan", ZERO_BALANCE);
-            account.credit(100);
-            account.debit(500);
+            account.credit(100_00L);
+            account.debit(500_00L);
         });
     }
     
@@ -263,10 +304,10 @@ class BankAccountTest {
         BankAccount account = createTestAccountWithCustomData("1234", "Canan Kaya", ZERO_BALANCE);
         assertEquals(0, account.getTransactions().size());
 
-        DepositTransaction depositTrx = createDepositTransaction(100);
+        DepositTransaction depositTrx = createDepositTransaction(100_00L);
         account.post(depositTrx);
 
-        WithdrawalTransaction withdrawalTrx = createWithdrawalTransaction(60);
+        WithdrawalTransaction withdrawalTrx = createWithdrawalTransaction(60_00L);
         account.post(withdrawalTrx);
     }
 
@@ -274,12 +315,12 @@ class BankAccountTest {
     void testPhoneBillPaymentTransaction() throws InsufficientBalanceException {
         BankAccount account = createTestAccountWithCustomData("1234", "Test User", ZERO_BALANCE);
         
-        account.credit(100);
-        assertEquals(100, account.getBalance(), 0.001);
+        account.credit(100_00L);
+        assertEquals(100_00L, account.getBalance());
         
-        PhoneBillPaymentTransaction phoneBill = new PhoneBillPaymentTransaction(PhoneCompany.COMPANY_A, "5423345566", 96.50);
+        PhoneBillPaymentTransaction phoneBill = new PhoneBillPaymentTransaction(PhoneCompany.COMPANY_A, "5423345566", 96_50L);
         account.post(phoneBill);
-        assertEquals(3.50, account.getBalance(), 0.001);
+        assertEquals(3_50L, account.getBalance());
         assertEquals(2, account.getTransactions().size());
     }
 
@@ -287,12 +328,12 @@ class BankAccountTest {
     void testCheckTransaction() throws InsufficientBalanceException {
         BankAccount account = createTestAccountWithCustomData("1234", "Test User", ZERO_BALANCE);
         
-        account.credit(100);
-        assertEquals(100, account.getBalance(), 0.001);
+        account.credit(100_00L);
+        assertEquals(100_00L, account.getBalance());
         
-        CheckTransaction check = new CheckTransaction("Test Payee", 50.0);
+        CheckTransaction check = new CheckTransaction("Test Payee", 50_00L);
         account.post(check);
-        assertEquals(50, account.getBalance(), 0.001);
+        assertEquals(50_00L, account.getBalance());
         assertEquals(2, account.getTransactions().size());
         assertNotNull(check.getCheckNumber());
         assertFalse(check.getCheckNumber().isEmpty());
@@ -302,15 +343,15 @@ class BankAccountTest {
     void testComplexTransactionScenario() throws InsufficientBalanceException {
         BankAccount account = createTestAccountWithCustomData("12345", "Jim", ZERO_BALANCE);
         
-        DepositTransaction deposit = createDepositTransaction(1000);
+        DepositTransaction deposit = createDepositTransaction(1000_00L);
         account.post(deposit);
         
-        WithdrawalTransaction withdrawal = createWithdrawalTransaction(200);
+        WithdrawalTransaction withdrawal = createWithdrawalTransaction(200_00L);
         account.post(withdrawal);
         
-        account.post(new PhoneBillPaymentTransaction(PhoneCompany.COMPANY_A, "5423345566", 96.50));
+        account.post(new PhoneBillPaymentTransaction(PhoneCompany.COMPANY_A, "5423345566", 96_50L));
         
-        assertEquals(703.50, account.getBalance(), 0.0001);
+        assertEquals(703_50L, account.getBalance());
         assertEquals(3, account.getTransactions().size());
     }
 } 
\ No newline at end of file
@@ -1,7 +1,6 @@
 package com.eteration.simplebanking.domain.entity.transaction;
 
 import com.eteration.simplebanking.domain.entity.BankAccount;
-import com.eteration.simplebanking.exception.InsufficientBalanceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,64 +23,64 @@ class DepositTransactionTest {
         bankAccount = BankAccount.builder()
                 .owner("Test Owner")
                 .accountNumber("12345")
-                .balance(1000.0)
+                .balance(1000_00L)
                 .build();
     }
 
     @Test
     void testDepositTransactionCreation() {
         assertNotNull(depositTransaction);
-        assertEquals(0.0, depositTransaction.getAmount(), 0.001);
+        assertEquals(0L, depositTransaction.getAmount());
         assertNull(depositTransaction.getDate());
         assertNull(depositTransaction.getAccount());
         assertNull(depositTransaction.getApprovalCode());
     }
 
     @Test
-    void testDepositTransactionExecute() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double depositAmount = 500.0;
+    void testDepositTransactionExecute() {
+        long initialBalance = bankAccount.getBalance();
+        long depositAmount = 500_00L;
         depositTransaction.setAmount(depositAmount);
 
         depositTransaction.execute(bankAccount);
 
-        assertEquals(initialBalance + depositAmount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance + depositAmount, bankAccount.getBalance());
     }
 
     @Test
-    void testDepositTransactionExecuteWithZeroAmount() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double depositAmount = 0.0;
+    void testDepositTransactionExecuteWithZeroAmount() {
+        long initialBalance = bankAccount.getBalance();
+        long depositAmount = 0L;
         depositTransaction.setAmount(depositAmount);
 
         depositTransaction.execute(bankAccount);
 
-        assertEquals(initialBalance, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance, bankAccount.getBalance());
     }
 
     @Test
-    void testDepositTransactionExecuteWithLargeAmount() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double depositAmount = 10000.0;
+    void testDepositTransactionExecuteWithLargeAmount() {
+        long initialBalance = bankAccount.getBalance();
+        long depositAmount = 10000_00L;
         depositTransaction.setAmount(depositAmount);
 
         depositTransaction.execute(bankAccount);
 
-        assertEquals(initialBalance + depositAmount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance + depositAmount, bankAccount.getBalance());
     }
 
     @Test
     void testDepositTransactionSettersAndGetters() {
-        double amount = 500.0;
+        long amount = 500_00L;
         LocalDateTime date = LocalDateTime.now();
-        String approvalCode = UUID.randomUUID().toString();
+        UUID approvalCode = UUID.randomUUID();
 
         depositTransaction.setAmount(amount);
         depositTransaction.setDate(date);
         depositTransaction.setAccount(bankAccount);
         depositTransaction.setApprovalCode(approvalCode);
 
-        assertEquals(amount, depositTransaction.getAmount(), 0.001);
+        assertEquals(amount, depositTransaction.getAmount());
         assertEquals(date, depositTransaction.getDate());
         assertEquals(bankAccount, depositTransaction.getAccount());
         assertEquals(approvalCode, depositTransaction.getApprovalCode());
@@ -107,7 +106,7 @@ class DepositTransactionTest {
     @Test
     void testDepositTransactionToString() {
         depositTransaction.setId(1L);
-        depositTransaction.setAmount(500.0);
+        depositTransaction.setAmount(500_00L);
         depositTransaction.setDate(LocalDateTime.now());
 
         String toString = depositTransaction.toString();
@@ -117,21 +116,21 @@ class DepositTransactionTest {
     }
 
     @Test
-    void testDepositTransactionWithNegativeAmount() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double depositAmount = -100.0;
+    void testDepositTransactionWithNegativeAmount() {
+        long initialBalance = bankAccount.getBalance();
+        long depositAmount = -100_00L;
         depositTransaction.setAmount(depositAmount);
 
         depositTransaction.execute(bankAccount);
 
-        assertEquals(initialBalance + depositAmount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance + depositAmount, bankAccount.getBalance());
     }
 
     @Test
-    void testDepositTransactionMultipleExecutions() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double depositAmount1 = 500.0;
-        double depositAmount2 = 300.0;
+    void testDepositTransactionMultipleExecutions() {
+        long initialBalance = bankAccount.getBalance();
+        long depositAmount1 = 500_00L;
+        long depositAmount2 = 300_00L;
 
         depositTransaction.setAmount(depositAmount1);
         depositTransaction.execute(bankAccount);
@@ -140,12 +139,12 @@ class DepositTransactionTest {
         depositTransaction2.setAmount(depositAmount2);
         depositTransaction2.execute(bankAccount);
 
-        assertEquals(initialBalance + depositAmount1 + depositAmount2, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance + depositAmount1 + depositAmount2, bankAccount.getBalance());
     }
 
     @Test
     void testDepositTransactionWithNullAccount() {
-        depositTransaction.setAmount(500.0);
+        depositTransaction.setAmount(500_00L);
 
         assertThrows(NullPointerException.class, () -> {
             depositTransaction.execute(null);
@@ -153,13 +152,13 @@ class DepositTransactionTest {
     }
 
     @Test
-    void testDepositTransactionWithDecimalAmount() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double depositAmount = 123.45;
+    void testDepositTransactionWithDecimalAmount() {
+        long initialBalance = bankAccount.getBalance();
+        long depositAmount = 123_45L;
         depositTransaction.setAmount(depositAmount);
 
         depositTransaction.execute(bankAccount);
 
-        assertEquals(initialBalance + depositAmount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance + depositAmount, bankAccount.getBalance());
     }
 } 
\ No newline at end of file
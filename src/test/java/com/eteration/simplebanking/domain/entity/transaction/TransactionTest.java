@@ -1,7 +1,7 @@
 package com.eteration.simplebanking.domain.entity.transaction;
 
 import com.eteration.simplebanking.domain.entity.BankAccount;
-import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.domain.enums.PostingOutcome;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,8 +17,14 @@ class TransactionTest {
 
     private static class TestTransaction extends Transaction {
         @Override
-        public void execute(BankAccount account) throws InsufficientBalanceException {
+        public PostingOutcome execute(BankAccount account) {
             account.setBalance(account.getBalance() + this.amount);
+            return PostingOutcome.POSTED;
+        }
+
+        @Override
+        public long balanceChange() {
+            return this.amount;
         }
     }
 
@@ -31,14 +37,14 @@ class TransactionTest {
         bankAccount = BankAccount.builder()
                 .owner("Test Owner")
                 .accountNumber("12345")
-                .balance(1000.0)
+                .balance(1000_00L)
                 .build();
     }
 
     @Test
     void testTransactionCreation() {
         assertNotNull(transaction);
-        assertEquals(0.0, transaction.getAmount(), 0.001);
+        assertEquals(0L, transaction.getAmount());
         assertNull(transaction.getDate());
         assertNull(transaction.getAccount());
         assertNull(transaction.getApprovalCode());
@@ -46,30 +52,30 @@ class TransactionTest {
 
     @Test
     void testTransactionSettersAndGetters() {
-        double amount = 500.0;
+        long amount = 500_00L;
         LocalDateTime date = LocalDateTime.now();
-        String approvalCode = UUID.randomUUID().toString();
+        UUID approvalCode = UUID.randomUUID();
 
         transaction.setAmount(amount);
         transaction.setDate(date);
         transaction.setAccount(bankAccount);
         transaction.setApprovalCode(approvalCode);
 
-        assertEquals(amount, transaction.getAmount(), 0.001);
+        assertEquals(amount, transaction.getAmount());
         assertEquals(date, transaction.getDate());
         assertEquals(bankAccount, transaction.getAccount());
         assertEquals(approvalCode, transaction.getApprovalCode());
     }
 
     @Test
-    void testTransactionExecute() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double amount = 500.0;
+    void testTransactionExecute() {
+        long initialBalance = bankAccount.getBalance();
+        long amount = 500_00L;
         transaction.setAmount(amount);
 
         transaction.execute(bankAccount);
 
-        assertEquals(initialBalance + amount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance + amount, bankAccount.getBalance());
     }
 
     @Test
@@ -92,7 +98,7 @@ class TransactionTest {
     @Test
     void testTransactionToString() {
         transaction.setId(1L);
-        transaction.setAmount(500.0);
+        transaction.setAmount(500_00L);
         transaction.setDate(LocalDateTime.now());
 
         String toString = transaction.toString();
@@ -105,7 +111,7 @@ class TransactionTest {
     void testTransactionWithNullValues() {
         TestTransaction nullTransaction = new TestTransaction();
 
-        assertEquals(0.0, nullTransaction.getAmount(), 0.001);
+        assertEquals(0L, nullTransaction.getAmount());
         assertNull(nullTransaction.getDate());
         assertNull(nullTransaction.getAccount());
         assertNull(nullTransaction.getApprovalCode());
@@ -113,18 +119,18 @@ class TransactionTest {
 
     @Test
     void testTransactionAmountValidation() {
-        double negativeAmount = -100.0;
-        double zeroAmount = 0.0;
-        double positiveAmount = 100.0;
+        long negativeAmount = -100_00L;
+        long zeroAmount = 0L;
+        long positiveAmount = 100_00L;
 
         transaction.setAmount(negativeAmount);
-        assertEquals(negativeAmount, transaction.getAmount(), 0.001);
+        assertEquals(negativeAmount, transaction.getAmount());
 
         transaction.setAmount(zeroAmount);
-        assertEquals(zeroAmount, transaction.getAmount(), 0.001);
+        assertEquals(zeroAmount, transaction.getAmount());
 
         transaction.setAmount(positiveAmount);
-        assertEquals(positiveAmount, transaction.getAmount(), 0.001);
+        assertEquals(positiveAmount, transaction.getAmount());
     }
 
     @Test
@@ -145,9 +151,9 @@ class TransactionTest {
 
     @Test
     void testTransactionApprovalCodeValidation() {
-        String approvalCode1 = UUID.randomUUID().toString();
-        String approvalCode2 = "APP-123";
-        String approvalCode3 = null;
+        UUID approvalCode1 = UUID.randomUUID();
+        UUID approvalCode2 = UUID.fromString("0190a1b2-c3d4-7e5f-8a6b-7c8d9e0f1a2b");
+        UUID approvalCode3 = null;
 
         transaction.setApprovalCode(approvalCode1);
         assertEquals(approvalCode1, transaction.getApprovalCode());
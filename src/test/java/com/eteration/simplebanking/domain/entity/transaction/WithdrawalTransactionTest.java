@@ -1,7 +1,7 @@
 package com.eteration.simplebanking.domain.entity.transaction;
 
 import com.eteration.simplebanking.domain.entity.BankAccount;
-import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.domain.enums.PostingOutcome;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,75 +24,71 @@ class WithdrawalTransactionTest {
         bankAccount = BankAccount.builder()
                 .owner("Test Owner")
                 .accountNumber("12345")
-                .balance(1000.0)
+                .balance(1000_00L)
                 .build();
     }
 
     @Test
     void testWithdrawalTransactionCreation() {
         assertNotNull(withdrawalTransaction);
-        assertEquals(0.0, withdrawalTransaction.getAmount(), 0.001);
+        assertEquals(0L, withdrawalTransaction.getAmount());
         assertNull(withdrawalTransaction.getDate());
         assertNull(withdrawalTransaction.getAccount());
         assertNull(withdrawalTransaction.getApprovalCode());
     }
 
     @Test
-    void testWithdrawalTransactionExecute() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double withdrawalAmount = 500.0;
+    void testWithdrawalTransactionExecute() {
+        long initialBalance = bankAccount.getBalance();
+        long withdrawalAmount = 500_00L;
         withdrawalTransaction.setAmount(withdrawalAmount);
         withdrawalTransaction.execute(bankAccount);
-        assertEquals(initialBalance - withdrawalAmount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance - withdrawalAmount, bankAccount.getBalance());
     }
 
     @Test
-    void testWithdrawalTransactionExecuteWithZeroAmount() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double withdrawalAmount = 0.0;
+    void testWithdrawalTransactionExecuteWithZeroAmount() {
+        long initialBalance = bankAccount.getBalance();
+        long withdrawalAmount = 0L;
         withdrawalTransaction.setAmount(withdrawalAmount);
         withdrawalTransaction.execute(bankAccount);
-        assertEquals(initialBalance, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance, bankAccount.getBalance());
     }
 
     @Test
     void testWithdrawalTransactionExecuteWithInsufficientBalance() {
-        double withdrawalAmount = 1500.0;
+        long withdrawalAmount = 1500_00L;
         withdrawalTransaction.setAmount(withdrawalAmount);
-        assertThrows(InsufficientBalanceException.class, () -> {
-            withdrawalTransaction.execute(bankAccount);
-        });
-        assertEquals(1000.0, bankAccount.getBalance(), 0.001);
+        assertEquals(PostingOutcome.INSUFFICIENT_BALANCE, withdrawalTransaction.execute(bankAccount));
+        assertEquals(1000_00L, bankAccount.getBalance());
     }
 
     @Test
-    void testWithdrawalTransactionExecuteWithExactBalance() throws InsufficientBalanceException {
-        double withdrawalAmount = 1000.0;
+    void testWithdrawalTransactionExecuteWithExactBalance() {
+        long withdrawalAmount = 1000_00L;
         withdrawalTransaction.setAmount(withdrawalAmount);
         withdrawalTransaction.execute(bankAccount);
-        assertEquals(0.0, bankAccount.getBalance(), 0.001);
+        assertEquals(0L, bankAccount.getBalance());
     }
 
     @Test
     void testWithdrawalTransactionExecuteWithLargeAmount() {
-        double withdrawalAmount = 10000.0;
+        long withdrawalAmount = 10000_00L;
         withdrawalTransaction.setAmount(withdrawalAmount);
-        assertThrows(InsufficientBalanceException.class, () -> {
-            withdrawalTransaction.execute(bankAccount);
-        });
-        assertEquals(1000.0, bankAccount.getBalance(), 0.001);
+        assertEquals(PostingOutcome.INSUFFICIENT_BALANCE, withdrawalTransaction.execute(bankAccount));
+        assertEquals(1000_00L, bankAccount.getBalance());
     }
 
     @Test
     void testWithdrawalTransactionSettersAndGetters() {
-        double amount = 500.0;
+        long amount = 500_00L;
         LocalDateTime date = LocalDateTime.now();
-        String approvalCode = UUID.randomUUID().toString();
+        UUID approvalCode = UUID.randomUUID();
         withdrawalTransaction.setAmount(amount);
         withdrawalTransaction.setDate(date);
         withdrawalTransaction.setAccount(bankAccount);
         withdrawalTransaction.setApprovalCode(approvalCode);
-        assertEquals(amount, withdrawalTransaction.getAmount(), 0.001);
+        assertEquals(amount, withdrawalTransaction.getAmount());
         assertEquals(date, withdrawalTransaction.getDate());
         assertEquals(bankAccount, withdrawalTransaction.getAccount());
         assertEquals(approvalCode, withdrawalTransaction.getApprovalCode());
@@ -115,7 +111,7 @@ class WithdrawalTransactionTest {
     @Test
     void testWithdrawalTransactionToString() {
         withdrawalTransaction.setId(1L);
-        withdrawalTransaction.setAmount(500.0);
+        withdrawalTransaction.setAmount(500_00L);
         withdrawalTransaction.setDate(LocalDateTime.now());
         String toString = withdrawalTransaction.toString();
         assertNotNull(toString);
@@ -123,62 +119,58 @@ class WithdrawalTransactionTest {
     }
 
     @Test
-    void testWithdrawalTransactionWithNegativeAmount() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double withdrawalAmount = -100.0;
+    void testWithdrawalTransactionWithNegativeAmount() {
+        long initialBalance = bankAccount.getBalance();
+        long withdrawalAmount = -100_00L;
         withdrawalTransaction.setAmount(withdrawalAmount);
         withdrawalTransaction.execute(bankAccount);
-        assertEquals(initialBalance - withdrawalAmount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance - withdrawalAmount, bankAccount.getBalance());
     }
 
     @Test
-    void testWithdrawalTransactionMultipleExecutions() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double withdrawalAmount1 = 300.0;
-        double withdrawalAmount2 = 200.0;
+    void testWithdrawalTransactionMultipleExecutions() {
+        long initialBalance = bankAccount.getBalance();
+        long withdrawalAmount1 = 300_00L;
+        long withdrawalAmount2 = 200_00L;
         withdrawalTransaction.setAmount(withdrawalAmount1);
         withdrawalTransaction.execute(bankAccount);
         WithdrawalTransaction withdrawalTransaction2 = new WithdrawalTransaction();
         withdrawalTransaction2.setAmount(withdrawalAmount2);
         withdrawalTransaction2.execute(bankAccount);
-        assertEquals(initialBalance - withdrawalAmount1 - withdrawalAmount2, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance - withdrawalAmount1 - withdrawalAmount2, bankAccount.getBalance());
     }
 
     @Test
     void testWithdrawalTransactionWithNullAccount() {
-        withdrawalTransaction.setAmount(500.0);
+        withdrawalTransaction.setAmount(500_00L);
         assertThrows(NullPointerException.class, () -> {
             withdrawalTransaction.execute(null);
         });
     }
 
     @Test
-    void testWithdrawalTransactionWithDecimalAmount() throws InsufficientBalanceException {
-        double initialBalance = bankAccount.getBalance();
-        double withdrawalAmount = 123.45;
+    void testWithdrawalTransactionWithDecimalAmount() {
+        long initialBalance = bankAccount.getBalance();
+        long withdrawalAmount = 123_45L;
         withdrawalTransaction.setAmount(withdrawalAmount);
         withdrawalTransaction.execute(bankAccount);
-        assertEquals(initialBalance - withdrawalAmount, bankAccount.getBalance(), 0.001);
+        assertEquals(initialBalance - withdrawalAmount, bankAccount.getBalance());
     }
 
     @Test
     void testWithdrawalTransactionWithZeroBalance() {
-        bankAccount.setBalance(0.0);
-        double withdrawalAmount = 100.0;
+        bankAccount.setBalance(0L);
+        long withdrawalAmount = 100_00L;
         withdrawalTransaction.setAmount(withdrawalAmount);
-        assertThrows(InsufficientBalanceException.class, () -> {
-            withdrawalTransaction.execute(bankAccount);
-        });
-        assertEquals(0.0, bankAccount.getBalance(), 0.001);
+        assertEquals(PostingOutcome.INSUFFICIENT_BALANCE, withdrawalTransaction.execute(bankAccount));
+        assertEquals(0L, bankAccount.getBalance());
     }
 
     @Test
     void testWithdrawalTransactionWithSmallBalance() {
-        bankAccount.setBalance(50.0);
-        double withdrawalAmount = 100.0;
+        bankAccount.setBalance(50_00L);
+        long withdrawalAmount = 100_00L;
         withdrawalTransaction.setAmount(withdrawalAmount);
-        assertThrows(InsufficientBalanceException.class, () -> {
-            withdrawalTransaction.execute(bankAccount);
-        });
+        assertEquals(PostingOutcome.INSUFFICIENT_BALANCE, withdrawalTransaction.execute(bankAccount));
     }
 } 
\ No newline at end of file
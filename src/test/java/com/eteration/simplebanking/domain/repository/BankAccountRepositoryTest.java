@@ -1,6 +1,7 @@
 package com.eteration.simplebanking.domain.repository;
 
 import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.util.AccountNumberKey;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -34,7 +35,7 @@ class BankAccountRepositoryTest {
         BankAccount account = BankAccount.builder()
                 .owner("New Owner")
                 .accountNumber("54321")
-                .balance(500.0)
+                .balance(500_00L)
                 .build();
 
         // When
@@ -45,7 +46,7 @@ class BankAccountRepositoryTest {
         assertNotNull(savedAccount.getId());
         assertEquals("54321", savedAccount.getAccountNumber());
         assertEquals("New Owner", savedAccount.getOwner());
-        assertEquals(500.0, savedAccount.getBalance(), 0.001);
+        assertEquals(500_00L, savedAccount.getBalance());
     }
 
     @Test
@@ -54,7 +55,7 @@ class BankAccountRepositoryTest {
         BankAccount account = BankAccount.builder()
                 .owner("Test Owner")
                 .accountNumber("12345")
-                .balance(1000.0)
+                .balance(1000_00L)
                 .build();
         
         entityManager.persistAndFlush(account);
@@ -66,7 +67,7 @@ class BankAccountRepositoryTest {
         assertTrue(result.isPresent());
         assertEquals("12345", result.get().getAccountNumber());
         assertEquals("Test Owner", result.get().getOwner());
-        assertEquals(1000.0, result.get().getBalance(), 0.001);
+        assertEquals(1000_00L, result.get().getBalance());
     }
 
     @Test
@@ -77,4 +78,26 @@ class BankAccountRepositoryTest {
         // Then
         assertFalse(result.isPresent());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void findIdByAccountKey_KeyAssignedOnPersist() {
+        // Given
+        BankAccount account = entityManager.persistAndFlush(BankAccount.builder()
+                .owner("Keyed Owner")
+                .accountNumber("0012345678")
+                .balance(0L)
+                .build());
+        BankAccount legacy = entityManager.persistAndFlush(BankAccount.builder()
+                .owner("Legacy Owner")
+                .accountNumber("669-7788")
+                .balance(0L)
+                .build());
+
+        // Then
+        assertEquals(100_12345678L, account.getAccountKey());
+        assertNull(legacy.getAccountKey());
+        assertEquals(Optional.of(account.getId()),
+                bankAccountRepository.findIdByAccountKey(AccountNumberKey.of("0012345678")));
+        assertTrue(bankAccountRepository.findIdByAccountKey(AccountNumberKey.of("12345678")).isEmpty());
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.test.context.ActiveProfiles;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,6 +21,12 @@ import static org.junit.jupiter.api.Assertions.*;
 @ActiveProfiles("test")
 class TransactionRepositoryTest {
 
+    private static final UUID DEP_001 = UUID.fromString("0190a1b2-c3d4-7000-8000-000000000001");
+    private static final UUID WIT_001 = UUID.fromString("0190a1b2-c3d4-7000-8000-000000000002");
+    private static final UUID DEP_002 = UUID.fromString("0190a1b2-c3d4-7000-8000-000000000004");
+    private static final UUID DEP_003 = UUID.fromString("0190a1b2-c3d4-7000-8000-000000000005");
+    private static final UUID WIT_002 = UUID.fromString("0190a1b2-c3d4-7000-8000-000000000006");
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -39,15 +46,15 @@ class TransactionRepositoryTest {
         BankAccount account = BankAccount.builder()
                 .owner("Test Owner")
                 .accountNumber("12345")
-                .balance(1000.0)
+                .balance(1000_00L)
                 .build();
         
         entityManager.persistAndFlush(account);
 
         DepositTransaction transaction = new DepositTransaction();
-        transaction.setAmount(500.0);
+        transaction.setAmount(500_00L);
         transaction.setDate(LocalDateTime.now());
-        transaction.setApprovalCode("DEP-001");
+        transaction.setApprovalCode(DEP_001);
         transaction.setAccount(account);
 
         // When
@@ -56,8 +63,8 @@ class TransactionRepositoryTest {
         // Then
         assertNotNull(savedTransaction);
         assertNotNull(savedTransaction.getId());
-        assertEquals(500.0, savedTransaction.getAmount(), 0.001);
-        assertEquals("DEP-001", savedTransaction.getApprovalCode());
+        assertEquals(500_00L, savedTransaction.getAmount());
+        assertEquals(DEP_001, savedTransaction.getApprovalCode());
         assertEquals(account, savedTransaction.getAccount());
     }
 
@@ -67,15 +74,15 @@ class TransactionRepositoryTest {
         BankAccount account = BankAccount.builder()
                 .owner("Test Owner")
                 .accountNumber("12346")
-                .balance(1000.0)
+                .balance(1000_00L)
                 .build();
         
         entityManager.persistAndFlush(account);
 
         WithdrawalTransaction transaction = new WithdrawalTransaction();
-        transaction.setAmount(200.0);
+        transaction.setAmount(200_00L);
         transaction.setDate(LocalDateTime.now());
-        transaction.setApprovalCode("WIT-001");
+        transaction.setApprovalCode(WIT_001);
         transaction.setAccount(account);
 
         // When
@@ -84,8 +91,8 @@ class TransactionRepositoryTest {
         // Then
         assertNotNull(savedTransaction);
         assertNotNull(savedTransaction.getId());
-        assertEquals(200.0, savedTransaction.getAmount(), 0.001);
-        assertEquals("WIT-001", savedTransaction.getApprovalCode());
+        assertEquals(200_00L, savedTransaction.getAmount());
+        assertEquals(WIT_001, savedTransaction.getApprovalCode());
         assertEquals(account, savedTransaction.getAccount());
     }
 
@@ -95,15 +102,15 @@ class TransactionRepositoryTest {
         BankAccount account = BankAccount.builder()
                 .owner("Test Owner")
                 .accountNumber("12347")
-                .balance(1000.0)
+                .balance(1000_00L)
                 .build();
         
         entityManager.persistAndFlush(account);
 
         DepositTransaction transaction = new DepositTransaction();
-        transaction.setAmount(300.0);
+        transaction.setAmount(300_00L);
         transaction.setDate(LocalDateTime.now());
-        transaction.setApprovalCode("DEP-002");
+        transaction.setApprovalCode(DEP_002);
         transaction.setAccount(account);
         
         Transaction savedTransaction = entityManager.persistAndFlush(transaction);
@@ -114,8 +121,8 @@ class TransactionRepositoryTest {
         // Then
         assertTrue(result.isPresent());
         assertEquals(savedTransaction.getId(), result.get().getId());
-        assertEquals(300.0, result.get().getAmount(), 0.001);
-        assertEquals("DEP-002", result.get().getApprovalCode());
+        assertEquals(300_00L, result.get().getAmount());
+        assertEquals(DEP_002, result.get().getApprovalCode());
     }
 
     @Test
@@ -133,21 +140,21 @@ class TransactionRepositoryTest {
         BankAccount account = BankAccount.builder()
                 .owner("Test Owner")
                 .accountNumber("12348")
-                .balance(1000.0)
+                .balance(1000_00L)
                 .build();
         
         entityManager.persistAndFlush(account);
 
         DepositTransaction depositTransaction = new DepositTransaction();
-        depositTransaction.setAmount(500.0);
+        depositTransaction.setAmount(500_00L);
         depositTransaction.setDate(LocalDateTime.now());
-        depositTransaction.setApprovalCode("DEP-003");
+        depositTransaction.setApprovalCode(DEP_003);
         depositTransaction.setAccount(account);
 
         WithdrawalTransaction withdrawalTransaction = new WithdrawalTransaction();
-        withdrawalTransaction.setAmount(200.0);
+        withdrawalTransaction.setAmount(200_00L);
         withdrawalTransaction.setDate(LocalDateTime.now());
-        withdrawalTransaction.setApprovalCode("WIT-002");
+        withdrawalTransaction.setApprovalCode(WIT_002);
         withdrawalTransaction.setAccount(account);
 
         entityManager.persistAndFlush(depositTransaction);
@@ -158,7 +165,7 @@ class TransactionRepositoryTest {
 
         // Then
         assertTrue(allTransactions.size() >= 2);
-        assertTrue(allTransactions.stream().anyMatch(t -> t.getApprovalCode().equals("DEP-003")));
-        assertTrue(allTransactions.stream().anyMatch(t -> t.getApprovalCode().equals("WIT-002")));
+        assertTrue(allTransactions.stream().anyMatch(t -> t.getApprovalCode().equals(DEP_003)));
+        assertTrue(allTransactions.stream().anyMatch(t -> t.getApprovalCode().equals(WIT_002)));
     }
 } 
\ No newline at end of file
@@ -18,7 +18,7 @@ class BankAccountResponseTest {
         // Given
         String accountNumber = "1234567890";
         String owner = "John Doe";
-        double balance = 1000.50;
+        long balance = 1000_50L;
         LocalDateTime createDate = LocalDateTime.now();
         List<TransactionResponse> transactions = new ArrayList<>();
 
@@ -38,13 +38,13 @@ class BankAccountResponseTest {
     @DisplayName("Should create BankAccountResponse with null values")
     void shouldCreateBankAccountResponseWithNullValues() {
         // Given & When
-        BankAccountResponse response = new BankAccountResponse(null, null, 0.0, null, null);
+        BankAccountResponse response = new BankAccountResponse(null, null, 0L, null, null);
 
         // Then
         assertNotNull(response);
         assertNull(response.accountNumber());
         assertNull(response.owner());
-        assertEquals(0.0, response.balance());
+        assertEquals(0L, response.balance());
         assertNull(response.createdAt());
         assertNull(response.transactions());
     }
@@ -55,7 +55,7 @@ class BankAccountResponseTest {
         // Given
         String accountNumber = "12345";
         String owner = "Jane Smith";
-        double balance = 500.0;
+        long balance = 500_00L;
         LocalDateTime createDate = LocalDateTime.now();
         List<TransactionResponse> transactions = new ArrayList<>();
 
@@ -78,12 +78,12 @@ class BankAccountResponseTest {
         // Given
         String accountNumber = "12345";
         String owner = "Bob Johnson";
-        double balance = 2000.0;
+        long balance = 2000_00L;
         LocalDateTime createDate = LocalDateTime.now();
         
         List<TransactionResponse> transactions = new ArrayList<>();
-        transactions.add(new TransactionResponse(LocalDateTime.now(), 100.0, "DEPOSIT", "ABC123"));
-        transactions.add(new TransactionResponse(LocalDateTime.now(), 50.0, "WITHDRAWAL", "DEF456"));
+        transactions.add(new TransactionResponse(LocalDateTime.now(), 100_00L, "DEPOSIT", "ABC123"));
+        transactions.add(new TransactionResponse(LocalDateTime.now(), 50_00L, "WITHDRAWAL", "DEF456"));
 
         // When
         BankAccountResponse response = new BankAccountResponse(accountNumber, owner, balance, createDate, transactions);
@@ -104,7 +104,7 @@ class BankAccountResponseTest {
         // Given
         String accountNumber = "12345";
         String owner = "Test Owner";
-        double balance = 1000.0;
+        long balance = 1000_00L;
         LocalDateTime createDate = LocalDateTime.now();
         List<TransactionResponse> transactions = new ArrayList<>();
 
@@ -132,7 +132,7 @@ class BankAccountResponseTest {
         // Given
         String accountNumber = "12345";
         String owner = "Test Owner";
-        double balance = -500.0;
+        long balance = -500_00L;
         LocalDateTime createDate = LocalDateTime.now();
         List<TransactionResponse> transactions = new ArrayList<>();
 
@@ -150,7 +150,7 @@ class BankAccountResponseTest {
         // Given
         String accountNumber = "12345";
         String owner = "Test Owner";
-        double balance = 0.0;
+        long balance = 0L;
         LocalDateTime createDate = LocalDateTime.now();
         List<TransactionResponse> transactions = new ArrayList<>();
 
@@ -168,7 +168,7 @@ class BankAccountResponseTest {
         // Given
         String accountNumber = "12345";
         String owner = "Test Owner";
-        double balance = 999999999.99;
+        long balance = 999999999_99L;
         LocalDateTime createDate = LocalDateTime.now();
         List<TransactionResponse> transactions = new ArrayList<>();
 
@@ -186,7 +186,7 @@ class BankAccountResponseTest {
         // Given
         String accountNumber = "12345";
         String owner = "José María García-López";
-        double balance = 1000.0;
+        long balance = 1000_00L;
         LocalDateTime createDate = LocalDateTime.now();
         List<TransactionResponse> transactions = new ArrayList<>();
 
@@ -204,7 +204,7 @@ class BankAccountResponseTest {
         // Given
         String accountNumber = "12345678901234567890";
         String owner = "Test Owner";
-        double balance = 1000.0;
+        long balance = 1000_00L;
         LocalDateTime createDate = LocalDateTime.now();
         List<TransactionResponse> transactions = new ArrayList<>();
 
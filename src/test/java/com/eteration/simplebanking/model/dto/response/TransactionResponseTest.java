@@ -15,7 +15,7 @@ class TransactionResponseTest {
     void shouldCreateTransactionResponseWithValidData() {
         // Given
         LocalDateTime date = LocalDateTime.now();
-        double amount = 100.50;
+        long amount = 100_50L;
         String type = "DEPOSIT";
         String approvalCode = "ABC123";
 
@@ -34,12 +34,12 @@ class TransactionResponseTest {
     @DisplayName("Should create TransactionResponse with null values")
     void shouldCreateTransactionResponseWithNullValues() {
         // Given & When
-        TransactionResponse response = new TransactionResponse(null, 0.0, null, null);
+        TransactionResponse response = new TransactionResponse(null, 0L, null, null);
 
         // Then
         assertNotNull(response);
         assertNull(response.date());
-        assertEquals(0.0, response.amount());
+        assertEquals(0L, response.amount());
         assertNull(response.type());
         assertNull(response.approvalCode());
     }
@@ -49,7 +49,7 @@ class TransactionResponseTest {
     void shouldCreateTransactionResponseWithDifferentTransactionTypes() {
         // Given
         LocalDateTime date = LocalDateTime.now();
-        double amount = 200.0;
+        long amount = 200_00L;
         String[] types = {"DEPOSIT", "WITHDRAWAL", "CHECK_PAYMENT", "PHONE_BILL_PAYMENT"};
 
         // When & Then
@@ -70,7 +70,7 @@ class TransactionResponseTest {
     void shouldCreateTransactionResponseWithNegativeAmount() {
         // Given
         LocalDateTime date = LocalDateTime.now();
-        double amount = -50.25;
+        long amount = -50_25L;
         String type = "WITHDRAWAL";
         String approvalCode = "NEG123";
 
@@ -90,7 +90,7 @@ class TransactionResponseTest {
     void shouldCreateTransactionResponseWithZeroAmount() {
         // Given
         LocalDateTime date = LocalDateTime.now();
-        double amount = 0.0;
+        long amount = 0L;
         String type = "DEPOSIT";
         String approvalCode = "ZERO123";
 
@@ -110,7 +110,7 @@ class TransactionResponseTest {
     void shouldCreateTransactionResponseWithLargeAmount() {
         // Given
         LocalDateTime date = LocalDateTime.now();
-        double amount = 999999.99;
+        long amount = 999999_99L;
         String type = "DEPOSIT";
         String approvalCode = "LARGE123";
 
@@ -130,13 +130,13 @@ class TransactionResponseTest {
     void shouldHaveCorrectRecordBehavior() {
         // Given
         LocalDateTime date = LocalDateTime.now();
-        double amount = 100.0;
+        long amount = 100_00L;
         String type = "DEPOSIT";
         String approvalCode = "ABC123";
 
         TransactionResponse response1 = new TransactionResponse(date, amount, type, approvalCode);
         TransactionResponse response2 = new TransactionResponse(date, amount, type, approvalCode);
-        TransactionResponse response3 = new TransactionResponse(date, 200.0, type, approvalCode);
+        TransactionResponse response3 = new TransactionResponse(date, 200_00L, type, approvalCode);
 
         // When & Then
         assertEquals(response1, response2);
@@ -156,7 +156,7 @@ class TransactionResponseTest {
     void shouldHandleSpecialCharactersInApprovalCode() {
         // Given
         LocalDateTime date = LocalDateTime.now();
-        double amount = 100.0;
+        long amount = 100_00L;
         String type = "DEPOSIT";
         String approvalCode = "ABC-123_XYZ@456";
 
@@ -173,7 +173,7 @@ class TransactionResponseTest {
     void shouldHandleEmptyStrings() {
         // Given
         LocalDateTime date = LocalDateTime.now();
-        double amount = 100.0;
+        long amount = 100_00L;
         String type = "";
         String approvalCode = "";
 
@@ -187,11 +187,11 @@ class TransactionResponseTest {
     }
 
     @Test
-    @DisplayName("Should handle maximum double value")
-    void shouldHandleMaximumDoubleValue() {
+    @DisplayName("Should handle maximum amount")
+    void shouldHandleMaximumAmount() {
         // Given
         LocalDateTime date = LocalDateTime.now();
-        double amount = Double.MAX_VALUE;
+        long amount = Long.MAX_VALUE;
         String type = "DEPOSIT";
         String approvalCode = "MAX123";
 
@@ -204,11 +204,11 @@ class TransactionResponseTest {
     }
 
     @Test
-    @DisplayName("Should handle minimum double value")
-    void shouldHandleMinimumDoubleValue() {
+    @DisplayName("Should handle smallest positive amount")
+    void shouldHandleSmallestPositiveAmount() {
         // Given
         LocalDateTime date = LocalDateTime.now();
-        double amount = Double.MIN_VALUE;
+        long amount = 1L;
         String type = "DEPOSIT";
         String approvalCode = "MIN123";
 
@@ -219,42 +219,4 @@ class TransactionResponseTest {
         assertNotNull(response);
         assertEquals(amount, response.amount());
     }
-
-    @Test
-    @DisplayName("Should handle NaN value")
-    void shouldHandleNaNValue() {
-        // Given
-        LocalDateTime date = LocalDateTime.now();
-        double amount = Double.NaN;
-        String type = "DEPOSIT";
-        String approvalCode = "NAN123";
-
-        // When
-        TransactionResponse response = new TransactionResponse(date, amount, type, approvalCode);
-
-        // Then
-        assertNotNull(response);
-        assertTrue(Double.isNaN(response.amount()));
-    }
-
-    @Test
-    @DisplayName("Should handle infinity values")
-    void shouldHandleInfinityValues() {
-        // Given
-        LocalDateTime date = LocalDateTime.now();
-        double positiveInfinity = Double.POSITIVE_INFINITY;
-        double negativeInfinity = Double.NEGATIVE_INFINITY;
-        String type = "DEPOSIT";
-        String approvalCode = "INF123";
-
-        // When
-        TransactionResponse positiveResponse = new TransactionResponse(date, positiveInfinity, type, approvalCode);
-        TransactionResponse negativeResponse = new TransactionResponse(date, negativeInfinity, type, approvalCode);
-
-        // Then
-        assertNotNull(positiveResponse);
-        assertNotNull(negativeResponse);
-        assertEquals(positiveInfinity, positiveResponse.amount());
-        assertEquals(negativeInfinity, negativeResponse.amount());
-    }
-} 
\ No newline at end of file
+}
@@ -1,5 +1,8 @@
 package com.eteration.simplebanking.model.dto.response;
 
+import com.eteration.simplebanking.domain.constant.TransactionStatusConstants;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
@@ -86,7 +89,8 @@ class TransactionStatusResponseTest {
         assertEquals(response1.hashCode(), response2.hashCode());
         assertNotEquals(response1.hashCode(), response3.hashCode());
         
-        String expectedToString = "TransactionStatusResponse[status=" + status + ", approvalCode=" + approvalCode + "]";
+        String expectedToString = "TransactionStatusResponse[status=" + status + ", approvalCode=" + approvalCode
+                + ", errorCode=null, message=null]";
         assertEquals(expectedToString, response1.toString());
     }
 
@@ -233,4 +237,35 @@ class TransactionStatusResponseTest {
         assertEquals(status, response.status());
         assertEquals(approvalCode, response.approvalCode());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should carry error code and message for a declined transaction")
+    void shouldCarryErrorCodeAndMessageForDeclinedTransaction() {
+        // When
+        TransactionStatusResponse response = TransactionStatusResponse.declined(MessageKeys.INSUFFICIENT_BALANCE_FOR_CHECK_PAYMENT)
+                .withMessage("Insufficient balance");
+
+        // Then
+        assertFalse(response.isApproved());
+        assertEquals("DECLINED", response.status());
+        assertNull(response.approvalCode());
+        assertEquals(MessageKeys.INSUFFICIENT_BALANCE_FOR_CHECK_PAYMENT.getKey(), response.errorCode());
+        assertEquals("Insufficient balance", response.message());
+    }
+
+    @Test
+    @DisplayName("Should leave error fields out of approved JSON")
+    void shouldLeaveErrorFieldsOutOfApprovedJson() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // When
+        String approved = objectMapper.writeValueAsString(new TransactionStatusResponse("OK", "ABC123"));
+        String declined = objectMapper.writeValueAsString(TransactionStatusResponse.declined(MessageKeys.ERROR_INSUFFICIENT_BALANCE));
+
+        // Then
+        assertEquals("{\"status\":\"OK\",\"approvalCode\":\"ABC123\"}", approved);
+        assertEquals("{\"status\":\"" + TransactionStatusConstants.STATUS_DECLINED
+                + "\",\"approvalCode\":null,\"errorCode\":\"error.insufficient.balance\"}", declined);
+    }
+}
@@ -0,0 +1,40 @@
+package com.eteration.simplebanking.model.json;
+
+import com.eteration.simplebanking.model.dto.request.TransactionRequest;
+import com.eteration.simplebanking.model.dto.response.TransactionResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Money JSON Tests")
+class MoneyJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("Should read decimal amounts as minor units")
+    void shouldReadDecimalAmountsAsMinorUnits() throws Exception {
+        assertEquals(10050L, objectMapper.readValue("{\"amount\": 100.50}", TransactionRequest.class).amount());
+        assertEquals(10L, objectMapper.readValue("{\"amount\": 0.1}", TransactionRequest.class).amount());
+        assertEquals(100000L, objectMapper.readValue("{\"amount\": 1000}", TransactionRequest.class).amount());
+    }
+
+    @Test
+    @DisplayName("Should reject amounts with more than two decimal places")
+    void shouldRejectAmountsWithMoreThanTwoDecimalPlaces() {
+        assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue("{\"amount\": 0.001}", TransactionRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should write minor units as decimal amounts")
+    void shouldWriteMinorUnitsAsDecimalAmounts() throws Exception {
+        String json = objectMapper.writeValueAsString(new TransactionResponse(null, 10050L, "DEPOSIT", null));
+
+        assertTrue(json.contains("\"amount\":100.50"), json);
+    }
+}
@@ -12,11 +12,16 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class BankAccountMapperTest {
 
+    private static final UUID DEP_001 = UUID.fromString("0190a1b2-c3d4-7000-8000-000000000001");
+    private static final UUID WIT_001 = UUID.fromString("0190a1b2-c3d4-7000-8000-000000000002");
+    private static final UUID ZERO_001 = UUID.fromString("0190a1b2-c3d4-7000-8000-000000000003");
+
     private BankAccountMapper mapper;
     private BankAccount testAccount;
     private LocalDateTime testDateTime;
@@ -29,21 +34,21 @@ class BankAccountMapperTest {
         testAccount = BankAccount.builder()
                 .owner("Test Owner")
                 .accountNumber("12345")
-                .balance(1000.0)
+                .balance(1000_00L)
                 .build();
     }
 
     @Test
     void toAccountResponse_Success() {
         DepositTransaction depositTransaction = new DepositTransaction();
-        depositTransaction.setAmount(500.0);
+        depositTransaction.setAmount(500_00L);
         depositTransaction.setDate(testDateTime);
-        depositTransaction.setApprovalCode("DEP-001");
+        depositTransaction.setApprovalCode(DEP_001);
 
         WithdrawalTransaction withdrawalTransaction = new WithdrawalTransaction();
-        withdrawalTransaction.setAmount(200.0);
+        withdrawalTransaction.setAmount(200_00L);
         withdrawalTransaction.setDate(testDateTime);
-        withdrawalTransaction.setApprovalCode("WIT-001");
+        withdrawalTransaction.setApprovalCode(WIT_001);
 
         List<Transaction> transactions = new ArrayList<>();
         transactions.add(depositTransaction);
@@ -55,7 +60,7 @@ class BankAccountMapperTest {
         assertNotNull(result);
         assertEquals("12345", result.accountNumber());
         assertEquals("Test Owner", result.owner());
-        assertEquals(1000.0, result.balance(), 0.001);
+        assertEquals(1000_00L, result.balance());
         assertNotNull(result.transactions());
         assertEquals(2, result.transactions().size());
     }
@@ -69,7 +74,7 @@ class BankAccountMapperTest {
         assertNotNull(result);
         assertEquals("12345", result.accountNumber());
         assertEquals("Test Owner", result.owner());
-        assertEquals(1000.0, result.balance(), 0.001);
+        assertEquals(1000_00L, result.balance());
         assertNotNull(result.transactions());
         assertEquals(0, result.transactions().size());
     }
@@ -83,62 +88,62 @@ class BankAccountMapperTest {
         assertNotNull(result);
         assertEquals("12345", result.accountNumber());
         assertEquals("Test Owner", result.owner());
-        assertEquals(1000.0, result.balance(), 0.001);
+        assertEquals(1000_00L, result.balance());
         assertNull(result.transactions());
     }
 
     @Test
     void toTransactionResponse_DepositTransaction() {
         DepositTransaction transaction = new DepositTransaction();
-        transaction.setAmount(500.0);
+        transaction.setAmount(500_00L);
         transaction.setDate(testDateTime);
-        transaction.setApprovalCode("DEP-001");
+        transaction.setApprovalCode(DEP_001);
 
         TransactionResponse result = mapper.toTransactionResponse(transaction);
 
         assertNotNull(result);
         assertEquals(testDateTime, result.date());
-        assertEquals(500.0, result.amount(), 0.001);
+        assertEquals(500_00L, result.amount());
         assertEquals("DepositTransaction", result.type());
-        assertEquals("DEP-001", result.approvalCode());
+        assertEquals(DEP_001.toString(), result.approvalCode());
     }
 
     @Test
     void toTransactionResponse_WithdrawalTransaction() {
         WithdrawalTransaction transaction = new WithdrawalTransaction();
-        transaction.setAmount(200.0);
+        transaction.setAmount(200_00L);
         transaction.setDate(testDateTime);
-        transaction.setApprovalCode("WIT-001");
+        transaction.setApprovalCode(WIT_001);
 
         TransactionResponse result = mapper.toTransactionResponse(transaction);
 
         assertNotNull(result);
         assertEquals(testDateTime, result.date());
-        assertEquals(200.0, result.amount(), 0.001);
+        assertEquals(200_00L, result.amount());
         assertEquals("WithdrawalTransaction", result.type());
-        assertEquals("WIT-001", result.approvalCode());
+        assertEquals(WIT_001.toString(), result.approvalCode());
     }
 
     @Test
     void toTransactionResponse_ZeroAmount() {
         DepositTransaction transaction = new DepositTransaction();
-        transaction.setAmount(0.0);
+        transaction.setAmount(0L);
         transaction.setDate(testDateTime);
-        transaction.setApprovalCode("ZERO-001");
+        transaction.setApprovalCode(ZERO_001);
 
         TransactionResponse result = mapper.toTransactionResponse(transaction);
 
         assertNotNull(result);
         assertEquals(testDateTime, result.date());
-        assertEquals(0.0, result.amount(), 0.001);
+        assertEquals(0L, result.amount());
         assertEquals("DepositTransaction", result.type());
-        assertEquals("ZERO-001", result.approvalCode());
+        assertEquals(ZERO_001.toString(), result.approvalCode());
     }
 
     @Test
     void toTransactionResponse_NullApprovalCode() {
         DepositTransaction transaction = new DepositTransaction();
-        transaction.setAmount(100.0);
+        transaction.setAmount(100_00L);
         transaction.setDate(testDateTime);
         transaction.setApprovalCode(null);
 
@@ -146,7 +151,7 @@ class BankAccountMapperTest {
 
         assertNotNull(result);
         assertEquals(testDateTime, result.date());
-        assertEquals(100.0, result.amount(), 0.001);
+        assertEquals(100_00L, result.amount());
         assertEquals("DepositTransaction", result.type());
         assertNull(result.approvalCode());
     }
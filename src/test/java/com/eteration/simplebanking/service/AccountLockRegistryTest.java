@@ -0,0 +1,115 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.config.LockingProperties;
+import com.eteration.simplebanking.service.core.AccountLockRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountLockRegistryTest {
+
+    private static final int THREADS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountLockRegistry accountLockRegistry;
+
+    @BeforeEach
+    void setUp() {
+        LockingProperties properties = new LockingProperties();
+        properties.setStripes(64);
+        meterRegistry = new SimpleMeterRegistry();
+        accountLockRegistry = new AccountLockRegistry(properties, meterRegistry);
+    }
+
+    private int peakConcurrency(List<String> accountNumbers) throws Exception {
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                String accountNumber = accountNumbers.get(t % accountNumbers.size());
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 20; i++) {
+                        accountLockRegistry.withAccountLock(accountNumber, () -> {
+                            peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+                            try {
+                                Thread.sleep(1);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return current.decrementAndGet();
+                        });
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return peak.get();
+    }
+
+    @Test
+    void withAccountLock_SameAccount_RunsOneWriterAtATime() throws Exception {
+        assertEquals(1, peakConcurrency(List.of("1234567890")));
+
+        assertEquals(THREADS * 20, meterRegistry.get("account.lock.wait").timer().count());
+        assertTrue(meterRegistry.get("account.lock.wait").timer().totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertEquals(0.0, meterRegistry.get("account.lock.queue").gauge().value());
+    }
+
+    @Test
+    void withAccountLock_DifferentAccounts_RunInParallel() throws Exception {
+        // Pick accounts on distinct stripes so the assertion does not depend on hash collisions
+        List<String> accountNumbers = new ArrayList<>();
+        List<Integer> usedStripes = new ArrayList<>();
+        for (int i = 0; accountNumbers.size() < THREADS; i++) {
+            String candidate = "ACC" + i;
+            int stripe = Math.floorMod(candidate.hashCode(), 64);
+            if (!usedStripes.contains(stripe)) {
+                usedStripes.add(stripe);
+                accountNumbers.add(candidate);
+            }
+        }
+
+        assertTrue(peakConcurrency(accountNumbers) > 1);
+    }
+
+    @Test
+    void withAccountLock_ReleasesLockWhenActionThrows() throws Exception {
+        assertThrows(IllegalStateException.class, () -> accountLockRegistry.withAccountLock("1234567890", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // The locks are reentrant, so only another thread can tell whether the stripe was released
+        assertEquals("ok", CompletableFuture.supplyAsync(() -> accountLockRegistry.withAccountLock("1234567890", () -> "ok"))
+                .get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void constructor_RejectsNonPositiveStripeCount() {
+        LockingProperties properties = new LockingProperties();
+        properties.setStripes(0);
+
+        assertThrows(IllegalStateException.class, () -> new AccountLockRegistry(properties, new SimpleMeterRegistry()));
+    }
+}
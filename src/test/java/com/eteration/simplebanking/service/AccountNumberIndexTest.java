@@ -0,0 +1,137 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.config.AccountIndexProperties;
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.TransactionValidationException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.service.core.AccountNumberIndex;
+import com.eteration.simplebanking.service.interfaces.BankAccountService;
+import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The index is loaded when the application is ready, so this test runs against a committed database of its own.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.datasource.url=jdbc:h2:mem:accountindexdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "app.account-index.expected-accounts=10000"
+})
+class AccountNumberIndexTest {
+
+    private static final int UNKNOWN_LOOKUPS = 1_000;
+
+    @Autowired
+    private BankingFacadeService bankingFacadeService;
+
+    @Autowired
+    private BankAccountService bankAccountService;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private AccountNumberIndex accountNumberIndex;
+
+    @Autowired
+    private AccountIndexProperties accountIndexProperties;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static String newAccountNumber() {
+        return String.valueOf(ThreadLocalRandom.current().nextLong(1_000_000_000L, 10_000_000_000L));
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("accounts.index.lookups").tag("result", result).counter().count();
+    }
+
+    @Test
+    void createdAccount_IsFoundImmediately() {
+        String accountNumber = newAccountNumber();
+        bankingFacadeService.createBankAccount("Indexed Owner", accountNumber);
+
+        assertTrue(accountNumberIndex.mightContain(accountNumber));
+        assertNotNull(bankAccountService.findAccountIdByNumber(accountNumber));
+    }
+
+    @Test
+    void unknownAccounts_AreMostlyRejectedWithoutQuery() {
+        double absentBefore = lookups("absent");
+        double falsePositiveBefore = lookups("false_positive");
+
+        for (int i = 0; i < UNKNOWN_LOOKUPS; i++) {
+            String accountNumber = "UNKNOWN_" + i;
+            assertThrows(AccountNotFoundException.class, () -> bankAccountService.getAccountSnapshot(accountNumber));
+        }
+
+        double absent = lookups("absent") - absentBefore;
+        double falsePositives = lookups("false_positive") - falsePositiveBefore;
+        assertEquals(UNKNOWN_LOOKUPS, absent + falsePositives);
+        assertTrue(falsePositives < UNKNOWN_LOOKUPS * 0.05, "False positives: " + falsePositives);
+    }
+
+    // Stands in for another instance: committed to the table without passing through this one's service
+    private void createElsewhere(String accountNumber) {
+        transactionTemplate.executeWithoutResult(status -> bankAccountRepository.save(BankAccount.builder()
+                .owner("Remote Owner")
+                .accountNumber(accountNumber)
+                .balance(0L)
+                .build()));
+    }
+
+    @Test
+    void accountCreatedElsewhere_IsPickedUpByRefresh() {
+        String accountNumber = newAccountNumber();
+        createElsewhere(accountNumber);
+        assertThrows(AccountNotFoundException.class, () -> bankAccountService.findAccountIdByNumber(accountNumber));
+
+        accountNumberIndex.refresh();
+
+        assertTrue(accountNumberIndex.mightContain(accountNumber));
+        assertNotNull(bankAccountService.findAccountIdByNumber(accountNumber));
+    }
+
+    @Test
+    void accountCreatedElsewhere_FoundBeforeRefreshWhenMissesConfirmed() {
+        String accountNumber = newAccountNumber();
+        createElsewhere(accountNumber);
+        double lateBefore = lookups("late");
+
+        accountIndexProperties.setConfirmMisses(true);
+        try {
+            assertNotNull(bankAccountService.findAccountIdByNumber(accountNumber));
+        } finally {
+            accountIndexProperties.setConfirmMisses(false);
+        }
+
+        assertEquals(1, lookups("late") - lateBefore);
+        assertTrue(accountNumberIndex.mightContain(accountNumber));
+    }
+
+    @Test
+    void duplicateAccountNumber_RejectedByUniqueConstraint() {
+        String existing = newAccountNumber();
+        bankingFacadeService.createBankAccount("Indexed Owner", existing);
+
+        TransactionValidationException exception = assertThrows(TransactionValidationException.class,
+                () -> bankingFacadeService.createBankAccount("Second Owner", existing));
+        assertEquals(MessageKeys.VALIDATION_ACCOUNT_NUMBER_UNIQUE, exception.getMessageKey());
+    }
+}
@@ -0,0 +1,139 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.config.DataSourcePoolProperties;
+import com.eteration.simplebanking.service.core.AdaptivePoolSizer;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptivePoolSizerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSourcePoolProperties poolProperties = new DataSourcePoolProperties();
+    private HikariDataSource dataSource;
+    private AdaptivePoolSizer sizer;
+
+    @BeforeEach
+    void setUp() {
+        DataSourcePoolProperties.Adaptive adaptive = poolProperties.getAdaptive();
+        adaptive.setMinSize(2);
+        adaptive.setMaxSize(6);
+        adaptive.setStep(2);
+        adaptive.setShrinkAfterChecks(2);
+        adaptive.setTargetAcquireTime(Duration.ofSeconds(1));
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:pool_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setPoolName("adaptive-test");
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setMinimumIdle(0);
+        dataSource.setConnectionTimeout(10_000);
+        dataSource.setMetricRegistry(meterRegistry);
+        sizer = new AdaptivePoolSizer(dataSource, poolProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    private int maximumPoolSize() {
+        return dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+    }
+
+    @Test
+    void waitingThreads_GrowPoolUpToMaximum() throws Exception {
+        List<Connection> held = new ArrayList<>();
+        held.add(dataSource.getConnection());
+        held.add(dataSource.getConnection());
+        CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection() == 0) {
+            Thread.onSpinWait();
+        }
+
+        sizer.adjust();
+
+        assertEquals(4, maximumPoolSize());
+        // Hikari opens the added connections on the next request; the waiting thread is served without any being returned
+        held.add(dataSource.getConnection());
+        held.add(waiting.get());
+        assertEquals(1.0, meterRegistry.get("datasource.pool.resized").tag("direction", "grow").counter().count());
+
+        // Saturated again: one more step, then capped at the maximum
+        CompletableFuture<Connection> waitingAgain = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection() == 0) {
+            Thread.onSpinWait();
+        }
+        sizer.adjust();
+        assertEquals(6, maximumPoolSize());
+        held.add(dataSource.getConnection());
+        held.add(waitingAgain.get());
+        sizer.adjust();
+        assertEquals(6, maximumPoolSize());
+
+        for (Connection connection : held) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void quietPool_ShrinksOnlyAfterConsecutiveQuietChecks() throws Exception {
+        dataSource.getHikariConfigMXBean().setMaximumPoolSize(6);
+        dataSource.getConnection().close();
+
+        sizer.adjust();
+        assertEquals(6, maximumPoolSize());
+        sizer.adjust();
+        assertEquals(4, maximumPoolSize());
+        sizer.adjust();
+        assertEquals(4, maximumPoolSize());
+        sizer.adjust();
+        assertEquals(2, maximumPoolSize());
+
+        // Never below the minimum
+        sizer.adjust();
+        sizer.adjust();
+        assertEquals(2, maximumPoolSize());
+        assertEquals(2.0, meterRegistry.get("datasource.pool.resized").tag("direction", "shrink").counter().count());
+    }
+
+    @Test
+    void busyPool_IsLeftAlone() throws Exception {
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            for (int i = 0; i < 5; i++) {
+                sizer.adjust();
+            }
+            assertEquals(2, maximumPoolSize());
+        }
+    }
+
+    @Test
+    void invalidBounds_AreRejected() {
+        poolProperties.getAdaptive().setMaxSize(1);
+
+        assertThrows(IllegalStateException.class, () -> new AdaptivePoolSizer(dataSource, poolProperties, meterRegistry));
+    }
+}
@@ -0,0 +1,83 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.service.core.TimeOrderedApprovalCodeGenerator;
+import com.eteration.simplebanking.service.interfaces.ApprovalCodeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApprovalCodeGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int CODES_PER_THREAD = 50_000;
+
+    private final ApprovalCodeGenerator generator = new TimeOrderedApprovalCodeGenerator();
+
+    @Test
+    void next_ProducesVersion7WithRfcVariant() {
+        UUID code = generator.next();
+
+        assertEquals(7, code.version());
+        assertEquals(2, code.variant());
+    }
+
+    @Test
+    void next_EmbedsCurrentMillisecond() {
+        long before = System.currentTimeMillis();
+        UUID code = generator.next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = code.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after);
+    }
+
+    @Test
+    void next_OrderedAcrossMilliseconds() throws InterruptedException {
+        UUID earlier = generator.next();
+        Thread.sleep(2);
+        UUID later = generator.next();
+
+        // UUID.compareTo compares signed longs; the timestamp prefix stays positive until the year 6429
+        assertTrue(earlier.compareTo(later) < 0);
+    }
+
+    @Test
+    void next_UniqueAcrossThreadsAndGenerators() throws Exception {
+        ApprovalCodeGenerator otherNode = new TimeOrderedApprovalCodeGenerator();
+        Set<UUID> codes = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                ApprovalCodeGenerator node = t % 2 == 0 ? generator : otherNode;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < CODES_PER_THREAD; i++) {
+                        codes.add(node.next());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(THREADS * CODES_PER_THREAD, codes.size());
+    }
+}
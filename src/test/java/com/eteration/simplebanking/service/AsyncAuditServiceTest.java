@@ -0,0 +1,122 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.config.AuditProperties;
+import com.eteration.simplebanking.domain.entity.AuditEvent;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.repository.AuditEventRepository;
+import com.eteration.simplebanking.model.dto.AuditRecord;
+import com.eteration.simplebanking.service.core.AsyncAuditService;
+import com.eteration.simplebanking.util.SecureMaskUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncAuditServiceTest {
+
+    @Mock
+    private AuditEventRepository auditEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SecureMaskUtil secureMaskUtil;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuditProperties auditProperties = new AuditProperties();
+    private final List<AuditEvent> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        auditProperties.setFlushInterval(Duration.ofMillis(10));
+        auditProperties.setOfferTimeout(Duration.ofMillis(1));
+        lenient().when(secureMaskUtil.encryptAccount(anyString())).thenAnswer(invocation -> "enc:" + invocation.getArgument(0));
+        lenient().when(auditEventRepository.saveAll(any())).thenAnswer(invocation -> {
+            invocation.<Iterable<AuditEvent>>getArgument(0).forEach(saved::add);
+            return List.of();
+        });
+    }
+
+    private AsyncAuditService service() {
+        return new AsyncAuditService(auditEventRepository, new TransactionTemplate(transactionManager),
+                auditProperties, secureMaskUtil, meterRegistry);
+    }
+
+    private static AuditRecord auditRecord(long amount) {
+        return new AuditRecord("req", "actor", "1234567890", TransactionType.DEPOSIT, amount, 0L, amount,
+                UUID.randomUUID(), LocalDateTime.now(), System.nanoTime());
+    }
+
+    @Test
+    void fullBuffer_DropsAndCountsInsteadOfBlocking() {
+        auditProperties.setBufferCapacity(2);
+        AsyncAuditService service = service();
+
+        // Writer not started, so nothing drains the buffer
+        for (int i = 0; i < 5; i++) {
+            service.record(auditRecord(i + 1));
+        }
+
+        assertEquals(3.0, meterRegistry.get("audit.dropped").tag("reason", "buffer_full").counter().count());
+        assertEquals(2.0, meterRegistry.get("audit.buffer.size").gauge().value());
+    }
+
+    @Test
+    void stop_WritesEverythingStillBuffered() {
+        auditProperties.setBufferCapacity(1_000);
+        auditProperties.setBatchSize(64);
+        AsyncAuditService service = service();
+        for (int i = 0; i < 500; i++) {
+            service.record(auditRecord(i + 1));
+        }
+
+        service.start();
+        service.stop();
+
+        assertFalse(service.isRunning());
+        assertEquals(500, saved.size());
+        assertEquals("enc:1234567890", saved.get(0).getAccountNumber());
+        assertEquals(500.0, meterRegistry.get("audit.written").counter().count());
+        assertEquals(500, meterRegistry.get("audit.lag").timer().count());
+        assertEquals(0.0, meterRegistry.get("audit.buffer.size").gauge().value());
+    }
+
+    @Test
+    void failedWrite_CountsDroppedAndKeepsWriting() {
+        AsyncAuditService service = service();
+        // doThrow form, so stubbing does not call the answer set up in setUp with a null argument
+        doThrow(new IllegalStateException("database down"))
+                .doAnswer(invocation -> List.of())
+                .when(auditEventRepository).saveAll(any());
+
+        service.start();
+        service.record(auditRecord(1));
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (meterRegistry.get("audit.dropped").tag("reason", "write_failed").counter().count() == 0
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        service.record(auditRecord(2));
+        service.stop();
+
+        assertEquals(1.0, meterRegistry.get("audit.dropped").tag("reason", "write_failed").counter().count());
+        assertEquals(1.0, meterRegistry.get("audit.written").counter().count());
+    }
+}
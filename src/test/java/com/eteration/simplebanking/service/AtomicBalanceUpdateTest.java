@@ -0,0 +1,177 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.domain.constant.TransactionStatusConstants;
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.domain.repository.TransactionRepository;
+import com.eteration.simplebanking.model.dto.PostingResult;
+import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import com.eteration.simplebanking.service.interfaces.BankAccountService;
+import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import com.eteration.simplebanking.service.strategy.TransactionStrategyFactory;
+import com.eteration.simplebanking.service.strategy.command.WithdrawalCommand;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs real concurrent writers against one account, so it deliberately commits and uses its own database.
+ */
+@Slf4j
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.datasource.url=jdbc:h2:mem:atomicdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000"
+})
+class AtomicBalanceUpdateTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 50;
+    private static final int TOTAL_OPERATIONS = THREADS * OPERATIONS_PER_THREAD;
+
+    @Autowired
+    private BankingFacadeService bankingFacadeService;
+
+    @Autowired
+    private BankAccountService bankAccountService;
+
+    @Autowired
+    private TransactionStrategyFactory strategyFactory;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String createAccount(long initialBalance) {
+        String accountNumber = "ATOM_" + UUID.randomUUID().toString().substring(0, 8);
+        bankingFacadeService.createBankAccount("Atomic Owner", accountNumber);
+        bankingFacadeService.credit(accountNumber, initialBalance);
+        return accountNumber;
+    }
+
+    private long balanceOf(String accountNumber) {
+        Long accountId = bankAccountRepository.findIdByAccountNumber(accountNumber).orElseThrow();
+        return bankAccountRepository.findById(accountId).map(BankAccount::getBalance).orElseThrow();
+    }
+
+    /**
+     * Runs {@code operation} from every thread and returns how many were approved. Declines, which come back as a
+     * response, and exceptions both count as failures.
+     */
+    private int runConcurrently(Supplier<TransactionStatusResponse> operation, AtomicInteger failures) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successes = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        try {
+                            if (operation.get().isApproved()) {
+                                successes.incrementAndGet();
+                            } else {
+                                failures.incrementAndGet();
+                            }
+                        } catch (RuntimeException e) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return successes.get();
+    }
+
+    @Test
+    void concurrentDebits_NoLostUpdates() throws Exception {
+        String accountNumber = createAccount(10_000_00L);
+        AtomicInteger failures = new AtomicInteger();
+
+        int successes = runConcurrently(() -> bankingFacadeService.debit(accountNumber, 1_00L), failures);
+
+        assertEquals(TOTAL_OPERATIONS, successes);
+        assertEquals(0, failures.get());
+        assertEquals(10_000_00L - TOTAL_OPERATIONS * 1_00L, balanceOf(accountNumber));
+    }
+
+    @Test
+    void concurrentDebits_NeverOverdraw() throws Exception {
+        int affordableDebits = 100;
+        String accountNumber = createAccount(affordableDebits * 1_00L);
+        AtomicInteger failures = new AtomicInteger();
+
+        int successes = runConcurrently(() -> bankingFacadeService.debit(accountNumber, 1_00L), failures);
+
+        assertEquals(affordableDebits, successes);
+        assertEquals(TOTAL_OPERATIONS - affordableDebits, failures.get());
+        // Never negative: exactly the affordable debits went through
+        assertEquals(0L, balanceOf(accountNumber));
+    }
+
+    @Test
+    void concurrentDebits_AtomicPathOutperformsEntityMerge() throws Exception {
+        String atomicAccount = createAccount(10_000_00L);
+        String legacyAccount = createAccount(10_000_00L);
+
+        AtomicInteger atomicFailures = new AtomicInteger();
+        long atomicStart = System.nanoTime();
+        int atomicSuccesses = runConcurrently(() -> bankingFacadeService.debit(atomicAccount, 1_00L), atomicFailures);
+        long atomicNanos = System.nanoTime() - atomicStart;
+
+        // The previous flow: load the entity, merge it and let the optimistic version check arbitrate
+        AtomicInteger legacyFailures = new AtomicInteger();
+        long legacyStart = System.nanoTime();
+        int legacySuccesses = runConcurrently(() -> transactionTemplate.execute(status -> {
+            BankAccount account = bankAccountRepository.save(bankAccountService.findAccountByNumber(legacyAccount));
+            PostingResult posting = strategyFactory.prepareTransaction(account, new WithdrawalCommand(1_00L));
+            if (!posting.isPosted()) {
+                return TransactionStatusResponse.declined(posting.declineReason());
+            }
+            transactionRepository.save(posting.transaction());
+            return new TransactionStatusResponse(TransactionStatusConstants.STATUS_OK,
+                    posting.transaction().getApprovalCode().toString());
+        }), legacyFailures);
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        double atomicThroughput = atomicSuccesses / (atomicNanos / 1_000_000_000.0);
+        double legacyThroughput = legacySuccesses / (legacyNanos / 1_000_000_000.0);
+        log.info("Atomic path: {} ok / {} failed, {} debits/s; entity merge: {} ok / {} failed, {} debits/s",
+                atomicSuccesses, atomicFailures.get(), String.format("%.0f", atomicThroughput),
+                legacySuccesses, legacyFailures.get(), String.format("%.0f", legacyThroughput));
+
+        assertEquals(0, atomicFailures.get());
+        assertTrue(atomicSuccesses >= legacySuccesses);
+        assertEquals(10_000_00L - atomicSuccesses * 1_00L, balanceOf(atomicAccount));
+    }
+}
@@ -0,0 +1,106 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.domain.constant.RequestConstants;
+import com.eteration.simplebanking.domain.entity.AuditEvent;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.repository.AuditEventRepository;
+import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import com.eteration.simplebanking.util.SecureMaskUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Audit records are written after commit by a background thread, so this test commits for real and polls.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.datasource.url=jdbc:h2:mem:auditdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "app.audit.flush-interval=20ms"
+})
+class AuditLogTest {
+
+    @Autowired
+    private BankingFacadeService bankingFacadeService;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    @Autowired
+    private SecureMaskUtil secureMaskUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    private List<AuditEvent> awaitEvents(String accountNumber, int expected) throws InterruptedException {
+        String encrypted = secureMaskUtil.encryptAccount(accountNumber);
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        List<AuditEvent> events;
+        do {
+            events = auditEventRepository.findAll().stream()
+                    .filter(event -> encrypted.equals(event.getAccountNumber()))
+                    .toList();
+            if (events.size() >= expected) {
+                return events;
+            }
+            Thread.sleep(10);
+        } while (System.nanoTime() < deadline);
+        return events;
+    }
+
+    @Test
+    void committedTransaction_IsAuditedWithRequestContextAndBalances() throws Exception {
+        String accountNumber = "AUD_" + UUID.randomUUID().toString().substring(0, 8);
+        bankingFacadeService.createBankAccount("Audit Owner", accountNumber);
+        bankingFacadeService.credit(accountNumber, 100_00L);
+
+        MDC.put(RequestConstants.MDC_REQUEST_ID, "req-42");
+        MDC.put(RequestConstants.MDC_ACTOR, "10.0.0.7");
+        TransactionStatusResponse response = bankingFacadeService.debit(accountNumber, 30_00L);
+
+        List<AuditEvent> events = awaitEvents(accountNumber, 2);
+        assertEquals(2, events.size());
+        AuditEvent debit = events.stream()
+                .filter(event -> event.getTransactionType() == TransactionType.WITHDRAWAL)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(response.approvalCode(), debit.getApprovalCode().toString());
+        assertEquals("req-42", debit.getRequestId());
+        assertEquals("10.0.0.7", secureMaskUtil.decryptName(debit.getActor()));
+        assertEquals(30_00L, debit.getAmount());
+        assertEquals(100_00L, debit.getBalanceBefore());
+        assertEquals(70_00L, debit.getBalanceAfter());
+        assertTrue(meterRegistry.get("audit.lag").timer().count() >= 2);
+    }
+
+    @Test
+    void declinedTransaction_IsNotAudited() throws Exception {
+        String accountNumber = "AUD_" + UUID.randomUUID().toString().substring(0, 8);
+        bankingFacadeService.createBankAccount("Audit Owner", accountNumber);
+        bankingFacadeService.credit(accountNumber, 10_00L);
+
+        assertFalse(bankingFacadeService.debit(accountNumber, 50_00L).isApproved());
+
+        // The credit's record is written by the same writer, so once it is there the debit would be too
+        List<AuditEvent> events = awaitEvents(accountNumber, 1);
+        Thread.sleep(100);
+        assertEquals(1, awaitEvents(accountNumber, 1).size());
+        assertEquals(TransactionType.DEPOSIT, events.get(0).getTransactionType());
+    }
+}
@@ -3,23 +3,31 @@ package com.eteration.simplebanking.service;
 import com.eteration.simplebanking.domain.entity.BankAccount;
 import com.eteration.simplebanking.domain.repository.BankAccountRepository;
 import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.TransactionValidationException;
 import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
 import com.eteration.simplebanking.model.mapper.BankAccountMapper;
+import com.eteration.simplebanking.service.core.AccountDirectory;
+import com.eteration.simplebanking.service.core.AccountNumberIndex;
 import com.eteration.simplebanking.service.core.BankAccountServiceImpl;
+import com.eteration.simplebanking.util.BankingMetrics;
 import com.eteration.simplebanking.util.SecureMaskUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -35,6 +43,15 @@ class BankAccountServiceTest {
     @Mock
     private SecureMaskUtil secureMaskUtil;
 
+    @Mock
+    private AccountNumberIndex accountNumberIndex;
+
+    @Mock
+    private AccountDirectory accountDirectory;
+
+    @Spy
+    private BankingMetrics bankingMetrics = new BankingMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private BankAccountServiceImpl bankAccountService;
 
@@ -46,17 +63,21 @@ class BankAccountServiceTest {
         testAccount = BankAccount.builder()
                 .owner("Test Owner")
                 .accountNumber("12345")
-                .balance(1000.0)
+                .balance(1000_00L)
                 .build();
 
         testAccountResponse = new BankAccountResponse(
                 "12345",
                 "Test Owner",
-                1000.0,
+                1000_00L,
                 LocalDateTime.now(),
                 null
         );
 
+        lenient().when(accountNumberIndex.mightContain(anyString())).thenReturn(true);
+        // A mocked Long return defaults to 0L, which would read as a directory hit
+        lenient().when(accountDirectory.find(anyString())).thenReturn(null);
+
         // Mock SecureMaskUtil methods
         lenient().when(secureMaskUtil.encryptAccount(anyString())).thenReturn("encrypted_account_12345");
         lenient().when(secureMaskUtil.encryptPhone(anyString())).thenReturn("encrypted_phone_5566");
@@ -74,10 +95,10 @@ class BankAccountServiceTest {
         BankAccount savedAccount = BankAccount.builder()
                 .owner(owner)
                 .accountNumber(accountNumber)
-                .balance(0.0)
+                .balance(0L)
                 .build();
         
-        when(bankAccountRepository.save(any(BankAccount.class))).thenReturn(savedAccount);
+        when(bankAccountRepository.saveAndFlush(any(BankAccount.class))).thenReturn(savedAccount);
         when(bankAccountMapper.toAccountResponse(savedAccount)).thenReturn(testAccountResponse);
 
         // When
@@ -86,8 +107,24 @@ class BankAccountServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(testAccountResponse, result);
-        verify(bankAccountRepository).save(any(BankAccount.class));
+        verify(bankAccountRepository).saveAndFlush(any(BankAccount.class));
         verify(bankAccountMapper).toAccountResponse(savedAccount);
+        verify(accountNumberIndex).add(accountNumber);
+    }
+
+    @Test
+    void createAccount_DuplicateNumber_ThrowsValidationException() {
+        // Given
+        when(bankAccountRepository.saveAndFlush(any(BankAccount.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        // When
+        TransactionValidationException exception = assertThrows(TransactionValidationException.class,
+                () -> bankAccountService.createAccount("Test Owner", "12345"));
+
+        // Then
+        assertEquals(MessageKeys.VALIDATION_ACCOUNT_NUMBER_UNIQUE, exception.getMessageKey());
+        verify(accountNumberIndex, never()).add(anyString());
     }
 
     @Test
@@ -123,6 +160,67 @@ class BankAccountServiceTest {
         verify(bankAccountRepository).findByAccountNumber(accountNumber);
     }
 
+    @Test
+    void findAccountByNumber_AbsentFromIndex_ThrowsWithoutQuery() {
+        // Given
+        String accountNumber = "99999";
+        when(accountNumberIndex.mightContain(accountNumber)).thenReturn(false);
+
+        // When & Then
+        AccountNotFoundException exception = assertThrows(AccountNotFoundException.class, () ->
+                bankAccountService.findAccountByNumber(accountNumber));
+
+        assertEquals(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, exception.getMessageKey());
+        assertThrows(AccountNotFoundException.class, () -> bankAccountService.findAccountIdByNumber(accountNumber));
+        assertThrows(AccountNotFoundException.class, () -> bankAccountService.getAccountSnapshot(accountNumber));
+        verifyNoInteractions(bankAccountRepository);
+    }
+
+    @Test
+    void findAccountIdByNumber_LoadsByKeyOnceThenUsesDirectory() {
+        // Given
+        String accountNumber = "1234567890";
+        when(bankAccountRepository.findIdByAccountKey(1_1234567890L)).thenReturn(Optional.of(42L));
+
+        // When
+        Long loaded = bankAccountService.findAccountIdByNumber(accountNumber);
+        when(accountDirectory.find(accountNumber)).thenReturn(42L);
+        Long cached = bankAccountService.findAccountIdByNumber(accountNumber);
+
+        // Then
+        assertEquals(42L, loaded);
+        assertEquals(42L, cached);
+        verify(accountDirectory).put(accountNumber, 42L);
+        verify(bankAccountRepository, times(1)).findIdByAccountKey(1_1234567890L);
+        verify(bankAccountRepository, never()).findIdByAccountNumber(anyString());
+    }
+
+    @Test
+    void findAccountIdByNumber_DirectoryHit_SkipsIndexAndDatabase() {
+        // Given
+        String accountNumber = "1234567890";
+        when(accountDirectory.find(accountNumber)).thenReturn(42L);
+
+        // When
+        Long accountId = bankAccountService.findAccountIdByNumber(accountNumber);
+
+        // Then
+        assertEquals(42L, accountId);
+        verify(accountNumberIndex, never()).mightContain(anyString());
+        verify(accountDirectory, never()).put(anyString(), anyLong());
+        verifyNoInteractions(bankAccountRepository);
+    }
+
+    @Test
+    void findAccountIdByNumber_NonNumericAccount_LoadsByNumber() {
+        // Given
+        when(bankAccountRepository.findIdByAccountNumber("669-7788")).thenReturn(Optional.of(7L));
+
+        // When & Then
+        assertEquals(7L, bankAccountService.findAccountIdByNumber("669-7788"));
+        verify(bankAccountRepository, never()).findIdByAccountKey(anyLong());
+    }
+
     @Test
     void getAccount_Success() {
         // Given
@@ -157,16 +255,4 @@ class BankAccountServiceTest {
         assertEquals(accountNumber, exception.getParameters()[0]);
         verify(bankAccountRepository).findByAccountNumber(accountNumber);
     }
-
-    @Test
-    void saveAccount_Success() {
-        // Given
-        when(bankAccountRepository.save(testAccount)).thenReturn(testAccount);
-
-        // When
-        bankAccountService.saveAccount(testAccount);
-
-        // Then
-        verify(bankAccountRepository).save(testAccount);
-    }
 } 
\ No newline at end of file
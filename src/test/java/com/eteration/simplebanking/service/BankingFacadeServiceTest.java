@@ -2,6 +2,7 @@ package com.eteration.simplebanking.service;
 
 import com.eteration.simplebanking.domain.entity.BankAccount;
 import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
 import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
 import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
@@ -15,7 +16,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
@@ -43,7 +46,7 @@ class BankingFacadeServiceTest {
         assertNotNull(result);
         assertEquals(accountNumber, result.accountNumber());
         assertEquals(owner, result.owner());
-        assertEquals(0.0, result.balance());
+        assertEquals(0L, result.balance());
     }
 
     @Test
@@ -65,7 +68,7 @@ class BankingFacadeServiceTest {
     @Test
     void credit_Success() {
         String accountNumber = generateUniqueAccountNumber();
-        double amount = 500.0;
+        long amount = 500_00L;
         
         // First create an account
         bankingFacadeService.createBankAccount("Test Owner", accountNumber);
@@ -81,11 +84,11 @@ class BankingFacadeServiceTest {
     @Test
     void debit_Success() {
         String accountNumber = generateUniqueAccountNumber();
-        double amount = 300.0;
+        long amount = 300_00L;
         
         // First create an account and credit it
         bankingFacadeService.createBankAccount("Test Owner", accountNumber);
-        bankingFacadeService.credit(accountNumber, 1000.0);
+        bankingFacadeService.credit(accountNumber, 1000_00L);
         
         // Then debit
         TransactionStatusResponse result = bankingFacadeService.debit(accountNumber, amount);
@@ -98,7 +101,7 @@ class BankingFacadeServiceTest {
     @Test
     void credit_AccountNotFound_ThrowsException() {
         String accountNumber = "99999";
-        double amount = 500.0;
+        long amount = 500_00L;
 
         assertThrows(AccountNotFoundException.class, () -> {
             bankingFacadeService.credit(accountNumber, amount);
@@ -108,7 +111,7 @@ class BankingFacadeServiceTest {
     @Test
     void debit_AccountNotFound_ThrowsException() {
         String accountNumber = "99999";
-        double amount = 300.0;
+        long amount = 300_00L;
 
         assertThrows(AccountNotFoundException.class, () -> {
             bankingFacadeService.debit(accountNumber, amount);
@@ -116,24 +119,27 @@ class BankingFacadeServiceTest {
     }
 
     @Test
-    void debit_InsufficientBalance_ThrowsException() {
+    void debit_InsufficientBalance_ReturnsDecline() {
         String accountNumber = generateUniqueAccountNumber();
-        double amount = 1500.0;
+        long amount = 1500_00L;
         
         // First create an account and credit it with less than the debit amount
         bankingFacadeService.createBankAccount("Test Owner", accountNumber);
-        bankingFacadeService.credit(accountNumber, 1000.0);
+        bankingFacadeService.credit(accountNumber, 1000_00L);
         
         // Then try to debit more than available
-        assertThrows(RuntimeException.class, () -> {
-            bankingFacadeService.debit(accountNumber, amount);
-        });
+        TransactionStatusResponse result = bankingFacadeService.debit(accountNumber, amount);
+
+        assertFalse(result.isApproved());
+        assertNull(result.approvalCode());
+        assertEquals(MessageKeys.ERROR_INSUFFICIENT_BALANCE.getKey(), result.errorCode());
+        assertNotNull(result.message());
     }
 
     @Test
     void credit_MinimumAmount_Success() {
         String accountNumber = generateUniqueAccountNumber();
-        double amount = 0.01; // Minimum allowed amount
+        long amount = 1L; // Minimum allowed amount
         
         // First create an account
         bankingFacadeService.createBankAccount("Test Owner", accountNumber);
@@ -149,11 +155,11 @@ class BankingFacadeServiceTest {
     @Test
     void debit_MinimumAmount_Success() {
         String accountNumber = generateUniqueAccountNumber();
-        double amount = 0.01; // Minimum allowed amount
+        long amount = 1L; // Minimum allowed amount
         
         // First create an account and credit it
         bankingFacadeService.createBankAccount("Test Owner", accountNumber);
-        bankingFacadeService.credit(accountNumber, 1000.0);
+        bankingFacadeService.credit(accountNumber, 1000_00L);
         
         // Then debit minimum amount
         TransactionStatusResponse result = bankingFacadeService.debit(accountNumber, amount);
@@ -0,0 +1,160 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.domain.constant.BatchConstants;
+import com.eteration.simplebanking.domain.enums.PhoneCompany;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.model.dto.request.BatchOperationRequest;
+import com.eteration.simplebanking.model.dto.response.BatchItemResult;
+import com.eteration.simplebanking.model.dto.response.BatchTransactionResponse;
+import com.eteration.simplebanking.service.interfaces.BankAccountService;
+import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Batches commit their own transaction, so this test is not rolled back and uses its own database.
+ */
+@Slf4j
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.datasource.url=jdbc:h2:mem:batchdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+class BatchTransactionTest {
+
+    @Autowired
+    private BankingFacadeService bankingFacadeService;
+
+    @Autowired
+    private BankAccountService bankAccountService;
+
+    private String createAccount() {
+        String accountNumber = "BATCH_" + UUID.randomUUID().toString().substring(0, 8);
+        bankingFacadeService.createBankAccount("Batch Owner", accountNumber);
+        return accountNumber;
+    }
+
+    private static BatchOperationRequest deposit(String accountNumber, long amount) {
+        return new BatchOperationRequest(accountNumber, TransactionType.DEPOSIT, amount, null, null, null);
+    }
+
+    private static BatchOperationRequest withdrawal(String accountNumber, long amount) {
+        return new BatchOperationRequest(accountNumber, TransactionType.WITHDRAWAL, amount, null, null, null);
+    }
+
+    @Test
+    void postBatch_MixedOperations_AppliedInOrderPerAccount() {
+        String first = createAccount();
+        String second = createAccount();
+
+        List<BatchOperationRequest> operations = List.of(
+                deposit(first, 1000_00L),
+                deposit(second, 200_00L),
+                withdrawal(first, 300_00L),
+                new BatchOperationRequest(second, TransactionType.PHONE_BILL_PAYMENT, 50_00L, PhoneCompany.COMPANY_A, "5551234567", null),
+                new BatchOperationRequest(first, TransactionType.CHECK_PAYMENT, 100_00L, null, null, "Payee Name"));
+
+        BatchTransactionResponse response = bankingFacadeService.postBatch(operations);
+
+        assertEquals(5, response.total());
+        assertEquals(5, response.succeeded());
+        assertEquals(0, response.failed());
+        for (int i = 0; i < operations.size(); i++) {
+            BatchItemResult result = response.results().get(i);
+            assertEquals(i, result.index());
+            assertEquals(BatchConstants.STATUS_OK, result.status());
+            assertNotNull(result.approvalCode());
+        }
+        assertEquals(600_00L, bankAccountService.getAccountSnapshot(first).balance());
+        assertEquals(150_00L, bankAccountService.getAccountSnapshot(second).balance());
+    }
+
+    @Test
+    void postBatch_FailedItems_ReportedWithoutAffectingOthers() {
+        String accountNumber = createAccount();
+        String missing = "MISSING_" + UUID.randomUUID().toString().substring(0, 8);
+
+        BatchTransactionResponse response = bankingFacadeService.postBatch(List.of(
+                deposit(accountNumber, 100_00L),
+                withdrawal(accountNumber, 500_00L),
+                deposit(missing, 10_00L),
+                new BatchOperationRequest(accountNumber, TransactionType.PHONE_BILL_PAYMENT, 10_00L, null, null, null),
+                withdrawal(accountNumber, 40_00L)));
+
+        assertEquals(2, response.succeeded());
+        assertEquals(3, response.failed());
+        assertEquals(MessageKeys.ERROR_INSUFFICIENT_BALANCE.getKey(), response.results().get(1).errorCode());
+        assertEquals(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER.getKey(), response.results().get(2).errorCode());
+        assertEquals(MessageKeys.ERROR_INVALID_TRANSACTION.getKey(), response.results().get(3).errorCode());
+        assertNotNull(response.results().get(2).message());
+        assertEquals(BatchConstants.STATUS_OK, response.results().get(4).status());
+        assertEquals(60_00L, bankAccountService.getAccountSnapshot(accountNumber).balance());
+    }
+
+    @Test
+    void postBatch_BalanceOverflow_ReportedWithoutFailingBatch() {
+        String accountNumber = createAccount();
+
+        BatchTransactionResponse response = bankingFacadeService.postBatch(List.of(
+                deposit(accountNumber, Long.MAX_VALUE - 10_00L),
+                deposit(accountNumber, 20_00L),
+                withdrawal(accountNumber, 5_00L)));
+
+        assertEquals(2, response.succeeded());
+        assertEquals(BatchConstants.STATUS_FAILED, response.results().get(1).status());
+        assertEquals(MessageKeys.ERROR_BALANCE_OVERFLOW.getKey(), response.results().get(1).errorCode());
+        assertNotNull(response.results().get(1).message());
+        assertEquals(Long.MAX_VALUE - 15_00L, bankAccountService.getAccountSnapshot(accountNumber).balance());
+    }
+
+    @Test
+    void postBatch_FasterThanSequentialCalls() {
+        int accounts = 10;
+        int operationsPerAccount = 100;
+        List<String> batchAccounts = new ArrayList<>();
+        List<String> sequentialAccounts = new ArrayList<>();
+        for (int i = 0; i < accounts; i++) {
+            batchAccounts.add(createAccount());
+            sequentialAccounts.add(createAccount());
+        }
+
+        List<BatchOperationRequest> operations = new ArrayList<>();
+        for (int i = 0; i < operationsPerAccount; i++) {
+            for (String accountNumber : batchAccounts) {
+                operations.add(deposit(accountNumber, 1_00L));
+            }
+        }
+
+        long sequentialStart = System.nanoTime();
+        for (int i = 0; i < operationsPerAccount; i++) {
+            for (String accountNumber : sequentialAccounts) {
+                bankingFacadeService.credit(accountNumber, 1_00L);
+            }
+        }
+        long sequentialNanos = System.nanoTime() - sequentialStart;
+
+        long batchStart = System.nanoTime();
+        BatchTransactionResponse response = bankingFacadeService.postBatch(operations);
+        long batchNanos = System.nanoTime() - batchStart;
+
+        log.info("{} credits: sequential {} ms, batch {} ms ({}x)", operations.size(),
+                sequentialNanos / 1_000_000, batchNanos / 1_000_000,
+                String.format("%.1f", (double) sequentialNanos / batchNanos));
+
+        assertEquals(operations.size(), response.succeeded());
+        assertEquals(operations.size(), new HashSet<>(response.results().stream().map(BatchItemResult::approvalCode).toList()).size());
+        assertEquals(operationsPerAccount * 1_00L, bankAccountService.getAccountSnapshot(batchAccounts.get(0)).balance());
+        assertTrue(batchNanos < sequentialNanos);
+    }
+}
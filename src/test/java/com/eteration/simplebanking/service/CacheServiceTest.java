@@ -1,31 +1,170 @@
 package com.eteration.simplebanking.service;
 
+import com.eteration.simplebanking.config.CacheProperties;
 import com.eteration.simplebanking.domain.constant.CacheConstants;
+import com.eteration.simplebanking.model.dto.AccountSnapshot;
 import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
 import com.eteration.simplebanking.service.interfaces.BankAccountService;
+import com.eteration.simplebanking.service.interfaces.TransactionService;
+import com.github.benmanes.caffeine.cache.Cache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.cache.caches.transactions.maximum-size=100",
+    "app.cache.caches.transactions.expire-after-write=30s"
+})
 class CacheServiceTest {
 
     @Autowired
     private BankAccountService bankAccountService;
 
+    @Autowired
+    private TransactionService transactionService;
+
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private CacheProperties cacheProperties;
+
+    private Cache<Object, Object> nativeCache(String name) {
+        TransactionAwareCacheDecorator cache = (TransactionAwareCacheDecorator) cacheManager.getCache(name);
+        return ((CaffeineCache) cache.getTargetCache()).getNativeCache();
+    }
+
     @Test
     void testCacheConfiguration() {
         // Cache manager'ın doğru yapılandırıldığını kontrol et
         assertNotNull(cacheManager);
         assertTrue(cacheManager.getCacheNames().contains(CacheConstants.BANK_ACCOUNTS_CACHE));
         assertTrue(cacheManager.getCacheNames().contains(CacheConstants.TRANSACTIONS_CACHE));
+        assertTrue(cacheManager.getCacheNames().contains(CacheConstants.ACCOUNT_SNAPSHOTS_CACHE));
+    }
+
+    @Test
+    void testCachesAreBoundedWithPerCacheSpec() {
+        Cache<Object, Object> transactions = nativeCache(CacheConstants.TRANSACTIONS_CACHE);
+        assertEquals(100L, transactions.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofSeconds(30), transactions.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+
+        Cache<Object, Object> accounts = nativeCache(CacheConstants.BANK_ACCOUNTS_CACHE);
+        assertEquals(cacheProperties.getDefaults().getMaximumSize().longValue(), accounts.policy().eviction().orElseThrow().getMaximum());
+        assertTrue(accounts.policy().isRecordingStats());
+    }
+
+    @Test
+    void testCacheEvictsBeyondMaximumSize() {
+        Cache<Object, Object> transactions = nativeCache(CacheConstants.TRANSACTIONS_CACHE);
+        for (int i = 0; i < 1_000; i++) {
+            transactions.put("key-" + i, i);
+        }
+        transactions.cleanUp();
+
+        assertTrue(transactions.estimatedSize() <= 100);
+        assertTrue(transactions.stats().evictionCount() > 0);
+    }
+
+    @Test
+    void testConcurrentSyncLoadsRunLoaderOnce() throws Exception {
+        org.springframework.cache.Cache cache = cacheManager.getCache(CacheConstants.TRANSACTIONS_CACHE);
+        String key = "sync-" + UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(() -> cache.get(key, () -> {
+                    loads.incrementAndGet();
+                    Thread.sleep(50);
+                    return "loaded";
+                })));
+            }
+            for (Future<String> result : results) {
+                assertEquals("loaded", result.get());
+            }
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testCreateAccountEvictsOnlyItsOwnKeys() {
+        String existing = "CACHE_" + UUID.randomUUID().toString().substring(0, 8);
+        bankAccountService.createAccount("Cached Owner", existing);
+        BankAccountResponse cached = bankAccountService.getAccount(existing);
+        org.springframework.cache.Cache accounts = cacheManager.getCache(CacheConstants.BANK_ACCOUNTS_CACHE);
+        assertNotNull(accounts.get("response:" + existing));
+
+        String created = "CACHE_" + UUID.randomUUID().toString().substring(0, 8);
+        accounts.put("response:" + created, cached);
+        bankAccountService.createAccount("New Owner", created);
+
+        assertNull(accounts.get("response:" + created));
+        assertEquals(cached, accounts.get("response:" + existing).get());
+    }
+
+    @Test
+    void testSnapshotIsCachedAndReplacedAfterCommittedWrite() {
+        String accountNumber = "CACHE_" + UUID.randomUUID().toString().substring(0, 8);
+        bankAccountService.createAccount("Snapshot Owner", accountNumber);
+
+        AccountSnapshot before = bankAccountService.getAccountSnapshot(accountNumber);
+        assertSame(before, bankAccountService.getAccountSnapshot(accountNumber));
+
+        transactionService.credit(accountNumber, 100_00L);
+
+        AccountSnapshot after = bankAccountService.getAccountSnapshot(accountNumber);
+        assertEquals(before.id(), after.id());
+        assertEquals(100_00L, after.balance());
+        assertTrue(after.version() > before.version());
+    }
+
+    @Test
+    void testSnapshotLoadedBeforeCommitIsNotCachedAfterEviction() throws Exception {
+        String accountNumber = "CACHE_" + UUID.randomUUID().toString().substring(0, 8);
+        bankAccountService.createAccount("Racing Owner", accountNumber);
+        AccountSnapshot stale = bankAccountService.getAccountSnapshot(accountNumber);
+        org.springframework.cache.Cache snapshots = cacheManager.getCache(CacheConstants.ACCOUNT_SNAPSHOTS_CACHE);
+        snapshots.evict(accountNumber);
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // The load has read the old row and is still running when the credit commits and evicts
+            Future<Object> load = executor.submit(() -> snapshots.get(accountNumber, () -> {
+                loading.countDown();
+                assertTrue(committed.await(5, TimeUnit.SECONDS));
+                return stale;
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            transactionService.credit(accountNumber, 100_00L);
+            committed.countDown();
+            assertSame(stale, load.get(5, TimeUnit.SECONDS));
+        }
+
+        assertNull(snapshots.get(accountNumber));
+        assertEquals(100_00L, bankAccountService.getAccountSnapshot(accountNumber).balance());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,256 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.config.IdempotencyProperties;
+import com.eteration.simplebanking.domain.constant.MetricConstants;
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.domain.repository.IdempotencyRecordRepository;
+import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.IdempotencyKeyReusedException;
+import com.eteration.simplebanking.exception.TransactionValidationException;
+import com.eteration.simplebanking.model.dto.request.BatchOperationRequest;
+import com.eteration.simplebanking.model.dto.response.BatchTransactionResponse;
+import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import com.eteration.simplebanking.service.core.AccountLockRegistry;
+import com.eteration.simplebanking.service.core.IdempotencyServiceImpl;
+import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import com.eteration.simplebanking.service.interfaces.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Idempotency keys are stored in the posting's transaction, so this test commits for real on its own database.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.datasource.url=jdbc:h2:mem:idempotencydb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+class IdempotencyTest {
+
+    private static final int DUPLICATES = 8;
+
+    @Autowired
+    private BankingFacadeService bankingFacadeService;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private AccountLockRegistry accountLockRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private IdempotencyProperties idempotencyProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String createAccount(long initialBalance) {
+        String accountNumber = "IDEM_" + UUID.randomUUID().toString().substring(0, 8);
+        bankingFacadeService.createBankAccount("Idempotent Owner", accountNumber);
+        if (initialBalance > 0) {
+            bankingFacadeService.credit(accountNumber, initialBalance);
+        }
+        return accountNumber;
+    }
+
+    private long balanceOf(String accountNumber) {
+        Long accountId = bankAccountRepository.findIdByAccountNumber(accountNumber).orElseThrow();
+        return bankAccountRepository.findById(accountId).map(BankAccount::getBalance).orElseThrow();
+    }
+
+    private static void awaitRelease(CountDownLatch release) {
+        try {
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String newKey() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Test
+    void retriedDebit_IsPostedOnceAndReplayed() {
+        String accountNumber = createAccount(100_00L);
+        String key = newKey();
+
+        TransactionStatusResponse first = bankingFacadeService.debit(accountNumber, 30_00L, key);
+        TransactionStatusResponse retry = bankingFacadeService.debit(accountNumber, 30_00L, key);
+
+        assertTrue(first.isApproved());
+        assertEquals(first, retry);
+        assertEquals(70_00L, balanceOf(accountNumber));
+        assertTrue(idempotencyRecordRepository.findByIdempotencyKey(key).isPresent());
+    }
+
+    @Test
+    void keyReusedForDifferentRequest_IsRejected() {
+        String accountNumber = createAccount(100_00L);
+        String key = newKey();
+        bankingFacadeService.debit(accountNumber, 30_00L, key);
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> bankingFacadeService.debit(accountNumber, 40_00L, key));
+        assertThrows(IdempotencyKeyReusedException.class, () -> bankingFacadeService.credit(accountNumber, 30_00L, key));
+        assertEquals(70_00L, balanceOf(accountNumber));
+    }
+
+    @Test
+    void declinedDebit_IsReplayedAsDeclined() {
+        String accountNumber = createAccount(10_00L);
+        String key = newKey();
+
+        TransactionStatusResponse declined = bankingFacadeService.debit(accountNumber, 50_00L, key);
+        bankingFacadeService.credit(accountNumber, 100_00L);
+        TransactionStatusResponse retry = bankingFacadeService.debit(accountNumber, 50_00L, key);
+
+        assertFalse(declined.isApproved());
+        assertEquals(declined, retry);
+        assertEquals(110_00L, balanceOf(accountNumber));
+    }
+
+    @Test
+    void failedRequest_IsNotStored() {
+        String accountNumber = "IDEM_" + UUID.randomUUID().toString().substring(0, 8);
+        String key = newKey();
+
+        assertThrows(AccountNotFoundException.class, () -> bankingFacadeService.credit(accountNumber, 10_00L, key));
+        assertTrue(idempotencyRecordRepository.findByIdempotencyKey(key).isEmpty());
+
+        bankingFacadeService.createBankAccount("Idempotent Owner", accountNumber);
+        assertTrue(bankingFacadeService.credit(accountNumber, 10_00L, key).isApproved());
+        assertEquals(10_00L, balanceOf(accountNumber));
+    }
+
+    @Test
+    void invalidKey_IsRejected() {
+        String accountNumber = createAccount(0);
+
+        assertThrows(TransactionValidationException.class, () -> bankingFacadeService.credit(accountNumber, 10_00L, " "));
+        assertThrows(TransactionValidationException.class,
+                () -> bankingFacadeService.credit(accountNumber, 10_00L, "k".repeat(256)));
+        assertEquals(0L, balanceOf(accountNumber));
+    }
+
+    @Test
+    void keyEvictedFromMemory_IsReplayedFromDatabase() {
+        String accountNumber = createAccount(100_00L);
+        String key = newKey();
+        TransactionStatusResponse first = bankingFacadeService.debit(accountNumber, 30_00L, key);
+
+        // A second instance, or this one after the hot window: nothing in memory, only the table
+        IdempotencyService coldService = new IdempotencyServiceImpl(idempotencyRecordRepository, accountLockRegistry,
+                transactionTemplate, idempotencyProperties, objectMapper, new SimpleMeterRegistry());
+        TransactionStatusResponse replayed = coldService.execute(key, accountNumber,
+                MetricConstants.OP_DEBIT + "|" + accountNumber + "|" + 30_00L,
+                () -> fail("Posted a second time"));
+
+        assertEquals(first.approvalCode(), replayed.approvalCode());
+        assertEquals(70_00L, balanceOf(accountNumber));
+    }
+
+    @Test
+    void retriedBatch_IsPostedOnceAndReplayed() {
+        String accountNumber = createAccount(100_00L);
+        String missingAccount = "IDEM_" + UUID.randomUUID().toString().substring(0, 8);
+        String key = newKey();
+        List<BatchOperationRequest> operations = List.of(
+                new BatchOperationRequest(accountNumber, TransactionType.WITHDRAWAL, 30_00L, null, null, null),
+                new BatchOperationRequest(missingAccount, TransactionType.DEPOSIT, 10_00L, null, null, null));
+
+        BatchTransactionResponse first = bankingFacadeService.postBatch(operations, key);
+        BatchTransactionResponse retry = bankingFacadeService.postBatch(operations, key);
+
+        assertEquals(1, first.succeeded());
+        assertEquals(first, retry);
+        assertEquals(70_00L, balanceOf(accountNumber));
+
+        // Another instance rebuilds the items from the stored outcomes and the request
+        IdempotencyService coldService = new IdempotencyServiceImpl(idempotencyRecordRepository, accountLockRegistry,
+                transactionTemplate, idempotencyProperties, objectMapper, new SimpleMeterRegistry());
+        BatchTransactionResponse replayed = coldService.executeBatch(key, operations,
+                MetricConstants.OP_BATCH + "|" + operations.get(0) + "|" + operations.get(1),
+                () -> fail("Posted a second time"));
+
+        assertEquals(first.results().get(0).approvalCode(), replayed.results().get(0).approvalCode());
+        assertEquals(first.results().get(1).errorCode(), replayed.results().get(1).errorCode());
+        assertEquals(missingAccount, replayed.results().get(1).accountNumber());
+        assertEquals(1, replayed.failed());
+
+        List<BatchOperationRequest> other = List.of(
+                new BatchOperationRequest(accountNumber, TransactionType.WITHDRAWAL, 40_00L, null, null, null));
+        assertThrows(IdempotencyKeyReusedException.class, () -> bankingFacadeService.postBatch(other, key));
+        assertThrows(IdempotencyKeyReusedException.class, () -> bankingFacadeService.debit(accountNumber, 30_00L, key));
+        assertEquals(70_00L, balanceOf(accountNumber));
+    }
+
+    @Test
+    void concurrentDuplicates_CoalesceOntoOneExecution() throws Exception {
+        String key = newKey();
+        String request = "CREDIT|IDEM_CONCURRENT|100";
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        double coalescedBefore = meterRegistry.get("idempotency.requests").tag("result", "coalesced").counter().count();
+
+        ExecutorService executor = Executors.newFixedThreadPool(DUPLICATES);
+        try {
+            List<Future<TransactionStatusResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < DUPLICATES; i++) {
+                futures.add(executor.submit(() -> idempotencyService.execute(key, "IDEM_CONCURRENT", request, () -> {
+                    executions.incrementAndGet();
+                    awaitRelease(release);
+                    return new TransactionStatusResponse("OK", UUID.randomUUID().toString());
+                })));
+            }
+
+            // Hold the first execution until every duplicate is waiting on it
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.get("idempotency.requests").tag("result", "coalesced").counter().count()
+                    < coalescedBefore + DUPLICATES - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            TransactionStatusResponse first = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<TransactionStatusResponse> future : futures) {
+                assertEquals(first, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, executions.get());
+    }
+}
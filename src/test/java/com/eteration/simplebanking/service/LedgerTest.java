@@ -0,0 +1,154 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.repository.BalanceSnapshotRepository;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.domain.repository.TransactionRepository;
+import com.eteration.simplebanking.model.dto.LedgerReconciliation;
+import com.eteration.simplebanking.model.dto.request.BatchOperationRequest;
+import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import com.eteration.simplebanking.service.interfaces.LedgerService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "app.ledger.snapshot-interval=5"
+})
+@Transactional
+class LedgerTest {
+
+    @Autowired
+    private BankingFacadeService bankingFacadeService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private String createAccount() {
+        String accountNumber = "LEDG_" + UUID.randomUUID().toString().substring(0, 8);
+        bankingFacadeService.createBankAccount("Ledger Owner", accountNumber);
+        return accountNumber;
+    }
+
+    private List<Transaction> ledgerOf(String accountNumber) {
+        Long accountId = bankAccountRepository.findIdByAccountNumber(accountNumber).orElseThrow();
+        return transactionRepository.findLedgerAfter(accountId, 0L);
+    }
+
+    @Test
+    void post_StampsSequenceAndRunningBalance() {
+        String accountNumber = createAccount();
+
+        bankingFacadeService.credit(accountNumber, 100_00L);
+        bankingFacadeService.debit(accountNumber, 40_00L);
+        bankingFacadeService.checkPayment(accountNumber, "Payee", 10_00L);
+        bankingFacadeService.credit(accountNumber, 15_50L);
+
+        List<Transaction> ledger = ledgerOf(accountNumber);
+        assertEquals(4, ledger.size());
+        long[] expected = {100_00L, 60_00L, 50_00L, 65_50L};
+        for (int i = 0; i < ledger.size(); i++) {
+            assertEquals(i + 1L, ledger.get(i).getSequenceNumber());
+            assertEquals(expected[i], ledger.get(i).getBalanceAfter());
+        }
+    }
+
+    @Test
+    void reconcile_ReplaysOnlySinceLatestSnapshot() {
+        String accountNumber = createAccount();
+        for (int i = 0; i < 12; i++) {
+            if (i % 3 == 2) {
+                bankingFacadeService.debit(accountNumber, 30_00L);
+            } else {
+                bankingFacadeService.credit(accountNumber, 100_00L);
+            }
+        }
+
+        LedgerReconciliation result = ledgerService.reconcile(accountNumber);
+
+        assertTrue(result.consistent());
+        assertEquals(10L, result.snapshotSequence());
+        assertEquals(2, result.replayedTransactions());
+        assertEquals(12L, result.ledgerSequence());
+        assertEquals(8 * 100_00L - 4 * 30_00L, result.accountBalance());
+        assertEquals(result.accountBalance(), result.replayedBalance());
+
+        Long accountId = bankAccountRepository.findIdByAccountNumber(accountNumber).orElseThrow();
+        assertEquals(10L, balanceSnapshotRepository.findFirstByAccountIdOrderBySequenceNumberDesc(accountId)
+                .orElseThrow().getSequenceNumber());
+    }
+
+    @Test
+    void reconcile_RejectedDebitDoesNotAdvanceLedger() {
+        String accountNumber = createAccount();
+        bankingFacadeService.credit(accountNumber, 50_00L);
+
+        assertFalse(bankingFacadeService.debit(accountNumber, 500_00L).isApproved());
+
+        LedgerReconciliation result = ledgerService.reconcile(accountNumber);
+        assertTrue(result.consistent());
+        assertEquals(1L, result.ledgerSequence());
+    }
+
+    @Test
+    void reconcile_BatchPostingKeepsLedgerConsistent() {
+        String accountNumber = createAccount();
+        List<BatchOperationRequest> operations = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            operations.add(new BatchOperationRequest(accountNumber, TransactionType.DEPOSIT, 10_00L, null, null, null));
+        }
+
+        bankingFacadeService.postBatch(operations);
+        entityManager.flush();
+
+        LedgerReconciliation result = ledgerService.reconcile(accountNumber);
+        assertTrue(result.consistent());
+        assertEquals(5L, result.snapshotSequence());
+        assertEquals(2, result.replayedTransactions());
+        assertEquals(70_00L, result.replayedBalance());
+    }
+
+    @Test
+    void reconcile_DetectsBalanceChangedOutsideTheLedger() {
+        String accountNumber = createAccount();
+        bankingFacadeService.credit(accountNumber, 100_00L);
+        bankingFacadeService.credit(accountNumber, 100_00L);
+
+        // Balances are minor units, so 1_00 adds 1.00
+        entityManager.createQuery("UPDATE BankAccount a SET a.balance = a.balance + :drift WHERE a.accountNumber = :accountNumber")
+                .setParameter("drift", 1_00L)
+                .setParameter("accountNumber", accountNumber)
+                .executeUpdate();
+
+        LedgerReconciliation result = ledgerService.reconcile(accountNumber);
+        assertFalse(result.consistent());
+        assertEquals(200_00L, result.replayedBalance());
+        assertEquals(201_00L, result.accountBalance());
+    }
+}
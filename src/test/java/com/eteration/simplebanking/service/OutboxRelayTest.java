@@ -0,0 +1,164 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.domain.repository.OutboxEventRepository;
+import com.eteration.simplebanking.model.dto.TransactionEvent;
+import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import com.eteration.simplebanking.service.core.OutboxRelay;
+import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import com.eteration.simplebanking.service.interfaces.OutboxPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Not transactional: the outbox rows must be committed before the relay can claim them.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.datasource.url=jdbc:h2:mem:outboxdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "app.outbox.relay.enabled=true",
+    // Polled by hand below
+    "app.outbox.relay.poll-interval-ms=3600000",
+    "app.outbox.relay.batch-size=10"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private BankingFacadeService bankingFacadeService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private RecordingPublisher publisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @TestConfiguration
+    static class PublisherConfig {
+
+        @Bean
+        @Primary
+        RecordingPublisher recordingPublisher() {
+            return new RecordingPublisher();
+        }
+    }
+
+    static class RecordingPublisher implements OutboxPublisher {
+
+        private final List<TransactionEvent> events = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean failNext = new AtomicBoolean();
+
+        @Override
+        public void publish(List<TransactionEvent> batch) {
+            if (failNext.compareAndSet(true, false)) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            events.addAll(batch);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.relay();
+        outboxEventRepository.deleteAllInBatch();
+        publisher.events.clear();
+        publisher.failNext.set(false);
+    }
+
+    private String createAccount() {
+        String accountNumber = "OBX_" + UUID.randomUUID().toString().substring(0, 8);
+        bankingFacadeService.createBankAccount("Outbox Owner", accountNumber);
+        return accountNumber;
+    }
+
+    @Test
+    void committedTransactions_ArePublishedInBatchesAndRemoved() {
+        String accountNumber = createAccount();
+        for (int i = 0; i < 25; i++) {
+            bankingFacadeService.credit(accountNumber, 10_00L);
+        }
+        TransactionStatusResponse debit = bankingFacadeService.debit(accountNumber, 5_00L);
+        assertEquals(26, outboxEventRepository.count());
+        double publishedBefore = meterRegistry.get("outbox.published").counter().count();
+
+        outboxRelay.relay();
+
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(26, publisher.events.size());
+        assertEquals(26.0, meterRegistry.get("outbox.published").counter().count() - publishedBefore);
+        TransactionEvent last = publisher.events.get(25);
+        assertEquals(TransactionType.WITHDRAWAL, last.transactionType());
+        assertEquals(accountNumber, last.accountNumber());
+        assertEquals(debit.approvalCode(), last.approvalCode().toString());
+        assertEquals(26L, last.sequenceNumber());
+        assertEquals(245_00L, last.balanceAfter());
+        assertTrue(meterRegistry.get("outbox.relay.lag").timer().count() >= 26);
+    }
+
+    @Test
+    void rejectedTransaction_LeavesNoEvent() {
+        String accountNumber = createAccount();
+
+        assertFalse(bankingFacadeService.debit(accountNumber, 1_00L).isApproved());
+
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void failedPublish_KeepsBatchForNextPoll() {
+        String accountNumber = createAccount();
+        bankingFacadeService.credit(accountNumber, 10_00L);
+        publisher.failNext.set(true);
+
+        outboxRelay.relay();
+        assertEquals(1, outboxEventRepository.count());
+        assertTrue(publisher.events.isEmpty());
+
+        outboxRelay.relay();
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(1, publisher.events.size());
+    }
+
+    @Test
+    void concurrentRelays_PublishEachEventOnce() {
+        String accountNumber = createAccount();
+        for (int i = 0; i < 200; i++) {
+            bankingFacadeService.credit(accountNumber, 1_00L);
+        }
+
+        CompletableFuture.allOf(
+                CompletableFuture.runAsync(outboxRelay::relay),
+                CompletableFuture.runAsync(outboxRelay::relay),
+                CompletableFuture.runAsync(outboxRelay::relay)).join();
+        // A relay that found nothing left to claim in its round stops early; pick up any stragglers
+        outboxRelay.relay();
+
+        assertEquals(200, publisher.events.size());
+        Set<Long> ids = new HashSet<>();
+        publisher.events.forEach(event -> assertTrue(ids.add(event.eventId()), "published twice: " + event.eventId()));
+        assertEquals(0, outboxEventRepository.count());
+    }
+}
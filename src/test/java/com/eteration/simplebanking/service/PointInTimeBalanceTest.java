@@ -0,0 +1,166 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.model.dto.response.AccountBalanceResponse;
+import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Seeds one account with a million ledger rows through plain SQL; the rows are committed, so this test uses its own
+ * database.
+ */
+@Slf4j
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.datasource.url=jdbc:h2:mem:pitdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "app.ledger.snapshot-interval=100"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PointInTimeBalanceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final int LARGE_HISTORY = 1_000_000;
+    private static final int SMALL_HISTORY = 100;
+    private static final int LEGACY_HISTORY = 1_000;
+    private static final int QUERIES = 200;
+
+    @Autowired
+    private BankingFacadeService bankingFacadeService;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String largeAccount;
+    private String smallAccount;
+    private String legacyAccount;
+
+    @BeforeAll
+    void seedLedgers() {
+        largeAccount = seedAccount(LARGE_HISTORY, 100_000_000L, true);
+        smallAccount = seedAccount(SMALL_HISTORY, 200_000_000L, true);
+        legacyAccount = seedAccount(LEGACY_HISTORY, 300_000_000L, false);
+    }
+
+    /**
+     * One deposit of 1.00 per second from {@link #START}, so after transaction n the balance is n.00. Legacy rows
+     * carry no stored balance, which forces the snapshot-and-replay path.
+     */
+    private String seedAccount(int transactions, long idOffset, boolean withBalanceAfter) {
+        String accountNumber = "PIT_" + UUID.randomUUID().toString().substring(0, 8);
+        bankingFacadeService.createBankAccount("Point In Time Owner", accountNumber);
+        Long accountId = bankAccountRepository.findIdByAccountNumber(accountNumber).orElseThrow();
+
+        long started = System.nanoTime();
+        jdbcTemplate.update("INSERT INTO transactions (id, transaction_type, amount, \"DATE\", account_id, approval_code, "
+                + "sequence_number, balance_after, created_at, version) "
+                + "SELECT ? + X, 'DEPOSIT', 100, DATEADD('SECOND', X, CAST(? AS TIMESTAMP)), ?, RANDOM_UUID(), "
+                + (withBalanceAfter ? "X, X * 100, " : "NULL, NULL, ")
+                + "CURRENT_TIMESTAMP, 0 FROM SYSTEM_RANGE(1, ?)",
+                idOffset, START, accountId, transactions);
+        jdbcTemplate.update("INSERT INTO balance_snapshots (id, account_id, sequence_number, balance, taken_at, created_at, version) "
+                + "SELECT ? + X, ?, X, X * 100, DATEADD('SECOND', X, CAST(? AS TIMESTAMP)), CURRENT_TIMESTAMP, 0 "
+                + "FROM SYSTEM_RANGE(1, ?) WHERE MOD(X, 100) = 0",
+                idOffset, accountId, START, transactions);
+        jdbcTemplate.update("UPDATE bank_accounts SET balance = ?, ledger_sequence = ? WHERE id = ?",
+                transactions * 1_00L, transactions, accountId);
+        log.info("Seeded {} transactions in {} ms", transactions, (System.nanoTime() - started) / 1_000_000);
+        return accountNumber;
+    }
+
+    @Test
+    void getBalanceAt_ReturnsBalanceAfterLastTransactionAtOrBeforeTimestamp() {
+        AccountBalanceResponse middle = bankingFacadeService.getBalanceAt(largeAccount, START.plusSeconds(500_000));
+        assertEquals(500_000_00L, middle.balance());
+        assertEquals(500_000L, middle.ledgerSequence());
+        assertEquals(START.plusSeconds(500_000), middle.lastTransactionDate());
+
+        AccountBalanceResponse between = bankingFacadeService.getBalanceAt(largeAccount, START.plusSeconds(750_000).plusNanos(500_000_000));
+        assertEquals(750_000_00L, between.balance());
+
+        AccountBalanceResponse latest = bankingFacadeService.getBalanceAt(largeAccount, START.plusYears(1));
+        assertEquals(LARGE_HISTORY * 1_00L, latest.balance());
+
+        AccountBalanceResponse beforeHistory = bankingFacadeService.getBalanceAt(largeAccount, START);
+        assertEquals(0L, beforeHistory.balance());
+        assertEquals(0L, beforeHistory.ledgerSequence());
+        assertNull(beforeHistory.lastTransactionDate());
+    }
+
+    @Test
+    void getBalanceAt_RowsWithoutStoredBalance_ReplayFromNearestSnapshot() {
+        AccountBalanceResponse result = bankingFacadeService.getBalanceAt(legacyAccount, START.plusSeconds(437));
+
+        assertEquals(437_00L, result.balance());
+        assertEquals(437L, result.ledgerSequence());
+    }
+
+    @Test
+    void getBalanceAt_CostIndependentOfHistoryLength() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        bankingFacadeService.getBalanceAt(smallAccount, START.plusSeconds(SMALL_HISTORY / 2));
+        long smallStatements = statistics.getPrepareStatementCount();
+        long smallLoads = statistics.getEntityLoadCount();
+
+        statistics.clear();
+        bankingFacadeService.getBalanceAt(largeAccount, START.plusSeconds(LARGE_HISTORY / 2));
+        long largeStatements = statistics.getPrepareStatementCount();
+        long largeLoads = statistics.getEntityLoadCount();
+
+        assertEquals(smallStatements, largeStatements);
+        assertEquals(0, largeLoads);
+        assertEquals(smallLoads, largeLoads);
+
+        long smallMedian = medianNanos(smallAccount, SMALL_HISTORY);
+        long largeMedian = medianNanos(largeAccount, LARGE_HISTORY);
+        log.info("Point-in-time balance median: {} history {} us, {} history {} us",
+                SMALL_HISTORY, smallMedian / 1_000, LARGE_HISTORY, largeMedian / 1_000);
+
+        // Bounded, not proportional: a million-row history must not be orders of magnitude slower
+        assertTrue(largeMedian < Math.max(smallMedian * 10, 50_000_000L));
+    }
+
+    private long medianNanos(String accountNumber, int history) {
+        Random random = new Random(42);
+        // Warm up the plan cache and JIT before timing
+        for (int i = 0; i < 50; i++) {
+            bankingFacadeService.getBalanceAt(accountNumber, START.plusSeconds(random.nextInt(history) + 1));
+        }
+        long[] samples = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            LocalDateTime at = START.plusSeconds(random.nextInt(history) + 1);
+            long begin = System.nanoTime();
+            bankingFacadeService.getBalanceAt(accountNumber, at);
+            samples[i] = System.nanoTime() - begin;
+        }
+        Arrays.sort(samples);
+        return samples[QUERIES / 2];
+    }
+}
@@ -0,0 +1,194 @@
+package com.eteration.simplebanking.service;
+
+import com.eteration.simplebanking.domain.constant.PaginationConstants;
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.entity.transaction.DepositTransaction;
+import com.eteration.simplebanking.domain.entity.transaction.Transaction;
+import com.eteration.simplebanking.domain.repository.BankAccountRepository;
+import com.eteration.simplebanking.domain.repository.TransactionRepository;
+import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.TransactionValidationException;
+import com.eteration.simplebanking.model.dto.response.BankAccountResponse;
+import com.eteration.simplebanking.model.dto.response.TransactionPageResponse;
+import com.eteration.simplebanking.model.dto.response.TransactionResponse;
+import com.eteration.simplebanking.service.interfaces.BankingFacadeService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional
+class TransactionHistoryTest {
+
+    private static final int SHORT_HISTORY = 45;
+    private static final int LONG_HISTORY = 3000;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private BankingFacadeService bankingFacadeService;
+
+    @Autowired
+    private BankAccountRepository bankAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private String createAccountWithHistory(int transactionCount) {
+        String accountNumber = "HIST_" + UUID.randomUUID().toString().substring(0, 8);
+        // Through the facade, so the account number index knows the account
+        bankingFacadeService.createBankAccount("History Owner", accountNumber);
+        BankAccount account = bankAccountRepository.findByAccountNumber(accountNumber).orElseThrow();
+
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Transaction> transactions = new ArrayList<>(transactionCount);
+        for (int i = 0; i < transactionCount; i++) {
+            DepositTransaction deposit = new DepositTransaction();
+            deposit.setAmount((i + 1) * 1_00L);
+            // Pairs share a timestamp so the id tie-breaker is exercised
+            deposit.setDate(start.plusSeconds(i / 2));
+            deposit.setApprovalCode(UUID.randomUUID());
+            deposit.setAccount(account);
+            transactions.add(deposit);
+        }
+        transactionRepository.saveAll(transactions);
+
+        entityManager.flush();
+        entityManager.clear();
+        return accountNumber;
+    }
+
+    @Test
+    void getTransactionHistory_WalksAllPagesNewestFirst() {
+        String accountNumber = createAccountWithHistory(SHORT_HISTORY);
+
+        List<TransactionResponse> collected = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            TransactionPageResponse page = bankingFacadeService.getTransactionHistory(accountNumber, cursor, PAGE_SIZE);
+            assertTrue(page.transactions().size() <= PAGE_SIZE);
+            collected.addAll(page.transactions());
+            cursor = page.nextCursor();
+            assertEquals(cursor != null, page.hasMore());
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(SHORT_HISTORY, collected.size());
+
+        Set<String> approvalCodes = new HashSet<>();
+        collected.forEach(t -> approvalCodes.add(t.approvalCode()));
+        assertEquals(SHORT_HISTORY, approvalCodes.size());
+
+        assertEquals(SHORT_HISTORY * 1_00L, collected.get(0).amount());
+        assertEquals(1_00L, collected.get(collected.size() - 1).amount());
+        for (int i = 1; i < collected.size(); i++) {
+            assertFalse(collected.get(i).date().isAfter(collected.get(i - 1).date()));
+        }
+    }
+
+    @Test
+    void getTransactionHistory_OversizedPages_ClampedAndContinuedWithoutGapsOrRepeats() {
+        String accountNumber = createAccountWithHistory(LONG_HISTORY);
+
+        long expectedAmount = LONG_HISTORY * 1_00L;
+        String cursor = null;
+        int pages = 0;
+        do {
+            TransactionPageResponse page = bankingFacadeService.getTransactionHistory(accountNumber, cursor, LONG_HISTORY);
+            // LONG_HISTORY is a multiple of the cap, so every page is full and the last one has no cursor
+            assertEquals(PaginationConstants.MAX_PAGE_SIZE, page.transactions().size());
+            cursor = page.nextCursor();
+            assertEquals(cursor != null, page.hasMore());
+            // Each page starts right after the previous one's last row, ties on date included
+            for (TransactionResponse transaction : page.transactions()) {
+                assertEquals(expectedAmount, transaction.amount());
+                expectedAmount -= 1_00L;
+            }
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(0L, expectedAmount);
+        assertEquals(LONG_HISTORY / PaginationConstants.MAX_PAGE_SIZE, pages);
+    }
+
+    @Test
+    void getTransactionHistory_LoadsSameNumberOfRowsRegardlessOfHistoryLength() {
+        String shortAccount = createAccountWithHistory(SHORT_HISTORY);
+        String longAccount = createAccountWithHistory(LONG_HISTORY);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        TransactionPageResponse shortPage = bankingFacadeService.getTransactionHistory(shortAccount, null, PAGE_SIZE);
+        long shortLoads = statistics.getEntityLoadCount();
+        entityManager.clear();
+
+        statistics.clear();
+        TransactionPageResponse longPage = bankingFacadeService.getTransactionHistory(longAccount, null, PAGE_SIZE);
+        long longLoads = statistics.getEntityLoadCount();
+        entityManager.clear();
+
+        statistics.clear();
+        TransactionPageResponse deepPage = bankingFacadeService.getTransactionHistory(longAccount, longPage.nextCursor(), PAGE_SIZE);
+        long deepLoads = statistics.getEntityLoadCount();
+
+        assertEquals(PAGE_SIZE, shortPage.transactions().size());
+        assertEquals(PAGE_SIZE, longPage.transactions().size());
+        assertEquals(PAGE_SIZE, deepPage.transactions().size());
+        assertEquals(shortLoads, longLoads);
+        assertEquals(longLoads, deepLoads);
+        assertTrue(longLoads <= PAGE_SIZE + 1);
+    }
+
+    @Test
+    void getBankAccountSummary_ReturnsOnlyRecentTransactions() {
+        String accountNumber = createAccountWithHistory(SHORT_HISTORY);
+
+        BankAccountResponse result = bankingFacadeService.getBankAccountSummary(accountNumber, 5);
+
+        assertEquals(accountNumber, result.accountNumber());
+        assertEquals(5, result.transactions().size());
+        assertEquals(SHORT_HISTORY * 1_00L, result.transactions().get(0).amount());
+    }
+
+    @Test
+    void getTransactionHistory_InvalidCursor_ThrowsException() {
+        String accountNumber = createAccountWithHistory(1);
+
+        assertThrows(TransactionValidationException.class, () ->
+                bankingFacadeService.getTransactionHistory(accountNumber, "not-a-cursor", PAGE_SIZE));
+    }
+
+    @Test
+    void getTransactionHistory_AccountNotFound_ThrowsException() {
+        assertThrows(AccountNotFoundException.class, () ->
+                bankingFacadeService.getTransactionHistory("99999", null, PAGE_SIZE));
+    }
+}
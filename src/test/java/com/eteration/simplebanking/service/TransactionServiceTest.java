@@ -1,15 +1,16 @@
 package com.eteration.simplebanking.service;
 
-import com.eteration.simplebanking.domain.entity.BankAccount;
-import com.eteration.simplebanking.domain.entity.transaction.Transaction;
 import com.eteration.simplebanking.domain.enums.PhoneCompany;
-import com.eteration.simplebanking.domain.enums.TransactionType;
-import com.eteration.simplebanking.domain.repository.TransactionRepository;
-import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
 import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
 import com.eteration.simplebanking.service.core.TransactionServiceImpl;
-import com.eteration.simplebanking.service.strategy.TransactionStrategy;
+import com.eteration.simplebanking.service.interfaces.BankAccountService;
 import com.eteration.simplebanking.service.strategy.TransactionStrategyFactory;
+import com.eteration.simplebanking.service.strategy.command.CheckPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.DepositCommand;
+import com.eteration.simplebanking.service.strategy.command.PhoneBillPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.WithdrawalCommand;
 import com.eteration.simplebanking.util.SecureMaskUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,18 +33,18 @@ class TransactionServiceTest {
     @Mock
     private SecureMaskUtil secureMaskUtil;
 
+    @Mock
+    private BankAccountService bankAccountService;
+
     @InjectMocks
     private TransactionServiceImpl transactionService;
 
-    private BankAccount testAccount;
+    private static final String ACCOUNT_NUMBER = "12345";
+    private static final Long ACCOUNT_ID = 1L;
 
     @BeforeEach
     void setUp() {
-        testAccount = BankAccount.builder()
-                .owner("Test Owner")
-                .accountNumber("12345")
-                .balance(1000.0)
-                .build();
+        lenient().when(bankAccountService.findAccountIdByNumber(ACCOUNT_NUMBER)).thenReturn(ACCOUNT_ID);
 
         // Mock SecureMaskUtil methods
         lenient().when(secureMaskUtil.encryptAccount(anyString())).thenReturn("encrypted_account_12345");
@@ -56,51 +57,53 @@ class TransactionServiceTest {
     @Test
     void credit_Success() {
         // Given
-        double amount = 500.0;
+        long amount = 500_00L;
         TransactionStatusResponse expectedResponse = new TransactionStatusResponse("OK", "test-approval-code");
-        when(strategyFactory.executeTransaction(TransactionType.DEPOSIT, testAccount, amount))
+        when(strategyFactory.executeAtomicTransaction(ACCOUNT_ID, ACCOUNT_NUMBER, new DepositCommand(amount)))
                 .thenReturn(expectedResponse);
 
         // When
-        TransactionStatusResponse result = transactionService.credit(testAccount, amount);
+        TransactionStatusResponse result = transactionService.credit(ACCOUNT_NUMBER, amount);
 
         // Then
         assertNotNull(result);
         assertEquals("OK", result.status());
         assertNotNull(result.approvalCode());
-        verify(strategyFactory).executeTransaction(TransactionType.DEPOSIT, testAccount, amount);
+        verify(strategyFactory).executeAtomicTransaction(ACCOUNT_ID, ACCOUNT_NUMBER, new DepositCommand(amount));
     }
 
     @Test
     void debit_Success() {
         // Given
-        double amount = 300.0;
+        long amount = 300_00L;
         TransactionStatusResponse expectedResponse = new TransactionStatusResponse("OK", "test-approval-code");
-        when(strategyFactory.executeTransaction(TransactionType.WITHDRAWAL, testAccount, amount))
+        when(strategyFactory.executeAtomicTransaction(ACCOUNT_ID, ACCOUNT_NUMBER, new WithdrawalCommand(amount)))
                 .thenReturn(expectedResponse);
 
         // When
-        TransactionStatusResponse result = transactionService.debit(testAccount, amount);
+        TransactionStatusResponse result = transactionService.debit(ACCOUNT_NUMBER, amount);
 
         // Then
         assertNotNull(result);
         assertEquals("OK", result.status());
         assertNotNull(result.approvalCode());
-        verify(strategyFactory).executeTransaction(TransactionType.WITHDRAWAL, testAccount, amount);
+        verify(strategyFactory).executeAtomicTransaction(ACCOUNT_ID, ACCOUNT_NUMBER, new WithdrawalCommand(amount));
     }
 
     @Test
-    void debit_InsufficientBalance_ThrowsException() {
+    void debit_InsufficientBalance_ReturnsDecline() {
         // Given
-        double amount = 1500.0;
-        when(strategyFactory.executeTransaction(TransactionType.WITHDRAWAL, testAccount, amount))
-                .thenThrow(new RuntimeException("Debit transaction failed: Insufficient balance"));
+        long amount = 1500_00L;
+        when(strategyFactory.executeAtomicTransaction(ACCOUNT_ID, ACCOUNT_NUMBER, new WithdrawalCommand(amount)))
+                .thenReturn(TransactionStatusResponse.declined(MessageKeys.ERROR_INSUFFICIENT_BALANCE));
 
-        // When & Then
-        assertThrows(RuntimeException.class, () -> {
-            transactionService.debit(testAccount, amount);
-        });
-        verify(strategyFactory).executeTransaction(TransactionType.WITHDRAWAL, testAccount, amount);
+        // When
+        TransactionStatusResponse result = transactionService.debit(ACCOUNT_NUMBER, amount);
+
+        // Then
+        assertFalse(result.isApproved());
+        assertEquals(MessageKeys.ERROR_INSUFFICIENT_BALANCE.getKey(), result.errorCode());
+        assertNull(result.approvalCode());
     }
 
     @Test
@@ -108,103 +111,83 @@ class TransactionServiceTest {
         // Given
         PhoneCompany phoneCompany = PhoneCompany.COMPANY_A;
         String phoneNumber = "5423345566";
-        double amount = 100.0;
+        long amount = 100_00L;
         TransactionStatusResponse expectedResponse = new TransactionStatusResponse("OK", "test-approval-code");
-        when(strategyFactory.executeTransaction(TransactionType.PHONE_BILL_PAYMENT, testAccount, phoneCompany, phoneNumber, amount))
+        when(strategyFactory.executeAtomicTransaction(ACCOUNT_ID, ACCOUNT_NUMBER, new PhoneBillPaymentCommand(phoneCompany, phoneNumber, amount)))
                 .thenReturn(expectedResponse);
 
         // When
-        TransactionStatusResponse result = transactionService.phoneBillPayment(testAccount, phoneCompany, phoneNumber, amount);
+        TransactionStatusResponse result = transactionService.phoneBillPayment(ACCOUNT_NUMBER, phoneCompany, phoneNumber, amount);
 
         // Then
         assertNotNull(result);
         assertEquals("OK", result.status());
         assertNotNull(result.approvalCode());
-        verify(strategyFactory).executeTransaction(TransactionType.PHONE_BILL_PAYMENT, testAccount, phoneCompany, phoneNumber, amount);
+        verify(strategyFactory).executeAtomicTransaction(ACCOUNT_ID, ACCOUNT_NUMBER, new PhoneBillPaymentCommand(phoneCompany, phoneNumber, amount));
     }
 
     @Test
-    void phoneBillPayment_InsufficientBalance_ThrowsException() {
+    void phoneBillPayment_InsufficientBalance_ReturnsDecline() {
         // Given
         PhoneCompany phoneCompany = PhoneCompany.COMPANY_A;
         String phoneNumber = "5423345566";
-        double amount = 1500.0;
-        when(strategyFactory.executeTransaction(TransactionType.PHONE_BILL_PAYMENT, testAccount, phoneCompany, phoneNumber, amount))
-                .thenThrow(new RuntimeException("PhoneBillPayment transaction failed: Insufficient balance"));
+        long amount = 1500_00L;
+        when(strategyFactory.executeAtomicTransaction(ACCOUNT_ID, ACCOUNT_NUMBER, new PhoneBillPaymentCommand(phoneCompany, phoneNumber, amount)))
+                .thenReturn(TransactionStatusResponse.declined(MessageKeys.INSUFFICIENT_BALANCE_FOR_PHONE_BILL));
 
-        // When & Then
-        assertThrows(RuntimeException.class, () -> {
-            transactionService.phoneBillPayment(testAccount, phoneCompany, phoneNumber, amount);
-        });
-        verify(strategyFactory).executeTransaction(TransactionType.PHONE_BILL_PAYMENT, testAccount, phoneCompany, phoneNumber, amount);
+        // When
+        TransactionStatusResponse result = transactionService.phoneBillPayment(ACCOUNT_NUMBER, phoneCompany, phoneNumber, amount);
+
+        // Then
+        assertFalse(result.isApproved());
+        assertEquals(MessageKeys.INSUFFICIENT_BALANCE_FOR_PHONE_BILL.getKey(), result.errorCode());
+        assertNull(result.approvalCode());
     }
 
     @Test
     void checkPayment_Success() {
         // Given
         String payee = "Test Payee";
-        double amount = 200.0;
+        long amount = 200_00L;
         TransactionStatusResponse expectedResponse = new TransactionStatusResponse("OK", "test-approval-code");
-        when(strategyFactory.executeTransaction(TransactionType.CHECK_PAYMENT, testAccount, payee, amount))
+        when(strategyFactory.executeAtomicTransaction(ACCOUNT_ID, ACCOUNT_NUMBER, new CheckPaymentCommand(payee, amount)))
                 .thenReturn(expectedResponse);
 
         // When
-        TransactionStatusResponse result = transactionService.checkPayment(testAccount, payee, amount);
+        TransactionStatusResponse result = transactionService.checkPayment(ACCOUNT_NUMBER, payee, amount);
 
         // Then
         assertNotNull(result);
         assertEquals("OK", result.status());
         assertNotNull(result.approvalCode());
-        verify(strategyFactory).executeTransaction(TransactionType.CHECK_PAYMENT, testAccount, payee, amount);
+        verify(strategyFactory).executeAtomicTransaction(ACCOUNT_ID, ACCOUNT_NUMBER, new CheckPaymentCommand(payee, amount));
     }
 
     @Test
-    void checkPayment_InsufficientBalance_ThrowsException() {
+    void checkPayment_InsufficientBalance_ReturnsDecline() {
         // Given
         String payee = "Test Payee";
-        double amount = 1500.0;
-        when(strategyFactory.executeTransaction(TransactionType.CHECK_PAYMENT, testAccount, payee, amount))
-                .thenThrow(new RuntimeException("CheckPayment transaction failed: Insufficient balance"));
-
-        // When & Then
-        assertThrows(RuntimeException.class, () -> {
-            transactionService.checkPayment(testAccount, payee, amount);
-        });
-        verify(strategyFactory).executeTransaction(TransactionType.CHECK_PAYMENT, testAccount, payee, amount);
-    }
-
-    @Test
-    void credit_ZeroAmount_Success() {
-        // Given
-        double amount = 0.0;
-        TransactionStatusResponse expectedResponse = new TransactionStatusResponse("OK", "test-approval-code");
-        when(strategyFactory.executeTransaction(TransactionType.DEPOSIT, testAccount, amount))
-                .thenReturn(expectedResponse);
+        long amount = 1500_00L;
+        when(strategyFactory.executeAtomicTransaction(ACCOUNT_ID, ACCOUNT_NUMBER, new CheckPaymentCommand(payee, amount)))
+                .thenReturn(TransactionStatusResponse.declined(MessageKeys.INSUFFICIENT_BALANCE_FOR_CHECK_PAYMENT));
 
         // When
-        TransactionStatusResponse result = transactionService.credit(testAccount, amount);
+        TransactionStatusResponse result = transactionService.checkPayment(ACCOUNT_NUMBER, payee, amount);
 
         // Then
-        assertNotNull(result);
-        assertEquals("OK", result.status());
-        verify(strategyFactory).executeTransaction(TransactionType.DEPOSIT, testAccount, amount);
+        assertFalse(result.isApproved());
+        assertEquals(MessageKeys.INSUFFICIENT_BALANCE_FOR_CHECK_PAYMENT.getKey(), result.errorCode());
+        assertNull(result.approvalCode());
     }
 
     @Test
-    void debit_ZeroAmount_Success() {
+    void credit_UnknownAccount_ThrowsWithoutPosting() {
         // Given
-        double amount = 0.0;
-        TransactionStatusResponse expectedResponse = new TransactionStatusResponse("OK", "test-approval-code");
-        when(strategyFactory.executeTransaction(TransactionType.WITHDRAWAL, testAccount, amount))
-                .thenReturn(expectedResponse);
-
-        // When
-        TransactionStatusResponse result = transactionService.debit(testAccount, amount);
+        when(bankAccountService.findAccountIdByNumber("99999"))
+                .thenThrow(new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, "99999"));
 
-        // Then
-        assertNotNull(result);
-        assertEquals("OK", result.status());
-        verify(strategyFactory).executeTransaction(TransactionType.WITHDRAWAL, testAccount, amount);
+        // When & Then
+        assertThrows(AccountNotFoundException.class, () -> transactionService.credit("99999", 100_00L));
+        verifyNoInteractions(strategyFactory);
     }
-    
-} 
\ No newline at end of file
+}
@@ -1,8 +1,30 @@
 package com.eteration.simplebanking.service.strategy;
 
+import com.eteration.simplebanking.domain.entity.BankAccount;
+import com.eteration.simplebanking.domain.entity.transaction.DepositTransaction;
+import com.eteration.simplebanking.domain.entity.transaction.PhoneBillPaymentTransaction;
+import com.eteration.simplebanking.domain.entity.transaction.WithdrawalTransaction;
+import com.eteration.simplebanking.domain.enums.PhoneCompany;
 import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.exception.AccountNotFoundException;
 import com.eteration.simplebanking.exception.StrategyNotFoundException;
+import com.eteration.simplebanking.exception.TransactionValidationException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.model.dto.LedgerPosition;
+import com.eteration.simplebanking.model.dto.PostingResult;
+import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import com.eteration.simplebanking.service.core.TimeOrderedApprovalCodeGenerator;
+import com.eteration.simplebanking.service.interfaces.ApprovalCodeGenerator;
+import com.eteration.simplebanking.service.interfaces.AuditService;
+import com.eteration.simplebanking.service.interfaces.OutboxService;
+import com.eteration.simplebanking.service.interfaces.LedgerService;
+import com.eteration.simplebanking.service.strategy.command.CheckPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.DepositCommand;
+import com.eteration.simplebanking.service.strategy.command.PhoneBillPaymentCommand;
+import com.eteration.simplebanking.service.strategy.command.WithdrawalCommand;
+import com.eteration.simplebanking.util.BankingMetrics;
 import com.eteration.simplebanking.util.SecureMaskUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,31 +33,54 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TransactionStrategyFactoryTest {
 
     @Mock
-    private TransactionStrategy depositStrategy;
+    private TransactionStrategy<DepositCommand> depositStrategy;
 
     @Mock
-    private TransactionStrategy withdrawalStrategy;
+    private TransactionStrategy<WithdrawalCommand> withdrawalStrategy;
 
     @Mock
-    private TransactionStrategy phoneBillStrategy;
+    private TransactionStrategy<PhoneBillPaymentCommand> phoneBillStrategy;
 
     @Mock
-    private TransactionStrategy checkStrategy;
+    private TransactionStrategy<CheckPaymentCommand> checkStrategy;
 
     @Mock
     private com.eteration.simplebanking.domain.repository.TransactionRepository transactionRepository;
 
+    @Mock
+    private com.eteration.simplebanking.domain.repository.BankAccountRepository bankAccountRepository;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private OutboxService outboxService;
+
     @Mock
     private SecureMaskUtil secureMaskUtil;
 
+    private final ApprovalCodeGenerator approvalCodeGenerator = new TimeOrderedApprovalCodeGenerator();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BankingMetrics bankingMetrics = new BankingMetrics(meterRegistry);
+
     private TransactionStrategyFactory factory;
 
     @BeforeEach
@@ -46,17 +91,17 @@ class TransactionStrategyFactoryTest {
         when(phoneBillStrategy.getTransactionType()).thenReturn(TransactionType.PHONE_BILL_PAYMENT);
         when(checkStrategy.getTransactionType()).thenReturn(TransactionType.CHECK_PAYMENT);
 
-        List<TransactionStrategy> strategies = Arrays.asList(
+        List<TransactionStrategy<?>> strategies = Arrays.asList(
                 depositStrategy, withdrawalStrategy, phoneBillStrategy, checkStrategy
         );
 
-        factory = new TransactionStrategyFactory(strategies, transactionRepository, secureMaskUtil);
+        factory = new TransactionStrategyFactory(strategies, transactionRepository, bankAccountRepository, ledgerService, approvalCodeGenerator, auditService, outboxService, secureMaskUtil, bankingMetrics);
     }
 
     @Test
     void getStrategy_Deposit_ReturnsCorrectStrategy() {
         // When
-        TransactionStrategy result = factory.getStrategy(TransactionType.DEPOSIT);
+        TransactionStrategy<?> result = factory.getStrategy(TransactionType.DEPOSIT);
 
         // Then
         assertNotNull(result);
@@ -66,7 +111,7 @@ class TransactionStrategyFactoryTest {
     @Test
     void getStrategy_Withdrawal_ReturnsCorrectStrategy() {
         // When
-        TransactionStrategy result = factory.getStrategy(TransactionType.WITHDRAWAL);
+        TransactionStrategy<?> result = factory.getStrategy(TransactionType.WITHDRAWAL);
 
         // Then
         assertNotNull(result);
@@ -76,7 +121,7 @@ class TransactionStrategyFactoryTest {
     @Test
     void getStrategy_PhoneBillPayment_ReturnsCorrectStrategy() {
         // When
-        TransactionStrategy result = factory.getStrategy(TransactionType.PHONE_BILL_PAYMENT);
+        TransactionStrategy<?> result = factory.getStrategy(TransactionType.PHONE_BILL_PAYMENT);
 
         // Then
         assertNotNull(result);
@@ -86,7 +131,7 @@ class TransactionStrategyFactoryTest {
     @Test
     void getStrategy_CheckPayment_ReturnsCorrectStrategy() {
         // When
-        TransactionStrategy result = factory.getStrategy(TransactionType.CHECK_PAYMENT);
+        TransactionStrategy<?> result = factory.getStrategy(TransactionType.CHECK_PAYMENT);
 
         // Then
         assertNotNull(result);
@@ -101,10 +146,10 @@ class TransactionStrategyFactoryTest {
         // When & Then
         assertThrows(StrategyNotFoundException.class, () -> {
             // Create a new factory without the deposit strategy
-            List<TransactionStrategy> strategiesWithoutDeposit = Arrays.asList(
+            List<TransactionStrategy<?>> strategiesWithoutDeposit = Arrays.asList(
                     withdrawalStrategy, phoneBillStrategy, checkStrategy
             );
-            TransactionStrategyFactory factoryWithoutDeposit = new TransactionStrategyFactory(strategiesWithoutDeposit, transactionRepository, secureMaskUtil);
+            TransactionStrategyFactory factoryWithoutDeposit = new TransactionStrategyFactory(strategiesWithoutDeposit, transactionRepository, bankAccountRepository, ledgerService, approvalCodeGenerator, auditService, outboxService, secureMaskUtil, bankingMetrics);
             factoryWithoutDeposit.getStrategy(TransactionType.DEPOSIT);
         });
     }
@@ -121,8 +166,8 @@ class TransactionStrategyFactoryTest {
     @Test
     void hasStrategy_NonExistingStrategy_ReturnsFalse() {
         // Given
-        List<TransactionStrategy> limitedStrategies = Arrays.asList(depositStrategy);
-        TransactionStrategyFactory limitedFactory = new TransactionStrategyFactory(limitedStrategies, transactionRepository, secureMaskUtil);
+        List<TransactionStrategy<?>> limitedStrategies = Arrays.asList(depositStrategy);
+        TransactionStrategyFactory limitedFactory = new TransactionStrategyFactory(limitedStrategies, transactionRepository, bankAccountRepository, ledgerService, approvalCodeGenerator, auditService, outboxService, secureMaskUtil, bankingMetrics);
 
         // When
         boolean result = limitedFactory.hasStrategy(TransactionType.WITHDRAWAL);
@@ -143,4 +188,114 @@ class TransactionStrategyFactoryTest {
         assertTrue(availableTypes.contains(TransactionType.PHONE_BILL_PAYMENT));
         assertTrue(availableTypes.contains(TransactionType.CHECK_PAYMENT));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void executeAtomicTransaction_Credit_UpdatesBalanceAndSavesTransaction() {
+        // Given
+        DepositTransaction deposit = new DepositTransaction();
+        deposit.setAmount(250_00L);
+        when(depositStrategy.createTransaction(new DepositCommand(250_00L))).thenReturn(deposit);
+        when(depositStrategy.getOperationType()).thenReturn(TransactionType.DEPOSIT.getOperationType());
+        when(bankAccountRepository.creditBalance(eq(1L), eq(250_00L), any())).thenReturn(1);
+        when(bankAccountRepository.findLedgerPositionById(1L)).thenReturn(Optional.of(new LedgerPosition(750_00L, 3L)));
+        when(bankAccountRepository.getReferenceById(1L)).thenReturn(new BankAccount());
+
+        // When
+        TransactionStatusResponse result = factory.executeAtomicTransaction(1L, "12345", new DepositCommand(250_00L));
+
+        // Then
+        assertEquals("OK", result.status());
+        assertEquals(result.approvalCode(), deposit.getApprovalCode().toString());
+        assertEquals(3L, deposit.getSequenceNumber());
+        assertEquals(750_00L, deposit.getBalanceAfter());
+        verify(transactionRepository).save(deposit);
+        verify(ledgerService).recordCheckpoint(deposit);
+        verify(auditService).record(argThat(audit -> audit.balanceBefore() == 500_00L && audit.balanceAfter() == 750_00L
+                && audit.approvalCode().equals(deposit.getApprovalCode())));
+        verify(outboxService).append(TransactionType.DEPOSIT, deposit, "12345");
+        assertEquals(1, meterRegistry.get("banking.transaction").tags("type", "DEPOSIT", "outcome", "success").timer().count());
+        verify(bankAccountRepository, never()).debitBalanceIfSufficient(any(), anyLong(), any());
+    }
+
+    @Test
+    void executeAtomicTransaction_AccountMissing_RethrowsOriginalException() {
+        // Given
+        DepositTransaction deposit = new DepositTransaction();
+        deposit.setAmount(250_00L);
+        when(depositStrategy.createTransaction(new DepositCommand(250_00L))).thenReturn(deposit);
+        when(depositStrategy.getOperationType()).thenReturn(TransactionType.DEPOSIT.getOperationType());
+        when(bankAccountRepository.creditBalance(eq(1L), eq(250_00L), any())).thenReturn(0);
+
+        // When
+        AccountNotFoundException exception = assertThrows(AccountNotFoundException.class,
+                () -> factory.executeAtomicTransaction(1L, "12345", new DepositCommand(250_00L)));
+
+        // Then
+        assertEquals(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, exception.getMessageKey());
+        verify(transactionRepository, never()).save(any());
+        assertEquals(1, meterRegistry.get("banking.transaction").tags("type", "DEPOSIT", "outcome", "not_found").timer().count());
+    }
+
+    @Test
+    void executeAtomicTransaction_DebitRejected_ReturnsDeclineWithoutSavingTransaction() {
+        // Given
+        WithdrawalTransaction withdrawal = new WithdrawalTransaction();
+        withdrawal.setAmount(500_00L);
+        when(withdrawalStrategy.createTransaction(new WithdrawalCommand(500_00L))).thenReturn(withdrawal);
+        when(withdrawalStrategy.getOperationType()).thenReturn(TransactionType.WITHDRAWAL.getOperationType());
+        when(bankAccountRepository.debitBalanceIfSufficient(eq(1L), eq(500_00L), any())).thenReturn(0);
+
+        // When
+        TransactionStatusResponse result = factory.executeAtomicTransaction(1L, "12345", new WithdrawalCommand(500_00L));
+
+        // Then
+        assertFalse(result.isApproved());
+        assertEquals("DECLINED", result.status());
+        assertNull(result.approvalCode());
+        assertEquals(MessageKeys.ERROR_INSUFFICIENT_BALANCE.getKey(), result.errorCode());
+        verify(bankAccountRepository, never()).findLedgerPositionById(any());
+        verify(transactionRepository, never()).save(any());
+        verify(ledgerService, never()).recordCheckpoint(any());
+        verifyNoInteractions(auditService, outboxService);
+        assertEquals(1, meterRegistry.get("banking.transaction").tags("type", "WITHDRAWAL", "outcome", "insufficient_balance").timer().count());
+        assertEquals(0, meterRegistry.get("banking.transaction").tags("type", "WITHDRAWAL", "outcome", "success").timer().count());
+    }
+
+    @Test
+    void prepareTransaction_PhoneBillDeclined_LeavesAccountUntouched() {
+        // Given
+        BankAccount account = BankAccount.builder().accountNumber("12345").owner("Owner").balance(100_00L).build();
+        PhoneBillPaymentCommand command = new PhoneBillPaymentCommand(PhoneCompany.COMPANY_A, "5551234567", 150_00L);
+        when(phoneBillStrategy.createTransaction(command))
+                .thenReturn(new PhoneBillPaymentTransaction(PhoneCompany.COMPANY_A, "5551234567", 150_00L));
+
+        // When
+        PostingResult result = factory.prepareTransaction(account, command);
+
+        // Then
+        assertFalse(result.isPosted());
+        assertEquals(MessageKeys.INSUFFICIENT_BALANCE_FOR_PHONE_BILL, result.declineReason());
+        assertEquals(100_00L, account.getBalance());
+        assertEquals(0L, account.getLedgerSequence());
+        assertTrue(account.getTransactions().isEmpty());
+        verifyNoInteractions(transactionRepository, ledgerService, auditService, outboxService);
+    }
+
+    @Test
+    void constructor_DuplicateStrategy_ThrowsException() {
+        // Given
+        List<TransactionStrategy<?>> duplicated = Arrays.asList(depositStrategy, withdrawalStrategy, depositStrategy);
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> new TransactionStrategyFactory(duplicated, transactionRepository, bankAccountRepository, ledgerService, approvalCodeGenerator, auditService, outboxService, secureMaskUtil, bankingMetrics));
+    }
+
+    @Test
+    void executeAtomicTransaction_NullCommand_ThrowsValidationException() {
+        // When & Then
+        assertThrows(TransactionValidationException.class,
+                () -> factory.executeAtomicTransaction(1L, "12345", null));
+        verifyNoInteractions(bankAccountRepository, transactionRepository);
+    }
+}
@@ -3,6 +3,7 @@ package com.eteration.simplebanking.service.strategy.strategy;
 import com.eteration.simplebanking.domain.entity.transaction.DepositTransaction;
 import com.eteration.simplebanking.domain.entity.transaction.Transaction;
 import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.service.strategy.command.DepositCommand;
 import com.eteration.simplebanking.service.strategy.strategy.DepositTransactionStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,54 +22,39 @@ class DepositTransactionStrategyTest {
     @Test
     void createTransaction_ValidAmount_CreatesDepositTransaction() {
         // Given
-        double amount = 100.0;
+        long amount = 100_00L;
 
         // When
-        Transaction result = strategy.createTransaction(amount);
+        Transaction result = strategy.createTransaction(new DepositCommand(amount));
 
         // Then
         assertNotNull(result);
         assertInstanceOf(DepositTransaction.class, result);
-        assertEquals(amount, result.getAmount(), 0.001);
+        assertEquals(amount, result.getAmount());
         assertNotNull(result.getDate());
     }
 
     @Test
     void createTransaction_ZeroAmount_CreatesTransaction() {
         // Given
-        double amount = 0.0;
+        long amount = 0L;
 
         // When
-        Transaction result = strategy.createTransaction(amount);
+        Transaction result = strategy.createTransaction(new DepositCommand(amount));
 
         // Then
         assertNotNull(result);
         assertInstanceOf(DepositTransaction.class, result);
-        assertEquals(amount, result.getAmount(), 0.001);
+        assertEquals(amount, result.getAmount());
     }
 
     @Test
-    void createTransaction_NullParameter_ThrowsException() {
-        // When & Then
-        assertThrows(IllegalArgumentException.class, () -> {
-            strategy.createTransaction((Object) null);
-        });
-    }
-
-    @Test
-    void createTransaction_WrongParameterType_ThrowsException() {
-        // When & Then
-        assertThrows(IllegalArgumentException.class, () -> {
-            strategy.createTransaction("invalid");
-        });
-    }
+    void createTransaction_CommandType_MatchesStrategyType() {
+        // Given
+        DepositCommand command = new DepositCommand(100_00L);
 
-    @Test
-    void createTransaction_NoParameters_ThrowsException() {
         // When & Then
-        assertThrows(IllegalArgumentException.class, () -> {
-            strategy.createTransaction();
-        });
+        assertEquals(strategy.getTransactionType(), command.type());
     }
 
     @Test
@@ -0,0 +1,33 @@
+package com.eteration.simplebanking.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountNumberKeyTest {
+
+    @Test
+    void prefixesDigitsWithOne() {
+        assertEquals(1_1234567890L, AccountNumberKey.of("1234567890"));
+        assertEquals(1_1234567890123456L, AccountNumberKey.of("1234567890123456"));
+        assertEquals(1_999999999999999999L, AccountNumberKey.of("999999999999999999"));
+    }
+
+    @Test
+    void keepsLeadingZerosApart() {
+        assertEquals(10_123456789L, AccountNumberKey.of("0123456789"));
+        assertEquals(1_123456789L, AccountNumberKey.of("123456789"));
+        assertNotEquals(AccountNumberKey.of("0123456789"), AccountNumberKey.of("123456789"));
+    }
+
+    @Test
+    void rejectsNumbersThatAreNotDigitsOnly() {
+        assertEquals(AccountNumberKey.NONE, AccountNumberKey.of(""));
+        assertEquals(AccountNumberKey.NONE, AccountNumberKey.of("669-7788"));
+        assertEquals(AccountNumberKey.NONE, AccountNumberKey.of("IDEM_1234"));
+        assertEquals(AccountNumberKey.NONE, AccountNumberKey.of("-1234567890"));
+        assertEquals(AccountNumberKey.NONE, AccountNumberKey.of("1".repeat(AccountNumberKey.MAX_DIGITS + 1)));
+        assertNull(AccountNumberKey.orNull("669-7788"));
+        assertEquals(1_1234567890L, AccountNumberKey.orNull("1234567890"));
+    }
+}
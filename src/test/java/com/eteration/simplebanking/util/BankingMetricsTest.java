@@ -0,0 +1,76 @@
+package com.eteration.simplebanking.util;
+
+import com.eteration.simplebanking.domain.constant.MetricConstants;
+import com.eteration.simplebanking.domain.enums.TransactionType;
+import com.eteration.simplebanking.exception.AccountNotFoundException;
+import com.eteration.simplebanking.exception.InsufficientBalanceException;
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import com.eteration.simplebanking.model.dto.response.TransactionStatusResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankingMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BankingMetrics bankingMetrics = new BankingMetrics(meterRegistry);
+
+    @Test
+    void testOutcomeFollowsCauseChain() {
+        RuntimeException wrapped = new RuntimeException(MessageKeys.ERROR_INVALID_TRANSACTION.getKey(),
+                new InsufficientBalanceException(MessageKeys.ERROR_INSUFFICIENT_BALANCE));
+
+        assertEquals(BankingMetrics.Outcome.INSUFFICIENT_BALANCE, BankingMetrics.Outcome.of(wrapped));
+        assertEquals(BankingMetrics.Outcome.NOT_FOUND,
+                BankingMetrics.Outcome.of(new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, "1")));
+        assertEquals(BankingMetrics.Outcome.REJECTED, BankingMetrics.Outcome.of(new IllegalArgumentException()));
+        assertEquals(BankingMetrics.Outcome.ERROR, BankingMetrics.Outcome.of(new IllegalStateException()));
+    }
+
+    @Test
+    void testTimeOperationRecordsOutcome() {
+        assertEquals("ok", bankingMetrics.timeOperation(MetricConstants.OP_CREDIT, () -> "ok"));
+        assertThrows(IllegalArgumentException.class, () -> bankingMetrics.timeOperation(MetricConstants.OP_CREDIT, () -> {
+            throw new IllegalArgumentException();
+        }));
+
+        assertEquals(1, meterRegistry.get(MetricConstants.OPERATION_TIMER)
+                .tags(MetricConstants.TAG_OPERATION, "credit", MetricConstants.TAG_OUTCOME, "success").timer().count());
+        assertEquals(1, meterRegistry.get(MetricConstants.OPERATION_TIMER)
+                .tags(MetricConstants.TAG_OPERATION, "credit", MetricConstants.TAG_OUTCOME, "rejected").timer().count());
+    }
+
+    @Test
+    void testTimeTransactionTagsDeclinedResponses() {
+        TransactionStatusResponse declined = TransactionStatusResponse.declined(MessageKeys.ERROR_INSUFFICIENT_BALANCE);
+
+        assertSame(declined, bankingMetrics.timeTransaction(MetricConstants.OP_DEBIT, () -> declined));
+        bankingMetrics.timeTransaction(MetricConstants.OP_DEBIT, () -> new TransactionStatusResponse("OK", "code"));
+
+        assertEquals(1, meterRegistry.get(MetricConstants.OPERATION_TIMER)
+                .tags(MetricConstants.TAG_OPERATION, "debit", MetricConstants.TAG_OUTCOME, "insufficient_balance").timer().count());
+        assertEquals(1, meterRegistry.get(MetricConstants.OPERATION_TIMER)
+                .tags(MetricConstants.TAG_OPERATION, "debit", MetricConstants.TAG_OUTCOME, "success").timer().count());
+    }
+
+    @Test
+    void testTransactionTimersAreBoundedAndPreRegistered() {
+        bankingMetrics.recordTransaction(TransactionType.DEPOSIT, BankingMetrics.Outcome.SUCCESS, System.nanoTime());
+
+        int expected = TransactionType.values().length * BankingMetrics.Outcome.values().length;
+        assertEquals(expected, meterRegistry.get(MetricConstants.TRANSACTION_TIMER).timers().size());
+        assertEquals(1, meterRegistry.get(MetricConstants.TRANSACTION_TIMER)
+                .tags(MetricConstants.TAG_TYPE, "DEPOSIT", MetricConstants.TAG_OUTCOME, "success").timer().count());
+    }
+
+    @Test
+    void testCacheLoadIsTimedEvenWhenItFails() {
+        assertThrows(AccountNotFoundException.class, () -> bankingMetrics.timeCacheLoad("bankAccounts", MetricConstants.ENTRY_ID, () -> {
+            throw new AccountNotFoundException(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER, "1");
+        }));
+
+        assertEquals(1, meterRegistry.get(MetricConstants.CACHE_LOAD_TIMER)
+                .tags(MetricConstants.TAG_CACHE, "bankAccounts", MetricConstants.TAG_ENTRY, "id").timer().count());
+    }
+}
@@ -0,0 +1,71 @@
+package com.eteration.simplebanking.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    private static final int ACCOUNTS = 100_000;
+
+    @Test
+    void neverForgetsAnAddedValue() {
+        BloomFilter filter = BloomFilter.create(ACCOUNTS, 0.01);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            filter.put(accountNumber(i));
+        }
+        for (int i = 0; i < ACCOUNTS; i++) {
+            assertTrue(filter.mightContain(accountNumber(i)));
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfigured() {
+        BloomFilter filter = BloomFilter.create(ACCOUNTS, 0.01);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            filter.put(accountNumber(i));
+        }
+
+        int falsePositives = 0;
+        for (int i = ACCOUNTS; i < 2 * ACCOUNTS; i++) {
+            if (filter.mightContain(accountNumber(i))) {
+                falsePositives++;
+            }
+        }
+
+        double observed = (double) falsePositives / ACCOUNTS;
+        assertTrue(observed < 0.015, "Observed false positive rate " + observed);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.003);
+    }
+
+    @Test
+    void sizesBitsAndHashesFromExpectedInsertions() {
+        BloomFilter filter = BloomFilter.create(1_000_000, 0.01);
+
+        // m = -n ln p / (ln 2)^2 is about 9.59 bits per value, k = m / n ln 2 about 6.6
+        assertEquals(7, filter.hashCount());
+        assertEquals(0, filter.bitSize() % Long.SIZE);
+        assertTrue(filter.sizeInBytes() > 1_190_000 && filter.sizeInBytes() < 1_210_000);
+        assertEquals(0.0, filter.expectedFalsePositiveRate());
+    }
+
+    @Test
+    void putReportsWhetherTheValueWasNew() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        assertTrue(filter.put("1234567890"));
+        assertFalse(filter.put("1234567890"));
+        assertEquals(1, filter.insertions());
+    }
+
+    @Test
+    void rejectsInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(1_000, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(1_000, 1));
+    }
+
+    private static String accountNumber(int i) {
+        return String.format("669%07d", i);
+    }
+}
@@ -0,0 +1,85 @@
+package com.eteration.simplebanking.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongLongHashMapTest {
+
+    private static final int ACCOUNTS = 200_000;
+
+    private static long key(int i) {
+        return AccountNumberKey.of(String.format("%010d", i));
+    }
+
+    @Test
+    void growsAndKeepsEveryEntry() {
+        LongLongHashMap map = new LongLongHashMap(16);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            assertTrue(map.put(key(i), i + 1));
+        }
+
+        assertEquals(ACCOUNTS, map.size());
+        for (int i = 0; i < ACCOUNTS; i++) {
+            assertEquals(i + 1, map.get(key(i)));
+        }
+        assertEquals(LongLongHashMap.MISSING, map.get(key(ACCOUNTS)));
+        assertTrue(map.capacity() >= ACCOUNTS * 2);
+    }
+
+    @Test
+    void putOverwritesExistingKey() {
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        assertTrue(map.put(10L, 1L));
+        assertFalse(map.put(10L, 2L));
+        assertEquals(2L, map.get(10L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void sizesForExpectedEntriesAtHalfLoad() {
+        LongLongHashMap map = new LongLongHashMap(1_000_000);
+
+        assertEquals(1 << 21, map.capacity());
+        assertEquals(32L * 1024 * 1024, map.sizeInBytes());
+    }
+
+    @Test
+    void rejectsZeroKeysAndValues() {
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1L));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1L, 0L));
+    }
+
+    @Test
+    void readersSeeNoTornEntriesWhileItGrows() throws Exception {
+        LongLongHashMap map = new LongLongHashMap(16);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> reader = executor.submit(() -> {
+                for (int pass = 0; pass < 5; pass++) {
+                    for (int i = 0; i < ACCOUNTS; i++) {
+                        long value = map.get(key(i));
+                        if (value != LongLongHashMap.MISSING && value != i + 1) {
+                            throw new AssertionError("Key " + i + " read " + value);
+                        }
+                    }
+                }
+            });
+            for (int i = 0; i < ACCOUNTS; i++) {
+                map.put(key(i), i + 1);
+            }
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(ACCOUNTS, map.size());
+    }
+}
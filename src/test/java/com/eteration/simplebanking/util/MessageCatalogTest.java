@@ -0,0 +1,80 @@
+package com.eteration.simplebanking.util;
+
+import com.eteration.simplebanking.exception.cosntant.MessageKeys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageCatalogTest {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private MessageCatalog messageCatalog;
+
+    @BeforeEach
+    void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource() {
+            @Override
+            protected String getMessageInternal(String code, Object[] args, Locale locale) {
+                lookups.incrementAndGet();
+                return super.getMessageInternal(code, args, locale);
+            }
+        };
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setFallbackToSystemLocale(false);
+        messageCatalog = new MessageCatalog(messageSource);
+    }
+
+    @Test
+    void resolvesEveryKeyUpFrontAndNeverAgain() {
+        int startupLookups = lookups.get();
+
+        for (MessageKeys messageKey : MessageKeys.values()) {
+            assertNotNull(messageCatalog.message(Locale.ENGLISH, messageKey));
+            assertNotNull(messageCatalog.message(Locale.forLanguageTag("tr"), messageKey));
+        }
+
+        assertEquals(MessageKeys.values().length * 2, startupLookups);
+        assertEquals(startupLookups, lookups.get());
+    }
+
+    @Test
+    void formatsArgumentsAndKeepsPatternWithout() {
+        assertEquals("Request parameter 'at' is missing or invalid",
+                messageCatalog.message(Locale.ENGLISH, MessageKeys.VALIDATION_REQUEST_PARAMETER_INVALID, "at"));
+        assertEquals("Request parameter ''{0}'' is missing or invalid",
+                messageCatalog.message(Locale.ENGLISH, MessageKeys.VALIDATION_REQUEST_PARAMETER_INVALID));
+    }
+
+    @Test
+    void fallsBackToEnglishForUnsupportedLocales() {
+        assertEquals("Insufficient Balance",
+                messageCatalog.message(Locale.GERMANY, MessageKeys.ERROR_TITLE_INSUFFICIENT_BALANCE));
+        assertEquals("Yetersiz Bakiye",
+                messageCatalog.message(Locale.forLanguageTag("tr-TR"), MessageKeys.ERROR_TITLE_INSUFFICIENT_BALANCE));
+    }
+
+    @Test
+    void resolvesRawCodesWithoutLookups() {
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        int startupLookups = lookups.get();
+
+        assertEquals("Account owner is required", messageCatalog.message("validation.owner.required"));
+        assertEquals("Account not found with account number: 42",
+                messageCatalog.message(MessageKeys.ACCOUNT_NOT_FOUND_WITH_NUMBER.getKey(), "42"));
+        assertEquals("Validation failed for the request", messageCatalog.message("validation.unknown.code"));
+        assertEquals(startupLookups, lookups.get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+}
@@ -0,0 +1,53 @@
+package com.eteration.simplebanking.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyUtilTest {
+
+    @Test
+    void testParse() {
+        assertEquals(10050L, MoneyUtil.parse("100.50"));
+        assertEquals(10050L, MoneyUtil.parse("100.5"));
+        assertEquals(10000L, MoneyUtil.parse("100"));
+        assertEquals(-325L, MoneyUtil.parse("-3.25"));
+        assertEquals(1L, MoneyUtil.parse("0.01"));
+        assertEquals(12500L, MoneyUtil.parse("1.25e2"));
+        assertEquals(10L, MoneyUtil.parse("1E-1"));
+        assertEquals(100L, MoneyUtil.parse("1.000"));
+        assertEquals(0L, MoneyUtil.parse("0.0"));
+    }
+
+    @Test
+    void testParseRejectsInvalidAmounts() {
+        assertThrows(ArithmeticException.class, () -> MoneyUtil.parse("0.001"));
+        assertThrows(ArithmeticException.class, () -> MoneyUtil.parse("1e-3"));
+        assertThrows(ArithmeticException.class, () -> MoneyUtil.parse("99999999999999999999"));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parse(""));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parse("-"));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parse("1.2.3"));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parse("abc"));
+        assertThrows(NumberFormatException.class, () -> MoneyUtil.parse("1e"));
+    }
+
+    @Test
+    void testFormat() {
+        assertEquals("100.50", MoneyUtil.format(10050L));
+        assertEquals("0.00", MoneyUtil.format(0L));
+        assertEquals("0.05", MoneyUtil.format(5L));
+        assertEquals("-0.05", MoneyUtil.format(-5L));
+        assertEquals("-12.34", MoneyUtil.format(-1234L));
+        assertEquals(MoneyUtil.format(Long.MAX_VALUE), MoneyUtil.format(MoneyUtil.parse(MoneyUtil.format(Long.MAX_VALUE))));
+    }
+
+    @Test
+    void testRepeatedAdditionIsExact() {
+        long dime = MoneyUtil.parse("0.1");
+        long balance = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            balance += dime;
+        }
+        assertEquals(MoneyUtil.parse("100000"), balance);
+        assertEquals("100000.00", MoneyUtil.format(balance));
+    }
+}
@@ -4,6 +4,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -117,4 +124,39 @@ class SecureMaskUtilTest {
         assertEquals(account, decrypted1);
         assertEquals(account, decrypted2);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testMaskedValueRendersEncryptedValue() {
+        String account = "12345678901234";
+        MaskedValue masked = secureMaskUtil.maskedAccount(account);
+
+        assertEquals(secureMaskUtil.encryptAccount(account), masked.toString());
+        assertEquals(account, secureMaskUtil.decryptAccount(masked.toString()));
+    }
+
+    @Test
+    void testMaskedValueNullAndEmpty() {
+        assertEquals("null", secureMaskUtil.maskedPhone(null).toString());
+        assertEquals("null", secureMaskUtil.maskedPayee("").toString());
+    }
+
+    @Test
+    void testEncryptionAcrossThreads() throws Exception {
+        String account = "12345678901234";
+        String expected = secureMaskUtil.encryptAccount(account);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> secureMaskUtil.decryptAccount(secureMaskUtil.encryptAccount(account))));
+            }
+            for (Future<String> result : results) {
+                assertEquals(account, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(expected, secureMaskUtil.encryptAccount(account));
+    }
+}
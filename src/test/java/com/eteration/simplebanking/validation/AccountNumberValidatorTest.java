@@ -26,7 +26,6 @@ class AccountNumberValidatorTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         validator = new AccountNumberValidator();
-        when(annotation.checkUniqueness()).thenReturn(false);
         when(annotation.required()).thenReturn(true);
         validator.initialize(annotation);
     }
@@ -67,7 +66,6 @@ class AccountNumberValidatorTest {
     @Disabled("Temporary disabled due to validation logic issue")
     void testOptionalField() {
         when(annotation.required()).thenReturn(false);
-        when(annotation.checkUniqueness()).thenReturn(false);
         validator.initialize(annotation);
         
         assertTrue(validator.isValid(null, context));